@@ -10,7 +10,9 @@ package com.facebook.react;
 import com.facebook.react.bridge.ModuleHolder;
 import com.facebook.react.bridge.NativeModuleRegistry;
 import com.facebook.react.bridge.ReactApplicationContext;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /** Helper class to build NativeModuleRegistry. */
@@ -28,6 +30,14 @@ public class NativeModuleRegistryBuilder {
   }
 
   public void processPackage(ReactPackage reactPackage) {
+    addModuleHolders(getModuleHolders(reactPackage));
+  }
+
+  /**
+   * Collects the modules of {@code reactPackage} without registering them, so that several packages
+   * can be collected in parallel, then registered in order with {@link #addModuleHolders}.
+   */
+  /* package */ List<ModuleHolder> getModuleHolders(ReactPackage reactPackage) {
     // We use an iterable instead of an iterator here to ensure thread safety, and that this list
     // cannot be modified
     Iterable<ModuleHolder> moduleHolders;
@@ -43,6 +53,14 @@ public class NativeModuleRegistryBuilder {
               reactPackage, mReactApplicationContext, mReactInstanceManager);
     }
 
+    List<ModuleHolder> moduleHolderList = new ArrayList<>();
+    for (ModuleHolder moduleHolder : moduleHolders) {
+      moduleHolderList.add(moduleHolder);
+    }
+    return moduleHolderList;
+  }
+
+  /* package */ void addModuleHolders(List<ModuleHolder> moduleHolders) {
     for (ModuleHolder moduleHolder : moduleHolders) {
       String name = moduleHolder.getName();
       if (mModules.containsKey(name)) {
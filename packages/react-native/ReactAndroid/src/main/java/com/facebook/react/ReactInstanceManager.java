@@ -20,6 +20,8 @@ import static com.facebook.react.bridge.ReactMarkerConstants.CREATE_VIEW_MANAGER
 import static com.facebook.react.bridge.ReactMarkerConstants.CREATE_VIEW_MANAGERS_START;
 import static com.facebook.react.bridge.ReactMarkerConstants.PRE_SETUP_REACT_CONTEXT_END;
 import static com.facebook.react.bridge.ReactMarkerConstants.PRE_SETUP_REACT_CONTEXT_START;
+import static com.facebook.react.bridge.ReactMarkerConstants.PROCESS_PACKAGE_END;
+import static com.facebook.react.bridge.ReactMarkerConstants.PROCESS_PACKAGE_START;
 import static com.facebook.react.bridge.ReactMarkerConstants.PROCESS_PACKAGES_END;
 import static com.facebook.react.bridge.ReactMarkerConstants.PROCESS_PACKAGES_START;
 import static com.facebook.react.bridge.ReactMarkerConstants.REACT_CONTEXT_THREAD_END;
@@ -60,6 +62,7 @@ import com.facebook.react.bridge.JSIModuleType;
 import com.facebook.react.bridge.JavaJSExecutor;
 import com.facebook.react.bridge.JavaScriptExecutor;
 import com.facebook.react.bridge.JavaScriptExecutorFactory;
+import com.facebook.react.bridge.ModuleHolder;
 import com.facebook.react.bridge.NativeModuleRegistry;
 import com.facebook.react.bridge.NotThreadSafeBridgeIdleDebugListener;
 import com.facebook.react.bridge.ProxyJavaScriptExecutor;
@@ -110,10 +113,17 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class is managing instances of {@link CatalystInstance}. It exposes a way to configure
@@ -136,6 +146,7 @@ import java.util.Set;
 public class ReactInstanceManager {
 
   private static final String TAG = ReactInstanceManager.class.getSimpleName();
+  private static final int MAX_PACKAGE_PROCESSING_THREADS = 4;
 
   /**
    * Listener interface for react instance events. This class extends {@Link
@@ -185,6 +196,9 @@ public class ReactInstanceManager {
   private final @Nullable JSIModulePackage mJSIModulePackage;
   private final @Nullable ReactPackageTurboModuleManagerDelegate.Builder mTMMDelegateBuilder;
   private List<ViewManager> mViewManagers;
+  // View managers of the packages that can't create them on demand, created when first needed if
+  // lazy view managers are enabled. Guarded by mPackages.
+  private final Map<ReactPackage, List<ViewManager>> mPackageViewManagers = new HashMap<>();
   private boolean mUseFallbackBundle = false;
 
   private class ReactContextInitParams {
@@ -751,6 +765,7 @@ public class ReactInstanceManager {
     }
     synchronized (mPackages) {
       mViewManagerNames = null;
+      mPackageViewManagers.clear();
     }
     FLog.d(ReactConstants.TAG, "ReactInstanceManager has been destroyed");
   }
@@ -949,10 +964,39 @@ public class ReactInstanceManager {
           }
         }
       }
+      if (ReactFeatureFlags.enableLazyViewManagersForAllPackages) {
+        // Only create the view managers of the other packages if no package can create it on demand
+        for (ReactPackage reactPackage : mPackages) {
+          if (!(reactPackage instanceof ViewManagerOnDemandReactPackage)) {
+            if (reactPackage instanceof ViewManagerNamesReactPackage
+                && !((ViewManagerNamesReactPackage) reactPackage)
+                    .getViewManagerNames(context)
+                    .contains(viewManagerName)) {
+              continue;
+            }
+            for (ViewManager viewManager : getOrCreatePackageViewManagers(reactPackage, context)) {
+              if (viewManagerName.equals(viewManager.getName())) {
+                return viewManager;
+              }
+            }
+          }
+        }
+      }
     }
     return null;
   }
 
+  /** Must be called while holding mPackages. */
+  private List<ViewManager> getOrCreatePackageViewManagers(
+      ReactPackage reactPackage, ReactApplicationContext context) {
+    List<ViewManager> viewManagers = mPackageViewManagers.get(reactPackage);
+    if (viewManagers == null) {
+      viewManagers = reactPackage.createViewManagers(context);
+      mPackageViewManagers.put(reactPackage, viewManagers);
+    }
+    return viewManagers;
+  }
+
   public Collection<String> getViewManagerNames() {
     Systrace.beginSection(TRACE_TAG_REACT_JAVA_BRIDGE, "ReactInstanceManager.getViewManagerNames");
     try {
@@ -983,6 +1027,17 @@ public class ReactInstanceManager {
               if (names != null) {
                 uniqueNames.addAll(names);
               }
+            } else if (ReactFeatureFlags.enableLazyViewManagersForAllPackages
+                && reactPackage instanceof ViewManagerNamesReactPackage) {
+              uniqueNames.addAll(
+                  ((ViewManagerNamesReactPackage) reactPackage).getViewManagerNames(context));
+            } else if (ReactFeatureFlags.enableLazyViewManagersForAllPackages) {
+              // The package has no way to tell the names without creating its view managers
+              List<ViewManager> viewManagers =
+                  getOrCreatePackageViewManagers(reactPackage, context);
+              for (ViewManager viewManager : viewManagers) {
+                uniqueNames.add(viewManager.getName());
+              }
             }
             Systrace.endSection(TRACE_TAG_REACT_JAVA_BRIDGE);
           }
@@ -1419,19 +1474,29 @@ public class ReactInstanceManager {
 
     ReactMarker.logMarker(PROCESS_PACKAGES_START);
 
-    synchronized (mPackages) {
-      for (ReactPackage reactPackage : packages) {
-        if (checkAndUpdatePackageMembership && mPackages.contains(reactPackage)) {
-          continue;
-        }
-        Systrace.beginSection(TRACE_TAG_REACT_JAVA_BRIDGE, "createAndProcessCustomReactPackage");
-        try {
-          if (checkAndUpdatePackageMembership) {
-            mPackages.add(reactPackage);
+    if (ReactFeatureFlags.enableParallelPackageProcessing && !checkAndUpdatePackageMembership) {
+      List<ReactPackage> packagesToProcess;
+      synchronized (mPackages) {
+        packagesToProcess = new ArrayList<>(packages);
+      }
+      // Don't hold mPackages while waiting for the packages, which may call back into this class
+      // from other threads
+      processPackagesInParallel(packagesToProcess, nativeModuleRegistryBuilder);
+    } else {
+      synchronized (mPackages) {
+        for (ReactPackage reactPackage : packages) {
+          if (checkAndUpdatePackageMembership && mPackages.contains(reactPackage)) {
+            continue;
+          }
+          Systrace.beginSection(TRACE_TAG_REACT_JAVA_BRIDGE, "createAndProcessCustomReactPackage");
+          try {
+            if (checkAndUpdatePackageMembership) {
+              mPackages.add(reactPackage);
+            }
+            processPackage(reactPackage, nativeModuleRegistryBuilder);
+          } finally {
+            Systrace.endSection(TRACE_TAG_REACT_JAVA_BRIDGE);
           }
-          processPackage(reactPackage, nativeModuleRegistryBuilder);
-        } finally {
-          Systrace.endSection(TRACE_TAG_REACT_JAVA_BRIDGE);
         }
       }
     }
@@ -1450,19 +1515,80 @@ public class ReactInstanceManager {
     return nativeModuleRegistry;
   }
 
+  /**
+   * Collects the modules of the packages on a bounded pool of threads, then registers them in the
+   * order of the packages, so that the registry is the same as when they are processed one by one.
+   */
+  @VisibleForTesting
+  /* package */ static void processPackagesInParallel(
+      List<ReactPackage> packages, final NativeModuleRegistryBuilder nativeModuleRegistryBuilder) {
+    if (packages.isEmpty()) {
+      return;
+    }
+    int threadCount =
+        Math.min(
+            packages.size(),
+            Math.min(MAX_PACKAGE_PROCESSING_THREADS, Runtime.getRuntime().availableProcessors()));
+    final AtomicInteger threadIndex = new AtomicInteger();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, threadCount),
+            new ThreadFactory() {
+              @Override
+              public Thread newThread(Runnable runnable) {
+                return new Thread(
+                    runnable, "process_react_packages_" + threadIndex.incrementAndGet());
+              }
+            });
+    try {
+      List<Future<List<ModuleHolder>>> moduleHolders = new ArrayList<>(packages.size());
+      for (final ReactPackage reactPackage : packages) {
+        moduleHolders.add(
+            executor.submit(() -> getModuleHolders(reactPackage, nativeModuleRegistryBuilder)));
+      }
+      for (Future<List<ModuleHolder>> packageModuleHolders : moduleHolders) {
+        nativeModuleRegistryBuilder.addModuleHolders(packageModuleHolders.get());
+      }
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while processing packages", e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private void processPackage(
       ReactPackage reactPackage, NativeModuleRegistryBuilder nativeModuleRegistryBuilder) {
+    nativeModuleRegistryBuilder.addModuleHolders(
+        getModuleHolders(reactPackage, nativeModuleRegistryBuilder));
+  }
+
+  private static List<ModuleHolder> getModuleHolders(
+      ReactPackage reactPackage, NativeModuleRegistryBuilder nativeModuleRegistryBuilder) {
+    String className = reactPackage.getClass().getSimpleName();
     SystraceMessage.beginSection(TRACE_TAG_REACT_JAVA_BRIDGE, "processPackage")
-        .arg("className", reactPackage.getClass().getSimpleName())
+        .arg("className", className)
         .flush();
+    ReactMarker.logMarker(PROCESS_PACKAGE_START, className);
     if (reactPackage instanceof ReactPackageLogger) {
       ((ReactPackageLogger) reactPackage).startProcessPackage();
     }
-    nativeModuleRegistryBuilder.processPackage(reactPackage);
+    List<ModuleHolder> moduleHolders = nativeModuleRegistryBuilder.getModuleHolders(reactPackage);
 
     if (reactPackage instanceof ReactPackageLogger) {
       ((ReactPackageLogger) reactPackage).endProcessPackage();
     }
+    ReactMarker.logMarker(PROCESS_PACKAGE_END, className);
     SystraceMessage.endSection(TRACE_TAG_REACT_JAVA_BRIDGE).flush();
+    return moduleHolders;
   }
 }
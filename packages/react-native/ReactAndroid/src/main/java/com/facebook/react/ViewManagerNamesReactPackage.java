@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react;
+
+import com.facebook.react.bridge.ReactApplicationContext;
+import java.util.Collection;
+
+/**
+ * Implemented by packages that can't create their ViewManagers one at a time, but can list their
+ * names without creating them. With {@link
+ * com.facebook.react.config.ReactFeatureFlags#enableLazyViewManagersForAllPackages}, the
+ * ViewManagers of such a package are only created when one of them is first used, instead of when
+ * the names of all ViewManagers are requested at startup.
+ */
+public interface ViewManagerNamesReactPackage {
+  /**
+   * Provides the names of the ViewManagers returned by {@link
+   * ReactPackage#createViewManagers(ReactApplicationContext)}, without creating them.
+   */
+  Collection<String> getViewManagerNames(ReactApplicationContext reactContext);
+}
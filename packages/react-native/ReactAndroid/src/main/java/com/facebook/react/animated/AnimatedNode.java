@@ -23,6 +23,7 @@ import java.util.List;
   /*package*/ int mActiveIncomingNodes = 0;
   /*package*/ int mBFSColor = INITIAL_BFS_COLOR;
   /*package*/ int mTag = -1;
+  /*package*/ int mUpdatePlanPosition = -1; /* position in AnimatedNodeUpdatePlan, if any */
 
   public final void addChild(AnimatedNode child) {
     if (mChildren == null) {
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.animated;
+
+import android.util.SparseArray;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Topological order of the whole animated nodes graph, used by {@link NativeAnimatedNodesManager}
+ * to update nodes on each frame without traversing the graph twice.
+ *
+ * <p>The order is computed once, and only recomputed after the shape of the graph changes (nodes
+ * are created, dropped, connected or disconnected). Nodes are addressed by their position in that
+ * order, and edges are stored as arrays of positions, so a frame only marks the nodes reachable
+ * from the updated ones and walks the marked positions in ascending order. A node is then always
+ * visited after all of its active parents, and no memory is allocated.
+ *
+ * <p>If the graph has a cycle, no order exists and {@link #isAcyclic} returns false. Callers are
+ * expected to fall back to the BFS traversal, which reports the cycle.
+ *
+ * <p>IMPORTANT: This class should be accessed only from the UI Thread
+ */
+/* package */ final class AnimatedNodeUpdatePlan {
+
+  private static final AnimatedNode[] EMPTY_NODES = new AnimatedNode[0];
+  private static final int[] EMPTY_POSITIONS = new int[0];
+
+  // Nodes in topological order
+  private AnimatedNode[] mNodes = EMPTY_NODES;
+  private int mNodeCount = 0;
+  // Children of the node at position i are mChildPositions[mChildOffsets[i]..mChildOffsets[i + 1])
+  private int[] mChildOffsets = EMPTY_POSITIONS;
+  private int[] mChildPositions = EMPTY_POSITIONS;
+  // A position is active in the current frame if its mark equals mFrameMark
+  private int[] mActiveMarks = EMPTY_POSITIONS;
+  private int mFrameMark = 0;
+  private int mCursor = 0;
+  private int mLastActivePosition = -1;
+
+  private boolean mUpToDate = false;
+  private boolean mAcyclic = false;
+
+  /** Must be called whenever nodes are created, dropped, connected or disconnected. */
+  public void invalidate() {
+    mUpToDate = false;
+  }
+
+  public boolean isUpToDate() {
+    return mUpToDate;
+  }
+
+  public boolean isAcyclic() {
+    return mAcyclic;
+  }
+
+  /* package */ int getNodeCount() {
+    return mNodeCount;
+  }
+
+  /**
+   * Recomputes the order for all {@code nodes}, and for nodes that are still referenced as children
+   * after having been dropped.
+   */
+  public void rebuild(SparseArray<AnimatedNode> nodes) {
+    // Collect nodes and assign them temporary indexes. This only runs when the graph changes, so
+    // allocating here is fine.
+    List<AnimatedNode> collected = new ArrayList<>(nodes.size());
+    Map<AnimatedNode, Integer> indexes = new IdentityHashMap<>(nodes.size());
+    for (int i = 0; i < nodes.size(); i++) {
+      collect(nodes.valueAt(i), collected, indexes);
+    }
+    for (int i = 0; i < collected.size(); i++) {
+      List<AnimatedNode> children = collected.get(i).mChildren;
+      if (children != null) {
+        for (int j = 0; j < children.size(); j++) {
+          collect(children.get(j), collected, indexes);
+        }
+      }
+    }
+
+    int count = collected.size();
+    int edgeCount = 0;
+    int[] inDegrees = new int[count];
+    for (int i = 0; i < count; i++) {
+      List<AnimatedNode> children = collected.get(i).mChildren;
+      if (children != null) {
+        for (int j = 0; j < children.size(); j++) {
+          inDegrees[indexes.get(children.get(j))]++;
+          edgeCount++;
+        }
+      }
+    }
+
+    // Kahn's algorithm. `order` doubles as the queue of nodes whose parents were all emitted.
+    int[] order = new int[count];
+    int head = 0;
+    int tail = 0;
+    for (int i = 0; i < count; i++) {
+      if (inDegrees[i] == 0) {
+        order[tail++] = i;
+      }
+    }
+    while (head < tail) {
+      List<AnimatedNode> children = collected.get(order[head++]).mChildren;
+      if (children != null) {
+        for (int j = 0; j < children.size(); j++) {
+          int child = indexes.get(children.get(j));
+          if (--inDegrees[child] == 0) {
+            order[tail++] = child;
+          }
+        }
+      }
+    }
+
+    mUpToDate = true;
+    mAcyclic = tail == count;
+    if (!mAcyclic) {
+      mNodeCount = 0;
+      return;
+    }
+
+    if (mNodes.length < count) {
+      mNodes = new AnimatedNode[count];
+      mChildOffsets = new int[count + 1];
+      mActiveMarks = new int[count];
+      mFrameMark = 0;
+    } else {
+      Arrays.fill(mNodes, count, mNodes.length, null);
+    }
+    if (mChildPositions.length < edgeCount) {
+      mChildPositions = new int[edgeCount];
+    }
+    for (int position = 0; position < count; position++) {
+      AnimatedNode node = collected.get(order[position]);
+      node.mUpdatePlanPosition = position;
+      mNodes[position] = node;
+    }
+    int edge = 0;
+    for (int position = 0; position < count; position++) {
+      mChildOffsets[position] = edge;
+      List<AnimatedNode> children = mNodes[position].mChildren;
+      if (children != null) {
+        for (int j = 0; j < children.size(); j++) {
+          mChildPositions[edge++] = children.get(j).mUpdatePlanPosition;
+        }
+      }
+    }
+    mChildOffsets[count] = edge;
+    mNodeCount = count;
+  }
+
+  private static void collect(
+      AnimatedNode node, List<AnimatedNode> collected, Map<AnimatedNode, Integer> indexes) {
+    if (!indexes.containsKey(node)) {
+      indexes.put(node, collected.size());
+      collected.add(node);
+    }
+  }
+
+  /** Starts a new frame, with no active nodes. */
+  public void beginFrame() {
+    mFrameMark++;
+    if (mFrameMark == 0) {
+      // Marks wrapped around, make sure stale ones can't match
+      Arrays.fill(mActiveMarks, 0);
+      mFrameMark = 1;
+    }
+    mCursor = Integer.MAX_VALUE;
+    mLastActivePosition = -1;
+  }
+
+  /**
+   * Marks {@code node} as updated in the current frame. Its descendants are activated as it is
+   * returned from {@link #nextActiveNode}.
+   *
+   * @return false if the node is not part of this plan, in which case it can't be used this frame
+   */
+  public boolean activate(AnimatedNode node) {
+    int position = node.mUpdatePlanPosition;
+    if (position < 0 || position >= mNodeCount || mNodes[position] != node) {
+      return false;
+    }
+    markActive(position);
+    if (position < mCursor) {
+      mCursor = position;
+    }
+    return true;
+  }
+
+  /** @return the next node to update in the current frame, or null once all of them were visited */
+  public @Nullable AnimatedNode nextActiveNode() {
+    while (mCursor <= mLastActivePosition) {
+      int position = mCursor++;
+      if (mActiveMarks[position] == mFrameMark) {
+        for (int edge = mChildOffsets[position]; edge < mChildOffsets[position + 1]; edge++) {
+          // Children always come later in the order, so they are still ahead of the cursor
+          markActive(mChildPositions[edge]);
+        }
+        return mNodes[position];
+      }
+    }
+    return null;
+  }
+
+  private void markActive(int position) {
+    mActiveMarks[position] = mFrameMark;
+    if (position > mLastActivePosition) {
+      mLastActivePosition = position;
+    }
+  }
+}
@@ -23,6 +23,7 @@ import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.UIManager;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.uimanager.UIManagerHelper;
 import com.facebook.react.uimanager.common.UIManagerType;
 import com.facebook.react.uimanager.common.ViewUtil;
@@ -31,7 +32,6 @@ import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.EventDispatcherListener;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Queue;
@@ -62,7 +62,9 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
   private final ReactApplicationContext mReactApplicationContext;
   private int mAnimatedGraphBFSColor = 0;
   // Used to avoid allocating a new array on every frame in `runUpdates` and `onEventDispatch`.
-  private final List<AnimatedNode> mRunUpdateNodeList = new LinkedList<>();
+  private final List<AnimatedNode> mRunUpdateNodeList = new ArrayList<>();
+  private final Queue<AnimatedNode> mNodesQueue = new ArrayDeque<>();
+  private final AnimatedNodeUpdatePlan mUpdatePlan = new AnimatedNodeUpdatePlan();
 
   private boolean mEventListenerInitializedForFabric = false;
   private boolean mEventListenerInitializedForNonFabric = false;
@@ -149,6 +151,7 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
     node.mTag = tag;
     mAnimatedNodes.put(tag, node);
     mUpdatedNodes.put(tag, node);
+    mUpdatePlan.invalidate();
   }
 
   @UiThread
@@ -170,6 +173,7 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
   public void dropAnimatedNode(int tag) {
     mAnimatedNodes.remove(tag);
     mUpdatedNodes.remove(tag);
+    mUpdatePlan.invalidate();
   }
 
   @UiThread
@@ -371,6 +375,7 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
     }
     parentNode.addChild(childNode);
     mUpdatedNodes.put(childNodeTag, childNode);
+    mUpdatePlan.invalidate();
   }
 
   public void disconnectAnimatedNodes(int parentNodeTag, int childNodeTag) {
@@ -390,6 +395,7 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
     }
     parentNode.removeChild(childNode);
     mUpdatedNodes.put(childNodeTag, childNode);
+    mUpdatePlan.invalidate();
   }
 
   @UiThread
@@ -609,6 +615,9 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
    * an attribute {@code mActiveIncomingNodes}. The second BFS runs in topological order over the
    * sub-graph of *active* nodes. This is done by adding node to the BFS queue only if all its
    * "predecessors" have already been visited.
+   *
+   * <p>With {@link ReactFeatureFlags#enableAnimatedUpdatePlan}, both BFSes are replaced by a walk
+   * over a topological order of the graph that is cached until the graph changes.
    */
   @UiThread
   public void runUpdates(long frameTimeNanos) {
@@ -664,6 +673,10 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
 
   @UiThread
   private void updateNodes(List<AnimatedNode> nodes) {
+    if (ReactFeatureFlags.enableAnimatedUpdatePlan && updateNodesWithPlan(nodes)) {
+      return;
+    }
+
     int activeNodesCount = 0;
     int updatedNodesCount = 0;
 
@@ -679,7 +692,8 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
       mAnimatedGraphBFSColor++;
     }
 
-    Queue<AnimatedNode> nodesQueue = new ArrayDeque<>();
+    Queue<AnimatedNode> nodesQueue = mNodesQueue;
+    nodesQueue.clear();
     for (AnimatedNode node : nodes) {
       if (node.mBFSColor != mAnimatedGraphBFSColor) {
         node.mBFSColor = mAnimatedGraphBFSColor;
@@ -731,26 +745,7 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
     int cyclesDetected = 0;
     while (!nodesQueue.isEmpty()) {
       AnimatedNode nextNode = nodesQueue.poll();
-      try {
-        nextNode.update();
-        if (nextNode instanceof PropsAnimatedNode) {
-          // Send property updates to native view manager
-          ((PropsAnimatedNode) nextNode).updateView();
-        }
-      } catch (JSApplicationCausedNativeException e) {
-        // An exception is thrown if the view hasn't been created yet. This can happen because
-        // views are created in batches. If this particular view didn't make it into a batch yet,
-        // the view won't exist and an exception will be thrown when attempting to start an
-        // animation on it.
-        //
-        // Eat the exception rather than crashing. The impact is that we may drop one or more
-        // frames of the animation.
-        FLog.e(TAG, "Native animation workaround, frame lost as result of race condition", e);
-      }
-      if (nextNode instanceof ValueAnimatedNode) {
-        // Potentially send events to JS when the node's value is updated
-        ((ValueAnimatedNode) nextNode).onValueUpdate();
-      }
+      updateNode(nextNode);
       if (nextNode.mChildren != null) {
         for (int i = 0; i < nextNode.mChildren.size(); i++) {
           AnimatedNode child = nextNode.mChildren.get(i);
@@ -816,6 +811,61 @@ public class NativeAnimatedNodesManager implements EventDispatcherListener {
     }
   }
 
+  /**
+   * Updates {@code nodes} and their descendants in the order given by {@link #mUpdatePlan}, which
+   * is only recomputed when the graph changes. Unlike the BFS in {@link #updateNodes}, this does
+   * not allocate nor visit nodes more than once.
+   *
+   * @return false if the plan can't be used, for instance because the graph has a cycle, in which
+   *     case no node has been updated yet
+   */
+  @UiThread
+  private boolean updateNodesWithPlan(List<AnimatedNode> nodes) {
+    if (!mUpdatePlan.isUpToDate()) {
+      mUpdatePlan.rebuild(mAnimatedNodes);
+    }
+    if (!mUpdatePlan.isAcyclic()) {
+      return false;
+    }
+
+    mUpdatePlan.beginFrame();
+    for (int i = 0; i < nodes.size(); i++) {
+      if (!mUpdatePlan.activate(nodes.get(i))) {
+        return false;
+      }
+    }
+    AnimatedNode nextNode;
+    while ((nextNode = mUpdatePlan.nextActiveNode()) != null) {
+      updateNode(nextNode);
+    }
+    mWarnedAboutGraphTraversal = false;
+    return true;
+  }
+
+  @UiThread
+  private void updateNode(AnimatedNode node) {
+    try {
+      node.update();
+      if (node instanceof PropsAnimatedNode) {
+        // Send property updates to native view manager
+        ((PropsAnimatedNode) node).updateView();
+      }
+    } catch (JSApplicationCausedNativeException e) {
+      // An exception is thrown if the view hasn't been created yet. This can happen because
+      // views are created in batches. If this particular view didn't make it into a batch yet,
+      // the view won't exist and an exception will be thrown when attempting to start an
+      // animation on it.
+      //
+      // Eat the exception rather than crashing. The impact is that we may drop one or more
+      // frames of the animation.
+      FLog.e(TAG, "Native animation workaround, frame lost as result of race condition", e);
+    }
+    if (node instanceof ValueAnimatedNode) {
+      // Potentially send events to JS when the node's value is updated
+      ((ValueAnimatedNode) node).onValueUpdate();
+    }
+  }
+
   private String normalizeEventName(String eventHandlerName) {
     // Fabric UIManager also makes this assumption
     String eventName = eventHandlerName;
@@ -10,6 +10,7 @@ package com.facebook.react.bridge;
 import android.os.SystemClock;
 import androidx.annotation.Nullable;
 import com.facebook.proguard.annotations.DoNotStrip;
+import com.facebook.systrace.TraceRecorder;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -86,6 +87,16 @@ public class ReactMarker {
   @DoNotStrip
   public static void logFabricMarker(
       ReactMarkerConstants name, @Nullable String tag, int instanceKey, long timestamp) {
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      // Timestamps are in SystemClock.uptimeMillis(), which uses the same clock as nanoTime
+      recorder.recordMarker(name.name(), tag, instanceKey, timestamp * 1000000L);
+    }
+    notifyFabricMarkerListeners(name, tag, instanceKey, timestamp);
+  }
+
+  private static void notifyFabricMarkerListeners(
+      ReactMarkerConstants name, @Nullable String tag, int instanceKey, long timestamp) {
     for (FabricMarkerListener listener : sFabricMarkerListeners) {
       listener.logFabricMarker(name, tag, instanceKey, timestamp);
     }
@@ -136,7 +147,11 @@ public class ReactMarker {
 
   @DoNotStrip
   public static void logMarker(ReactMarkerConstants name, @Nullable String tag, int instanceKey) {
-    logFabricMarker(name, tag, instanceKey);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.recordMarker(name.name(), tag, instanceKey);
+    }
+    notifyFabricMarkerListeners(name, tag, instanceKey, SystemClock.uptimeMillis());
     for (MarkerListener listener : sListeners) {
       listener.logMarker(name, tag, instanceKey);
     }
@@ -122,4 +122,6 @@ public enum ReactMarkerConstants {
   REACT_BRIDGELESS_LOADING_END,
   LOAD_REACT_NATIVE_MAPBUFFER_SO_FILE_START,
   LOAD_REACT_NATIVE_MAPBUFFER_SO_FILE_END,
+  PROCESS_PACKAGE_START,
+  PROCESS_PACKAGE_END,
 }
@@ -124,7 +124,7 @@ public class ReadableNativeArray extends NativeArray implements ReadableArray {
 
   @Override
   public int hashCode() {
-    return getLocalArray().hashCode();
+    return Arrays.deepHashCode(getLocalArray());
   }
 
   @Override
@@ -15,6 +15,7 @@ import com.facebook.proguard.annotations.DoNotStrip;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * Implementation of a read-only map in native memory. This will generally be constructed and filled
@@ -30,85 +31,155 @@ public class ReadableNativeMap extends NativeMap implements ReadableMap {
     super(hybridData);
   }
 
-  private @Nullable String[] mKeys;
-  private @Nullable HashMap<String, Object> mLocalMap;
-  private @Nullable HashMap<String, ReadableType> mLocalTypeMap;
+  /**
+   * Maps with at most this many keys are searched linearly, which is faster than hashing for the
+   * small maps that make up most props updates.
+   */
+  private static final int MAX_LINEAR_SCAN_SIZE = 8;
+
+  // The map contents are imported lazily, as flat arrays indexed like mKeys. The native imports
+  // share state in C++ (importValues and importTypes read the keys importKeys stored), so they run
+  // under the lock of the map. Each array is immutable once published, so reads of imported
+  // contents don't need to lock.
+  private volatile @Nullable String[] mKeys;
+  private volatile @Nullable Object[] mValues;
+  private volatile @Nullable ReadableType[] mTypes;
+  // Open-addressing table of (key index + 1), only built for maps above MAX_LINEAR_SCAN_SIZE
+  private volatile @Nullable int[] mKeyIndex;
   private static int mJniCallCounter;
 
   public static int getJNIPassCounter() {
     return mJniCallCounter;
   }
 
-  private void ensureKeysAreImported() {
-    if (mKeys != null) {
-      return;
-    }
-    synchronized (this) {
-      mKeys = Assertions.assertNotNull(importKeys());
-      mJniCallCounter++;
+  private @NonNull String[] getKeys() {
+    String[] keys = mKeys;
+    if (keys == null) {
+      synchronized (this) {
+        keys = mKeys;
+        if (keys == null) {
+          keys = Assertions.assertNotNull(importKeys());
+          mJniCallCounter++;
+          mKeys = keys;
+        }
+      }
     }
+    return keys;
   }
 
-  private HashMap<String, Object> getLocalMap() {
-    if (mLocalMap != null) {
-      return mLocalMap;
+  private @NonNull Object[] getValues() {
+    Object[] values = mValues;
+    if (values == null) {
+      synchronized (this) {
+        values = mValues;
+        if (values == null) {
+          // The native import reads the imported keys
+          getKeys();
+          values = Assertions.assertNotNull(importValues());
+          mJniCallCounter++;
+          mValues = values;
+        }
+      }
     }
-    synchronized (this) {
-      ensureKeysAreImported();
-      if (mLocalMap == null) {
-        Object[] values = Assertions.assertNotNull(importValues());
-        mJniCallCounter++;
-        int length = mKeys.length;
-        mLocalMap = new HashMap<>(length);
-        for (int i = 0; i < length; i++) {
-          mLocalMap.put(mKeys[i], values[i]);
+    return values;
+  }
+
+  private @NonNull ReadableType[] getTypes() {
+    ReadableType[] types = mTypes;
+    if (types == null) {
+      synchronized (this) {
+        types = mTypes;
+        if (types == null) {
+          // The native import reads the imported keys
+          getKeys();
+          Object[] importedTypes = Assertions.assertNotNull(importTypes());
+          mJniCallCounter++;
+          types = new ReadableType[importedTypes.length];
+          for (int i = 0; i < importedTypes.length; i++) {
+            types[i] = (ReadableType) importedTypes[i];
+          }
+          mTypes = types;
         }
       }
     }
-    return mLocalMap;
+    return types;
   }
 
   private native String[] importKeys();
 
   private native Object[] importValues();
 
-  private @NonNull HashMap<String, ReadableType> getLocalTypeMap() {
-    if (mLocalTypeMap != null) {
-      return mLocalTypeMap;
-    }
-    synchronized (this) {
-      ensureKeysAreImported();
-      if (mLocalTypeMap == null) {
-        Object[] types = Assertions.assertNotNull(importTypes());
-        mJniCallCounter++;
-        int length = mKeys.length;
-        mLocalTypeMap = new HashMap<>(length);
-        for (int i = 0; i < length; i++) {
-          mLocalTypeMap.put(mKeys[i], (ReadableType) types[i]);
+  private native Object[] importTypes();
+
+  /** @return the index of {@code name} in the flat key/value/type arrays, or -1 if absent */
+  private int indexOf(@NonNull String name) {
+    String[] keys = getKeys();
+    if (keys.length <= MAX_LINEAR_SCAN_SIZE) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i].equals(name)) {
+          return i;
         }
       }
+      return -1;
     }
-    return mLocalTypeMap;
+
+    int[] keyIndex = mKeyIndex;
+    if (keyIndex == null) {
+      keyIndex = buildKeyIndex(keys);
+      mKeyIndex = keyIndex;
+    }
+    int mask = keyIndex.length - 1;
+    int slot = slotFor(name, mask);
+    int entry;
+    while ((entry = keyIndex[slot]) != 0) {
+      if (keys[entry - 1].equals(name)) {
+        return entry - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
   }
 
-  private native Object[] importTypes();
+  private static int[] buildKeyIndex(String[] keys) {
+    // At most half full, so probe sequences stay short
+    int[] keyIndex = new int[Integer.highestOneBit(keys.length) << 2];
+    int mask = keyIndex.length - 1;
+    for (int i = 0; i < keys.length; i++) {
+      int slot = slotFor(keys[i], mask);
+      while (keyIndex[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      keyIndex[slot] = i + 1;
+    }
+    return keyIndex;
+  }
+
+  private static int slotFor(String key, int mask) {
+    int hash = key.hashCode() * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & mask;
+  }
 
   @Override
   public boolean hasKey(@NonNull String name) {
-    return getLocalMap().containsKey(name);
+    return indexOf(name) >= 0;
   }
 
   @Override
   public boolean isNull(@NonNull String name) {
-    if (getLocalMap().containsKey(name)) {
-      return getLocalMap().get(name) == null;
+    int index = indexOf(name);
+    if (index >= 0) {
+      return getValues()[index] == null;
     }
     throw new NoSuchKeyException(name);
   }
 
   private @NonNull Object getValue(@NonNull String name) {
-    if (hasKey(name) && !(isNull(name))) {
-      return Assertions.assertNotNull(getLocalMap().get(name));
+    int index = indexOf(name);
+    if (index >= 0) {
+      Object value = getValues()[index];
+      if (value != null) {
+        return value;
+      }
     }
     throw new NoSuchKeyException(name);
   }
@@ -120,10 +191,8 @@ public class ReadableNativeMap extends NativeMap implements ReadableMap {
   }
 
   private @Nullable Object getNullableValue(String name) {
-    if (hasKey(name)) {
-      return getLocalMap().get(name);
-    }
-    return null;
+    int index = indexOf(name);
+    return index >= 0 ? getValues()[index] : null;
   }
 
   private @Nullable <T> T getNullableValue(String name, Class<T> type) {
@@ -177,8 +246,9 @@ public class ReadableNativeMap extends NativeMap implements ReadableMap {
 
   @Override
   public @NonNull ReadableType getType(@NonNull String name) {
-    if (getLocalTypeMap().containsKey(name)) {
-      return Assertions.assertNotNull(getLocalTypeMap().get(name));
+    int index = indexOf(name);
+    if (index >= 0) {
+      return getTypes()[index];
     }
     throw new NoSuchKeyException(name);
   }
@@ -190,50 +260,46 @@ public class ReadableNativeMap extends NativeMap implements ReadableMap {
 
   @Override
   public @NonNull Iterator<Map.Entry<String, Object>> getEntryIterator() {
-    synchronized (this) {
-      ensureKeysAreImported();
-
-      final String[] iteratorKeys = mKeys;
-      final Object[] iteratorValues = Assertions.assertNotNull(importValues());
-      mJniCallCounter++;
-
-      return new Iterator<Map.Entry<String, Object>>() {
-        int currentIndex = 0;
+    final String[] iteratorKeys = getKeys();
+    final Object[] iteratorValues = getValues();
+    return new Iterator<Map.Entry<String, Object>>() {
+      int currentIndex = 0;
 
-        @Override
-        public boolean hasNext() {
-          return currentIndex < iteratorKeys.length;
-        }
+      @Override
+      public boolean hasNext() {
+        return currentIndex < iteratorKeys.length;
+      }
 
-        @Override
-        public Map.Entry<String, Object> next() {
-          final int index = currentIndex++;
-          return new Map.Entry<String, Object>() {
-            @Override
-            public String getKey() {
-              return iteratorKeys[index];
-            }
-
-            @Override
-            public Object getValue() {
-              return iteratorValues[index];
-            }
-
-            @Override
-            public Object setValue(Object value) {
-              throw new UnsupportedOperationException(
-                  "Can't set a value while iterating over a ReadableNativeMap");
-            }
-          };
+      @Override
+      public Map.Entry<String, Object> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
         }
-      };
-    }
+        final int index = currentIndex++;
+        return new Map.Entry<String, Object>() {
+          @Override
+          public String getKey() {
+            return iteratorKeys[index];
+          }
+
+          @Override
+          public Object getValue() {
+            return iteratorValues[index];
+          }
+
+          @Override
+          public Object setValue(Object value) {
+            throw new UnsupportedOperationException(
+                "Can't set a value while iterating over a ReadableNativeMap");
+          }
+        };
+      }
+    };
   }
 
   @Override
   public @NonNull ReadableMapKeySetIterator keySetIterator() {
-    ensureKeysAreImported();
-    final String[] iteratorKeys = mKeys;
+    final String[] iteratorKeys = getKeys();
     return new ReadableMapKeySetIterator() {
       int currentIndex = 0;
 
@@ -251,7 +317,14 @@ public class ReadableNativeMap extends NativeMap implements ReadableMap {
 
   @Override
   public int hashCode() {
-    return getLocalMap().hashCode();
+    // Same as HashMap#hashCode, so it doesn't depend on the order of the keys
+    String[] keys = getKeys();
+    Object[] values = getValues();
+    int hashCode = 0;
+    for (int i = 0; i < keys.length; i++) {
+      hashCode += keys[i].hashCode() ^ (values[i] == null ? 0 : values[i].hashCode());
+    }
+    return hashCode;
   }
 
   @Override
@@ -259,30 +332,51 @@ public class ReadableNativeMap extends NativeMap implements ReadableMap {
     if (!(obj instanceof ReadableNativeMap)) {
       return false;
     }
+    if (obj == this) {
+      return true;
+    }
     ReadableNativeMap other = (ReadableNativeMap) obj;
-    return getLocalMap().equals(other.getLocalMap());
+    String[] keys = getKeys();
+    if (keys.length != other.getKeys().length) {
+      return false;
+    }
+    Object[] values = getValues();
+    Object[] otherValues = other.getValues();
+    for (int i = 0; i < keys.length; i++) {
+      int otherIndex = other.indexOf(keys[i]);
+      if (otherIndex < 0) {
+        return false;
+      }
+      Object value = values[i];
+      Object otherValue = otherValues[otherIndex];
+      if (value == null ? otherValue != null : !value.equals(otherValue)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public @NonNull HashMap<String, Object> toHashMap() {
-    // we can almost just return getLocalMap(), but we need to convert nested arrays and maps to the
-    // correct types first
-    HashMap<String, Object> hashMap = new HashMap<>(getLocalMap());
-    Iterator iterator = hashMap.keySet().iterator();
-
-    while (iterator.hasNext()) {
-      String key = (String) iterator.next();
-      switch (getType(key)) {
+    String[] keys = getKeys();
+    Object[] values = getValues();
+    HashMap<String, Object> hashMap = new HashMap<>(keys.length);
+    for (int i = 0; i < keys.length; i++) {
+      String key = keys[i];
+      Object value = values[i];
+      // Nested arrays and maps need to be converted to the correct types
+      switch (getTypes()[i]) {
         case Null:
         case Boolean:
         case Number:
         case String:
+          hashMap.put(key, value);
           break;
         case Map:
-          hashMap.put(key, Assertions.assertNotNull(getMap(key)).toHashMap());
+          hashMap.put(key, Assertions.assertNotNull((ReadableNativeMap) value).toHashMap());
           break;
         case Array:
-          hashMap.put(key, Assertions.assertNotNull(getArray(key)).toArrayList());
+          hashMap.put(key, Assertions.assertNotNull((ReadableArray) value).toArrayList());
           break;
         default:
           throw new IllegalArgumentException("Could not convert object with key: " + key + ".");
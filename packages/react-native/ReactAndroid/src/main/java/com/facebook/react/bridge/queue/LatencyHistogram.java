@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.bridge.queue;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations in nanoseconds, with log-linear buckets like HdrHistogram: each power of
+ * two is split into {@link #SUB_BUCKET_COUNT} linear sub-buckets, so recorded values are reported
+ * with a relative error below 1 / {@link #SUB_BUCKET_COUNT}, from nanoseconds to hours, in a fixed
+ * number of buckets.
+ *
+ * <p>Values must be recorded from a single thread. Recording doesn't allocate or lock, and the
+ * histogram can be read from any thread.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  /* package */ static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  // Values below SUB_BUCKET_COUNT get a bucket each, then SUB_BUCKET_COUNT buckets per power of two
+  // up to 2^62.
+  private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray mCounts = new AtomicLongArray(BUCKET_COUNT);
+  private volatile long mTotalCount;
+  private volatile long mMaxValue;
+
+  /** Records {@code valueNs}. Negative values are recorded as 0. */
+  public void record(long valueNs) {
+    long value = Math.max(valueNs, 0);
+    int index = getBucketIndex(value);
+    // Single writer: plain increments, published with ordered writes
+    mCounts.lazySet(index, mCounts.get(index) + 1);
+    if (value > mMaxValue) {
+      mMaxValue = value;
+    }
+    mTotalCount = mTotalCount + 1;
+  }
+
+  public long getTotalCount() {
+    return mTotalCount;
+  }
+
+  public long getMaxValue() {
+    return mMaxValue;
+  }
+
+  /**
+   * @return the highest value that is equivalent to the value at {@code percentile} (between 0 and
+   *     100) of the recorded values, or 0 if none were recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long totalCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      totalCount += mCounts.get(i);
+    }
+    if (totalCount == 0) {
+      return 0;
+    }
+    long countAtPercentile =
+        Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * totalCount));
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      count += mCounts.get(i);
+      if (count >= countAtPercentile) {
+        return Math.min(getBucketUpperBound(i), mMaxValue);
+      }
+    }
+    return mMaxValue;
+  }
+
+  /**
+   * Clears the recorded values. Values recorded concurrently with a reset may be partially kept.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      mCounts.set(i, 0);
+    }
+    mTotalCount = 0;
+    mMaxValue = 0;
+  }
+
+  /* package */ static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /* package */ static long getBucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+}
@@ -10,23 +10,76 @@ package com.facebook.react.bridge.queue;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
+import androidx.annotation.Nullable;
 
 /** Handler that can catch and dispatch Exceptions to an Exception handler. */
 public class MessageQueueThreadHandler extends Handler {
 
+  // Marks messages posted by postTimed, which carry their enqueue time in arg1 and arg2
+  private static final int WHAT_TIMED_RUNNABLE = 0x52514d54;
+
   private final QueueThreadExceptionHandler mExceptionHandler;
+  private final @Nullable MessageQueueThreadTaskStats mTaskStats;
 
   public MessageQueueThreadHandler(Looper looper, QueueThreadExceptionHandler exceptionHandler) {
+    this(looper, exceptionHandler, null);
+  }
+
+  public MessageQueueThreadHandler(
+      Looper looper,
+      QueueThreadExceptionHandler exceptionHandler,
+      @Nullable MessageQueueThreadTaskStats taskStats) {
     super(looper);
     mExceptionHandler = exceptionHandler;
+    mTaskStats = taskStats;
+  }
+
+  /**
+   * Posts {@code runnable}, recording its wait and run times to the task stats if there are any.
+   * The enqueue time is stored in the (pooled) message itself, so this doesn't allocate.
+   */
+  public boolean postTimed(Runnable runnable) {
+    MessageQueueThreadTaskStats taskStats = mTaskStats;
+    if (taskStats == null) {
+      return post(runnable);
+    }
+    Message msg = Message.obtain(this, runnable);
+    long enqueueTimeNs = System.nanoTime();
+    msg.what = WHAT_TIMED_RUNNABLE;
+    msg.arg1 = (int) (enqueueTimeNs >>> 32);
+    msg.arg2 = (int) enqueueTimeNs;
+    taskStats.onEnqueued();
+    if (!sendMessage(msg)) {
+      taskStats.onDequeued();
+      return false;
+    }
+    return true;
   }
 
   @Override
   public void dispatchMessage(Message msg) {
+    MessageQueueThreadTaskStats taskStats = mTaskStats;
+    if (taskStats == null || msg.what != WHAT_TIMED_RUNNABLE) {
+      try {
+        super.dispatchMessage(msg);
+      } catch (Exception e) {
+        mExceptionHandler.handleException(e);
+      }
+      return;
+    }
+
+    // The message is recycled once dispatched, read it first
+    long enqueueTimeNs = ((long) msg.arg1 << 32) | (msg.arg2 & 0xFFFFFFFFL);
+    Runnable runnable = msg.getCallback();
+    long startTimeNs = System.nanoTime();
+    long waitTimeNs = startTimeNs - enqueueTimeNs;
+    taskStats.onStarted(waitTimeNs);
     try {
       super.dispatchMessage(msg);
     } catch (Exception e) {
       mExceptionHandler.handleException(e);
+    } finally {
+      taskStats.onFinished(runnable, waitTimeNs, System.nanoTime() - startTimeNs, startTimeNs);
     }
   }
 }
@@ -11,6 +11,7 @@ import android.os.Looper;
 import android.os.Process;
 import android.os.SystemClock;
 import android.util.Pair;
+import androidx.annotation.Nullable;
 import com.facebook.common.logging.FLog;
 import com.facebook.proguard.annotations.DoNotStrip;
 import com.facebook.react.bridge.AssertionException;
@@ -18,6 +19,7 @@ import com.facebook.react.bridge.SoftAssertions;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.common.ReactConstants;
 import com.facebook.react.common.futures.SimpleSettableFuture;
+import com.facebook.react.config.ReactFeatureFlags;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 
@@ -30,6 +32,7 @@ public class MessageQueueThreadImpl implements MessageQueueThread {
   private final MessageQueueThreadHandler mHandler;
   private final String mAssertionErrorMessage;
   private MessageQueueThreadPerfStats mPerfStats;
+  private final @Nullable MessageQueueThreadTaskStats mTaskStats;
   private volatile boolean mIsFinished = false;
 
   private MessageQueueThreadImpl(
@@ -44,7 +47,11 @@ public class MessageQueueThreadImpl implements MessageQueueThread {
       MessageQueueThreadPerfStats stats) {
     mName = name;
     mLooper = looper;
-    mHandler = new MessageQueueThreadHandler(looper, exceptionHandler);
+    mTaskStats =
+        ReactFeatureFlags.enableMessageQueueThreadTaskStats
+            ? new MessageQueueThreadTaskStats()
+            : null;
+    mHandler = new MessageQueueThreadHandler(looper, exceptionHandler, mTaskStats);
     mPerfStats = stats;
     mAssertionErrorMessage = "Expected to be called from the '" + getName() + "' thread!";
   }
@@ -64,7 +71,7 @@ public class MessageQueueThreadImpl implements MessageQueueThread {
               + "... dropping Runnable.");
       return false;
     }
-    mHandler.post(runnable);
+    mHandler.postTimed(runnable);
     return true;
   }
 
@@ -156,6 +163,14 @@ public class MessageQueueThreadImpl implements MessageQueueThread {
         });
   }
 
+  /**
+   * @return wait and run times of the runnables posted to this thread, or null if {@link
+   *     ReactFeatureFlags#enableMessageQueueThreadTaskStats} was disabled when it was created
+   */
+  public @Nullable MessageQueueThreadTaskStats getTaskStats() {
+    return mTaskStats;
+  }
+
   private static void assignToPerfStats(MessageQueueThreadPerfStats stats, long wall, long cpu) {
     stats.wallTime = wall;
     stats.cpuTime = cpu;
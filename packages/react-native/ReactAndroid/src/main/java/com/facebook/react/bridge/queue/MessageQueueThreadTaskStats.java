@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.bridge.queue;
+
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Statistics of the runnables posted to a {@link MessageQueueThreadImpl} through {@link
+ * MessageQueueThread#runOnQueue}: how long they waited in the queue before starting, how long they
+ * ran, how many were queued, and which recent ones were slow.
+ *
+ * <p>Durations are recorded on the queue thread without allocating; the stats can be read from any
+ * thread.
+ */
+public class MessageQueueThreadTaskStats {
+
+  /** A runnable that ran for longer than the slow task threshold. */
+  public static class SlowTask {
+    /** Class name of the runnable */
+    public final String tag;
+
+    public final long waitTimeNs;
+    public final long runTimeNs;
+    /** {@link System#nanoTime} at which the runnable started */
+    public final long startTimeNs;
+
+    /* package */ SlowTask(String tag, long waitTimeNs, long runTimeNs, long startTimeNs) {
+      this.tag = tag;
+      this.waitTimeNs = waitTimeNs;
+      this.runTimeNs = runTimeNs;
+      this.startTimeNs = startTimeNs;
+    }
+  }
+
+  public static final long DEFAULT_SLOW_TASK_THRESHOLD_NS = TimeUnit.MILLISECONDS.toNanos(16);
+  private static final int MAX_SLOW_TASKS = 32;
+
+  private final LatencyHistogram mWaitTimes = new LatencyHistogram();
+  private final LatencyHistogram mRunTimes = new LatencyHistogram();
+  private final AtomicInteger mQueueDepth = new AtomicInteger();
+  private final AtomicInteger mMaxQueueDepth = new AtomicInteger();
+  private final long mSlowTaskThresholdNs;
+
+  // Ring buffer of the most recent slow tasks, guarded by this
+  private final String[] mSlowTaskTags = new String[MAX_SLOW_TASKS];
+  private final long[] mSlowTaskTimes = new long[MAX_SLOW_TASKS * 3];
+  private int mSlowTaskCount = 0;
+
+  public MessageQueueThreadTaskStats() {
+    this(DEFAULT_SLOW_TASK_THRESHOLD_NS);
+  }
+
+  public MessageQueueThreadTaskStats(long slowTaskThresholdNs) {
+    mSlowTaskThresholdNs = slowTaskThresholdNs;
+  }
+
+  /** Time between runnables being posted and starting to run. */
+  public LatencyHistogram getWaitTimes() {
+    return mWaitTimes;
+  }
+
+  /** Time runnables took to run. */
+  public LatencyHistogram getRunTimes() {
+    return mRunTimes;
+  }
+
+  /** @return how many runnables are currently posted and not started yet */
+  public int getQueueDepth() {
+    return mQueueDepth.get();
+  }
+
+  /** @return the highest queue depth since the last {@link #reset} */
+  public int getMaxQueueDepth() {
+    return mMaxQueueDepth.get();
+  }
+
+  /** @return the most recent slow tasks, oldest first */
+  public synchronized List<SlowTask> getSlowTasks() {
+    int count = Math.min(mSlowTaskCount, MAX_SLOW_TASKS);
+    List<SlowTask> slowTasks = new ArrayList<>(count);
+    for (int i = mSlowTaskCount - count; i < mSlowTaskCount; i++) {
+      int slot = i % MAX_SLOW_TASKS;
+      slowTasks.add(
+          new SlowTask(
+              mSlowTaskTags[slot],
+              mSlowTaskTimes[slot * 3],
+              mSlowTaskTimes[slot * 3 + 1],
+              mSlowTaskTimes[slot * 3 + 2]));
+    }
+    return slowTasks;
+  }
+
+  public void reset() {
+    mWaitTimes.reset();
+    mRunTimes.reset();
+    mMaxQueueDepth.set(mQueueDepth.get());
+    synchronized (this) {
+      mSlowTaskCount = 0;
+    }
+  }
+
+  /* package */ void onEnqueued() {
+    int depth = mQueueDepth.incrementAndGet();
+    int maxDepth = mMaxQueueDepth.get();
+    while (depth > maxDepth && !mMaxQueueDepth.compareAndSet(maxDepth, depth)) {
+      maxDepth = mMaxQueueDepth.get();
+    }
+  }
+
+  /** Called if a runnable couldn't be posted, or was removed before running. */
+  /* package */ void onDequeued() {
+    mQueueDepth.decrementAndGet();
+  }
+
+  /* package */ void onStarted(long waitTimeNs) {
+    mQueueDepth.decrementAndGet();
+    mWaitTimes.record(waitTimeNs);
+  }
+
+  /* package */ void onFinished(
+      @Nullable Runnable runnable, long waitTimeNs, long runTimeNs, long startTimeNs) {
+    mRunTimes.record(runTimeNs);
+    if (runTimeNs >= mSlowTaskThresholdNs) {
+      recordSlowTask(
+          runnable != null ? runnable.getClass().getName() : "unknown",
+          waitTimeNs,
+          runTimeNs,
+          startTimeNs);
+    }
+  }
+
+  private synchronized void recordSlowTask(
+      String tag, long waitTimeNs, long runTimeNs, long startTimeNs) {
+    int slot = mSlowTaskCount % MAX_SLOW_TASKS;
+    mSlowTaskTags[slot] = tag;
+    mSlowTaskTimes[slot * 3] = waitTimeNs;
+    mSlowTaskTimes[slot * 3 + 1] = runTimeNs;
+    mSlowTaskTimes[slot * 3 + 2] = startTimeNs;
+    mSlowTaskCount++;
+  }
+}
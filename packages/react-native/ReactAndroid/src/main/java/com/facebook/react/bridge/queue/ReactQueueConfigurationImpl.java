@@ -8,6 +8,7 @@
 package com.facebook.react.bridge.queue;
 
 import android.os.Looper;
+import androidx.annotation.Nullable;
 import com.facebook.react.common.MapBuilder;
 import java.util.Map;
 
@@ -41,6 +42,22 @@ public class ReactQueueConfigurationImpl implements ReactQueueConfiguration {
     return mJSQueueThread;
   }
 
+  /**
+   * @return task stats of each queue thread, or null if {@link
+   *     com.facebook.react.config.ReactFeatureFlags#enableMessageQueueThreadTaskStats} is disabled
+   */
+  public @Nullable MessageQueueThreadTaskStats getUIQueueTaskStats() {
+    return mUIQueueThread.getTaskStats();
+  }
+
+  public @Nullable MessageQueueThreadTaskStats getNativeModulesQueueTaskStats() {
+    return mNativeModulesQueueThread.getTaskStats();
+  }
+
+  public @Nullable MessageQueueThreadTaskStats getJSQueueTaskStats() {
+    return mJSQueueThread.getTaskStats();
+  }
+
   /**
    * Should be called when the corresponding {@link com.facebook.react.bridge.CatalystInstance} is
    * destroyed so that we shut down the proper queue threads.
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.common;
+
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Open-addressing hash map from {@code int} keys to objects. Like a {@code
+ * ConcurrentHashMap<Integer, V>} but without boxing keys or allocating entry nodes.
+ *
+ * <p>Reads are lock-free and may run on any thread. Writes are serialized on the map's monitor,
+ * which is uncontended in the common case of a single writer thread. Each key slot is written at
+ * most once per table and published through a volatile write to the matching value slot, so a
+ * reader that observes a value also observes its key. Removed entries leave a tombstone that is
+ * only reclaimed when the table is rebuilt.
+ */
+@SuppressWarnings("unchecked")
+public final class ConcurrentIntObjectMap<V> {
+
+  private static final Object TOMBSTONE = new Object();
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private static final class Table {
+    final int[] mKeys;
+    final AtomicReferenceArray<Object> mValues;
+    final int mMask;
+
+    Table(int capacity) {
+      mKeys = new int[capacity];
+      mValues = new AtomicReferenceArray<>(capacity);
+      mMask = capacity - 1;
+    }
+  }
+
+  private volatile Table mTable;
+  private volatile int mSize = 0;
+
+  // Guarded by this
+  private int mUsedSlots = 0;
+
+  public ConcurrentIntObjectMap() {
+    this(16);
+  }
+
+  public ConcurrentIntObjectMap(int initialCapacity) {
+    mTable = new Table(tableSizeFor(initialCapacity));
+  }
+
+  public @Nullable V get(int key) {
+    Table table = mTable;
+    int mask = table.mMask;
+    int slot = hash(key) & mask;
+    while (true) {
+      Object value = table.mValues.get(slot);
+      if (value == null) {
+        return null;
+      }
+      if (table.mKeys[slot] == key) {
+        return value == TOMBSTONE ? null : (V) value;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  public boolean containsKey(int key) {
+    return get(key) != null;
+  }
+
+  /** @return the previous value associated with {@code key}, or null if there was none. */
+  public synchronized @Nullable V put(int key, V value) {
+    if (value == null) {
+      throw new NullPointerException("ConcurrentIntObjectMap does not support null values");
+    }
+    Table table = mTable;
+    int slot = findSlot(table, key);
+    Object previous = table.mValues.get(slot);
+    if (previous == null) {
+      table.mKeys[slot] = key;
+      table.mValues.set(slot, value);
+      mSize++;
+      if (++mUsedSlots > table.mValues.length() * LOAD_FACTOR) {
+        rehash();
+      }
+      return null;
+    }
+    table.mValues.set(slot, value);
+    if (previous == TOMBSTONE) {
+      mSize++;
+      return null;
+    }
+    return (V) previous;
+  }
+
+  /** @return the removed value, or null if {@code key} wasn't present. */
+  public synchronized @Nullable V remove(int key) {
+    Table table = mTable;
+    int slot = findSlot(table, key);
+    Object previous = table.mValues.get(slot);
+    if (previous == null || previous == TOMBSTONE) {
+      return null;
+    }
+    table.mValues.set(slot, TOMBSTONE);
+    mSize--;
+    return (V) previous;
+  }
+
+  public int size() {
+    return mSize;
+  }
+
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /** @return a snapshot of the values currently in the map. */
+  public List<V> values() {
+    Table table = mTable;
+    List<V> values = new ArrayList<>(mSize);
+    for (int i = 0; i < table.mValues.length(); i++) {
+      Object value = table.mValues.get(i);
+      if (value != null && value != TOMBSTONE) {
+        values.add((V) value);
+      }
+    }
+    return values;
+  }
+
+  /** @return a sorted snapshot of the keys currently in the map. */
+  public int[] keys() {
+    Table table = mTable;
+    int[] keys = new int[table.mValues.length()];
+    int count = 0;
+    for (int i = 0; i < table.mValues.length(); i++) {
+      Object value = table.mValues.get(i);
+      if (value != null && value != TOMBSTONE) {
+        keys[count++] = table.mKeys[i];
+      }
+    }
+    keys = Arrays.copyOf(keys, count);
+    Arrays.sort(keys);
+    return keys;
+  }
+
+  /** Returns the slot holding {@code key}, or the empty slot it would be inserted into. */
+  private static int findSlot(Table table, int key) {
+    int mask = table.mMask;
+    int slot = hash(key) & mask;
+    while (true) {
+      if (table.mValues.get(slot) == null || table.mKeys[slot] == key) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /**
+   * Copies live entries into a fresh table, dropping tombstones, and publishes it. Readers still
+   * holding the old table keep seeing a consistent snapshot.
+   */
+  private void rehash() {
+    Table oldTable = mTable;
+    int capacity = oldTable.mValues.length();
+    if (mSize >= capacity * LOAD_FACTOR / 2) {
+      capacity <<= 1;
+    }
+    Table newTable = new Table(capacity);
+    int usedSlots = 0;
+    for (int i = 0; i < oldTable.mValues.length(); i++) {
+      Object value = oldTable.mValues.get(i);
+      if (value != null && value != TOMBSTONE) {
+        int slot = findSlot(newTable, oldTable.mKeys[i]);
+        newTable.mKeys[slot] = oldTable.mKeys[i];
+        newTable.mValues.set(slot, value);
+        usedSlots++;
+      }
+    }
+    mUsedSlots = usedSlots;
+    mTable = newTable;
+  }
+
+  private static int hash(int key) {
+    int hash = key * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int tableSizeFor(int capacity) {
+    return Integer.highestOneBit(Math.max(2, (int) (capacity / LOAD_FACTOR) - 1)) << 1;
+  }
+}
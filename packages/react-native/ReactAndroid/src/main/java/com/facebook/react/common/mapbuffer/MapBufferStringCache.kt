@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.common.mapbuffer
+
+import java.nio.ByteBuffer
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * Cache of the short strings read from [ReadableMapBuffer]s, keyed by their UTF-8 bytes.
+ *
+ * The cache is direct-mapped: each string can only be stored in the slot picked by the hash of its
+ * bytes, and replaces whatever was stored there. Lookups compare bytes in place, so they don't
+ * allocate when the string is found. Entries are immutable, so the cache can be used from any
+ * thread without locking.
+ */
+internal object MapBufferStringCache {
+
+  private const val CACHE_SIZE = 256
+  private const val MAX_STRING_BYTES = 48
+  private const val MAX_SCRATCH_BYTES = 4 * 1024
+
+  private class Entry(val bytes: ByteArray, val hash: Int, val value: String)
+
+  private val entries = AtomicReferenceArray<Entry?>(CACHE_SIZE)
+  private val scratchBytes = ThreadLocal<ByteArray>()
+
+  /**
+   * @return the string serialized in the [size] bytes at [offset] in [buffer], or null if it is too
+   *   long to be cached
+   */
+  fun get(buffer: ByteBuffer, offset: Int, size: Int): String? {
+    if (size > MAX_STRING_BYTES) {
+      return null
+    }
+    var hash = 0
+    for (i in 0 until size) {
+      hash = 31 * hash + buffer.get(offset + i)
+    }
+    val slot = (hash xor (hash ushr 16)) and (CACHE_SIZE - 1)
+    val entry = entries.get(slot)
+    if (entry != null && entry.hash == hash && matches(entry.bytes, buffer, offset, size)) {
+      return entry.value
+    }
+
+    val bytes = ByteArray(size)
+    for (i in 0 until size) {
+      bytes[i] = buffer.get(offset + i)
+    }
+    val value = String(bytes, Charsets.UTF_8)
+    entries.set(slot, Entry(bytes, hash, value))
+    return value
+  }
+
+  /** @return a per-thread array of at least [size] bytes, to decode strings from */
+  fun getScratchBytes(size: Int): ByteArray {
+    if (size > MAX_SCRATCH_BYTES) {
+      return ByteArray(size)
+    }
+    var bytes = scratchBytes.get()
+    if (bytes == null || bytes.size < size) {
+      bytes = ByteArray(maxOf(size, 256))
+      scratchBytes.set(bytes)
+    }
+    return bytes
+  }
+
+  private fun matches(bytes: ByteArray, buffer: ByteBuffer, offset: Int, size: Int): Boolean {
+    if (bytes.size != size) {
+      return false
+    }
+    for (i in 0 until size) {
+      if (bytes[i] != buffer.get(offset + i)) {
+        return false
+      }
+    }
+    return true
+  }
+}
@@ -13,50 +13,67 @@ import com.facebook.react.common.mapbuffer.MapBuffer.Companion.KEY_RANGE
 import java.lang.StringBuilder
 import java.nio.ByteBuffer
 import java.nio.ByteOrder
-import javax.annotation.concurrent.NotThreadSafe
+import javax.annotation.concurrent.ThreadSafe
 
 /**
  * Read-only implementation of the [MapBuffer], imported from C++ environment. Use
  * `<react/common/mapbuffer/JReadableMapBuffer.h> to create it.
  *
+ * Nested map buffers are views over the same [ByteBuffer], starting at their own offset, so reading
+ * them doesn't copy any data. All reads use absolute indexes and never move the buffer's position,
+ * so a map buffer can be read from several threads at the same time.
+ *
  * See [MapBuffer] documentation for more details
  */
-@NotThreadSafe
+@ThreadSafe
 @DoNotStrip
 class ReadableMapBuffer : MapBuffer {
 
   // Hybrid data must be kept in the `mHybridData` field for fbjni to work
   @field:DoNotStrip private val mHybridData: HybridData?
 
-  // Byte data of the mapBuffer
+  // Byte data of the mapBuffer, shared with nested map buffers
   private val buffer: ByteBuffer
+  // Map buffer that owns [buffer], kept alive as long as nested map buffers are, since the buffer
+  // memory is released with its hybrid data
+  private val root: ReadableMapBuffer?
+  // Index of the first byte of this map buffer in [buffer]
+  private val baseOffset: Int
+  // Amount of bytes of this map buffer
+  private val size: Int
   // Amount of items serialized on the ByteBuffer
-  override var count = 0
-    private set
+  override val count: Int
 
   @DoNotStrip
   private constructor(hybridData: HybridData) {
     this.mHybridData = hybridData
     this.buffer = importByteBuffer()
-    readHeader()
+    this.root = null
+    this.baseOffset = 0
+    this.size = buffer.limit()
+    readByteOrder()
+    this.count = readUnsignedShort(COUNT_OFFSET).toInt()
   }
 
-  private constructor(buffer: ByteBuffer) {
+  /** Creates a view of the map buffer serialized at [baseOffset] in the buffer of [root]. */
+  private constructor(root: ReadableMapBuffer, baseOffset: Int, size: Int) {
     this.mHybridData = null
-    this.buffer = buffer
-    readHeader()
+    this.buffer = root.buffer
+    this.root = root
+    this.baseOffset = baseOffset
+    this.size = size
+    this.count = readUnsignedShort(COUNT_OFFSET).toInt()
   }
 
   private external fun importByteBuffer(): ByteBuffer
 
-  private fun readHeader() {
-    // byte order
-    val storedAlignment = buffer.short
+  private fun readByteOrder() {
+    // Nested map buffers are serialized with the same byte order, so this is only done once, before
+    // any view of the buffer is created.
+    val storedAlignment = buffer.getShort(baseOffset)
     if (storedAlignment.toInt() != ALIGNMENT) {
       buffer.order(ByteOrder.LITTLE_ENDIAN)
     }
-    // count
-    count = readUnsignedShort(buffer.position()).toInt()
   }
 
   // returns the relative offset of the first byte of dynamic data
@@ -101,16 +118,21 @@ class ReadableMapBuffer : MapBuffer {
     return getKeyOffsetForBucketIndex(bucketIndex) + VALUE_OFFSET
   }
 
+  private val rootMapBuffer: ReadableMapBuffer
+    get() = root ?: this
+
+  // All positions below are relative to [baseOffset]
+
   private fun readUnsignedShort(bufferPosition: Int): UShort {
-    return buffer.getShort(bufferPosition).toUShort()
+    return buffer.getShort(baseOffset + bufferPosition).toUShort()
   }
 
   private fun readDoubleValue(bufferPosition: Int): Double {
-    return buffer.getDouble(bufferPosition)
+    return buffer.getDouble(baseOffset + bufferPosition)
   }
 
   private fun readIntValue(bufferPosition: Int): Int {
-    return buffer.getInt(bufferPosition)
+    return buffer.getInt(baseOffset + bufferPosition)
   }
 
   private fun readBooleanValue(bufferPosition: Int): Boolean {
@@ -118,38 +140,43 @@ class ReadableMapBuffer : MapBuffer {
   }
 
   private fun readStringValue(bufferPosition: Int): String {
-    val offset = offsetForDynamicData + buffer.getInt(bufferPosition)
-    val sizeOfString = buffer.getInt(offset)
-    val result = ByteArray(sizeOfString)
-    val stringOffset = offset + Int.SIZE_BYTES
-    buffer.position(stringOffset)
-    buffer[result, 0, sizeOfString]
-    return String(result)
+    val offset = offsetForDynamicData + readIntValue(bufferPosition)
+    val sizeOfString = readIntValue(offset)
+    val stringOffset = baseOffset + offset + Int.SIZE_BYTES
+    if (enableStringInterning) {
+      val interned = MapBufferStringCache.get(buffer, stringOffset, sizeOfString)
+      if (interned != null) {
+        return interned
+      }
+    }
+    if (buffer.hasArray()) {
+      return String(
+          buffer.array(), buffer.arrayOffset() + stringOffset, sizeOfString, Charsets.UTF_8)
+    }
+    val bytes = MapBufferStringCache.getScratchBytes(sizeOfString)
+    for (i in 0 until sizeOfString) {
+      bytes[i] = buffer.get(stringOffset + i)
+    }
+    return String(bytes, 0, sizeOfString, Charsets.UTF_8)
   }
 
   private fun readMapBufferValue(position: Int): ReadableMapBuffer {
-    val offset = offsetForDynamicData + buffer.getInt(position)
-    val sizeMapBuffer = buffer.getInt(offset)
-    val newBuffer = ByteArray(sizeMapBuffer)
-    val bufferOffset = offset + Int.SIZE_BYTES
-    buffer.position(bufferOffset)
-    buffer[newBuffer, 0, sizeMapBuffer]
-    return ReadableMapBuffer(ByteBuffer.wrap(newBuffer))
+    val offset = offsetForDynamicData + readIntValue(position)
+    val sizeMapBuffer = readIntValue(offset)
+    return ReadableMapBuffer(rootMapBuffer, baseOffset + offset + Int.SIZE_BYTES, sizeMapBuffer)
   }
 
   private fun readMapBufferListValue(position: Int): List<ReadableMapBuffer> {
-    val readMapBufferList = arrayListOf<ReadableMapBuffer>()
-    var offset = offsetForDynamicData + buffer.getInt(position)
-    val sizeMapBufferList = buffer.getInt(offset)
+    var offset = offsetForDynamicData + readIntValue(position)
+    val sizeMapBufferList = readIntValue(offset)
     offset += Int.SIZE_BYTES
+    val readMapBufferList = ArrayList<ReadableMapBuffer>()
     var curLen = 0
     while (curLen < sizeMapBufferList) {
-      val sizeMapBuffer = buffer.getInt(offset + curLen)
-      val newMapBuffer = ByteArray(sizeMapBuffer)
+      val sizeMapBuffer = readIntValue(offset + curLen)
       curLen = curLen + Int.SIZE_BYTES
-      buffer.position(offset + curLen)
-      buffer[newMapBuffer, 0, sizeMapBuffer]
-      readMapBufferList.add(ReadableMapBuffer(ByteBuffer.wrap(newMapBuffer)))
+      readMapBufferList.add(
+          ReadableMapBuffer(rootMapBuffer, baseOffset + offset + curLen, sizeMapBuffer))
       curLen = curLen + sizeMapBuffer
     }
     return readMapBufferList
@@ -194,22 +221,30 @@ class ReadableMapBuffer : MapBuffer {
       readMapBufferListValue(getTypedValueOffsetForKey(key, MapBuffer.DataType.MAP))
 
   override fun hashCode(): Int {
-    buffer.rewind()
-    return buffer.hashCode()
+    // Same as ByteBuffer.hashCode(), over the bytes of this map buffer only
+    var hash = 1
+    for (i in baseOffset + size - 1 downTo baseOffset) {
+      hash = 31 * hash + buffer.get(i).toInt()
+    }
+    return hash
   }
 
   override fun equals(other: Any?): Boolean {
     if (other !is ReadableMapBuffer) {
       return false
     }
-    val thisByteBuffer = buffer
-    val otherByteBuffer = other.buffer
-    if (thisByteBuffer === otherByteBuffer) {
+    if (buffer === other.buffer && baseOffset == other.baseOffset) {
       return true
     }
-    thisByteBuffer.rewind()
-    otherByteBuffer.rewind()
-    return thisByteBuffer == otherByteBuffer
+    if (size != other.size) {
+      return false
+    }
+    for (i in 0 until size) {
+      if (buffer.get(baseOffset + i) != other.buffer.get(other.baseOffset + i)) {
+        return false
+      }
+    }
+    return true
   }
 
   override fun toString(): String {
@@ -303,6 +338,9 @@ class ReadableMapBuffer : MapBuffer {
     // 8 bytes = 2 (alignment) + 2 (count) + 4 (size)
     private const val HEADER_SIZE = 8
 
+    // 2 bytes = 2 (alignment)
+    private const val COUNT_OFFSET = 2
+
     // 10 bytes = 2 (key) + 2 (type) + 8 (value)
     private const val BUCKET_SIZE = 12
 
@@ -312,6 +350,12 @@ class ReadableMapBuffer : MapBuffer {
     // 4 bytes = 2 (key) + 2 (type)
     private const val VALUE_OFFSET = 4
 
+    /**
+     * Return the same [String] instance for short strings that are read repeatedly (e.g. font
+     * families or colors of text fragments), instead of decoding a new one each time.
+     */
+    @JvmStatic @Volatile var enableStringInterning: Boolean = false
+
     init {
       MapBufferSoLoader.staticInit()
     }
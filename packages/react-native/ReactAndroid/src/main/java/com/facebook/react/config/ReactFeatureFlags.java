@@ -159,4 +159,103 @@ public class ReactFeatureFlags {
 
   /** Report mount operations from the host platform to notify mount hooks. */
   public static boolean enableMountHooks = false;
+
+  /**
+   * Stage events in a lock-free ring buffer in EventDispatcherImpl, and coalesce them without
+   * boxing cookies or hashing event names.
+   */
+  public static boolean enableLockFreeEventDispatcher = false;
+
+  /**
+   * Allow Fabric batched mount items to be executed across several frames, pausing at safe
+   * instruction boundaries once {@link #timeSlicedMountItemsFrameBudgetMs} is used up.
+   */
+  public static boolean enableTimeSlicedMountItems = false;
+
+  /** Per-frame budget for executing batched mount items when time slicing is enabled. */
+  public static int timeSlicedMountItemsFrameBudgetMs = 8;
+
+  /**
+   * Store JS timers in a hierarchical timer wheel in JavaTimerManager, so creating and deleting
+   * timers is O(1) instead of O(log n) / O(n) with the priority queue.
+   */
+  public static boolean enableTimerWheel = false;
+
+  /**
+   * Stream large or unknown-length "blob" network responses to a file in BlobModule, instead of
+   * reading them into a byte array.
+   */
+  public static boolean enableStreamingBlobResponses = false;
+
+  /**
+   * Update native animated nodes in a cached topological order of the graph, instead of running two
+   * BFS traversals on every frame.
+   */
+  public static boolean enableAnimatedUpdatePlan = false;
+
+  /**
+   * Encode the most common legacy renderer view operations into pooled int and object buffers in
+   * UIViewOperationQueue, instead of allocating one operation object each.
+   */
+  public static boolean enableViewOperationBuffer = false;
+
+  /**
+   * Record wait time and run time histograms, queue depth and slow tasks for the runnables posted
+   * to each MessageQueueThreadImpl.
+   */
+  public static boolean enableMessageQueueThreadTaskStats = false;
+
+  /**
+   * Cache Spannables and Layouts by the content of their attributed string in TextLayoutManager and
+   * TextLayoutManagerMapBuffer, so repeated text is only built and laid out once.
+   */
+  public static boolean enableTextLayoutCache = false;
+
+  /** Memory budget of the text layout cache, in bytes. */
+  public static int textLayoutCacheSizeBytes = 2 * 1024 * 1024;
+
+  /**
+   * Keep the children of views with removeClippedSubviews sorted by position, so that only the
+   * children entering or leaving the clipping rect are visited when it changes.
+   */
+  public static boolean enableClippedSubviewsIndex = false;
+
+  /**
+   * Reuse the touch target found by TouchTargetHelper for the same coordinates in the same root
+   * view, until the view tree is laid out, scrolled or drawn again.
+   */
+  public static boolean enableTouchTargetCache = false;
+
+  /**
+   * Collect the native modules of the packages on a pool of threads when creating the React
+   * context, instead of one package after the other on the create context thread.
+   */
+  public static boolean enableParallelPackageProcessing = false;
+
+  /**
+   * With lazy view managers, also create the view managers of the packages that don't implement
+   * ViewManagerOnDemandReactPackage, when they are first needed. A package is created as a whole,
+   * and only packages implementing ViewManagerNamesReactPackage can list their names without
+   * creating them. The others are still created when view manager names are requested at startup.
+   */
+  public static boolean enableLazyViewManagersForAllPackages = false;
+
+  /**
+   * Create the views of the components that previous surfaces of the same module used while the UI
+   * thread is idle, and use them when the surface mounts. Only for the ViewManagers that set up
+   * view recycling.
+   */
+  public static boolean enableFabricViewPool = false;
+
+  /**
+   * Dispatch the events that support it (scroll, pointer, touch and content size change events) to
+   * Fabric as primitive payloads, instead of creating a WritableNativeMap per object of the event.
+   */
+  public static boolean enableEventPayloads = false;
+
+  /**
+   * Reuse the PointerEventStates of JSPointerDispatcher once the pointer events of a MotionEvent
+   * were dispatched, instead of creating new ones for every MotionEvent.
+   */
+  public static boolean enablePointerEventStatePool = false;
 }
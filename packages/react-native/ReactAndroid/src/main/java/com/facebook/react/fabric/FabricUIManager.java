@@ -80,6 +80,7 @@ import com.facebook.react.uimanager.ViewManagerRegistry;
 import com.facebook.react.uimanager.events.EventCategoryDef;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.EventDispatcherImpl;
+import com.facebook.react.uimanager.events.EventPayload;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.facebook.react.views.text.TextLayoutManager;
 import com.facebook.react.views.text.TextLayoutManagerMapBuffer;
@@ -223,6 +224,7 @@ public class FabricUIManager implements UIManager, LifecycleEventListener {
 
     mViewManagerRegistry = viewManagerRegistry;
     mReactApplicationContext.registerComponentCallbacks(viewManagerRegistry);
+    mReactApplicationContext.registerComponentCallbacks(mMountingManager);
   }
 
   // TODO (T47819352): Rename this to startSurface for consistency with xplat/iOS
@@ -429,6 +431,7 @@ public class FabricUIManager implements UIManager, LifecycleEventListener {
     mEventDispatcher.unregisterEventEmitter(FABRIC);
 
     mReactApplicationContext.unregisterComponentCallbacks(mViewManagerRegistry);
+    mReactApplicationContext.unregisterComponentCallbacks(mMountingManager);
     mViewManagerRegistry.invalidate();
 
     // Remove lifecycle listeners (onHostResume, onHostPause) since the FabricUIManager is going
@@ -980,6 +983,40 @@ public class FabricUIManager implements UIManager, LifecycleEventListener {
     }
   }
 
+  /**
+   * Same as {@link #receiveEvent(int, int, String, boolean, int, WritableMap, int)}, for events
+   * written into an {@link EventPayload}, which is shipped to C++ without creating maps.
+   */
+  public void receiveEvent(
+      int surfaceId,
+      int reactTag,
+      String eventName,
+      boolean canCoalesceEvent,
+      int customCoalesceKey,
+      EventPayload payload,
+      @EventCategoryDef int eventCategory) {
+    EventEmitterWrapper eventEmitter =
+        mDestroyed ? null : mMountingManager.getEventEmitter(surfaceId, reactTag);
+    if (eventEmitter == null) {
+      // Queued or dropped as a map, like other events
+      receiveEvent(
+          surfaceId,
+          reactTag,
+          eventName,
+          canCoalesceEvent,
+          customCoalesceKey,
+          payload.toWritableMap(),
+          eventCategory);
+      return;
+    }
+
+    if (canCoalesceEvent) {
+      eventEmitter.dispatchUnique(eventName, payload, customCoalesceKey);
+    } else {
+      eventEmitter.dispatch(eventName, payload, eventCategory);
+    }
+  }
+
   @Override
   public void onHostResume() {
     ReactChoreographer.getInstance()
@@ -1180,6 +1217,9 @@ public class FabricUIManager implements UIManager, LifecycleEventListener {
     performanceCounters.put("DispatchViewUpdatesTime", mDispatchViewUpdatesTime);
     performanceCounters.put("RunStartTime", mMountItemDispatcher.getRunStartTime());
     performanceCounters.put("BatchedExecutionTime", mMountItemDispatcher.getBatchedExecutionTime());
+    performanceCounters.put(
+        "BatchedExecutionFrameCount",
+        (long) mMountItemDispatcher.getLastBatchExecutionFrameCount());
     performanceCounters.put("FinishFabricTransactionTime", mFinishTransactionTime);
     performanceCounters.put("FinishFabricTransactionCPPTime", mFinishTransactionCPPTime);
     return performanceCounters;
@@ -1273,7 +1313,7 @@ public class FabricUIManager implements UIManager, LifecycleEventListener {
 
       try {
         mMountItemDispatcher.dispatchPreMountItems(frameTimeNanos);
-        mMountItemDispatcher.tryDispatchMountItems();
+        mMountItemDispatcher.tryDispatchMountItems(frameTimeNanos);
       } catch (Exception ex) {
         FLog.e(TAG, "Exception thrown when executing UIFrameGuarded", ex);
         stop();
@@ -16,6 +16,7 @@ import com.facebook.react.bridge.NativeMap;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.fabric.FabricSoLoader;
 import com.facebook.react.uimanager.events.EventCategoryDef;
+import com.facebook.react.uimanager.events.EventPayload;
 
 /**
  * This class holds reference to the C++ EventEmitter object. Instances of this class are created in
@@ -29,6 +30,9 @@ public class EventEmitterWrapper {
     FabricSoLoader.staticInit();
   }
 
+  // How many keys of EventPayload were registered with C++, guarded by the class
+  private static int sRegisteredPayloadKeyCount = 0;
+
   @DoNotStrip private final HybridData mHybridData;
 
   @DoNotStrip
@@ -42,6 +46,24 @@ public class EventEmitterWrapper {
   private native void dispatchUniqueEvent(
       @NonNull String eventName, @NonNull NativeMap params, int customCoalesceKey);
 
+  private native void dispatchEventPayload(
+      @NonNull String eventName,
+      @NonNull int[] ops,
+      int opCount,
+      @NonNull double[] values,
+      @NonNull String[] strings,
+      @EventCategoryDef int category);
+
+  private native void dispatchUniqueEventPayload(
+      @NonNull String eventName,
+      @NonNull int[] ops,
+      int opCount,
+      @NonNull double[] values,
+      @NonNull String[] strings,
+      int customCoalesceKey);
+
+  private static native void registerPayloadKeys(@NonNull String[] keys);
+
   /**
    * Invokes the execution of the C++ EventEmitter.
    *
@@ -73,6 +95,60 @@ public class EventEmitterWrapper {
     dispatchUniqueEvent(eventName, (NativeMap) params, customCoalesceKey);
   }
 
+  /**
+   * Invokes the execution of the C++ EventEmitter with a payload that is converted to the JS
+   * object of the event in C++, without creating maps.
+   *
+   * @param eventName {@link String} name of the event to execute.
+   * @param payload {@link EventPayload} payload of the event
+   */
+  public synchronized void dispatch(
+      @NonNull String eventName,
+      @NonNull EventPayload payload,
+      @EventCategoryDef int eventCategory) {
+    if (!isValid()) {
+      return;
+    }
+    registerNewPayloadKeys();
+    dispatchEventPayload(
+        eventName,
+        payload.getOps(),
+        payload.getOpCount(),
+        payload.getValues(),
+        payload.getStrings(),
+        eventCategory);
+  }
+
+  /**
+   * Same as {@link #dispatch(String, EventPayload, int)}, but C++ will coalesce events sent to the
+   * same target.
+   */
+  public synchronized void dispatchUnique(
+      @NonNull String eventName, @NonNull EventPayload payload, int customCoalesceKey) {
+    if (!isValid()) {
+      return;
+    }
+    registerNewPayloadKeys();
+    dispatchUniqueEventPayload(
+        eventName,
+        payload.getOps(),
+        payload.getOpCount(),
+        payload.getValues(),
+        payload.getStrings(),
+        customCoalesceKey);
+  }
+
+  private static void registerNewPayloadKeys() {
+    synchronized (EventEmitterWrapper.class) {
+      int keyCount = EventPayload.getKeyCount();
+      if (sRegisteredPayloadKeyCount < keyCount) {
+        // Keys are only ever added, so C++ appends them to the ones it has
+        registerPayloadKeys(EventPayload.getKeys(sRegisteredPayloadKeyCount, keyCount));
+        sRegisteredPayloadKeyCount = keyCount;
+      }
+    }
+  }
+
   public synchronized void destroy() {
     if (mHybridData != null) {
       mHybridData.resetNative();
@@ -14,12 +14,14 @@ import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.fabric.FabricUIManager;
 import com.facebook.react.uimanager.common.ViewUtil;
 import com.facebook.react.uimanager.events.EventCategoryDef;
+import com.facebook.react.uimanager.events.EventPayload;
+import com.facebook.react.uimanager.events.EventPayloadEmitter;
 import com.facebook.react.uimanager.events.RCTModernEventEmitter;
 import com.facebook.react.uimanager.events.TouchEvent;
 import com.facebook.react.uimanager.events.TouchesHelper;
 import com.facebook.systrace.Systrace;
 
-public class FabricEventEmitter implements RCTModernEventEmitter {
+public class FabricEventEmitter implements RCTModernEventEmitter, EventPayloadEmitter {
 
   @NonNull private final FabricUIManager mUIManager;
 
@@ -58,6 +60,27 @@ public class FabricEventEmitter implements RCTModernEventEmitter {
     }
   }
 
+  @Override
+  public boolean receiveEvent(
+      int surfaceId,
+      int reactTag,
+      String eventName,
+      boolean canCoalesceEvent,
+      int customCoalesceKey,
+      EventPayload payload,
+      @EventCategoryDef int category) {
+    Systrace.beginSection(
+        Systrace.TRACE_TAG_REACT_JAVA_BRIDGE,
+        "FabricEventEmitter.receiveEvent('" + eventName + "')");
+    try {
+      mUIManager.receiveEvent(
+          surfaceId, reactTag, eventName, canCoalesceEvent, customCoalesceKey, payload, category);
+    } finally {
+      Systrace.endSection(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE);
+    }
+    return true;
+  }
+
   /** Touches are dispatched by {@link #receiveTouches(TouchEvent)} */
   @Override
   public void receiveTouches(
@@ -24,8 +24,10 @@ import com.facebook.react.bridge.ReactIgnorableMountingException;
 import com.facebook.react.bridge.ReactNoCrashSoftException;
 import com.facebook.react.bridge.ReactSoftExceptionLogger;
 import com.facebook.react.bridge.RetryableMountingLayerException;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.fabric.mounting.mountitems.DispatchCommandMountItem;
 import com.facebook.react.fabric.mounting.mountitems.MountItem;
+import com.facebook.react.fabric.mounting.mountitems.ResumableBatchMountItem;
 import com.facebook.systrace.Systrace;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,6 +40,7 @@ public class MountItemDispatcher {
   private static final String TAG = "MountItemDispatcher";
   private static final int FRAME_TIME_MS = 16;
   private static final int MAX_TIME_IN_FRAME_FOR_NON_BATCHED_OPERATIONS_MS = 8;
+  private static final long NANOSECONDS_PER_MILLISECOND = 1000000L;
 
   private final MountingManager mMountingManager;
   private final ItemDispatchListener mItemDispatchListener;
@@ -57,6 +60,14 @@ public class MountItemDispatcher {
   private long mBatchedExecutionTime = 0L;
   private long mRunStartTime = 0L;
 
+  // Mount items that were drained but not executed yet, because a time-sliced batch ran out of
+  // frame budget. They're executed, in order, before any newly scheduled mount items.
+  @Nullable private List<MountItem> mSuspendedMountItems = null;
+  // Start of the current frame, which time-sliced batches share the budget of
+  private long mFrameTimeNanos = 0L;
+  private long mBatchedExecutionDeadlineNanos = 0L;
+  private int mLastBatchExecutionFrameCount = 0;
+
   public MountItemDispatcher(MountingManager mountingManager, ItemDispatchListener listener) {
     mMountingManager = mountingManager;
     mItemDispatchListener = listener;
@@ -92,11 +103,25 @@ public class MountItemDispatcher {
     mViewCommandMountItems.add(mountItem);
   }
 
+  /**
+   * Same as {@link #tryDispatchMountItems()}, from the frame callback of the frame that started at
+   * {@code frameTimeNanos}: time-sliced batches get the budget of that frame.
+   */
+  @UiThread
+  @ThreadConfined(UI)
+  public boolean tryDispatchMountItems(long frameTimeNanos) {
+    mFrameTimeNanos = frameTimeNanos;
+    return tryDispatchMountItems();
+  }
+
   /**
    * Try to dispatch MountItems. Returns true if any items were dispatched, false otherwise. A
    * `false` return value doesn't indicate errors, it may just indicate there was no work to be
    * done.
    *
+   * <p>Outside of the frame callback, e.g. for synchronous mounting, time-sliced batches use what's
+   * left of the budget of the current frame.
+   *
    * @return
    */
   @UiThread
@@ -129,8 +154,9 @@ public class MountItemDispatcher {
     // NativeAnimatedModule relies on this for executing any animations that may have been scheduled
     mItemDispatchListener.didDispatchMountItems();
 
-    // Decide if we want to try reentering
-    if (mReDispatchCounter < 10 && didDispatchItems) {
+    // Decide if we want to try reentering. If a batch ran out of frame budget, wait for the next
+    // frame instead.
+    if (mReDispatchCounter < 10 && didDispatchItems && mSuspendedMountItems == null) {
       // Executing twice in a row is normal. Only log after that point.
       if (mReDispatchCounter > 2) {
         ReactSoftExceptionLogger.logSoftException(
@@ -180,19 +206,34 @@ public class MountItemDispatcher {
   private boolean dispatchMountItems() {
     if (mReDispatchCounter == 0) {
       mBatchedExecutionTime = 0;
+      updateBatchedExecutionDeadline();
     }
 
     mRunStartTime = SystemClock.uptimeMillis();
 
     List<DispatchCommandMountItem> viewCommandMountItemsToDispatch =
         getAndResetViewCommandMountItems();
-    List<MountItem> mountItemsToDispatch = getAndResetMountItems();
+    List<MountItem> suspendedMountItems = mSuspendedMountItems;
+    mSuspendedMountItems = null;
+    List<MountItem> newMountItems = getAndResetMountItems();
+    List<MountItem> mountItemsToDispatch = newMountItems;
+    if (suspendedMountItems != null) {
+      if (newMountItems != null) {
+        suspendedMountItems.addAll(newMountItems);
+      }
+      mountItemsToDispatch = suspendedMountItems;
+    }
 
     if (mountItemsToDispatch == null && viewCommandMountItemsToDispatch == null) {
       return false;
     }
 
-    mItemDispatchListener.willMountItems(mountItemsToDispatch);
+    // Mount items resumed from a previous frame were already announced to the listener
+    if (suspendedMountItems == null
+        || newMountItems != null
+        || viewCommandMountItemsToDispatch != null) {
+      mItemDispatchListener.willMountItems(newMountItems);
+    }
 
     // As an optimization, execute all ViewCommands first
     // This should be:
@@ -266,13 +307,24 @@ public class MountItemDispatcher {
 
       long batchedExecutionStartTime = SystemClock.uptimeMillis();
 
-      for (MountItem mountItem : mountItemsToDispatch) {
+      for (int i = 0; i < mountItemsToDispatch.size(); i++) {
+        MountItem mountItem = mountItemsToDispatch.get(i);
         if (ENABLE_FABRIC_LOGS) {
           printMountItem(mountItem, "dispatchMountItems: Executing mountItem");
         }
 
         try {
-          executeOrEnqueue(mountItem);
+          if (ReactFeatureFlags.enableTimeSlicedMountItems) {
+            if (!executeOrEnqueueTimeSliced(mountItem)) {
+              // Keep this item and everything after it for the next frame, so commit order is
+              // preserved
+              mSuspendedMountItems =
+                  new ArrayList<>(mountItemsToDispatch.subList(i, mountItemsToDispatch.size()));
+              break;
+            }
+          } else {
+            executeOrEnqueue(mountItem);
+          }
         } catch (Throwable e) {
           // If there's an exception, we want to log diagnostics in prod and rethrow.
           FLog.e(TAG, "dispatchMountItems: caught exception, displaying mount state", e);
@@ -301,7 +353,10 @@ public class MountItemDispatcher {
       mBatchedExecutionTime += SystemClock.uptimeMillis() - batchedExecutionStartTime;
     }
 
-    mItemDispatchListener.didMountItems(mountItemsToDispatch);
+    // Listeners are told once all the mount items announced so far were executed
+    if (mSuspendedMountItems == null) {
+      mItemDispatchListener.didMountItems(mountItemsToDispatch);
+    }
 
     Systrace.endSection(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE);
 
@@ -360,6 +415,35 @@ public class MountItemDispatcher {
     }
   }
 
+  /**
+   * Like {@link #executeOrEnqueue}, but lets {@link ResumableBatchMountItem}s stop at the frame
+   * budget deadline.
+   *
+   * @return false if the item has to be resumed on a later frame
+   */
+  private boolean executeOrEnqueueTimeSliced(MountItem item) {
+    if (!(item instanceof ResumableBatchMountItem)
+        || mMountingManager.isWaitingForViewAttach(item.getSurfaceId())) {
+      executeOrEnqueue(item);
+      return true;
+    }
+
+    ResumableBatchMountItem batchMountItem = (ResumableBatchMountItem) item;
+    if (!batchMountItem.executeUntil(mMountingManager, mBatchedExecutionDeadlineNanos)) {
+      return false;
+    }
+
+    mLastBatchExecutionFrameCount = batchMountItem.getExecutionFrameCount();
+    if (ENABLE_FABRIC_LOGS && mLastBatchExecutionFrameCount > 1) {
+      FLog.d(
+          TAG,
+          "Batch for surface [%d] was executed across %d frames",
+          item.getSurfaceId(),
+          mLastBatchExecutionFrameCount);
+    }
+    return true;
+  }
+
   @Nullable
   private static <E extends MountItem> List<E> drainConcurrentItemQueue(
       ConcurrentLinkedQueue<E> queue) {
@@ -397,6 +481,20 @@ public class MountItemDispatcher {
     return drainConcurrentItemQueue(mMountItems);
   }
 
+  /**
+   * Sets the deadline of time-sliced batches to the end of the budget of the current frame. A
+   * dispatch more than a frame after the start of the last frame callback starts a new frame.
+   */
+  private void updateBatchedExecutionDeadline() {
+    long now = System.nanoTime();
+    if (now - mFrameTimeNanos >= FRAME_TIME_MS * NANOSECONDS_PER_MILLISECOND) {
+      mFrameTimeNanos = now;
+    }
+    mBatchedExecutionDeadlineNanos =
+        mFrameTimeNanos
+            + ReactFeatureFlags.timeSlicedMountItemsFrameBudgetMs * NANOSECONDS_PER_MILLISECOND;
+  }
+
   private Collection<MountItem> getAndResetPreMountItems() {
     return drainConcurrentItemQueue(mPreMountItems);
   }
@@ -409,6 +507,11 @@ public class MountItemDispatcher {
     return mRunStartTime;
   }
 
+  /** @return the number of frames the most recently completed time-sliced batch spanned. */
+  public int getLastBatchExecutionFrameCount() {
+    return mLastBatchExecutionFrameCount;
+  }
+
   private static void printMountItem(MountItem mountItem, String prefix) {
     // If a MountItem description is split across multiple lines, it's because it's a
     // compound MountItem. Log each line separately.
@@ -10,6 +10,8 @@ package com.facebook.react.fabric.mounting;
 import static com.facebook.infer.annotation.ThreadConfined.ANY;
 import static com.facebook.infer.annotation.ThreadConfined.UI;
 
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
 import android.view.View;
 import androidx.annotation.AnyThread;
 import androidx.annotation.NonNull;
@@ -43,7 +45,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * Class responsible for actually dispatching view updates enqueued via {@link
  * FabricUIManager#scheduleMountItem} on the UI thread.
  */
-public class MountingManager {
+public class MountingManager implements ComponentCallbacks2 {
   public static final String TAG = MountingManager.class.getSimpleName();
   private static final int MAX_STOPPED_SURFACE_IDS_LENGTH = 15;
 
@@ -60,6 +62,7 @@ public class MountingManager {
   @NonNull private final ViewManagerRegistry mViewManagerRegistry;
   @NonNull private final MountItemExecutor mMountItemExecutor;
   @NonNull private final RootViewManager mRootViewManager = new RootViewManager();
+  @NonNull private final SurfaceViewPool.History mViewPoolHistory = new SurfaceViewPool.History();
 
   public interface MountItemExecutor {
     @UiThread
@@ -88,7 +91,8 @@ public class MountingManager {
             mViewManagerRegistry,
             mRootViewManager,
             mMountItemExecutor,
-            reactContext);
+            reactContext,
+            mViewPoolHistory);
 
     // There could technically be a race condition here if addRootView is called twice from
     // different threads, though this is (probably) extremely unlikely, and likely an error.
@@ -432,4 +436,42 @@ public class MountingManager {
 
     smm.enqueuePendingEvent(reactTag, viewEvent);
   }
+
+  /**
+   * @return the components created by past surfaces and the capacity of the view pools, used when
+   *     {@link com.facebook.react.config.ReactFeatureFlags#enableFabricViewPool} is set
+   */
+  @NonNull
+  public SurfaceViewPool.History getViewPoolHistory() {
+    return mViewPoolHistory;
+  }
+
+  /** ComponentCallbacks2 method. */
+  @Override
+  public void onTrimMemory(int level) {
+    Runnable runnable =
+        new Runnable() {
+          @Override
+          public void run() {
+            for (SurfaceMountingManager surfaceMountingManager : mSurfaceIdToManager.values()) {
+              surfaceMountingManager.trimViewPool();
+            }
+          }
+        };
+    if (UiThreadUtil.isOnUiThread()) {
+      runnable.run();
+    } else {
+      UiThreadUtil.runOnUiThread(runnable);
+    }
+  }
+
+  /** ComponentCallbacks2 method. */
+  @Override
+  public void onConfigurationChanged(Configuration newConfig) {}
+
+  /** ComponentCallbacks2 method. */
+  @Override
+  public void onLowMemory() {
+    this.onTrimMemory(0);
+  }
 }
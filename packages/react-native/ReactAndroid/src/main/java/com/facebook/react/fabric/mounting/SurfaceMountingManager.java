@@ -27,6 +27,7 @@ import com.facebook.react.bridge.RetryableMountingLayerException;
 import com.facebook.react.bridge.SoftAssertions;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.common.ConcurrentIntObjectMap;
 import com.facebook.react.common.build.ReactBuildConfig;
 import com.facebook.react.common.mapbuffer.ReadableMapBuffer;
 import com.facebook.react.config.ReactFeatureFlags;
@@ -50,12 +51,12 @@ import com.facebook.react.uimanager.ViewManagerRegistry;
 import com.facebook.react.uimanager.events.EventCategoryDef;
 import com.facebook.react.views.view.ReactMapBufferViewManager;
 import com.facebook.react.views.view.ReactViewManagerWrapper;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.annotation.Nullable;
 
@@ -70,8 +71,8 @@ public class SurfaceMountingManager {
   @Nullable private ThemedReactContext mThemedReactContext;
 
   // These are all non-null, until StopSurface is called
-  private ConcurrentHashMap<Integer, ViewState> mTagToViewState =
-      new ConcurrentHashMap<>(); // any thread
+  private ConcurrentIntObjectMap<ViewState> mTagToViewState =
+      new ConcurrentIntObjectMap<>(); // any thread
   private ConcurrentLinkedQueue<MountItem> mOnViewAttachItems = new ConcurrentLinkedQueue<>();
   private JSResponderHandler mJSResponderHandler;
   private ViewManagerRegistry mViewManagerRegistry;
@@ -90,11 +91,15 @@ public class SurfaceMountingManager {
   @ThreadConfined(UI)
   private RemoveDeleteTreeUIFrameCallback mRemoveDeleteTreeUIFrameCallback;
 
-  // This is null *until* StopSurface is called.
-  private Set<Integer> mTagSetForStoppedSurface;
+  // This is null *until* StopSurface is called. Sorted, so it can be binary searched.
+  private int[] mTagSetForStoppedSurface;
 
   private final int mSurfaceId;
 
+  @Nullable private final SurfaceViewPool.History mViewPoolHistory;
+  // Only accessed on the UI thread, created when the root view is added
+  @ThreadConfined(UI) @Nullable private SurfaceViewPool mViewPool;
+
   public SurfaceMountingManager(
       int surfaceId,
       @NonNull JSResponderHandler jsResponderHandler,
@@ -102,12 +107,31 @@ public class SurfaceMountingManager {
       @NonNull RootViewManager rootViewManager,
       @NonNull MountItemExecutor mountItemExecutor,
       @NonNull ThemedReactContext reactContext) {
+    this(
+        surfaceId,
+        jsResponderHandler,
+        viewManagerRegistry,
+        rootViewManager,
+        mountItemExecutor,
+        reactContext,
+        null);
+  }
+
+  public SurfaceMountingManager(
+      int surfaceId,
+      @NonNull JSResponderHandler jsResponderHandler,
+      @NonNull ViewManagerRegistry viewManagerRegistry,
+      @NonNull RootViewManager rootViewManager,
+      @NonNull MountItemExecutor mountItemExecutor,
+      @NonNull ThemedReactContext reactContext,
+      @Nullable SurfaceViewPool.History viewPoolHistory) {
     mSurfaceId = surfaceId;
     mJSResponderHandler = jsResponderHandler;
     mViewManagerRegistry = viewManagerRegistry;
     mRootViewManager = rootViewManager;
     mMountItemExecutor = mountItemExecutor;
     mThemedReactContext = reactContext;
+    mViewPoolHistory = viewPoolHistory;
   }
 
   public boolean isStopped() {
@@ -166,7 +190,8 @@ public class SurfaceMountingManager {
     // If Surface stopped, check if tag *was* associated with this Surface, even though it's been
     // deleted. This helps distinguish between scenarios where an invalid tag is referenced, vs
     // race conditions where an imperative method is called on a tag during/just after StopSurface.
-    if (mTagSetForStoppedSurface != null && mTagSetForStoppedSurface.contains(tag)) {
+    if (mTagSetForStoppedSurface != null
+        && Arrays.binarySearch(mTagSetForStoppedSurface, tag) >= 0) {
       return true;
     }
     if (mTagToViewState == null) {
@@ -227,6 +252,15 @@ public class SurfaceMountingManager {
           }
           mRootViewAttached = true;
 
+          if (ReactFeatureFlags.enableFabricViewPool
+              && mViewPoolHistory != null
+              && mViewPool == null
+              && mThemedReactContext != null) {
+            mViewPool =
+                new SurfaceViewPool(mThemedReactContext, mViewManagerRegistry, mViewPoolHistory);
+            mViewPool.startPrewarming();
+          }
+
           executeViewAttachMountItems();
         };
 
@@ -243,6 +277,26 @@ public class SurfaceMountingManager {
     mMountItemExecutor.executeItems(mOnViewAttachItems);
   }
 
+  /**
+   * @return the pool of views created ahead of time for this surface, or null if view pooling is
+   *     disabled or the root view wasn't added yet
+   */
+  @UiThread
+  @ThreadConfined(UI)
+  @Nullable
+  public SurfaceViewPool getViewPool() {
+    return mViewPool;
+  }
+
+  /** Drops the views created ahead of time for this surface, e.g. when memory is low. */
+  @UiThread
+  @ThreadConfined(UI)
+  public void trimViewPool() {
+    if (mViewPool != null) {
+      mViewPool.trim();
+    }
+  }
+
   /**
    * Stop surface and all operations within it. Garbage-collect Views (caller is responsible for
    * removing RootView from View layer).
@@ -296,7 +350,7 @@ public class SurfaceMountingManager {
             }
 
             // Evict all views from cache and memory
-            mTagSetForStoppedSurface = mTagToViewState.keySet();
+            mTagSetForStoppedSurface = mTagToViewState.keys();
             mTagToViewState = null;
             mJSResponderHandler = null;
             mRootViewManager = null;
@@ -306,6 +360,9 @@ public class SurfaceMountingManager {
             if (ReactFeatureFlags.enableViewRecycling) {
               mViewManagerRegistry.onSurfaceStopped(mSurfaceId);
             }
+            if (mViewPool != null) {
+              mViewPool.stop();
+            }
             FLog.e(TAG, "Surface [" + mSurfaceId + "] was stopped on SurfaceMountingManager.");
           }
         };
@@ -833,15 +890,33 @@ public class SurfaceMountingManager {
     }
 
     if (isLayoutable) {
+      ViewManager rawViewManager =
+          props instanceof ReadableMapBuffer ? null : mViewManagerRegistry.get(componentName);
       viewManager =
-          props instanceof ReadableMapBuffer
+          rawViewManager == null
               ? ReactMapBufferViewManager.INSTANCE
-              : new ReactViewManagerWrapper.DefaultViewManager(
-                  mViewManagerRegistry.get(componentName));
+              : new ReactViewManagerWrapper.DefaultViewManager(rawViewManager);
+      // Both created and preallocated views are taken from the pool, if there is one
+      View pooledView =
+          rawViewManager != null && mViewPool != null
+              ? mViewPool.acquire(componentName, rawViewManager)
+              : null;
       // View Managers are responsible for dealing with initial state and props.
-      view =
-          viewManager.createView(
-              reactTag, mThemedReactContext, propMap, stateWrapper, mJSResponderHandler);
+      if (pooledView != null) {
+        //noinspection unchecked
+        view =
+            rawViewManager.createView(
+                reactTag,
+                mThemedReactContext,
+                propMap instanceof ReactStylesDiffMap ? (ReactStylesDiffMap) propMap : null,
+                stateWrapper,
+                mJSResponderHandler,
+                pooledView);
+      } else {
+        view =
+            viewManager.createView(
+                reactTag, mThemedReactContext, propMap, stateWrapper, mJSResponderHandler);
+      }
     }
 
     ViewState viewState = new ViewState(reactTag, view, viewManager);
@@ -1252,7 +1327,7 @@ public class SurfaceMountingManager {
   }
 
   private @Nullable ViewState getNullableViewState(int tag) {
-    ConcurrentHashMap<Integer, ViewState> viewStates = mTagToViewState;
+    ConcurrentIntObjectMap<ViewState> viewStates = mTagToViewState;
     if (viewStates == null) {
       return null;
     }
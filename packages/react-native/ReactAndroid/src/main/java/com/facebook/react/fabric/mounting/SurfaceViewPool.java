@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.fabric.mounting;
+
+import static com.facebook.infer.annotation.ThreadConfined.UI;
+
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.view.View;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+import com.facebook.common.logging.FLog;
+import com.facebook.infer.annotation.ThreadConfined;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.ViewManager;
+import com.facebook.react.uimanager.ViewManagerRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Views created ahead of time for a surface, so that creating them doesn't cost anything when the
+ * surface mounts them.
+ *
+ * <p>The pool is filled while the UI thread is idle, with the components that surfaces of the same
+ * module created in previous sessions, up to a capacity per component. Only the components whose
+ * ViewManager supports pooling (see {@link ViewManager#supportsViewPooling}) are pooled. Must only
+ * be used on the UI thread.
+ */
+@ThreadConfined(UI)
+public final class SurfaceViewPool {
+
+  /**
+   * State shared by the pools of all surfaces: how many views of each component surfaces of each
+   * module created, and the capacity of the pools.
+   */
+  @ThreadConfined(UI)
+  public static final class History {
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<String, Map<String, Integer>> mCreatedViewCountsByModule = new HashMap<>();
+    private final Map<String, Integer> mCapacities = new HashMap<>();
+
+    /** Sets how many views of {@code componentName} can be pooled per surface, 0 to disable it. */
+    public void setCapacity(String componentName, int capacity) {
+      mCapacities.put(componentName, capacity);
+    }
+
+    private int getCapacity(String componentName) {
+      Integer capacity = mCapacities.get(componentName);
+      return capacity != null ? capacity : DEFAULT_CAPACITY;
+    }
+
+    private void record(String moduleName, Map<String, Integer> createdViewCounts) {
+      Map<String, Integer> history = mCreatedViewCountsByModule.get(moduleName);
+      if (history == null) {
+        history = new HashMap<>();
+        mCreatedViewCountsByModule.put(moduleName, history);
+      }
+      for (Map.Entry<String, Integer> entry : createdViewCounts.entrySet()) {
+        Integer previousCount = history.get(entry.getKey());
+        if (previousCount == null || previousCount < entry.getValue()) {
+          history.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+
+    private Map<String, Integer> get(String moduleName) {
+      Map<String, Integer> history = mCreatedViewCountsByModule.get(moduleName);
+      return history != null ? history : Collections.<String, Integer>emptyMap();
+    }
+  }
+
+  private static final String TAG = SurfaceViewPool.class.getSimpleName();
+
+  // How long to spend creating views each time the UI thread gets idle
+  private static final long PREWARM_BUDGET_MS = 4;
+
+  private final ThemedReactContext mReactContext;
+  private final ViewManagerRegistry mViewManagerRegistry;
+  private final History mHistory;
+  private final @Nullable String mModuleName;
+
+  private final Map<String, ArrayDeque<View>> mPooledViews = new HashMap<>();
+  private final Map<String, Integer> mCreatedViewCounts = new HashMap<>();
+  // Hits and misses of each component
+  private final Map<String, int[]> mStats = new HashMap<>();
+  // Components to create views of, once per view
+  private final ArrayDeque<String> mPrewarmQueue = new ArrayDeque<>();
+  private boolean mIsPrewarming = false;
+  private boolean mIsStopped = false;
+
+  private final MessageQueue.IdleHandler mPrewarmIdleHandler =
+      new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+          long deadline = SystemClock.uptimeMillis() + PREWARM_BUDGET_MS;
+          while (!mIsStopped
+              && !mPrewarmQueue.isEmpty()
+              && SystemClock.uptimeMillis() < deadline) {
+            prewarmView(mPrewarmQueue.poll());
+          }
+          mIsPrewarming = !mIsStopped && !mPrewarmQueue.isEmpty();
+          return mIsPrewarming;
+        }
+      };
+
+  /* package */ SurfaceViewPool(
+      ThemedReactContext reactContext, ViewManagerRegistry viewManagerRegistry, History history) {
+    mReactContext = reactContext;
+    mViewManagerRegistry = viewManagerRegistry;
+    mHistory = history;
+    mModuleName = reactContext.getModuleName();
+  }
+
+  /**
+   * Starts filling the pool with the views created by previous surfaces of the same module, while
+   * the UI thread is idle.
+   */
+  @UiThread
+  /* package */ void startPrewarming() {
+    UiThreadUtil.assertOnUiThread();
+    if (mIsStopped || mModuleName == null) {
+      return;
+    }
+
+    List<Map.Entry<String, Integer>> history =
+        new ArrayList<>(mHistory.get(mModuleName).entrySet());
+    // Most used components first
+    Collections.sort(history, (first, second) -> second.getValue() - first.getValue());
+    mPrewarmQueue.clear();
+    for (Map.Entry<String, Integer> entry : history) {
+      String componentName = entry.getKey();
+      int count = Math.min(entry.getValue(), mHistory.getCapacity(componentName));
+      count -= getPooledViewCount(componentName);
+      for (int i = 0; i < count; i++) {
+        mPrewarmQueue.add(componentName);
+      }
+    }
+
+    if (!mPrewarmQueue.isEmpty() && !mIsPrewarming) {
+      mIsPrewarming = true;
+      Looper.myQueue().addIdleHandler(mPrewarmIdleHandler);
+    }
+  }
+
+  /**
+   * @return a view of {@code componentName} created ahead of time, to be set up by {@link
+   *     ViewManager#createView} with a tag, props and state, or null if there is none
+   */
+  @UiThread
+  /* package */ @Nullable View acquire(String componentName, ViewManager viewManager) {
+    if (mIsStopped) {
+      return null;
+    }
+    Integer createdCount = mCreatedViewCounts.get(componentName);
+    mCreatedViewCounts.put(componentName, createdCount != null ? createdCount + 1 : 1);
+    if (!viewManager.supportsViewPooling()) {
+      return null;
+    }
+
+    ArrayDeque<View> pooledViews = mPooledViews.get(componentName);
+    View view = pooledViews != null ? pooledViews.poll() : null;
+    int[] stats = mStats.get(componentName);
+    if (stats == null) {
+      stats = new int[2];
+      mStats.put(componentName, stats);
+    }
+    stats[view != null ? 0 : 1]++;
+    return view;
+  }
+
+  /** @return how many views of {@code componentName} were taken from the pool */
+  public int getHitCount(String componentName) {
+    int[] stats = mStats.get(componentName);
+    return stats != null ? stats[0] : 0;
+  }
+
+  /** @return how many views of {@code componentName} had to be created because none was pooled */
+  public int getMissCount(String componentName) {
+    int[] stats = mStats.get(componentName);
+    return stats != null ? stats[1] : 0;
+  }
+
+  public int getPooledViewCount(String componentName) {
+    ArrayDeque<View> pooledViews = mPooledViews.get(componentName);
+    return pooledViews != null ? pooledViews.size() : 0;
+  }
+
+  /** Drops the pooled views and stops filling the pool, e.g. when memory is low. */
+  @UiThread
+  /* package */ void trim() {
+    mPrewarmQueue.clear();
+    mPooledViews.clear();
+  }
+
+  /** Records which views this surface created for the next surfaces, and drops the pool. */
+  @UiThread
+  /* package */ void stop() {
+    if (mIsStopped) {
+      return;
+    }
+    mIsStopped = true;
+    if (mModuleName != null) {
+      mHistory.record(mModuleName, mCreatedViewCounts);
+    }
+    trim();
+    if (mIsPrewarming) {
+      Looper.myQueue().removeIdleHandler(mPrewarmIdleHandler);
+      mIsPrewarming = false;
+    }
+  }
+
+  private void prewarmView(String componentName) {
+    ViewManager viewManager;
+    try {
+      viewManager = mViewManagerRegistry.get(componentName);
+    } catch (RuntimeException e) {
+      FLog.w(TAG, "Unable to find ViewManager to prewarm " + componentName, e);
+      return;
+    }
+    if (!viewManager.supportsViewPooling()) {
+      return;
+    }
+
+    ArrayDeque<View> pooledViews = mPooledViews.get(componentName);
+    if (pooledViews == null) {
+      pooledViews = new ArrayDeque<>();
+      mPooledViews.put(componentName, pooledViews);
+    }
+    if (pooledViews.size() < mHistory.getCapacity(componentName)) {
+      pooledViews.add(viewManager.createViewInstanceForPool(mReactContext));
+    }
+  }
+}
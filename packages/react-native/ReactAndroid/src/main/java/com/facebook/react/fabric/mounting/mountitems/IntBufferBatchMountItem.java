@@ -34,7 +34,7 @@ import com.facebook.systrace.Systrace;
  * allocations in C++ and JNI round-trips.
  */
 @DoNotStrip
-final class IntBufferBatchMountItem implements BatchMountItem {
+final class IntBufferBatchMountItem implements ResumableBatchMountItem {
   static final String TAG = IntBufferBatchMountItem.class.getSimpleName();
 
   static final int INSTRUCTION_FLAG_MULTIPLE = 1;
@@ -51,6 +51,9 @@ final class IntBufferBatchMountItem implements BatchMountItem {
   static final int INSTRUCTION_UPDATE_OVERFLOW_INSET = 1024;
   static final int INSTRUCTION_REMOVE_DELETE_TREE = 2048;
 
+  private static final long NO_DEADLINE = Long.MAX_VALUE;
+  private static final int INSTRUCTIONS_BETWEEN_DEADLINE_CHECKS = 8;
+
   private final int mSurfaceId;
   private final int mCommitNumber;
 
@@ -60,6 +63,14 @@ final class IntBufferBatchMountItem implements BatchMountItem {
   private final int mIntBufferLen;
   private final int mObjBufferLen;
 
+  // Execution cursor, so that a batch can be spread across several frames
+  private int mIntBufferPosition = 0;
+  private int mObjBufferPosition = 0;
+  private int mCurrentInstructionType = 0;
+  private int mRemainingInstructionsInGroup = 0;
+  private boolean mHasMutatedHierarchy = false;
+  private int mExecutionFrameCount = 0;
+
   IntBufferBatchMountItem(int surfaceId, int[] intBuf, Object[] objBuf, int commitNumber) {
     mSurfaceId = surfaceId;
     mCommitNumber = commitNumber;
@@ -74,14 +85,14 @@ final class IntBufferBatchMountItem implements BatchMountItem {
   private void beginMarkers(String reason) {
     Systrace.beginSection(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE, "FabricUIManager::" + reason);
 
-    if (mCommitNumber > 0) {
+    if (mCommitNumber > 0 && mExecutionFrameCount == 0) {
       ReactMarker.logFabricMarker(
           ReactMarkerConstants.FABRIC_BATCH_EXECUTION_START, null, mCommitNumber);
     }
   }
 
-  private void endMarkers() {
-    if (mCommitNumber > 0) {
+  private void endMarkers(boolean completed) {
+    if (mCommitNumber > 0 && completed) {
       ReactMarker.logFabricMarker(
           ReactMarkerConstants.FABRIC_BATCH_EXECUTION_END, null, mCommitNumber);
     }
@@ -99,93 +110,173 @@ final class IntBufferBatchMountItem implements BatchMountItem {
 
   @Override
   public void execute(@NonNull MountingManager mountingManager) {
+    executeUntil(mountingManager, NO_DEADLINE);
+  }
+
+  @Override
+  public boolean executeUntil(@NonNull MountingManager mountingManager, long deadlineNanos) {
     SurfaceMountingManager surfaceMountingManager = mountingManager.getSurfaceManager(mSurfaceId);
     if (surfaceMountingManager == null) {
       FLog.e(
           TAG,
           "Skipping batch of MountItems; no SurfaceMountingManager found for [%d].",
           mSurfaceId);
-      return;
+      return true;
     }
     if (surfaceMountingManager.isStopped()) {
       FLog.e(TAG, "Skipping batch of MountItems; was stopped [%d].", mSurfaceId);
-      return;
+      return true;
     }
     if (ENABLE_FABRIC_LOGS) {
-      FLog.d(TAG, "Executing IntBufferBatchMountItem on surface [%d]", mSurfaceId);
+      FLog.d(
+          TAG,
+          "Executing IntBufferBatchMountItem on surface [%d], frame [%d]",
+          mSurfaceId,
+          mExecutionFrameCount);
     }
 
     beginMarkers("mountViews");
+    mExecutionFrameCount++;
+
+    boolean completed = false;
+    try {
+      int executedInstructions = 0;
+      while (true) {
+        if (mRemainingInstructionsInGroup == 0) {
+          if (mIntBufferPosition >= mIntBufferLen) {
+            completed = true;
+            break;
+          }
+          int rawType = mIntBuffer[mIntBufferPosition++];
+          mCurrentInstructionType = rawType & ~INSTRUCTION_FLAG_MULTIPLE;
+          mRemainingInstructionsInGroup =
+              ((rawType & INSTRUCTION_FLAG_MULTIPLE) != 0 ? mIntBuffer[mIntBufferPosition++] : 1);
+        }
 
-    int i = 0, j = 0;
-    while (i < mIntBufferLen) {
-      int rawType = mIntBuffer[i++];
-      int type = rawType & ~INSTRUCTION_FLAG_MULTIPLE;
-      int numInstructions = ((rawType & INSTRUCTION_FLAG_MULTIPLE) != 0 ? mIntBuffer[i++] : 1);
-      for (int k = 0; k < numInstructions; k++) {
-        if (type == INSTRUCTION_CREATE) {
-          String componentName = getFabricComponentName((String) mObjBuffer[j++]);
-          surfaceMountingManager.createView(
-              componentName,
-              mIntBuffer[i++],
-              mObjBuffer[j++],
-              castToState(mObjBuffer[j++]),
-              castToEventEmitter(mObjBuffer[j++]),
-              mIntBuffer[i++] == 1);
-        } else if (type == INSTRUCTION_DELETE) {
-          surfaceMountingManager.deleteView(mIntBuffer[i++]);
-        } else if (type == INSTRUCTION_INSERT) {
-          int tag = mIntBuffer[i++];
-          int parentTag = mIntBuffer[i++];
-          surfaceMountingManager.addViewAt(parentTag, tag, mIntBuffer[i++]);
-        } else if (type == INSTRUCTION_REMOVE) {
-          surfaceMountingManager.removeViewAt(mIntBuffer[i++], mIntBuffer[i++], mIntBuffer[i++]);
-        } else if (type == INSTRUCTION_REMOVE_DELETE_TREE) {
-          surfaceMountingManager.removeDeleteTreeAt(
-              mIntBuffer[i++], mIntBuffer[i++], mIntBuffer[i++]);
-        } else if (type == INSTRUCTION_UPDATE_PROPS) {
-          surfaceMountingManager.updateProps(mIntBuffer[i++], mObjBuffer[j++]);
-        } else if (type == INSTRUCTION_UPDATE_STATE) {
-          surfaceMountingManager.updateState(mIntBuffer[i++], castToState(mObjBuffer[j++]));
-        } else if (type == INSTRUCTION_UPDATE_LAYOUT) {
-          int reactTag = mIntBuffer[i++];
-          int parentTag = mIntBuffer[i++];
-          int x = mIntBuffer[i++];
-          int y = mIntBuffer[i++];
-          int width = mIntBuffer[i++];
-          int height = mIntBuffer[i++];
-          int displayType = mIntBuffer[i++];
-
-          surfaceMountingManager.updateLayout(
-              reactTag, parentTag, x, y, width, height, displayType);
-
-        } else if (type == INSTRUCTION_UPDATE_PADDING) {
-          surfaceMountingManager.updatePadding(
-              mIntBuffer[i++], mIntBuffer[i++], mIntBuffer[i++], mIntBuffer[i++], mIntBuffer[i++]);
-        } else if (type == INSTRUCTION_UPDATE_OVERFLOW_INSET) {
-          int reactTag = mIntBuffer[i++];
-          int overflowInsetLeft = mIntBuffer[i++];
-          int overflowInsetTop = mIntBuffer[i++];
-          int overflowInsetRight = mIntBuffer[i++];
-          int overflowInsetBottom = mIntBuffer[i++];
-
-          surfaceMountingManager.updateOverflowInset(
-              reactTag,
-              overflowInsetLeft,
-              overflowInsetTop,
-              overflowInsetRight,
-              overflowInsetBottom);
-        } else if (type == INSTRUCTION_UPDATE_EVENT_EMITTER) {
-          surfaceMountingManager.updateEventEmitter(
-              mIntBuffer[i++], castToEventEmitter(mObjBuffer[j++]));
-        } else {
-          throw new IllegalArgumentException(
-              "Invalid type argument to IntBufferBatchMountItem: " + type + " at index: " + i);
+        executeInstruction(surfaceMountingManager, mCurrentInstructionType);
+        mRemainingInstructionsInGroup--;
+
+        if (deadlineNanos != NO_DEADLINE
+            && ++executedInstructions % INSTRUCTIONS_BETWEEN_DEADLINE_CHECKS == 0
+            && canYieldBeforeNextInstruction()
+            && System.nanoTime() >= deadlineNanos) {
+          break;
         }
       }
+    } finally {
+      endMarkers(completed);
     }
 
-    endMarkers();
+    return completed;
+  }
+
+  private void executeInstruction(
+      @NonNull SurfaceMountingManager surfaceMountingManager, int type) {
+    int[] intBuffer = mIntBuffer;
+    Object[] objBuffer = mObjBuffer;
+    int i = mIntBufferPosition;
+    int j = mObjBufferPosition;
+
+    if (type != INSTRUCTION_CREATE) {
+      mHasMutatedHierarchy = true;
+    }
+
+    if (type == INSTRUCTION_CREATE) {
+      String componentName = getFabricComponentName((String) objBuffer[j++]);
+      surfaceMountingManager.createView(
+          componentName,
+          intBuffer[i++],
+          objBuffer[j++],
+          castToState(objBuffer[j++]),
+          castToEventEmitter(objBuffer[j++]),
+          intBuffer[i++] == 1);
+    } else if (type == INSTRUCTION_DELETE) {
+      surfaceMountingManager.deleteView(intBuffer[i++]);
+    } else if (type == INSTRUCTION_INSERT) {
+      int tag = intBuffer[i++];
+      int parentTag = intBuffer[i++];
+      surfaceMountingManager.addViewAt(parentTag, tag, intBuffer[i++]);
+    } else if (type == INSTRUCTION_REMOVE) {
+      surfaceMountingManager.removeViewAt(intBuffer[i++], intBuffer[i++], intBuffer[i++]);
+    } else if (type == INSTRUCTION_REMOVE_DELETE_TREE) {
+      surfaceMountingManager.removeDeleteTreeAt(intBuffer[i++], intBuffer[i++], intBuffer[i++]);
+    } else if (type == INSTRUCTION_UPDATE_PROPS) {
+      surfaceMountingManager.updateProps(intBuffer[i++], objBuffer[j++]);
+    } else if (type == INSTRUCTION_UPDATE_STATE) {
+      surfaceMountingManager.updateState(intBuffer[i++], castToState(objBuffer[j++]));
+    } else if (type == INSTRUCTION_UPDATE_LAYOUT) {
+      int reactTag = intBuffer[i++];
+      int parentTag = intBuffer[i++];
+      int x = intBuffer[i++];
+      int y = intBuffer[i++];
+      int width = intBuffer[i++];
+      int height = intBuffer[i++];
+      int displayType = intBuffer[i++];
+
+      surfaceMountingManager.updateLayout(reactTag, parentTag, x, y, width, height, displayType);
+
+    } else if (type == INSTRUCTION_UPDATE_PADDING) {
+      surfaceMountingManager.updatePadding(
+          intBuffer[i++], intBuffer[i++], intBuffer[i++], intBuffer[i++], intBuffer[i++]);
+    } else if (type == INSTRUCTION_UPDATE_OVERFLOW_INSET) {
+      int reactTag = intBuffer[i++];
+      int overflowInsetLeft = intBuffer[i++];
+      int overflowInsetTop = intBuffer[i++];
+      int overflowInsetRight = intBuffer[i++];
+      int overflowInsetBottom = intBuffer[i++];
+
+      surfaceMountingManager.updateOverflowInset(
+          reactTag, overflowInsetLeft, overflowInsetTop, overflowInsetRight, overflowInsetBottom);
+    } else if (type == INSTRUCTION_UPDATE_EVENT_EMITTER) {
+      surfaceMountingManager.updateEventEmitter(
+          intBuffer[i++], castToEventEmitter(objBuffer[j++]));
+    } else {
+      throw new IllegalArgumentException(
+          "Invalid type argument to IntBufferBatchMountItem: " + type + " at index: " + i);
+    }
+
+    mIntBufferPosition = i;
+    mObjBufferPosition = j;
+  }
+
+  /**
+   * Pausing is only safe where the attached hierarchy is consistent on screen:
+   *
+   * <ul>
+   *   <li>between the CREATE instructions that lead a batch, since created views aren't attached
+   *       until a later INSERT, and
+   *   <li>between the DELETE instructions that trail a batch, since those views have already been
+   *       removed from the hierarchy.
+   * </ul>
+   */
+  private boolean canYieldBeforeNextInstruction() {
+    if (mRemainingInstructionsInGroup > 0) {
+      // Each DELETE instruction occupies a single int, so this is where a DELETE group would end
+      return canYieldBeforeGroup(
+          mCurrentInstructionType, mIntBufferPosition + mRemainingInstructionsInGroup);
+    }
+    if (mIntBufferPosition >= mIntBufferLen) {
+      // Nothing left to execute, so there's no reason to pause
+      return false;
+    }
+    int rawType = mIntBuffer[mIntBufferPosition];
+    boolean isMultiple = (rawType & INSTRUCTION_FLAG_MULTIPLE) != 0;
+    int numInstructions = isMultiple ? mIntBuffer[mIntBufferPosition + 1] : 1;
+    int headerLength = isMultiple ? 2 : 1;
+    return canYieldBeforeGroup(
+        rawType & ~INSTRUCTION_FLAG_MULTIPLE,
+        mIntBufferPosition + headerLength + numInstructions);
+  }
+
+  /**
+   * @param deleteGroupEndPosition the int buffer position where the group ends, assuming each
+   *     instruction is a single-int DELETE
+   */
+  private boolean canYieldBeforeGroup(int type, int deleteGroupEndPosition) {
+    if (type == INSTRUCTION_CREATE) {
+      return !mHasMutatedHierarchy;
+    }
+    return type == INSTRUCTION_DELETE && deleteGroupEndPosition == mIntBufferLen;
   }
 
   @Override
@@ -198,6 +289,11 @@ final class IntBufferBatchMountItem implements BatchMountItem {
     return mIntBufferLen == 0;
   }
 
+  @Override
+  public int getExecutionFrameCount() {
+    return mExecutionFrameCount;
+  }
+
   @Override
   public String toString() {
     try {
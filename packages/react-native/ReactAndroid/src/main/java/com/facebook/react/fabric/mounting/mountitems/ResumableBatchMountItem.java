@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.fabric.mounting.mountitems;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+import com.facebook.react.fabric.mounting.MountingManager;
+
+/**
+ * A {@link BatchMountItem} whose execution can be split across several frames. Execution only
+ * pauses at instruction boundaries where the visible hierarchy is consistent, and picks up where
+ * it left off the next time {@link #executeUntil} is called.
+ */
+public interface ResumableBatchMountItem extends BatchMountItem {
+
+  /**
+   * Execute instructions until the batch is exhausted, or until {@code deadlineNanos} (in the
+   * {@link System#nanoTime()} base) has passed and a safe boundary is reached.
+   *
+   * @return true if the batch has been fully executed, false if it must be resumed later
+   */
+  @UiThread
+  boolean executeUntil(@NonNull MountingManager mountingManager, long deadlineNanos);
+
+  /** @return the number of frames this batch has been executed across so far */
+  int getExecutionFrameCount();
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob;
+
+import androidx.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable sequence of byte ranges over {@link BlobChunk}s. Slicing and concatenating blobs only
+ * creates new ranges, so the underlying data is never copied until it is read.
+ */
+/* package */ final class Blob {
+
+  private static final class Segment {
+    private final BlobChunk mChunk;
+    private final long mOffset;
+    private final long mLength;
+
+    private Segment(BlobChunk chunk, long offset, long length) {
+      mChunk = chunk;
+      mOffset = offset;
+      mLength = length;
+    }
+  }
+
+  private final Segment[] mSegments;
+  private final long mSize;
+
+  private Blob(Segment[] segments, long size) {
+    mSegments = segments;
+    mSize = size;
+  }
+
+  public static Blob fromChunk(BlobChunk chunk) {
+    return new Blob(new Segment[] {new Segment(chunk, 0, chunk.size())}, chunk.size());
+  }
+
+  public static Blob fromBytes(byte[] bytes) {
+    return fromChunk(BlobChunk.fromBytes(bytes));
+  }
+
+  public static Blob concat(List<Blob> parts) {
+    List<Segment> segments = new ArrayList<>();
+    long size = 0;
+    for (Blob part : parts) {
+      for (Segment segment : part.mSegments) {
+        segments.add(segment);
+      }
+      size += part.mSize;
+    }
+    return new Blob(segments.toArray(new Segment[segments.size()]), size);
+  }
+
+  public long size() {
+    return mSize;
+  }
+
+  /**
+   * Ranges come from JS, so like Blob.slice on the web, the parts of the range that are outside of
+   * this blob are ignored instead of failing.
+   *
+   * @param size the number of bytes in the slice, or -1 for everything after {@code offset}
+   * @return a view of the given range of this blob
+   */
+  public Blob slice(long offset, long size) {
+    long sliceStart = Math.min(Math.max(offset, 0), mSize);
+    long sliceEnd = size == -1 ? mSize : Math.min(Math.max(offset + size, sliceStart), mSize);
+    if (sliceStart == 0 && sliceEnd == mSize) {
+      return this;
+    }
+
+    List<Segment> segments = new ArrayList<>();
+    long segmentStart = 0;
+    for (Segment segment : mSegments) {
+      long segmentEnd = segmentStart + segment.mLength;
+      long start = Math.max(sliceStart, segmentStart);
+      long end = Math.min(sliceEnd, segmentEnd);
+      if (start < end) {
+        segments.add(
+            new Segment(segment.mChunk, segment.mOffset + start - segmentStart, end - start));
+      }
+      segmentStart = segmentEnd;
+    }
+    return new Blob(segments.toArray(new Segment[segments.size()]), sliceEnd - sliceStart);
+  }
+
+  /**
+   * @return the contents of this blob. If it is a single whole in-memory chunk, its array is
+   *     returned without copying, and must not be modified.
+   */
+  public byte[] toByteArray() throws IOException {
+    if (mSegments.length == 1 && mSegments[0].mOffset == 0) {
+      byte[] bytes = mSegments[0].mChunk.getBytes();
+      if (bytes != null && bytes.length == mSize) {
+        return bytes;
+      }
+    }
+    if (mSize > Integer.MAX_VALUE) {
+      throw new IOException("Blob of " + mSize + " bytes is too large for an array");
+    }
+
+    byte[] result = new byte[(int) mSize];
+    int position = 0;
+    for (Segment segment : mSegments) {
+      segment.mChunk.read(segment.mOffset, result, position, (int) segment.mLength);
+      position += (int) segment.mLength;
+    }
+    return result;
+  }
+
+  public void writeTo(OutputStream outputStream) throws IOException {
+    for (Segment segment : mSegments) {
+      segment.mChunk.writeTo(outputStream, segment.mOffset, segment.mLength);
+    }
+  }
+
+  /** @return the file holding exactly the contents of this blob, if there is one */
+  public @Nullable File getFile() {
+    if (mSegments.length != 1) {
+      return null;
+    }
+    Segment segment = mSegments[0];
+    if (segment.mOffset != 0 || segment.mLength != segment.mChunk.size()) {
+      return null;
+    }
+    return segment.mChunk.getFile();
+  }
+
+  /* package */ int getChunkCount() {
+    return mSegments.length;
+  }
+
+  /* package */ BlobChunk getChunk(int index) {
+    return mSegments[index].mChunk;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob;
+
+import androidx.annotation.Nullable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+
+/**
+ * Immutable run of bytes shared by one or more {@link Blob}s. A chunk either lives in a heap array
+ * or in a file. {@link BlobStore} may move a chunk from the heap to a file at any time to stay
+ * under its memory ceiling, so readers snapshot the current backing before using it.
+ */
+/* package */ final class BlobChunk {
+
+  private static final int COPY_BUFFER_SIZE = 8 * 1024;
+
+  private final long mSize;
+
+  // Exactly one of these is set until the chunk is disposed, guarded by this
+  private @Nullable byte[] mBytes;
+  private @Nullable File mFile;
+
+  // Number of stored blobs referencing this chunk, guarded by the owning BlobStore
+  /* package */ int mRefCount = 0;
+
+  private BlobChunk(@Nullable byte[] bytes, @Nullable File file, long size) {
+    mBytes = bytes;
+    mFile = file;
+    mSize = size;
+  }
+
+  /** Wraps {@code bytes} without copying them. The array must not be modified afterwards. */
+  public static BlobChunk fromBytes(byte[] bytes) {
+    return new BlobChunk(bytes, null, bytes.length);
+  }
+
+  /** Takes ownership of {@code file}, which is deleted once the chunk is disposed. */
+  public static BlobChunk fromFile(File file, long size) {
+    return new BlobChunk(null, file, size);
+  }
+
+  public long size() {
+    return mSize;
+  }
+
+  public synchronized boolean isInMemory() {
+    return mBytes != null;
+  }
+
+  /* package */ synchronized @Nullable byte[] getBytes() {
+    return mBytes;
+  }
+
+  /* package */ synchronized @Nullable File getFile() {
+    return mFile;
+  }
+
+  public void read(long offset, byte[] destination, int destinationOffset, int count)
+      throws IOException {
+    byte[] bytes;
+    File file;
+    synchronized (this) {
+      bytes = mBytes;
+      file = mFile;
+    }
+    if (bytes != null) {
+      System.arraycopy(bytes, (int) offset, destination, destinationOffset, count);
+      return;
+    }
+    if (file == null) {
+      throw new IOException("Blob data has been released");
+    }
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+      randomAccessFile.seek(offset);
+      randomAccessFile.readFully(destination, destinationOffset, count);
+    }
+  }
+
+  public void writeTo(OutputStream outputStream, long offset, long count) throws IOException {
+    byte[] bytes;
+    File file;
+    synchronized (this) {
+      bytes = mBytes;
+      file = mFile;
+    }
+    if (bytes != null) {
+      outputStream.write(bytes, (int) offset, (int) count);
+      return;
+    }
+    if (file == null) {
+      throw new IOException("Blob data has been released");
+    }
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+      randomAccessFile.seek(offset);
+      byte[] buffer = new byte[(int) Math.min(COPY_BUFFER_SIZE, count)];
+      while (count > 0) {
+        int read = (int) Math.min(buffer.length, count);
+        randomAccessFile.readFully(buffer, 0, read);
+        outputStream.write(buffer, 0, read);
+        count -= read;
+      }
+    }
+  }
+
+  /**
+   * Moves the contents of this chunk from the heap to {@code file}. Readers that already hold the
+   * array keep using it; new readers use the file.
+   */
+  public void spillTo(File file) throws IOException {
+    byte[] bytes = getBytes();
+    if (bytes == null) {
+      return;
+    }
+    try (FileOutputStream outputStream = new FileOutputStream(file)) {
+      outputStream.write(bytes);
+    } catch (IOException e) {
+      file.delete();
+      throw e;
+    }
+    synchronized (this) {
+      if (mBytes != null) {
+        mBytes = null;
+        mFile = file;
+        return;
+      }
+    }
+    // Disposed while the file was being written
+    file.delete();
+  }
+
+  /** Drops the contents of this chunk, deleting its file if it has one. */
+  public void dispose() {
+    File file;
+    synchronized (this) {
+      file = mFile;
+      mFile = null;
+      mBytes = null;
+    }
+    if (file != null) {
+      file.delete();
+    }
+  }
+}
@@ -21,6 +21,7 @@ import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.common.MapBuilder;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.module.annotations.ReactModule;
 import com.facebook.react.modules.network.NetworkingModule;
 import com.facebook.react.modules.websocket.WebSocketModule;
@@ -29,22 +30,31 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
+import okio.BufferedSink;
 import okio.ByteString;
+import okio.Okio;
+import okio.Source;
 
 @ReactModule(name = NativeBlobModuleSpec.NAME)
 public class BlobModule extends NativeBlobModuleSpec {
 
-  private final Map<String, byte[]> mBlobs = new HashMap<>();
+  /**
+   * Blob responses at least this large are streamed to a file when {@link
+   * ReactFeatureFlags#enableStreamingBlobResponses} is set.
+   */
+  /* package */ static final long MIN_STREAMED_RESPONSE_SIZE = 256 * 1024;
+
+  private static final String BLOB_FILES_DIRECTORY = "blobs";
+
+  private final BlobStore mBlobStore;
 
   private final WebSocketModule.ContentHandler mWebSocketContentHandler =
       new WebSocketModule.ContentHandler() {
@@ -112,11 +122,30 @@ public class BlobModule extends NativeBlobModuleSpec {
           if (type == null) {
             type = "application/octet-stream";
           }
-          ReadableMap blob = data.getMap("blob");
-          String blobId = blob.getString("blobId");
-          byte[] bytes = resolve(blobId, blob.getInt("offset"), blob.getInt("size"));
-
-          return RequestBody.create(MediaType.parse(type), bytes);
+          ReadableMap blobData = data.getMap("blob");
+          final Blob blob = resolveBlob(blobData);
+          if (blob == null) {
+            throw new IllegalArgumentException("Invalid blob: " + blobData.getString("blobId"));
+          }
+          final MediaType mediaType = MediaType.parse(type);
+
+          // Stream the blob to the request, rather than copying it into an array first
+          return new RequestBody() {
+            @Override
+            public @Nullable MediaType contentType() {
+              return mediaType;
+            }
+
+            @Override
+            public long contentLength() {
+              return blob.size();
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+              blob.writeTo(sink.outputStream());
+            }
+          };
         }
       };
 
@@ -129,17 +158,41 @@ public class BlobModule extends NativeBlobModuleSpec {
 
         @Override
         public WritableMap toResponseData(ResponseBody body) throws IOException {
-          byte[] data = body.bytes();
+          String blobId;
+          long size;
+          if (ReactFeatureFlags.enableStreamingBlobResponses && isLargeResponse(body)) {
+            blobId = UUID.randomUUID().toString();
+            size = store(body.source(), blobId);
+          } else {
+            byte[] data = body.bytes();
+            blobId = store(data);
+            size = data.length;
+          }
+
           WritableMap blob = Arguments.createMap();
-          blob.putString("blobId", store(data));
+          blob.putString("blobId", blobId);
           blob.putInt("offset", 0);
-          blob.putInt("size", data.length);
+          blob.putInt("size", (int) size);
           return blob;
         }
       };
 
+  /**
+   * @return whether {@code body} has at least {@link #MIN_STREAMED_RESPONSE_SIZE} bytes. When its
+   *     length isn't known up front (e.g. gzipped or chunked responses), buffers it in memory up to
+   *     that size to find out; the buffered bytes are still read from the body afterwards.
+   */
+  /* package */ static boolean isLargeResponse(ResponseBody body) throws IOException {
+    long contentLength = body.contentLength();
+    if (contentLength >= 0) {
+      return contentLength >= MIN_STREAMED_RESPONSE_SIZE;
+    }
+    return body.source().request(MIN_STREAMED_RESPONSE_SIZE);
+  }
+
   public BlobModule(ReactApplicationContext reactContext) {
     super(reactContext);
+    mBlobStore = new BlobStore(new File(reactContext.getCacheDir(), BLOB_FILES_DIRECTORY));
   }
 
   @Override
@@ -147,6 +200,13 @@ public class BlobModule extends NativeBlobModuleSpec {
     BlobCollector.install(getReactApplicationContext(), this);
   }
 
+  @Override
+  public void invalidate() {
+    super.invalidate();
+
+    mBlobStore.clear();
+  }
+
   @Override
   public @Nullable Map<String, Object> getTypedExportedConstants() {
     // The application can register BlobProvider as a ContentProvider so that blobs are resolvable.
@@ -169,19 +229,62 @@ public class BlobModule extends NativeBlobModuleSpec {
   }
 
   public void store(byte[] data, String blobId) {
-    synchronized (mBlobs) {
-      mBlobs.put(blobId, data);
+    mBlobStore.put(blobId, Blob.fromBytes(data));
+  }
+
+  /**
+   * Streams {@code source} into a file-backed blob, so that no more than one buffer of it is held
+   * in memory at a time. Closes {@code source}.
+   *
+   * @return the size of the blob in bytes
+   */
+  public long store(Source source, String blobId) throws IOException {
+    File file = mBlobStore.createFile();
+    long size;
+    try {
+      try (BufferedSink sink = Okio.buffer(Okio.sink(file))) {
+        size = sink.writeAll(source);
+      } finally {
+        source.close();
+      }
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("Blob of " + size + " bytes is too large");
+      }
+    } catch (IOException e) {
+      file.delete();
+      throw e;
     }
+
+    mBlobStore.put(blobId, Blob.fromChunk(BlobChunk.fromFile(file, size)));
+    return size;
   }
 
   @DoNotStrip
   public void remove(String blobId) {
-    synchronized (mBlobs) {
-      mBlobs.remove(blobId);
-    }
+    mBlobStore.remove(blobId);
+  }
+
+  /**
+   * Sets how many bytes of blob data may be held in memory before the least recently used data is
+   * moved to disk.
+   */
+  public void setMaxInMemoryBytes(long maxInMemoryBytes) {
+    mBlobStore.setMaxHeapBytes(maxInMemoryBytes);
   }
 
   public @Nullable byte[] resolve(Uri uri) {
+    return toByteArray(resolveBlob(uri));
+  }
+
+  public @Nullable byte[] resolve(String blobId, int offset, int size) {
+    return toByteArray(resolveBlob(blobId, offset, size));
+  }
+
+  public @Nullable byte[] resolve(ReadableMap blob) {
+    return resolve(blob.getString("blobId"), blob.getInt("offset"), blob.getInt("size"));
+  }
+
+  /* package */ @Nullable Blob resolveBlob(Uri uri) {
     String blobId = uri.getLastPathSegment();
     int offset = 0;
     int size = -1;
@@ -193,27 +296,30 @@ public class BlobModule extends NativeBlobModuleSpec {
     if (sizeParam != null) {
       size = Integer.parseInt(sizeParam, 10);
     }
-    return resolve(blobId, offset, size);
+    // URIs may be read after the blob is released, e.g. by an image that is still loading
+    Blob blob = mBlobStore.getIncludingReleased(blobId);
+    return blob != null ? blob.slice(offset, size) : null;
   }
 
-  public @Nullable byte[] resolve(String blobId, int offset, int size) {
-    synchronized (mBlobs) {
-      byte[] data = mBlobs.get(blobId);
-      if (data == null) {
-        return null;
-      }
-      if (size == -1) {
-        size = data.length - offset;
-      }
-      if (offset > 0 || size != data.length) {
-        data = Arrays.copyOfRange(data, offset, offset + size);
-      }
-      return data;
-    }
+  /* package */ @Nullable Blob resolveBlob(String blobId, int offset, int size) {
+    Blob blob = mBlobStore.get(blobId);
+    return blob != null ? blob.slice(offset, size) : null;
   }
 
-  public @Nullable byte[] resolve(ReadableMap blob) {
-    return resolve(blob.getString("blobId"), blob.getInt("offset"), blob.getInt("size"));
+  /* package */ @Nullable Blob resolveBlob(ReadableMap blob) {
+    return resolveBlob(blob.getString("blobId"), blob.getInt("offset"), blob.getInt("size"));
+  }
+
+  private static @Nullable byte[] toByteArray(@Nullable Blob blob) {
+    if (blob == null) {
+      return null;
+    }
+    try {
+      return blob.toByteArray();
+    } catch (IOException e) {
+      // The blob was released while it was being read
+      return null;
+    }
   }
 
   private byte[] getBytesFromUri(Uri contentUri) throws IOException {
@@ -342,30 +448,28 @@ public class BlobModule extends NativeBlobModuleSpec {
 
   @Override
   public void createFromParts(ReadableArray parts, String blobId) {
-    int totalBlobSize = 0;
-    ArrayList<byte[]> partList = new ArrayList<>(parts.size());
+    // Parts that are blobs are referenced rather than copied
+    List<Blob> partList = new ArrayList<>(parts.size());
     for (int i = 0; i < parts.size(); i++) {
       ReadableMap part = parts.getMap(i);
       switch (part.getString("type")) {
         case "blob":
           ReadableMap blob = part.getMap("data");
-          totalBlobSize += blob.getInt("size");
-          partList.add(i, resolve(blob));
+          Blob resolved = resolveBlob(blob);
+          if (resolved == null) {
+            throw new IllegalArgumentException("Invalid blob: " + blob.getString("blobId"));
+          }
+          partList.add(resolved);
           break;
         case "string":
           byte[] bytes = part.getString("data").getBytes(Charset.forName("UTF-8"));
-          totalBlobSize += bytes.length;
-          partList.add(i, bytes);
+          partList.add(Blob.fromBytes(bytes));
           break;
         default:
           throw new IllegalArgumentException("Invalid type for blob: " + part.getString("type"));
       }
     }
-    ByteBuffer buffer = ByteBuffer.allocate(totalBlobSize);
-    for (byte[] bytes : partList) {
-      buffer.put(bytes);
-    }
-    store(buffer.array(), blobId);
+    mBlobStore.put(blobId, Blob.concat(partList));
   }
 
   @Override
@@ -17,6 +17,7 @@ import androidx.annotation.Nullable;
 import com.facebook.react.ReactApplication;
 import com.facebook.react.ReactNativeHost;
 import com.facebook.react.bridge.ReactContext;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -78,11 +79,17 @@ public final class BlobProvider extends ContentProvider {
       throw new RuntimeException("No blob module associated with BlobProvider");
     }
 
-    final byte[] data = blobModule.resolve(uri);
-    if (data == null) {
+    final Blob blob = blobModule.resolveBlob(uri);
+    if (blob == null) {
       throw new FileNotFoundException("Cannot open " + uri.toString() + ", blob not found.");
     }
 
+    // Blobs stored on disk can be read directly
+    File file = blob.getFile();
+    if (file != null) {
+      return ParcelFileDescriptor.open(file, ParcelFileDescriptor.MODE_READ_ONLY);
+    }
+
     ParcelFileDescriptor[] pipe;
     try {
       pipe = ParcelFileDescriptor.createPipe();
@@ -92,11 +99,11 @@ public final class BlobProvider extends ContentProvider {
     ParcelFileDescriptor readSide = pipe[0];
     final ParcelFileDescriptor writeSide = pipe[1];
 
-    if (data.length <= PIPE_CAPACITY) {
+    if (blob.size() <= PIPE_CAPACITY) {
       // If the blob length is less than or equal to pipe capacity (64 KB),
       // we can write the data synchronously to the pipe buffer.
       try (OutputStream outputStream = new ParcelFileDescriptor.AutoCloseOutputStream(writeSide)) {
-        outputStream.write(data);
+        blob.writeTo(outputStream);
       } catch (IOException exception) {
         return null;
       }
@@ -111,7 +118,7 @@ public final class BlobProvider extends ContentProvider {
             public void run() {
               try (OutputStream outputStream =
                   new ParcelFileDescriptor.AutoCloseOutputStream(writeSide)) {
-                outputStream.write(data);
+                blob.writeTo(outputStream);
               } catch (IOException exception) {
                 // no-op
               }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob;
+
+import androidx.annotation.Nullable;
+import com.facebook.common.logging.FLog;
+import com.facebook.react.common.ReactConstants;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Storage for {@link BlobModule}, mapping blob ids to {@link Blob}s.
+ *
+ * <p>Chunks shared by several blobs are reference counted. Once the chunks held on the heap add up
+ * to more than the memory ceiling, the least recently used ones are spilled to files in the spill
+ * directory. Released blobs are kept in a small LRU, so that content URIs handed out for a blob
+ * keep working for a while after JS lets go of it.
+ */
+/* package */ final class BlobStore {
+
+  /* package */ static final long DEFAULT_MAX_HEAP_BYTES = 32 * 1024 * 1024;
+  /* package */ static final long DEFAULT_MAX_RELEASED_BYTES = 4 * 1024 * 1024;
+
+  // Smaller chunks aren't worth a file of their own
+  private static final long MIN_SPILLED_CHUNK_SIZE = 16 * 1024;
+
+  private final File mSpillDirectory;
+  private final Map<String, Blob> mBlobs = new HashMap<>();
+  // Least recently released first
+  private final LinkedHashMap<String, Blob> mReleasedBlobs = new LinkedHashMap<>();
+  // Least recently used first
+  private final LinkedHashMap<BlobChunk, Boolean> mHeapChunks =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long mReleasedBytes = 0;
+  private long mHeapBytes = 0;
+  private long mMaxHeapBytes = DEFAULT_MAX_HEAP_BYTES;
+  private long mMaxReleasedBytes = DEFAULT_MAX_RELEASED_BYTES;
+
+  /* package */ BlobStore(File spillDirectory) {
+    mSpillDirectory = spillDirectory;
+  }
+
+  public void setMaxHeapBytes(long maxHeapBytes) {
+    List<BlobChunk> chunksToSpill;
+    synchronized (this) {
+      mMaxHeapBytes = maxHeapBytes;
+      chunksToSpill = takeChunksToSpill();
+    }
+    spill(chunksToSpill);
+  }
+
+  public synchronized void setMaxReleasedBytes(long maxReleasedBytes) {
+    mMaxReleasedBytes = maxReleasedBytes;
+    trimReleasedBlobs();
+  }
+
+  public void put(String blobId, Blob blob) {
+    List<BlobChunk> chunksToSpill;
+    synchronized (this) {
+      retain(blob);
+      Blob previous = mBlobs.put(blobId, blob);
+      if (previous != null) {
+        release(previous);
+      }
+      Blob released = mReleasedBlobs.remove(blobId);
+      if (released != null) {
+        mReleasedBytes -= released.size();
+        release(released);
+      }
+      chunksToSpill = takeChunksToSpill();
+    }
+    // Spill outside of the lock, so slow disk writes don't block other blob operations
+    spill(chunksToSpill);
+  }
+
+  public synchronized @Nullable Blob get(String blobId) {
+    return touch(mBlobs.get(blobId));
+  }
+
+  /** Like {@link #get}, but also finds released blobs that haven't been evicted yet. */
+  public synchronized @Nullable Blob getIncludingReleased(String blobId) {
+    Blob blob = mBlobs.get(blobId);
+    return touch(blob != null ? blob : mReleasedBlobs.get(blobId));
+  }
+
+  private @Nullable Blob touch(@Nullable Blob blob) {
+    if (blob != null) {
+      for (int i = 0; i < blob.getChunkCount(); i++) {
+        // Marks the chunk as recently used
+        mHeapChunks.get(blob.getChunk(i));
+      }
+    }
+    return blob;
+  }
+
+  /**
+   * Releases a blob. It can still be found with {@link #getIncludingReleased} until it is evicted
+   * from the released LRU.
+   */
+  public synchronized void remove(String blobId) {
+    Blob blob = mBlobs.remove(blobId);
+    if (blob == null) {
+      return;
+    }
+    mReleasedBlobs.put(blobId, blob);
+    mReleasedBytes += blob.size();
+    trimReleasedBlobs();
+  }
+
+  /** Drops all blobs and deletes their files. */
+  public synchronized void clear() {
+    for (Blob blob : mBlobs.values()) {
+      release(blob);
+    }
+    for (Blob blob : mReleasedBlobs.values()) {
+      release(blob);
+    }
+    mBlobs.clear();
+    mReleasedBlobs.clear();
+    mReleasedBytes = 0;
+  }
+
+  /** @return a new file in the spill directory, for blobs that are written straight to disk. */
+  public File createFile() throws IOException {
+    // Files are deleted once no blob references them. Anything left behind by a crash lives in
+    // the cache directory, which the system trims as needed.
+    if (!mSpillDirectory.isDirectory() && !mSpillDirectory.mkdirs()) {
+      throw new IOException("Could not create blob directory " + mSpillDirectory);
+    }
+    return new File(mSpillDirectory, UUID.randomUUID().toString());
+  }
+
+  /* package */ synchronized long getHeapBytes() {
+    return mHeapBytes;
+  }
+
+  private void retain(Blob blob) {
+    for (int i = 0; i < blob.getChunkCount(); i++) {
+      BlobChunk chunk = blob.getChunk(i);
+      if (chunk.mRefCount++ == 0 && chunk.isInMemory()) {
+        mHeapChunks.put(chunk, Boolean.TRUE);
+        mHeapBytes += chunk.size();
+      }
+    }
+  }
+
+  private void release(Blob blob) {
+    for (int i = 0; i < blob.getChunkCount(); i++) {
+      BlobChunk chunk = blob.getChunk(i);
+      if (--chunk.mRefCount == 0) {
+        if (mHeapChunks.remove(chunk) != null) {
+          mHeapBytes -= chunk.size();
+        }
+        chunk.dispose();
+      }
+    }
+  }
+
+  private void trimReleasedBlobs() {
+    Iterator<Blob> iterator = mReleasedBlobs.values().iterator();
+    while (mReleasedBytes > mMaxReleasedBytes && iterator.hasNext()) {
+      Blob blob = iterator.next();
+      iterator.remove();
+      mReleasedBytes -= blob.size();
+      release(blob);
+    }
+  }
+
+  private List<BlobChunk> takeChunksToSpill() {
+    List<BlobChunk> chunksToSpill = new ArrayList<>();
+    Iterator<BlobChunk> iterator = mHeapChunks.keySet().iterator();
+    while (mHeapBytes > mMaxHeapBytes && iterator.hasNext()) {
+      BlobChunk chunk = iterator.next();
+      if (chunk.size() >= MIN_SPILLED_CHUNK_SIZE) {
+        iterator.remove();
+        mHeapBytes -= chunk.size();
+        chunksToSpill.add(chunk);
+      }
+    }
+    return chunksToSpill;
+  }
+
+  private void spill(List<BlobChunk> chunks) {
+    List<BlobChunk> failedChunks = null;
+    for (BlobChunk chunk : chunks) {
+      try {
+        chunk.spillTo(createFile());
+      } catch (IOException e) {
+        FLog.w(ReactConstants.TAG, "Failed to move blob data to disk, keeping it in memory", e);
+        if (failedChunks == null) {
+          failedChunks = new ArrayList<>();
+        }
+        failedChunks.add(chunk);
+      }
+    }
+    if (failedChunks != null) {
+      restoreHeapChunks(failedChunks);
+    }
+  }
+
+  /** Counts again the chunks that stayed on the heap because they couldn't be spilled. */
+  private synchronized void restoreHeapChunks(List<BlobChunk> chunks) {
+    for (BlobChunk chunk : chunks) {
+      // Unless they were released while being spilled
+      if (chunk.mRefCount > 0 && chunk.isInMemory() && !mHeapChunks.containsKey(chunk)) {
+        mHeapChunks.put(chunk, Boolean.TRUE);
+        mHeapBytes += chunk.size();
+      }
+    }
+  }
+}
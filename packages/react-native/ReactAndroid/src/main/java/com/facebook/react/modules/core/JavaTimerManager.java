@@ -9,14 +9,17 @@ package com.facebook.react.modules.core;
 
 import android.util.SparseArray;
 import androidx.annotation.Nullable;
+import com.facebook.infer.annotation.Assertions;
 import com.facebook.proguard.annotations.DoNotStrip;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.common.SystemClock;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.devsupport.interfaces.DevSupportManager;
 import com.facebook.react.jstasks.HeadlessJsTaskContext;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.PriorityQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -37,7 +40,7 @@ public class JavaTimerManager {
   // at 60 fps.
   private static final float FRAME_DURATION_MS = 1000.f / 60.f;
 
-  private static class Timer {
+  private static class Timer extends TimerWheel.Entry {
     private final int mCallbackID;
     private final boolean mRepeat;
     private final int mInterval;
@@ -65,17 +68,22 @@ public class JavaTimerManager {
 
       long frameTimeMillis = frameTimeNanos / 1000000;
       synchronized (mTimerGuard) {
-        while (!mTimers.isEmpty() && mTimers.peek().mTargetTime < frameTimeMillis) {
-          Timer timer = mTimers.poll();
-          if (mTimersToCall == null) {
-            mTimersToCall = Arguments.createArray();
-          }
-          mTimersToCall.pushInt(timer.mCallbackID);
-          if (timer.mRepeat) {
-            timer.mTargetTime = frameTimeMillis + timer.mInterval;
-            mTimers.add(timer);
-          } else {
-            mTimerIdsToTimers.remove(timer.mCallbackID);
+        if (mTimerWheel != null) {
+          callExpiredWheelTimers(mTimerWheel, frameTimeMillis);
+        } else {
+          PriorityQueue<Timer> timers = Assertions.assertNotNull(mTimers);
+          while (!timers.isEmpty() && timers.peek().mTargetTime < frameTimeMillis) {
+            Timer timer = timers.poll();
+            if (mTimersToCall == null) {
+              mTimersToCall = Arguments.createArray();
+            }
+            mTimersToCall.pushInt(timer.mCallbackID);
+            if (timer.mRepeat) {
+              timer.mTargetTime = frameTimeMillis + timer.mInterval;
+              timers.add(timer);
+            } else {
+              mTimerIdsToTimers.remove(timer.mCallbackID);
+            }
           }
         }
       }
@@ -87,6 +95,25 @@ public class JavaTimerManager {
 
       mReactChoreographer.postFrameCallback(ReactChoreographer.CallbackType.TIMERS_EVENTS, this);
     }
+
+    private void callExpiredWheelTimers(TimerWheel<Timer> timerWheel, long frameTimeMillis) {
+      // Like the priority queue, only call timers whose target time is before the frame time
+      timerWheel.advanceTo(frameTimeMillis - 1, mExpiredTimers);
+      for (int i = 0; i < mExpiredTimers.size(); i++) {
+        Timer timer = mExpiredTimers.get(i);
+        if (mTimersToCall == null) {
+          mTimersToCall = Arguments.createArray();
+        }
+        mTimersToCall.pushInt(timer.mCallbackID);
+        if (timer.mRepeat) {
+          timer.mTargetTime = frameTimeMillis + timer.mInterval;
+          timerWheel.schedule(timer, timer.mTargetTime);
+        } else {
+          mTimerIdsToTimers.remove(timer.mCallbackID);
+        }
+      }
+      mExpiredTimers.clear();
+    }
   }
 
   private class IdleFrameCallback extends ChoreographerCompat.FrameCallback {
@@ -156,7 +183,10 @@ public class JavaTimerManager {
   private final DevSupportManager mDevSupportManager;
   private final Object mTimerGuard = new Object();
   private final Object mIdleCallbackGuard = new Object();
-  private final PriorityQueue<Timer> mTimers;
+  private final @Nullable PriorityQueue<Timer> mTimers;
+  // Used instead of mTimers when ReactFeatureFlags.enableTimerWheel is set
+  private final @Nullable TimerWheel<Timer> mTimerWheel;
+  private final ArrayList<Timer> mExpiredTimers = new ArrayList<>();
   private final SparseArray<Timer> mTimerIdsToTimers;
   private final AtomicBoolean isPaused = new AtomicBoolean(true);
   private final AtomicBoolean isRunningTasks = new AtomicBoolean(false);
@@ -177,24 +207,30 @@ public class JavaTimerManager {
     mReactChoreographer = reactChoreographer;
     mDevSupportManager = devSupportManager;
 
-    // We store timers sorted by finish time.
-    mTimers =
-        new PriorityQueue<Timer>(
-            11, // Default capacity: for some reason they don't expose a (Comparator) constructor
-            new Comparator<Timer>() {
-              @Override
-              public int compare(Timer lhs, Timer rhs) {
-                long diff = lhs.mTargetTime - rhs.mTargetTime;
-                if (diff == 0) {
-                  return 0;
-                } else if (diff < 0) {
-                  return -1;
-                } else {
-                  return 1;
-                }
-              }
-            });
     mTimerIdsToTimers = new SparseArray<>();
+    if (ReactFeatureFlags.enableTimerWheel) {
+      mTimerWheel = new TimerWheel<>(SystemClock.nanoTime() / 1000000);
+      mTimers = null;
+    } else {
+      mTimerWheel = null;
+      // We store timers sorted by finish time.
+      mTimers =
+          new PriorityQueue<Timer>(
+              11, // Default capacity: for some reason they don't expose a (Comparator) constructor
+              new Comparator<Timer>() {
+                @Override
+                public int compare(Timer lhs, Timer rhs) {
+                  long diff = lhs.mTargetTime - rhs.mTargetTime;
+                  if (diff == 0) {
+                    return 0;
+                  } else if (diff < 0) {
+                    return -1;
+                  } else {
+                    return 1;
+                  }
+                }
+              });
+    }
   }
 
   public void onHostPause() {
@@ -299,7 +335,11 @@ public class JavaTimerManager {
     long initialTargetTime = SystemClock.nanoTime() / 1000000 + delay;
     Timer timer = new Timer(callbackID, initialTargetTime, (int) delay, repeat);
     synchronized (mTimerGuard) {
-      mTimers.add(timer);
+      if (mTimerWheel != null) {
+        mTimerWheel.schedule(timer, initialTargetTime);
+      } else {
+        Assertions.assertNotNull(mTimers).add(timer);
+      }
       mTimerIdsToTimers.put(callbackID, timer);
     }
   }
@@ -353,7 +393,11 @@ public class JavaTimerManager {
         return;
       }
       mTimerIdsToTimers.remove(timerId);
-      mTimers.remove(timer);
+      if (mTimerWheel != null) {
+        mTimerWheel.cancel(timer);
+      } else {
+        Assertions.assertNotNull(mTimers).remove(timer);
+      }
     }
   }
 
@@ -388,7 +432,17 @@ public class JavaTimerManager {
    */
   /* package */ boolean hasActiveTimersInRange(long rangeMs) {
     synchronized (mTimerGuard) {
-      Timer nextTimer = mTimers.peek();
+      if (mTimerWheel != null) {
+        for (int i = 0; i < mTimerIdsToTimers.size(); i++) {
+          if (isTimerInRange(mTimerIdsToTimers.valueAt(i), rangeMs)) {
+            return true;
+          }
+        }
+        return false;
+      }
+
+      PriorityQueue<Timer> timers = Assertions.assertNotNull(mTimers);
+      Timer nextTimer = timers.peek();
       if (nextTimer == null) {
         // Timers queue is empty
         return false;
@@ -398,7 +452,7 @@ public class JavaTimerManager {
         // already within range.
         return true;
       }
-      for (Timer timer : mTimers) {
+      for (Timer timer : timers) {
         if (isTimerInRange(timer, rangeMs)) {
           return true;
         }
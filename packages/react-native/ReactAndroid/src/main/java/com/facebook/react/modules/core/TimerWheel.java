@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.core;
+
+import androidx.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Hierarchical timer wheel with millisecond ticks, used by {@link JavaTimerManager} as an
+ * alternative to a priority queue.
+ *
+ * <p>Level {@code n} has 64 buckets, each covering {@code 64^n} ticks. An entry is
+ * stored in the lowest level whose bucket range still contains it, and is moved down a level each
+ * time the wheel reaches the start of its bucket. Buckets are intrusive doubly-linked lists, so
+ * scheduling and cancelling are O(1). Entries further out than the top level wait in an overflow
+ * bucket.
+ *
+ * <p>Entries with the same expiry tick expire in the order they were scheduled.
+ *
+ * <p>Not thread safe: callers must synchronize access.
+ */
+@SuppressWarnings("unchecked")
+/* package */ final class TimerWheel<T extends TimerWheel.Entry> {
+
+  /** Base class for objects that can be scheduled on a {@link TimerWheel}. */
+  /* package */ static class Entry {
+    private @Nullable Entry mPrevInBucket;
+    private @Nullable Entry mNextInBucket;
+    private int mLevel = NOT_SCHEDULED;
+    private int mSlot;
+    private long mExpiryTick;
+  }
+
+  private static final int NOT_SCHEDULED = -1;
+  private static final int BITS_PER_LEVEL = 6;
+  private static final int SLOTS = 1 << BITS_PER_LEVEL;
+  private static final int SLOT_MASK = SLOTS - 1;
+  // 6 levels of 64 slots cover 2^36 ms (~795 days)
+  private static final int LEVELS = 6;
+  private static final int OVERFLOW_LEVEL = LEVELS;
+
+  private final Entry[][] mHeads = new Entry[LEVELS + 1][SLOTS];
+  private final Entry[][] mTails = new Entry[LEVELS + 1][SLOTS];
+  // One bit per non-empty slot, so the next expiry can be found without scanning buckets
+  private final long[] mOccupiedSlots = new long[LEVELS];
+  private long mCurrentTick;
+  private int mSize = 0;
+
+  /* package */ TimerWheel(long startTick) {
+    mCurrentTick = startTick;
+  }
+
+  /**
+   * Schedules {@code entry} to expire once the wheel advances to {@code expiryTick}. Ticks that are
+   * already in the past expire on the next advance.
+   */
+  public void schedule(T entry, long expiryTick) {
+    cancel(entry);
+    Entry node = entry;
+    node.mExpiryTick = Math.max(expiryTick, mCurrentTick + 1);
+    insert(node);
+    mSize++;
+  }
+
+  /** @return true if {@code entry} was scheduled on this wheel. */
+  public boolean cancel(T entry) {
+    Entry node = entry;
+    if (node.mLevel == NOT_SCHEDULED) {
+      return false;
+    }
+    unlink(node);
+    mSize--;
+    return true;
+  }
+
+  /**
+   * Advances the wheel to {@code tick}, appending every entry whose expiry tick is at or before it
+   * to {@code expired}, in expiry order. Expired entries are no longer scheduled.
+   */
+  public void advanceTo(long tick, List<T> expired) {
+    while (true) {
+      long nextTick = getNextBucketTick();
+      if (nextTick > tick) {
+        mCurrentTick = Math.max(mCurrentTick, tick);
+        return;
+      }
+      mCurrentTick = nextTick;
+
+      // Buckets of higher levels starting at this tick are moved down first, as they may refill
+      // the buckets of lower levels starting at the same tick
+      for (int level = LEVELS; level > 0; level--) {
+        if ((nextTick & ((1L << (BITS_PER_LEVEL * level)) - 1)) == 0) {
+          cascade(level, level == OVERFLOW_LEVEL ? 0 : slotOf(nextTick, level));
+        }
+      }
+
+      int slot = slotOf(nextTick, 0);
+      Entry entry = mHeads[0][slot];
+      while (entry != null) {
+        Entry next = entry.mNextInBucket;
+        clearLinks(entry);
+        mSize--;
+        expired.add((T) entry);
+        entry = next;
+      }
+      mHeads[0][slot] = null;
+      mTails[0][slot] = null;
+      mOccupiedSlots[0] &= ~(1L << slot);
+    }
+  }
+
+  public int size() {
+    return mSize;
+  }
+
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * @return the first tick at which a non-empty bucket either expires or needs to be moved down a
+   *     level, or {@link Long#MAX_VALUE} if the wheel is empty.
+   */
+  private long getNextBucketTick() {
+    // Non-empty slots are always ahead of the current tick in their level, and buckets of a lower
+    // level all start before the next bucket of a higher level
+    for (int level = 0; level < LEVELS; level++) {
+      long occupied = mOccupiedSlots[level];
+      if (occupied != 0) {
+        int shift = BITS_PER_LEVEL * level;
+        long levelStart = (mCurrentTick >>> (shift + BITS_PER_LEVEL)) << (shift + BITS_PER_LEVEL);
+        return levelStart | ((long) Long.numberOfTrailingZeros(occupied) << shift);
+      }
+    }
+    if (mHeads[OVERFLOW_LEVEL][0] != null) {
+      int shift = BITS_PER_LEVEL * LEVELS;
+      return ((mCurrentTick >>> shift) + 1) << shift;
+    }
+    return Long.MAX_VALUE;
+  }
+
+  /** Re-inserts the entries of a bucket relative to the current tick. */
+  private void cascade(int level, int slot) {
+    Entry entry = mHeads[level][slot];
+    if (entry == null) {
+      return;
+    }
+    mHeads[level][slot] = null;
+    mTails[level][slot] = null;
+    if (level != OVERFLOW_LEVEL) {
+      mOccupiedSlots[level] &= ~(1L << slot);
+    }
+    while (entry != null) {
+      Entry next = entry.mNextInBucket;
+      clearLinks(entry);
+      insert(entry);
+      entry = next;
+    }
+  }
+
+  private void insert(Entry entry) {
+    // The lowest level where the expiry tick and the current tick share the same bucket
+    long difference = entry.mExpiryTick ^ mCurrentTick;
+    int level =
+        difference == 0 ? 0 : (63 - Long.numberOfLeadingZeros(difference)) / BITS_PER_LEVEL;
+    int slot;
+    if (level >= LEVELS) {
+      level = OVERFLOW_LEVEL;
+      slot = 0;
+    } else {
+      slot = slotOf(entry.mExpiryTick, level);
+      mOccupiedSlots[level] |= 1L << slot;
+    }
+
+    entry.mLevel = level;
+    entry.mSlot = slot;
+    Entry tail = mTails[level][slot];
+    entry.mPrevInBucket = tail;
+    if (tail == null) {
+      mHeads[level][slot] = entry;
+    } else {
+      tail.mNextInBucket = entry;
+    }
+    mTails[level][slot] = entry;
+  }
+
+  private void unlink(Entry entry) {
+    int level = entry.mLevel;
+    int slot = entry.mSlot;
+    Entry prev = entry.mPrevInBucket;
+    Entry next = entry.mNextInBucket;
+    if (prev == null) {
+      mHeads[level][slot] = next;
+    } else {
+      prev.mNextInBucket = next;
+    }
+    if (next == null) {
+      mTails[level][slot] = prev;
+    } else {
+      next.mPrevInBucket = prev;
+    }
+    if (mHeads[level][slot] == null && level != OVERFLOW_LEVEL) {
+      mOccupiedSlots[level] &= ~(1L << slot);
+    }
+    clearLinks(entry);
+  }
+
+  private static void clearLinks(Entry entry) {
+    entry.mPrevInBucket = null;
+    entry.mNextInBucket = null;
+    entry.mLevel = NOT_SCHEDULED;
+  }
+
+  private static int slotOf(long tick, int level) {
+    return (int) ((tick >>> (BITS_PER_LEVEL * level)) & SLOT_MASK);
+  }
+}
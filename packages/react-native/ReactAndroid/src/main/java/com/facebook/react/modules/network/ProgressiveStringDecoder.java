@@ -11,9 +11,9 @@ import com.facebook.common.logging.FLog;
 import com.facebook.react.common.ReactConstants;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
-import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
 
 /**
  * Class to decode encoded strings from byte array chunks. As in different encodings single
@@ -22,6 +22,9 @@ import java.nio.charset.CharsetDecoder;
  *
  * <p>This class is designed in assumption that original byte stream is correctly formatted string
  * in given encoding. Otherwise some parts of the data won't be decoded.
+ *
+ * <p>The decoder and its buffers are reused across chunks: a partial character at the end of a
+ * chunk is compacted to the front of the input buffer and completed by the next chunk.
  */
 public class ProgressiveStringDecoder {
 
@@ -29,7 +32,9 @@ public class ProgressiveStringDecoder {
 
   private final CharsetDecoder mDecoder;
 
-  private byte[] remainder = null;
+  // Bytes left over from the previous chunk, kept between calls in write mode
+  private ByteBuffer mInput = ByteBuffer.allocate(0);
+  private CharBuffer mOutput = CharBuffer.allocate(0);
 
   /** @param charset expected charset of the data */
   public ProgressiveStringDecoder(Charset charset) {
@@ -44,43 +49,47 @@ public class ProgressiveStringDecoder {
    * @return
    */
   public String decodeNext(byte[] data, int length) {
-    byte[] decodeData;
+    ByteBuffer input = mInput;
+    if (input.remaining() < length) {
+      ByteBuffer grown = ByteBuffer.allocate(input.position() + length);
+      input.flip();
+      grown.put(input);
+      input = grown;
+      mInput = input;
+    }
+    input.put(data, 0, length);
+    input.flip();
 
-    if (remainder != null) {
-      decodeData = new byte[remainder.length + length];
-      System.arraycopy(remainder, 0, decodeData, 0, remainder.length);
-      System.arraycopy(data, 0, decodeData, remainder.length, length);
-      length += remainder.length;
-    } else {
-      decodeData = data;
+    CharBuffer output = mOutput;
+    int maxChars = (int) Math.ceil(input.remaining() * (double) mDecoder.maxCharsPerByte());
+    if (output.capacity() < maxChars) {
+      output = CharBuffer.allocate(maxChars);
+      mOutput = output;
     }
+    output.clear();
 
-    ByteBuffer decodeBuffer = ByteBuffer.wrap(decodeData, 0, length);
-    CharBuffer result = null;
-    boolean decoded = false;
-    int remainderLength = 0;
-    while (!decoded && (remainderLength < 4)) {
-      try {
-        result = mDecoder.decode(decodeBuffer);
-        decoded = true;
-      } catch (CharacterCodingException e) {
-        remainderLength++;
-        decodeBuffer = ByteBuffer.wrap(decodeData, 0, length - remainderLength);
+    while (true) {
+      // Not the end of input, so an incomplete character at the end is left in the input buffer
+      CoderResult result = mDecoder.decode(input, output, false);
+      if (result.isUnderflow()) {
+        break;
+      }
+      if (result.isOverflow()) {
+        CharBuffer grown = CharBuffer.allocate(output.capacity() * 2 + 1);
+        output.flip();
+        grown.put(output);
+        output = grown;
+        mOutput = output;
+      } else {
+        FLog.w(ReactConstants.TAG, "failed to decode string from byte array");
+        input.position(input.position() + result.length());
       }
     }
-    boolean hasRemainder = decoded && remainderLength > 0;
-    if (hasRemainder) {
-      remainder = new byte[remainderLength];
-      System.arraycopy(decodeData, length - remainderLength, remainder, 0, remainderLength);
-    } else {
-      remainder = null;
-    }
+    input.compact();
 
-    if (!decoded) {
-      FLog.w(ReactConstants.TAG, "failed to decode string from byte array");
+    if (output.position() == 0) {
       return EMPTY_STRING;
-    } else {
-      return new String(result.array(), 0, result.length());
     }
+    return new String(output.array(), 0, output.position());
   }
 }
@@ -7,7 +7,6 @@
 
 package com.facebook.react.turbomodule.core;
 
-import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.facebook.common.logging.FLog;
@@ -27,10 +26,12 @@ import com.facebook.react.turbomodule.core.interfaces.TurboModule;
 import com.facebook.react.turbomodule.core.interfaces.TurboModuleRegistry;
 import com.facebook.soloader.SoLoader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is the main class and entry point for TurboModules. Note that this is a hybrid class, and
@@ -44,15 +45,21 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
   private final ModuleProvider mLegacyModuleProvider;
   private final TurboModuleManagerDelegate mDelegate;
 
+  private static final ModuleHolder[] EMPTY_MODULE_HOLDERS = new ModuleHolder[0];
+
   // Prevents the creation of new TurboModules once cleanup as been initiated.
   private final Object mModuleCleanupLock = new Object();
 
-  @GuardedBy("mModuleCleanupLock")
-  private boolean mModuleCleanupStarted = false;
+  // Written while holding mModuleCleanupLock, but also read without it by the lookup fast path
+  private volatile boolean mModuleCleanupStarted = false;
+
+  // List of TurboModules that have been, or are currently being, instantiated. Holders are only
+  // added while holding mModuleCleanupLock, and are never replaced, so lookups don't need the lock.
+  private final Map<String, ModuleHolder> mModuleHolders = new ConcurrentHashMap<>();
 
-  // List of TurboModules that have been, or are currently being, instantiated
-  @GuardedBy("mModuleCleanupLock")
-  private final Map<String, ModuleHolder> mModuleHolders = new HashMap<>();
+  // The same holders, indexed by ModuleHolder#getIndex. The array is copied on write while holding
+  // mModuleCleanupLock, and only ever grows until cleanup.
+  private volatile ModuleHolder[] mModuleHoldersByIndex = EMPTY_MODULE_HOLDERS;
 
   @DoNotStrip
   @SuppressWarnings("unused")
@@ -221,38 +228,92 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
    *
    * <p>This method: - Creates and initializes the module if it doesn't already exist. - Returns
    * null after TurboModuleManager has been torn down.
+   *
+   * <p>Once a module has been created, looking it up doesn't acquire any lock.
    */
   @Nullable
   public NativeModule getModule(String moduleName) {
-    ModuleHolder moduleHolder;
+    if (mModuleCleanupStarted) {
+      logGetModuleAfterCleanup(moduleName);
+      return null;
+    }
+
+    ModuleHolder moduleHolder = mModuleHolders.get(moduleName);
+    if (moduleHolder == null) {
+      moduleHolder = getOrCreateModuleHolder(moduleName);
+      if (moduleHolder == null) {
+        logGetModuleAfterCleanup(moduleName);
+        return null;
+      }
+    }
 
+    return getModule(moduleName, moduleHolder);
+  }
+
+  /**
+   * Return the NativeModule instance at the index returned by {@link #getModuleIndex}. This saves
+   * hashing the module name on every lookup, for callers that look up the same module often.
+   *
+   * <p>Like {@link #getModule(String)}, this creates and initializes the module if it doesn't
+   * already exist, and returns null after TurboModuleManager has been torn down.
+   */
+  @Nullable
+  public NativeModule getModule(int moduleIndex) {
+    ModuleHolder[] moduleHolders = mModuleHoldersByIndex;
+    // The holders are dropped after mModuleCleanupStarted is set, so reading them first means that
+    // an index that is out of range because of a concurrent teardown is seen as a teardown
+    if (mModuleCleanupStarted) {
+      logError(
+          "getModule(): Tried to get module at index "
+              + moduleIndex
+              + ", but TurboModuleManager was tearing down. Returning null.");
+      return null;
+    }
+    if (moduleIndex < 0 || moduleIndex >= moduleHolders.length) {
+      throw new IllegalArgumentException("Invalid module index: " + moduleIndex);
+    }
+
+    ModuleHolder moduleHolder = moduleHolders[moduleIndex];
+    return getModule(moduleHolder.getName(), moduleHolder);
+  }
+
+  /**
+   * Return a stable index for the provided moduleName, which can be passed to {@link
+   * #getModule(int)}. The module isn't created until it is looked up.
+   *
+   * @return the index of the module, or -1 after TurboModuleManager has been torn down
+   */
+  public int getModuleIndex(String moduleName) {
+    ModuleHolder moduleHolder = mModuleHolders.get(moduleName);
+    if (moduleHolder == null) {
+      moduleHolder = getOrCreateModuleHolder(moduleName);
+    }
+    return moduleHolder != null ? moduleHolder.getIndex() : -1;
+  }
+
+  @Nullable
+  private ModuleHolder getOrCreateModuleHolder(String moduleName) {
     synchronized (mModuleCleanupLock) {
       if (mModuleCleanupStarted) {
-        /*
-         * Always return null after cleanup has started, so that getNativeModule(moduleName) returns null.
-         */
-        logError(
-            "getModule(): Tried to get module \""
-                + moduleName
-                + "\", but TurboModuleManager was tearing down. Returning null. Was legacy: "
-                + isLegacyModule(moduleName)
-                + ". Was turbo: "
-                + isTurboModule(moduleName)
-                + ".");
         return null;
       }
 
-      /*
-       * TODO(T64619790): Should we populate mModuleHolders ahead of time, to avoid having
-       * * to control concurrent access to it?
-       */
-      if (!mModuleHolders.containsKey(moduleName)) {
-        mModuleHolders.put(moduleName, new ModuleHolder());
+      ModuleHolder moduleHolder = mModuleHolders.get(moduleName);
+      if (moduleHolder == null) {
+        ModuleHolder[] moduleHolders = mModuleHoldersByIndex;
+        moduleHolder = new ModuleHolder(moduleName, moduleHolders.length);
+        moduleHolders = Arrays.copyOf(moduleHolders, moduleHolders.length + 1);
+        moduleHolders[moduleHolder.getIndex()] = moduleHolder;
+        // Publish the holder by index first, so that any index handed out can be resolved
+        mModuleHoldersByIndex = moduleHolders;
+        mModuleHolders.put(moduleName, moduleHolder);
       }
-
-      moduleHolder = mModuleHolders.get(moduleName);
+      return moduleHolder;
     }
+  }
 
+  @Nullable
+  private NativeModule getModule(String moduleName, ModuleHolder moduleHolder) {
     TurboModulePerfLogger.moduleCreateStart(moduleName, moduleHolder.getModuleId());
     NativeModule module = getOrCreateModule(moduleName, moduleHolder, true);
 
@@ -265,6 +326,20 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
     return module;
   }
 
+  private void logGetModuleAfterCleanup(String moduleName) {
+    /*
+     * Always return null after cleanup has started, so that getNativeModule(moduleName) returns null.
+     */
+    logError(
+        "getModule(): Tried to get module \""
+            + moduleName
+            + "\", but TurboModuleManager was tearing down. Returning null. Was legacy: "
+            + isLegacyModule(moduleName)
+            + ". Was turbo: "
+            + isTurboModule(moduleName)
+            + ".");
+  }
+
   /**
    * Given a ModuleHolder, and the TurboModule's moduleName, return the TurboModule instance.
    *
@@ -274,6 +349,15 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
   @Nullable
   private NativeModule getOrCreateModule(
       String moduleName, @NonNull ModuleHolder moduleHolder, boolean shouldPerfLog) {
+    // Fast path: the module is published before the holder is marked as done, so there is no need
+    // to lock the holder once it is.
+    if (moduleHolder.isDoneCreatingModule()) {
+      if (shouldPerfLog) {
+        TurboModulePerfLogger.moduleCreateCacheHit(moduleName, moduleHolder.getModuleId());
+      }
+      return moduleHolder.getModule();
+    }
+
     boolean shouldCreateModule = false;
 
     synchronized (moduleHolder) {
@@ -293,6 +377,7 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
     }
 
     if (shouldCreateModule) {
+      long createStartTime = System.nanoTime();
       TurboModulePerfLogger.moduleCreateConstructStart(moduleName, moduleHolder.getModuleId());
       NativeModule nativeModule = mTurboModuleProvider.getModule(moduleName);
 
@@ -327,6 +412,7 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
 
       TurboModulePerfLogger.moduleCreateSetUpEnd(moduleName, moduleHolder.getModuleId());
       synchronized (moduleHolder) {
+        moduleHolder.setCreateDurationNs(System.nanoTime() - createStartTime);
         moduleHolder.endCreatingModule();
         moduleHolder.notifyAll();
       }
@@ -360,18 +446,12 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
 
   /** Which NativeModules have been created? */
   public Collection<NativeModule> getModules() {
-    final List<ModuleHolder> moduleHolders = new ArrayList<>();
-    synchronized (mModuleCleanupLock) {
-      moduleHolders.addAll(mModuleHolders.values());
-    }
-
     final List<NativeModule> modules = new ArrayList<>();
-    for (final ModuleHolder moduleHolder : moduleHolders) {
-      synchronized (moduleHolder) {
-        // No need to wait for the TurboModule to finish being created and initialized
-        if (moduleHolder.getModule() != null) {
-          modules.add(moduleHolder.getModule());
-        }
+    for (final ModuleHolder moduleHolder : mModuleHoldersByIndex) {
+      // No need to wait for the TurboModule to finish being created and initialized
+      NativeModule module = moduleHolder.getModule();
+      if (module != null) {
+        modules.add(module);
       }
     }
 
@@ -379,20 +459,23 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
   }
 
   public boolean hasModule(String moduleName) {
-    ModuleHolder moduleHolder;
-    synchronized (mModuleCleanupLock) {
-      moduleHolder = mModuleHolders.get(moduleName);
-    }
+    ModuleHolder moduleHolder = mModuleHolders.get(moduleName);
+    return moduleHolder != null && moduleHolder.getModule() != null;
+  }
 
-    if (moduleHolder != null) {
-      synchronized (moduleHolder) {
-        if (moduleHolder.getModule() != null) {
-          return true;
-        }
+  /**
+   * How long it took to create and initialize each of the modules that have been created so far,
+   * in nanoseconds. This is the latency of the first lookup of each module; later lookups don't
+   * create the module again.
+   */
+  public Map<String, Long> getModuleCreateDurationsNs() {
+    final Map<String, Long> durations = new HashMap<>();
+    for (final ModuleHolder moduleHolder : mModuleHoldersByIndex) {
+      if (moduleHolder.isDoneCreatingModule() && moduleHolder.getModule() != null) {
+        durations.put(moduleHolder.getName(), moduleHolder.getCreateDurationNs());
       }
     }
-
-    return false;
+    return durations;
   }
 
   public static void logError(String message) {
@@ -446,6 +529,7 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
     }
 
     mModuleHolders.clear();
+    mModuleHoldersByIndex = EMPTY_MODULE_HOLDERS;
 
     // Delete the native part of this hybrid class.
     mHybridData.resetNative();
@@ -465,16 +549,37 @@ public class TurboModuleManager implements JSIModule, TurboModuleRegistry {
     private volatile boolean mIsDoneCreatingModule = false;
     private static volatile int sHolderCount = 0;
     private volatile int mModuleId;
+    private final String mName;
+    private final int mIndex;
+    private volatile long mCreateDurationNs = 0;
 
-    public ModuleHolder() {
+    public ModuleHolder(String name, int index) {
       mModuleId = sHolderCount;
       sHolderCount += 1;
+      mName = name;
+      mIndex = index;
     }
 
     int getModuleId() {
       return mModuleId;
     }
 
+    String getName() {
+      return mName;
+    }
+
+    int getIndex() {
+      return mIndex;
+    }
+
+    void setCreateDurationNs(long createDurationNs) {
+      mCreateDurationNs = createDurationNs;
+    }
+
+    long getCreateDurationNs() {
+      return mCreateDurationNs;
+    }
+
     void setModule(@NonNull NativeModule module) {
       mModule = module;
     }
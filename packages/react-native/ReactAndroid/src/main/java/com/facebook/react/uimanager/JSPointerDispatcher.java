@@ -11,6 +11,7 @@ import android.graphics.Rect;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import androidx.annotation.Nullable;
 import com.facebook.common.logging.FLog;
 import com.facebook.infer.annotation.Assertions;
 import com.facebook.react.common.ReactConstants;
@@ -20,13 +21,8 @@ import com.facebook.react.uimanager.events.PointerEvent;
 import com.facebook.react.uimanager.events.PointerEvent.PointerEventState;
 import com.facebook.react.uimanager.events.PointerEventHelper;
 import com.facebook.react.uimanager.events.PointerEventHelper.EVENT;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 /**
  * JSPointerDispatcher handles dispatching pointer events to JS from RootViews. If you implement
@@ -39,10 +35,15 @@ public class JSPointerDispatcher {
   private static final float ONMOVE_EPSILON = 0.1f;
   private static final String TAG = "POINTER EVENTS";
 
-  private Map<Integer, List<ViewTarget>> mLastHitPathByPointerId;
-  private Map<Integer, float[]> mLastEventCoordinatesByPointerId;
-  private Map<Integer, List<ViewTarget>> mCurrentlyDownPointerIdsToHitPath;
-  private Set<Integer> mHoveringPointerIds = new HashSet<>();
+  // State of the last event, holding the last hit path and coordinates of its pointers
+  private @Nullable PointerEventState mLastEventState;
+  // States of the down events of the pointers that are down, by pointer id, to emit clicks
+  private final PointerEventState[] mDownEventStates =
+      new PointerEventState[PointerEventState.MAX_POINTER_ID + 1];
+  // Bitmask of the pointer ids that support hover
+  private int mHoveringPointerIds = 0;
+  private final float[] mTargetCoordinates = new float[2];
+  private final TouchTargetHelper.HitTestState mHitTestState = new TouchTargetHelper.HitTestState();
 
   private int mChildHandlingNativeGesture = -1;
   private int mPrimaryPointerId = UNSET_POINTER_ID;
@@ -54,7 +55,6 @@ public class JSPointerDispatcher {
 
   public JSPointerDispatcher(ViewGroup viewGroup) {
     mRootViewGroup = viewGroup;
-    mCurrentlyDownPointerIdsToHitPath = new HashMap<>();
   }
 
   public void onChildStartedNativeGesture(
@@ -89,28 +89,19 @@ public class JSPointerDispatcher {
     mChildHandlingNativeGesture = -1;
   }
 
-  // returns the section of the hit path shared by both lists, or an empty list if there's no such
-  // section
-  private static List<ViewTarget> findHitPathIntersection(
+  // returns the first view of hitsB that is also in hitsA, i.e. the target of the section of the
+  // hit path shared by both lists, or null if there's no such section
+  private static @Nullable ViewTarget findFirstCommonViewTarget(
       final List<ViewTarget> hitsA, final List<ViewTarget> hitsB) {
-    if (hitsA.isEmpty()) {
-      return new ArrayList<>();
-    }
-    if (hitsB.isEmpty()) {
-      return new ArrayList<>();
-    }
-
-    Set<ViewTarget> inA = new HashSet<>(hitsA);
-
-    List<ViewTarget> intersection = new ArrayList<>();
-
-    for (final ViewTarget vt : hitsB) {
-      if (inA.contains(vt)) {
-        intersection.add(vt);
+    for (int i = 0; i < hitsB.size(); i++) {
+      ViewTarget viewTarget = hitsB.get(i);
+      for (int j = 0; j < hitsA.size(); j++) {
+        if (hitsA.get(j).equals(viewTarget)) {
+          return viewTarget;
+        }
       }
     }
-
-    return intersection;
+    return null;
   }
 
   private void onUp(
@@ -120,7 +111,7 @@ public class JSPointerDispatcher {
       EventDispatcher eventDispatcher) {
 
     int activePointerId = eventState.getActivePointerId();
-    List<ViewTarget> activeHitPath = eventState.getHitPathByPointerId().get(activePointerId);
+    List<ViewTarget> activeHitPath = eventState.getHitPath(activePointerId);
 
     boolean listeningForUp =
         isAnyoneListeningForBubblingEvent(activeHitPath, EVENT.UP, EVENT.UP_CAPTURE);
@@ -130,7 +121,7 @@ public class JSPointerDispatcher {
               PointerEventHelper.POINTER_UP, activeTargetTag, eventState, motionEvent));
     }
 
-    boolean supportsHover = mHoveringPointerIds.contains(activePointerId);
+    boolean supportsHover = isHovering(activePointerId);
 
     if (!supportsHover) {
       boolean listeningForOut =
@@ -141,34 +132,49 @@ public class JSPointerDispatcher {
                 PointerEventHelper.POINTER_OUT, activeTargetTag, eventState, motionEvent));
       }
 
-      List<ViewTarget> leaveViewTargets =
-          filterByShouldDispatch(activeHitPath, EVENT.LEAVE, EVENT.LEAVE_CAPTURE, false);
-
       // target -> root
       dispatchEventForViewTargets(
           PointerEventHelper.POINTER_LEAVE,
           eventState,
           motionEvent,
-          leaveViewTargets,
+          activeHitPath,
+          activeHitPath.size(),
+          EVENT.LEAVE,
+          EVENT.LEAVE_CAPTURE,
+          false,
+          false,
           eventDispatcher);
     }
 
-    List<ViewTarget> hitPathDown = mCurrentlyDownPointerIdsToHitPath.remove(activePointerId);
-    if (hitPathDown != null
-        && isAnyoneListeningForBubblingEvent(activeHitPath, EVENT.CLICK, EVENT.CLICK_CAPTURE)) {
-      List<ViewTarget> hitPathForClick = findHitPathIntersection(hitPathDown, activeHitPath);
-      if (!hitPathForClick.isEmpty()) {
-        final ViewTarget clickTarget = hitPathForClick.get(0);
-        eventDispatcher.dispatchEvent(
-            PointerEvent.obtain(
-                PointerEventHelper.CLICK, clickTarget.getViewId(), eventState, motionEvent));
+    PointerEventState downEventState = mDownEventStates[activePointerId];
+    mDownEventStates[activePointerId] = null;
+    if (downEventState != null) {
+      if (isAnyoneListeningForBubblingEvent(activeHitPath, EVENT.CLICK, EVENT.CLICK_CAPTURE)) {
+        final ViewTarget clickTarget =
+            findFirstCommonViewTarget(downEventState.getHitPath(activePointerId), activeHitPath);
+        if (clickTarget != null) {
+          eventDispatcher.dispatchEvent(
+              PointerEvent.obtain(
+                  PointerEventHelper.CLICK, clickTarget.getViewId(), eventState, motionEvent));
+        }
       }
+      downEventState.release();
     }
 
     if (motionEvent.getActionMasked() == MotionEvent.ACTION_UP) {
       mPrimaryPointerId = UNSET_POINTER_ID;
     }
-    mHoveringPointerIds.remove(activePointerId);
+    removeHoveringPointerId(activePointerId);
+  }
+
+  private boolean isHovering(int pointerId) {
+    return (mHoveringPointerIds & PointerEventState.getPointerIdBit(pointerId)) != 0;
+  }
+
+  private void removeHoveringPointerId(int pointerId) {
+    if (pointerId != UNSET_POINTER_ID) {
+      mHoveringPointerIds &= ~PointerEventState.getPointerIdBit(pointerId);
+    }
   }
 
   private void incrementCoalescingKey() {
@@ -185,11 +191,11 @@ public class JSPointerDispatcher {
       MotionEvent motionEvent,
       EventDispatcher eventDispatcher) {
 
-    List<ViewTarget> activeHitPath =
-        eventState.getHitPathByPointerId().get(eventState.getActivePointerId());
+    int activePointerId = eventState.getActivePointerId();
+    List<ViewTarget> activeHitPath = eventState.getHitPath(activePointerId);
 
     incrementCoalescingKey();
-    boolean supportsHover = mHoveringPointerIds.contains(eventState.getActivePointerId());
+    boolean supportsHover = isHovering(activePointerId);
     if (!supportsHover) {
       // Indirect OVER event dispatches before ENTER
       boolean listeningForOver =
@@ -200,23 +206,28 @@ public class JSPointerDispatcher {
                 PointerEventHelper.POINTER_OVER, activeTargetTag, eventState, motionEvent));
       }
 
-      List<ViewTarget> enterViewTargets =
-          filterByShouldDispatch(activeHitPath, EVENT.ENTER, EVENT.ENTER_CAPTURE, false);
-
-      // Dispatch root -> target, we need to reverse order of enterViewTargets
-      Collections.reverse(enterViewTargets);
+      // Dispatch root -> target
       dispatchEventForViewTargets(
           PointerEventHelper.POINTER_ENTER,
           eventState,
           motionEvent,
-          enterViewTargets,
+          activeHitPath,
+          activeHitPath.size(),
+          EVENT.ENTER,
+          EVENT.ENTER_CAPTURE,
+          false,
+          true,
           eventDispatcher);
     }
 
-    // store some information if we might need to emit a click later on
+    // store some information if we might need to emit a click later on. The hit paths of a state
+    // don't change once it is created, so keeping the state is enough.
     if (isAnyoneListeningForBubblingEvent(activeHitPath, EVENT.CLICK, EVENT.CLICK_CAPTURE)) {
-      mCurrentlyDownPointerIdsToHitPath.put(
-          eventState.getActivePointerId(), new ArrayList<>(activeHitPath));
+      if (mDownEventStates[activePointerId] != null) {
+        mDownEventStates[activePointerId].release();
+      }
+      eventState.retain();
+      mDownEventStates[activePointerId] = eventState;
     }
 
     boolean listeningForDown =
@@ -228,34 +239,31 @@ public class JSPointerDispatcher {
     }
   }
 
+  /**
+   * @return the state of {@code motionEvent}, to be released by the caller once it dispatched the
+   *     events of {@code motionEvent}
+   */
   private PointerEventState createEventState(int activePointerId, MotionEvent motionEvent) {
-    Map<Integer, float[]> offsetByPointerId = new HashMap<Integer, float[]>();
-    Map<Integer, List<ViewTarget>> hitPathByPointerId = new HashMap<Integer, List<ViewTarget>>();
-    Map<Integer, float[]> eventCoordinatesByPointerId = new HashMap<Integer, float[]>();
+    int surfaceId = UIManagerHelper.getSurfaceId(mRootViewGroup);
+    // Copies the hovering pointer ids, as they may be updated
+    PointerEventState eventState =
+        PointerEventState.obtain(
+            mPrimaryPointerId, activePointerId, mLastButtonState, surfaceId, mHoveringPointerIds);
     for (int index = 0; index < motionEvent.getPointerCount(); index++) {
-      float[] offsetCoordinates = new float[2];
-      float[] eventCoordinates = new float[] {motionEvent.getX(index), motionEvent.getY(index)};
-      List<ViewTarget> hitPath =
-          TouchTargetHelper.findTargetPathAndCoordinatesForTouch(
-              eventCoordinates[0], eventCoordinates[1], mRootViewGroup, offsetCoordinates);
-
       int pointerId = motionEvent.getPointerId(index);
-      offsetByPointerId.put(pointerId, offsetCoordinates);
-      hitPathByPointerId.put(pointerId, hitPath);
-      eventCoordinatesByPointerId.put(pointerId, eventCoordinates);
+      float eventX = motionEvent.getX(index);
+      float eventY = motionEvent.getY(index);
+      TouchTargetHelper.findTargetPathAndCoordinatesForTouch(
+          eventX,
+          eventY,
+          mRootViewGroup,
+          mTargetCoordinates,
+          eventState.getHitPath(pointerId),
+          mHitTestState);
+      eventState.setPointer(
+          pointerId, eventX, eventY, mTargetCoordinates[0], mTargetCoordinates[1]);
     }
-
-    int surfaceId = UIManagerHelper.getSurfaceId(mRootViewGroup);
-
-    return new PointerEventState(
-        mPrimaryPointerId,
-        activePointerId,
-        mLastButtonState,
-        surfaceId,
-        offsetByPointerId,
-        hitPathByPointerId,
-        eventCoordinatesByPointerId,
-        mHoveringPointerIds); // Creates a copy of hovering pointer ids, as they may be updated
+    return eventState;
   }
 
   public void handleMotionEvent(
@@ -270,11 +278,25 @@ public class JSPointerDispatcher {
     if (action == MotionEvent.ACTION_DOWN) {
       mPrimaryPointerId = motionEvent.getPointerId(0);
     } else if (action == MotionEvent.ACTION_HOVER_MOVE) {
-      mHoveringPointerIds.add(activePointerId);
+      mHoveringPointerIds |= PointerEventState.getPointerIdBit(activePointerId);
     }
 
     PointerEventState eventState = createEventState(activePointerId, motionEvent);
+    try {
+      handleMotionEvent(
+          action, activePointerId, eventState, motionEvent, eventDispatcher, isCapture);
+    } finally {
+      eventState.release();
+    }
+  }
 
+  private void handleMotionEvent(
+      int action,
+      int activePointerId,
+      PointerEventState eventState,
+      MotionEvent motionEvent,
+      EventDispatcher eventDispatcher,
+      boolean isCapture) {
     // We've empirically determined that when we get a ACTION_HOVER_EXIT from the root view on the
     // `onInterceptHoverEvent`, this means we've exited the root view.
     // This logic may be wrong but reasoning about the dispatch sequence for HOVER_ENTER/HOVER_EXIT
@@ -289,13 +311,10 @@ public class JSPointerDispatcher {
     int activeTargetTag;
     View activeTargetView;
 
-    List<ViewTarget> activeHitPath;
+    List<ViewTarget> activeHitPath = eventState.getHitPath(activePointerId);
     if (isExitFromRoot) {
-      List<ViewTarget> lastHitPath =
-          mLastHitPathByPointerId != null
-              ? mLastHitPathByPointerId.get(eventState.getActivePointerId())
-              : null;
-      if (lastHitPath == null || lastHitPath.isEmpty()) {
+      List<ViewTarget> lastHitPath = getLastHitPath(activePointerId);
+      if (lastHitPath.isEmpty()) {
         return;
       }
       ViewTarget activeTarget = lastHitPath.get(lastHitPath.size() - 1);
@@ -303,11 +322,9 @@ public class JSPointerDispatcher {
       activeTargetView = activeTarget.getView();
 
       // Explicitly make the hit path for this cursor empty
-      activeHitPath = new ArrayList<>();
-      eventState.getHitPathByPointerId().put(activePointerId, activeHitPath);
+      activeHitPath.clear();
     } else {
-      activeHitPath = eventState.getHitPathByPointerId().get(activePointerId);
-      if (activeHitPath == null || activeHitPath.isEmpty()) {
+      if (activeHitPath.isEmpty()) {
         return;
       }
       ViewTarget activeTarget = activeHitPath.get(0);
@@ -327,13 +344,15 @@ public class JSPointerDispatcher {
       case MotionEvent.ACTION_HOVER_MOVE:
         // TODO(luwe) - converge this with ACTION_MOVE
         // If we don't move enough, ignore this event.
-        float[] eventCoordinates = eventState.getEventCoordinatesByPointerId().get(activePointerId);
-        float[] lastEventCoordinates =
-            mLastEventCoordinatesByPointerId != null
-                    && mLastEventCoordinatesByPointerId.containsKey(activePointerId)
-                ? mLastEventCoordinatesByPointerId.get(activePointerId)
-                : new float[] {0, 0};
-        if (!qualifiedMove(eventCoordinates, lastEventCoordinates)) {
+        boolean hasLastEventCoordinates =
+            mLastEventState != null && mLastEventState.hasPointer(activePointerId);
+        float lastEventX = hasLastEventCoordinates ? mLastEventState.getEventX(activePointerId) : 0;
+        float lastEventY = hasLastEventCoordinates ? mLastEventState.getEventY(activePointerId) : 0;
+        if (!qualifiedMove(
+            eventState.getEventX(activePointerId),
+            eventState.getEventY(activePointerId),
+            lastEventX,
+            lastEventY)) {
           return;
         }
 
@@ -368,19 +387,29 @@ public class JSPointerDispatcher {
         return;
     }
 
-    // Caching the event state so we have a new "last"
-    mLastHitPathByPointerId = eventState.getHitPathByPointerId();
-    mLastEventCoordinatesByPointerId = eventState.getEventCoordinatesByPointerId();
+    // Caching the event state so we have a new "last". It isn't modified after its creation, so
+    // keeping a reference is enough.
+    eventState.retain();
+    if (mLastEventState != null) {
+      mLastEventState.release();
+    }
+    mLastEventState = eventState;
     mLastButtonState = motionEvent.getButtonState();
 
     // Clean up any stale pointerIds
-    Set<Integer> allPointerIds = mLastEventCoordinatesByPointerId.keySet();
-    mHoveringPointerIds.retainAll(allPointerIds);
+    mHoveringPointerIds &= eventState.getPointerIds();
+  }
+
+  private List<ViewTarget> getLastHitPath(int pointerId) {
+    return mLastEventState != null && mLastEventState.hasPointer(pointerId)
+        ? mLastEventState.getHitPath(pointerId)
+        : Collections.<ViewTarget>emptyList();
   }
 
   private static boolean isAnyoneListeningForBubblingEvent(
       List<ViewTarget> hitPath, EVENT event, EVENT captureEvent) {
-    for (ViewTarget viewTarget : hitPath) {
+    for (int i = 0; i < hitPath.size(); i++) {
+      ViewTarget viewTarget = hitPath.get(i);
       if (PointerEventHelper.isListening(viewTarget.getView(), event)
           || PointerEventHelper.isListening(viewTarget.getView(), captureEvent)) {
         return true;
@@ -390,56 +419,53 @@ public class JSPointerDispatcher {
   }
 
   /**
-   * Returns list of view targets that we should be dispatching events from
+   * Dispatches an event to the view targets that should dispatch it, among the first {@code end}
+   * ones of {@code viewTargets}
    *
    * @param viewTargets, ordered from target -> root
-   * @param bubble, name of event that bubbles. Should only ever be enter or leave
-   * @param capture, name of event that captures. Should only ever be enter or leave
+   * @param bubble, name of event that bubbles. Should only ever be enter, leave or out
+   * @param capture, name of event that captures. Should only ever be enter, leave or out
    * @param forceDispatch, if true, all viewTargets should dispatch
-   * @return list of viewTargets filtered from target -> root
+   * @param rootToTarget, if true, dispatch from root -> target instead of target -> root
    */
-  private static List<ViewTarget> filterByShouldDispatch(
-      List<ViewTarget> viewTargets, EVENT bubble, EVENT capture, boolean forceDispatch) {
-
-    List<ViewTarget> dispatchableViewTargets = new ArrayList<>(viewTargets);
-    if (forceDispatch) {
-      return dispatchableViewTargets;
-    }
-
-    boolean ancestorListening = false;
-
-    // Start to filter which viewTargets may not need to dispatch an event
-    for (int i = viewTargets.size() - 1; i >= 0; i--) {
-      ViewTarget viewTarget = viewTargets.get(i);
-      View view = viewTarget.getView();
-
-      if (!ancestorListening
-          && !PointerEventHelper.isListening(view, capture)
-          && !PointerEventHelper.isListening(view, bubble)) {
-        dispatchableViewTargets.remove(i);
-      } else if (!ancestorListening && PointerEventHelper.isListening(view, capture)) {
-        ancestorListening = true;
-      }
-    }
-    return dispatchableViewTargets;
-  }
-
   private static void dispatchEventForViewTargets(
       String eventName,
       PointerEventState eventState,
       MotionEvent motionEvent,
       List<ViewTarget> viewTargets,
+      int end,
+      EVENT bubble,
+      EVENT capture,
+      boolean forceDispatch,
+      boolean rootToTarget,
       EventDispatcher dispatcher) {
 
-    for (ViewTarget viewTarget : viewTargets) {
-      int viewId = viewTarget.getViewId();
-      dispatcher.dispatchEvent(PointerEvent.obtain(eventName, viewId, eventState, motionEvent));
+    // Views listening to the capture event dispatch for themselves and all their descendants, so
+    // every view up to the ancestor closest to the root that listens to it dispatches
+    int lastCapturingIndex = end - 1;
+    if (!forceDispatch) {
+      while (lastCapturingIndex >= 0
+          && !PointerEventHelper.isListening(
+              viewTargets.get(lastCapturingIndex).getView(), capture)) {
+        lastCapturingIndex--;
+      }
+    }
+
+    for (int i = 0; i < end; i++) {
+      int index = rootToTarget ? end - 1 - i : i;
+      ViewTarget viewTarget = viewTargets.get(index);
+      if (index <= lastCapturingIndex
+          || PointerEventHelper.isListening(viewTarget.getView(), bubble)) {
+        dispatcher.dispatchEvent(
+            PointerEvent.obtain(eventName, viewTarget.getViewId(), eventState, motionEvent));
+      }
     }
   }
 
-  private static boolean qualifiedMove(float[] eventCoordinates, float[] lastEventCoordinates) {
-    return (Math.abs(lastEventCoordinates[0] - eventCoordinates[0]) > ONMOVE_EPSILON
-        || Math.abs(lastEventCoordinates[1] - eventCoordinates[1]) > ONMOVE_EPSILON);
+  private static boolean qualifiedMove(
+      float eventX, float eventY, float lastEventX, float lastEventY) {
+    return (Math.abs(lastEventX - eventX) > ONMOVE_EPSILON
+        || Math.abs(lastEventY - eventY) > ONMOVE_EPSILON);
   }
 
   // Determines which views are being entered and exited based on comparison between the previous
@@ -450,11 +476,8 @@ public class JSPointerDispatcher {
       MotionEvent motionEvent,
       EventDispatcher eventDispatcher) {
     int activePointerId = eventState.getActivePointerId();
-    List<ViewTarget> activeHitPath = eventState.getHitPathByPointerId().get(activePointerId);
-    List<ViewTarget> lastHitPath =
-        mLastHitPathByPointerId != null && mLastHitPathByPointerId.containsKey(activePointerId)
-            ? mLastHitPathByPointerId.get(activePointerId)
-            : new ArrayList<ViewTarget>();
+    List<ViewTarget> activeHitPath = eventState.getHitPath(activePointerId);
+    List<ViewTarget> lastHitPath = getLastHitPath(activePointerId);
 
     // hitState is list ordered from inner child -> parent tag
     // Traverse hitState back-to-front to find the first divergence with lastHitPath
@@ -501,21 +524,17 @@ public class JSPointerDispatcher {
         }
 
         // target -> root
-        List<ViewTarget> leaveViewTargets =
-            filterByShouldDispatch(
-                lastHitPath.subList(0, lastHitPath.size() - firstDivergentIndexFromBack),
-                EVENT.LEAVE,
-                EVENT.LEAVE_CAPTURE,
-                nonDivergentListeningToLeave);
-        if (leaveViewTargets.size() > 0) {
-          // We want to dispatch from target -> root, so no need to reverse
-          dispatchEventForViewTargets(
-              PointerEventHelper.POINTER_LEAVE,
-              eventState,
-              motionEvent,
-              leaveViewTargets,
-              eventDispatcher);
-        }
+        dispatchEventForViewTargets(
+            PointerEventHelper.POINTER_LEAVE,
+            eventState,
+            motionEvent,
+            lastHitPath,
+            lastHitPath.size() - firstDivergentIndexFromBack,
+            EVENT.LEAVE,
+            EVENT.LEAVE_CAPTURE,
+            nonDivergentListeningToLeave,
+            false,
+            eventDispatcher);
       }
 
       boolean listeningForOver =
@@ -526,24 +545,18 @@ public class JSPointerDispatcher {
                 PointerEventHelper.POINTER_OVER, targetTag, eventState, motionEvent));
       }
 
-      // target -> root
-      List<ViewTarget> enterViewTargets =
-          filterByShouldDispatch(
-              activeHitPath.subList(0, activeHitPath.size() - firstDivergentIndexFromBack),
-              EVENT.ENTER,
-              EVENT.ENTER_CAPTURE,
-              nonDivergentListeningToEnter);
-
-      if (enterViewTargets.size() > 0) {
-        // We want to iterate these from root -> target so we need to reverse
-        Collections.reverse(enterViewTargets);
-        dispatchEventForViewTargets(
-            PointerEventHelper.POINTER_ENTER,
-            eventState,
-            motionEvent,
-            enterViewTargets,
-            eventDispatcher);
-      }
+      // root -> target
+      dispatchEventForViewTargets(
+          PointerEventHelper.POINTER_ENTER,
+          eventState,
+          motionEvent,
+          activeHitPath,
+          activeHitPath.size() - firstDivergentIndexFromBack,
+          EVENT.ENTER,
+          EVENT.ENTER_CAPTURE,
+          nonDivergentListeningToEnter,
+          true,
+          eventDispatcher);
     }
   }
 
@@ -553,7 +566,7 @@ public class JSPointerDispatcher {
       MotionEvent motionEvent,
       EventDispatcher eventDispatcher) {
     int activePointerId = eventState.getActivePointerId();
-    List<ViewTarget> activeHitPath = eventState.getHitPathByPointerId().get(activePointerId);
+    List<ViewTarget> activeHitPath = eventState.getHitPath(activePointerId);
 
     boolean listeningToMove =
         isAnyoneListeningForBubblingEvent(activeHitPath, EVENT.MOVE, EVENT.MOVE_CAPTURE);
@@ -577,7 +590,11 @@ public class JSPointerDispatcher {
     int activeIndex = motionEvent.getActionIndex();
     int activePointerId = motionEvent.getPointerId(activeIndex);
     PointerEventState eventState = createEventState(activePointerId, motionEvent);
-    dispatchCancelEventForTarget(targetView, eventState, motionEvent, eventDispatcher);
+    try {
+      dispatchCancelEventForTarget(targetView, eventState, motionEvent, eventDispatcher);
+    } finally {
+      eventState.release();
+    }
   }
 
   private void dispatchCancelEventForTarget(
@@ -593,7 +610,7 @@ public class JSPointerDispatcher {
         "Expected to not have already sent a cancel for this gesture");
 
     int activePointerId = eventState.getActivePointerId();
-    List<ViewTarget> activeHitPath = eventState.getHitPathByPointerId().get(activePointerId);
+    List<ViewTarget> activeHitPath = eventState.getHitPath(activePointerId);
 
     if (!activeHitPath.isEmpty()) {
       boolean listeningForCancel =
@@ -613,28 +630,38 @@ public class JSPointerDispatcher {
                     targetTag,
                     normalizedEventState,
                     motionEvent));
+        normalizedEventState.release();
       }
 
       // Need to fire pointer out + pointer leave here as well:
       // https://w3c.github.io/pointerevents/#dfn-suppress-a-pointer-event-stream
-      List<ViewTarget> outViewTargets =
-          filterByShouldDispatch(activeHitPath, EVENT.OUT, EVENT.OUT_CAPTURE, false);
-      List<ViewTarget> leaveViewTargets =
-          filterByShouldDispatch(activeHitPath, EVENT.LEAVE, EVENT.LEAVE_CAPTURE, false);
-
       // dispatch from target -> root
       dispatchEventForViewTargets(
-          PointerEventHelper.POINTER_OUT, eventState, motionEvent, outViewTargets, eventDispatcher);
+          PointerEventHelper.POINTER_OUT,
+          eventState,
+          motionEvent,
+          activeHitPath,
+          activeHitPath.size(),
+          EVENT.OUT,
+          EVENT.OUT_CAPTURE,
+          false,
+          false,
+          eventDispatcher);
       dispatchEventForViewTargets(
           PointerEventHelper.POINTER_LEAVE,
           eventState,
           motionEvent,
-          leaveViewTargets,
+          activeHitPath,
+          activeHitPath.size(),
+          EVENT.LEAVE,
+          EVENT.LEAVE_CAPTURE,
+          false,
+          false,
           eventDispatcher);
 
       incrementCoalescingKey();
-      mHoveringPointerIds.remove(mPrimaryPointerId);
-      mHoveringPointerIds.remove(activePointerId);
+      removeHoveringPointerId(mPrimaryPointerId);
+      removeHoveringPointerId(activePointerId);
       mPrimaryPointerId = UNSET_POINTER_ID;
     }
   }
@@ -646,35 +673,24 @@ public class JSPointerDispatcher {
     return new int[] {childCoords.top, childCoords.left};
   }
 
-  // Returns a copy of `original` with coordinates zeroed relative to the provided root coordinates.
+  // Returns a copy of `original` with coordinates zeroed relative to the provided root coordinates,
+  // to be released by the caller.
   // In particular,
   // - the event (client) coordinates will all be set to 0
   // - the offset coordinates will be set to the root coordinates
   private PointerEventState normalizeToRoot(PointerEventState original, float rootX, float rootY) {
-    Map<Integer, float[]> newOffsets = new HashMap<>(original.getOffsetByPointerId());
-    Map<Integer, float[]> newEventCoords = new HashMap<>(original.getEventCoordinatesByPointerId());
-
-    for (Map.Entry<Integer, float[]> offsetEntry : newOffsets.entrySet()) {
-      float[] offsetValue = offsetEntry.getValue();
-      offsetValue[0] = rootX;
-      offsetValue[1] = rootY;
-    }
-
-    for (Map.Entry<Integer, float[]> eventCoordsEntry : newEventCoords.entrySet()) {
-      float[] eventCoordsValue = eventCoordsEntry.getValue();
-      eventCoordsValue[0] = 0;
-      eventCoordsValue[1] = 0;
+    PointerEventState normalized =
+        PointerEventState.obtain(
+            original.getPrimaryPointerId(),
+            original.getActivePointerId(),
+            original.getLastButtonState(),
+            original.getSurfaceId(),
+            original.getHoveringPointerIdBits());
+    normalized.copyPointersFrom(original);
+    for (int pointerIds = original.getPointerIds(); pointerIds != 0; pointerIds &= pointerIds - 1) {
+      normalized.setPointer(Integer.numberOfTrailingZeros(pointerIds), 0, 0, rootX, rootY);
     }
-
-    return new PointerEventState(
-        original.getPrimaryPointerId(),
-        original.getActivePointerId(),
-        original.getLastButtonState(),
-        original.getSurfaceId(),
-        newOffsets,
-        new HashMap<>(original.getHitPathByPointerId()),
-        newEventCoords,
-        new HashSet<>(original.getHoveringPointerIds()));
+    return normalized;
   }
 
   private static void debugPrintHitPath(List<ViewTarget> hitPath) {
@@ -26,6 +26,7 @@ public class JSTouchDispatcher {
 
   private int mTargetTag = -1;
   private final float[] mTargetCoordinates = new float[2];
+  private final TouchTargetHelper.HitTestState mHitTestState = new TouchTargetHelper.HitTestState();
   private boolean mChildIsHandlingNativeGesture = false;
   private long mGestureStartTime = TouchEvent.UNSET;
   private final ViewGroup mRootViewGroup;
@@ -171,7 +172,7 @@ public class JSTouchDispatcher {
   private int findTargetTagAndSetCoordinates(MotionEvent ev) {
     // This method updates `mTargetCoordinates` with coordinates for the motion event.
     return TouchTargetHelper.findTargetTagAndCoordinatesForTouch(
-        ev.getX(), ev.getY(), mRootViewGroup, mTargetCoordinates, null);
+        ev.getX(), ev.getY(), mRootViewGroup, mTargetCoordinates, null, mHitTestState);
   }
 
   private void dispatchCancelEvent(MotionEvent androidEvent, EventDispatcher eventDispatcher) {
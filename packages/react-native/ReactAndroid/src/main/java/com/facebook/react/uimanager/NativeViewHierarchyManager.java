@@ -229,6 +229,49 @@ public class NativeViewHierarchyManager {
     }
   }
 
+  /** Executes the operations encoded in {@code buffer}, in order. */
+  /* package */ void executeOperations(ViewOperationBuffer buffer) {
+    int[] intBuffer = buffer.getIntBuffer();
+    Object[] objBuffer = buffer.getObjBuffer();
+    int intBufferLen = buffer.getIntBufferLen();
+    int i = 0;
+    int j = 0;
+    while (i < intBufferLen) {
+      int type = intBuffer[i++];
+      int tag = intBuffer[i++];
+      switch (type) {
+        case ViewOperationBuffer.OP_REMOVE_ROOT_VIEW:
+          removeRootView(tag);
+          break;
+        case ViewOperationBuffer.OP_UPDATE_PROPERTIES:
+          updateProperties(tag, (ReactStylesDiffMap) objBuffer[j++]);
+          break;
+        case ViewOperationBuffer.OP_UPDATE_LAYOUT:
+          Systrace.endAsyncFlow(Systrace.TRACE_TAG_REACT_VIEW, "updateLayout", tag);
+          updateLayout(
+              intBuffer[i++], tag, intBuffer[i++], intBuffer[i++], intBuffer[i++], intBuffer[i++]);
+          break;
+        case ViewOperationBuffer.OP_MANAGE_CHILDREN:
+          manageChildren(
+              tag, (int[]) objBuffer[j++], (ViewAtIndex[]) objBuffer[j++], (int[]) objBuffer[j++]);
+          break;
+        case ViewOperationBuffer.OP_SET_CHILDREN:
+          setChildren(tag, (ReadableArray) objBuffer[j++]);
+          break;
+        case ViewOperationBuffer.OP_UPDATE_EXTRA_DATA:
+          updateViewExtraData(tag, objBuffer[j++]);
+          break;
+        case ViewOperationBuffer.OP_UPDATE_INSTANCE_HANDLE:
+          long high = intBuffer[i++];
+          long low = intBuffer[i++] & 0xFFFFFFFFL;
+          updateInstanceHandle(tag, (high << 32) | low);
+          break;
+        default:
+          throw new IllegalArgumentException("Invalid view operation type: " + type);
+      }
+    }
+  }
+
   private void updateInstanceHandle(View viewToUpdate, long instanceHandle) {
     UiThreadUtil.assertOnUiThread();
     viewToUpdate.setTag(R.id.view_tag_instance_handle, instanceHandle);
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager;
+
+import android.view.View;
+import android.view.ViewTreeObserver;
+import androidx.annotation.Nullable;
+import com.facebook.react.uimanager.TouchTargetHelper.ViewTarget;
+import java.util.List;
+
+/**
+ * Cache of the touch targets found by {@link TouchTargetHelper} in a root view, keyed by the
+ * coordinates of the touch. The same coordinates are hit-tested several times per event: by
+ * JSTouchDispatcher and JSPointerDispatcher, for the capture and bubble phases of pointer events,
+ * and for every pointer of multi-touch events even if only one of them moved.
+ *
+ * <p>Entries are dropped whenever the view tree of the root is laid out, scrolled or about to be
+ * drawn, as any of these may change which view is under a given point (e.g. a transform animation
+ * invalidates the views it changes, which triggers a draw). Changes that do neither, like a new
+ * pointerEvents value, clear the cache through {@link TouchTargetHelper#invalidateTouchTargets}.
+ * Must only be used on the UI thread.
+ */
+/* package */ final class TouchTargetCache
+    implements ViewTreeObserver.OnGlobalLayoutListener,
+        ViewTreeObserver.OnPreDrawListener,
+        ViewTreeObserver.OnScrollChangedListener,
+        ViewTreeObserver.OnWindowAttachListener {
+
+  /* package */ static final class Entry {
+    private float mX;
+    private float mY;
+    /* package */ @Nullable View targetView;
+    // Coordinates of the touch relative to the target view
+    /* package */ float targetX;
+    /* package */ float targetY;
+    /** Path from the target to the root, or null if it wasn't requested */
+    /* package */ @Nullable List<ViewTarget> path;
+
+    private void clear() {
+      targetView = null;
+      path = null;
+    }
+  }
+
+  private static final int CAPACITY = 8;
+
+  private final Entry[] mEntries = new Entry[CAPACITY];
+  private int mCount = 0;
+  private int mNextEntry = 0;
+  private @Nullable View mRoot;
+  private @Nullable ViewTreeObserver mViewTreeObserver;
+
+  /* package */ TouchTargetCache() {
+    for (int i = 0; i < CAPACITY; i++) {
+      mEntries[i] = new Entry();
+    }
+  }
+
+  /**
+   * @return the entry of the touch at {@code x}, {@code y} in {@code root}, or null if there is
+   *     none, or if {@code needsPath} and the path wasn't cached
+   */
+  /* package */ @Nullable Entry get(View root, float x, float y, boolean needsPath) {
+    if (root != mRoot) {
+      return null;
+    }
+    for (int i = 0; i < mCount; i++) {
+      Entry entry = mEntries[i];
+      if (entry.mX == x && entry.mY == y) {
+        return !needsPath || entry.path != null ? entry : null;
+      }
+    }
+    return null;
+  }
+
+  /* package */ void put(
+      View root,
+      float x,
+      float y,
+      @Nullable View targetView,
+      float targetX,
+      float targetY,
+      @Nullable List<ViewTarget> path) {
+    if (root != mRoot) {
+      setRoot(root);
+      if (mRoot == null) {
+        // Without an observer we wouldn't know when entries become stale
+        return;
+      }
+    }
+    Entry entry = null;
+    for (int i = 0; i < mCount; i++) {
+      if (mEntries[i].mX == x && mEntries[i].mY == y) {
+        entry = mEntries[i];
+        break;
+      }
+    }
+    if (entry == null) {
+      entry = mEntries[mNextEntry];
+      mNextEntry = (mNextEntry + 1) % CAPACITY;
+      mCount = Math.min(mCount + 1, CAPACITY);
+    }
+    entry.mX = x;
+    entry.mY = y;
+    entry.targetView = targetView;
+    entry.targetX = targetX;
+    entry.targetY = targetY;
+    entry.path = path;
+  }
+
+  /* package */ void clear() {
+    for (int i = 0; i < mCount; i++) {
+      mEntries[i].clear();
+    }
+    mCount = 0;
+    mNextEntry = 0;
+  }
+
+  private void setRoot(@Nullable View root) {
+    clear();
+    if (mViewTreeObserver != null) {
+      if (mViewTreeObserver.isAlive()) {
+        mViewTreeObserver.removeOnGlobalLayoutListener(this);
+        mViewTreeObserver.removeOnPreDrawListener(this);
+        mViewTreeObserver.removeOnScrollChangedListener(this);
+        mViewTreeObserver.removeOnWindowAttachListener(this);
+      }
+      mViewTreeObserver = null;
+    }
+    mRoot = null;
+    // Only the observer of an attached view is notified of the changes of its window
+    if (root != null && root.isAttachedToWindow()) {
+      mRoot = root;
+      ViewTreeObserver viewTreeObserver = root.getViewTreeObserver();
+      viewTreeObserver.addOnGlobalLayoutListener(this);
+      viewTreeObserver.addOnPreDrawListener(this);
+      viewTreeObserver.addOnScrollChangedListener(this);
+      viewTreeObserver.addOnWindowAttachListener(this);
+      mViewTreeObserver = viewTreeObserver;
+    }
+  }
+
+  @Override
+  public void onGlobalLayout() {
+    clear();
+  }
+
+  @Override
+  public boolean onPreDraw() {
+    clear();
+    return true;
+  }
+
+  @Override
+  public void onScrollChanged() {
+    clear();
+  }
+
+  @Override
+  public void onWindowAttached() {}
+
+  @Override
+  public void onWindowDetached() {
+    // Don't keep the views of the window alive
+    setRoot(null);
+  }
+}
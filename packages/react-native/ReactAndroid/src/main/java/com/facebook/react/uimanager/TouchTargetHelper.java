@@ -18,8 +18,10 @@ import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.Nullable;
 import com.facebook.common.logging.FLog;
+import com.facebook.react.R;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.common.ReactConstants;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.touch.ReactHitSlopView;
 import com.facebook.react.uimanager.common.ViewUtil;
 import java.util.ArrayList;
@@ -33,10 +35,30 @@ import java.util.Objects;
  */
 public class TouchTargetHelper {
 
-  private static final float[] mEventCoords = new float[2];
-  private static final PointF mTempPoint = new PointF();
-  private static final float[] mMatrixTransformCoords = new float[2];
-  private static final Matrix mInverseMatrix = new Matrix();
+  // Only used on the UI thread
+  private static final TouchTargetCache sTouchTargetCache = new TouchTargetCache();
+
+  /**
+   * Scratch objects used while traversing the view hierarchy. Callers that find targets for every
+   * event keep one, so that hit tests don't allocate. An instance must not be used by several
+   * threads at the same time.
+   */
+  public static final class HitTestState {
+    private final PointF mTempPoint = new PointF();
+    private final float[] mMatrixTransformCoords = new float[2];
+    private final Matrix mInverseMatrix = new Matrix();
+    // Whether a ReactCompoundView was asked for its target, whose answer the cache can't track
+    private boolean mAskedCompoundView;
+  }
+
+  /**
+   * Drops the cached touch targets. Views call this when a change that doesn't trigger a layout or
+   * a draw, like a new pointerEvents value, changes which view is under a given point. Must be
+   * called on the UI thread.
+   */
+  public static void invalidateTouchTargets() {
+    sTouchTargetCache.clear();
+  }
 
   /**
    * Find touch event target view within the provided container given the coordinates provided via
@@ -48,7 +70,7 @@ public class TouchTargetHelper {
    * @return the react tag ID of the child view that should handle the event
    */
   public static int findTargetTagForTouch(float eventX, float eventY, ViewGroup viewGroup) {
-    return findTargetTagAndCoordinatesForTouch(eventX, eventY, viewGroup, mEventCoords, null);
+    return findTargetTagAndCoordinatesForTouch(eventX, eventY, viewGroup, new float[2], null);
   }
 
   /**
@@ -64,7 +86,7 @@ public class TouchTargetHelper {
   public static int findTargetTagForTouch(
       float eventX, float eventY, ViewGroup viewGroup, @Nullable int[] nativeViewId) {
     return findTargetTagAndCoordinatesForTouch(
-        eventX, eventY, viewGroup, mEventCoords, nativeViewId);
+        eventX, eventY, viewGroup, new float[2], nativeViewId);
   }
 
   /**
@@ -84,12 +106,27 @@ public class TouchTargetHelper {
       ViewGroup viewGroup,
       float[] viewCoords,
       @Nullable int[] nativeViewTag) {
+    return findTargetTagAndCoordinatesForTouch(
+        eventX, eventY, viewGroup, viewCoords, nativeViewTag, new HitTestState());
+  }
+
+  /**
+   * Same as {@link #findTargetTagAndCoordinatesForTouch(float, float, ViewGroup, float[], int[])},
+   * but uses the caller's {@code hitTestState} instead of allocating one.
+   */
+  public static int findTargetTagAndCoordinatesForTouch(
+      float eventX,
+      float eventY,
+      ViewGroup viewGroup,
+      float[] viewCoords,
+      @Nullable int[] nativeViewTag,
+      HitTestState hitTestState) {
     UiThreadUtil.assertOnUiThread();
     int targetTag = viewGroup.getId();
     // Store eventCoords in array so that they are modified to be relative to the targetView found.
     viewCoords[0] = eventX;
     viewCoords[1] = eventY;
-    View nativeTargetView = findTouchTargetViewWithPointerEvents(viewCoords, viewGroup, null);
+    View nativeTargetView = findTouchTargetViewInRoot(viewCoords, viewGroup, null, hitTestState);
     if (nativeTargetView != null) {
       View reactTargetView = findClosestReactAncestor(nativeTargetView);
       if (reactTargetView != null) {
@@ -114,17 +151,36 @@ public class TouchTargetHelper {
    *     the view tree of all react tags and views that are a container for the touch target,
    *     ordered from target to root (last element)
    */
-  @SuppressLint("ResourceType")
   public static List<ViewTarget> findTargetPathAndCoordinatesForTouch(
       float eventX, float eventY, ViewGroup viewGroup, float[] viewCoords) {
+    List<ViewTarget> path = new ArrayList<>();
+    findTargetPathAndCoordinatesForTouch(
+        eventX, eventY, viewGroup, viewCoords, path, new HitTestState());
+    return path;
+  }
+
+  /**
+   * Same as {@link #findTargetPathAndCoordinatesForTouch(float, float, ViewGroup, float[])}, but
+   * writes the path into {@code pathAccumulator}, which is cleared first, and uses the caller's
+   * {@code hitTestState}, so that callers can reuse both from one event to the next.
+   */
+  @SuppressLint("ResourceType")
+  public static void findTargetPathAndCoordinatesForTouch(
+      float eventX,
+      float eventY,
+      ViewGroup viewGroup,
+      float[] viewCoords,
+      List<ViewTarget> pathAccumulator,
+      HitTestState hitTestState) {
     UiThreadUtil.assertOnUiThread();
 
     // Store eventCoords in array so that they are modified to be relative to the targetView found.
     viewCoords[0] = eventX;
     viewCoords[1] = eventY;
 
-    List<ViewTarget> pathAccumulator = new ArrayList<>();
-    View targetView = findTouchTargetViewWithPointerEvents(viewCoords, viewGroup, pathAccumulator);
+    pathAccumulator.clear();
+    View targetView =
+        findTouchTargetViewInRoot(viewCoords, viewGroup, pathAccumulator, hitTestState);
 
     if (targetView != null) {
       View reactTargetView = targetView;
@@ -137,7 +193,7 @@ public class TouchTargetHelper {
 
       if (firstReactAncestor > 0) {
         // Drop non-React views from the path trace
-        pathAccumulator = pathAccumulator.subList(firstReactAncestor, pathAccumulator.size());
+        pathAccumulator.subList(0, firstReactAncestor).clear();
       }
 
       int targetTag = getTouchTargetForView(reactTargetView, viewCoords[0], viewCoords[1]);
@@ -145,8 +201,54 @@ public class TouchTargetHelper {
         pathAccumulator.add(0, new ViewTarget(targetTag, (View) null));
       }
     }
+  }
+
+  /**
+   * Returns the touch target View within {@code viewGroup}, reusing the result of the last search
+   * at the same coordinates if the view tree didn't change since. The cache is only used on the UI
+   * thread.
+   */
+  private static @Nullable View findTouchTargetViewInRoot(
+      float[] eventCoords,
+      ViewGroup viewGroup,
+      @Nullable List<ViewTarget> pathAccumulator,
+      HitTestState hitTestState) {
+    if (!ReactFeatureFlags.enableTouchTargetCache || !UiThreadUtil.isOnUiThread()) {
+      return findTouchTargetViewWithPointerEvents(
+          eventCoords, viewGroup, pathAccumulator, hitTestState);
+    }
+
+    float eventX = eventCoords[0];
+    float eventY = eventCoords[1];
+    TouchTargetCache.Entry entry =
+        sTouchTargetCache.get(viewGroup, eventX, eventY, pathAccumulator != null);
+    if (entry != null) {
+      eventCoords[0] = entry.targetX;
+      eventCoords[1] = entry.targetY;
+      if (pathAccumulator != null && entry.path != null) {
+        for (int i = 0; i < entry.path.size(); i++) {
+          pathAccumulator.add(entry.path.get(i));
+        }
+      }
+      return entry.targetView;
+    }
 
-    return pathAccumulator;
+    hitTestState.mAskedCompoundView = false;
+    View targetView =
+        findTouchTargetViewWithPointerEvents(eventCoords, viewGroup, pathAccumulator, hitTestState);
+    if (hitTestState.mAskedCompoundView) {
+      return targetView;
+    }
+    sTouchTargetCache.put(
+        viewGroup,
+        eventX,
+        eventY,
+        targetView,
+        eventCoords[0],
+        eventCoords[1],
+        // Callers modify the path they get
+        pathAccumulator != null ? new ArrayList<>(pathAccumulator) : null);
+    return targetView;
   }
 
   @SuppressLint("ResourceType")
@@ -165,6 +267,13 @@ public class TouchTargetHelper {
     CHILD,
   }
 
+  private static final EnumSet<TouchTargetReturnType> RETURN_SELF =
+      EnumSet.of(TouchTargetReturnType.SELF);
+  private static final EnumSet<TouchTargetReturnType> RETURN_CHILD =
+      EnumSet.of(TouchTargetReturnType.CHILD);
+  private static final EnumSet<TouchTargetReturnType> RETURN_SELF_OR_CHILD =
+      EnumSet.of(TouchTargetReturnType.SELF, TouchTargetReturnType.CHILD);
+
   /**
    * Returns the touch target View that is either viewGroup or one if its descendants. This is a
    * recursive DFS since view the entire tree must be parsed until the target is found. If the
@@ -180,7 +289,8 @@ public class TouchTargetHelper {
       float[] eventCoords,
       View view,
       EnumSet<TouchTargetReturnType> allowReturnTouchTargetTypes,
-      List<ViewTarget> pathAccumulator) {
+      @Nullable List<ViewTarget> pathAccumulator,
+      HitTestState state) {
     // We prefer returning a child, so we check for a child that can handle the touch first
     if (allowReturnTouchTargetTypes.contains(TouchTargetReturnType.CHILD)
         && view instanceof ViewGroup) {
@@ -217,8 +327,8 @@ public class TouchTargetHelper {
         int childIndex =
             zIndexedViewGroup != null ? zIndexedViewGroup.getZIndexMappedChildIndex(i) : i;
         View child = viewGroup.getChildAt(childIndex);
-        PointF childPoint = mTempPoint;
-        getChildPoint(eventCoords[0], eventCoords[1], viewGroup, child, childPoint);
+        PointF childPoint = state.mTempPoint;
+        getChildPoint(eventCoords[0], eventCoords[1], viewGroup, child, childPoint, state);
         // The childPoint value will contain the view coordinates relative to the child.
         // We need to store the existing X,Y for the viewGroup away as it is possible this child
         // will not actually be the target and so we restore them if not
@@ -226,7 +336,8 @@ public class TouchTargetHelper {
         float restoreY = eventCoords[1];
         eventCoords[0] = childPoint.x;
         eventCoords[1] = childPoint.y;
-        View targetView = findTouchTargetViewWithPointerEvents(eventCoords, child, pathAccumulator);
+        View targetView =
+            findTouchTargetViewWithPointerEvents(eventCoords, child, pathAccumulator, state);
         if (targetView != null) {
           return targetView;
         }
@@ -282,15 +393,15 @@ public class TouchTargetHelper {
    * ViewGroup#isTransformedTouchPointInView()}
    */
   private static void getChildPoint(
-      float x, float y, ViewGroup parent, View child, PointF outLocalPoint) {
+      float x, float y, ViewGroup parent, View child, PointF outLocalPoint, HitTestState state) {
     float localX = x + parent.getScrollX() - child.getLeft();
     float localY = y + parent.getScrollY() - child.getTop();
     Matrix matrix = child.getMatrix();
     if (!matrix.isIdentity()) {
-      float[] localXY = mMatrixTransformCoords;
+      float[] localXY = state.mMatrixTransformCoords;
       localXY[0] = localX;
       localXY[1] = localY;
-      Matrix inverseMatrix = mInverseMatrix;
+      Matrix inverseMatrix = state.mInverseMatrix;
       matrix.invert(inverseMatrix);
       inverseMatrix.mapPoints(localXY);
       localX = localXY[0];
@@ -304,7 +415,10 @@ public class TouchTargetHelper {
    * its descendants are the touch target.
    */
   private static @Nullable View findTouchTargetViewWithPointerEvents(
-      float eventCoords[], View view, @Nullable List<ViewTarget> pathAccumulator) {
+      float eventCoords[],
+      View view,
+      @Nullable List<ViewTarget> pathAccumulator,
+      HitTestState state) {
     PointerEvents pointerEvents =
         view instanceof ReactPointerEventsView
             ? ((ReactPointerEventsView) view).getPointerEvents()
@@ -328,21 +442,19 @@ public class TouchTargetHelper {
     } else if (pointerEvents == PointerEvents.BOX_ONLY) {
       // This view may be the target, its children don't matter
       View targetView =
-          findTouchTargetView(
-              eventCoords, view, EnumSet.of(TouchTargetReturnType.SELF), pathAccumulator);
+          findTouchTargetView(eventCoords, view, RETURN_SELF, pathAccumulator, state);
       if (targetView != null && pathAccumulator != null) {
-        pathAccumulator.add(new ViewTarget(view.getId(), view));
+        pathAccumulator.add(getViewTarget(view));
       }
       return targetView;
 
     } else if (pointerEvents == PointerEvents.BOX_NONE) {
       // This view can't be the target, but its children might.
       View targetView =
-          findTouchTargetView(
-              eventCoords, view, EnumSet.of(TouchTargetReturnType.CHILD), pathAccumulator);
+          findTouchTargetView(eventCoords, view, RETURN_CHILD, pathAccumulator, state);
       if (targetView != null) {
         if (pathAccumulator != null) {
-          pathAccumulator.add(new ViewTarget(view.getId(), view));
+          pathAccumulator.add(getViewTarget(view));
         }
         return targetView;
       }
@@ -355,11 +467,12 @@ public class TouchTargetHelper {
       // ViewGroup).
       if (view instanceof ReactCompoundView
           && isTouchPointInView(eventCoords[0], eventCoords[1], view)) {
+        state.mAskedCompoundView = true;
         int reactTag = ((ReactCompoundView) view).reactTagForTouch(eventCoords[0], eventCoords[1]);
         // make sure we exclude the View itself because of the PointerEvents.BOX_NONE
         if (reactTag != view.getId()) {
           if (pathAccumulator != null) {
-            pathAccumulator.add(new ViewTarget(view.getId(), view));
+            pathAccumulator.add(getViewTarget(view));
           }
           return view;
         }
@@ -373,27 +486,36 @@ public class TouchTargetHelper {
       }
       // Either this view or one of its children is the target
       if (view instanceof ReactCompoundViewGroup
-          && isTouchPointInView(eventCoords[0], eventCoords[1], view)
-          && ((ReactCompoundViewGroup) view).interceptsTouchEvent(eventCoords[0], eventCoords[1])) {
-        if (pathAccumulator != null) {
-          pathAccumulator.add(new ViewTarget(view.getId(), view));
+          && isTouchPointInView(eventCoords[0], eventCoords[1], view)) {
+        state.mAskedCompoundView = true;
+        if (((ReactCompoundViewGroup) view).interceptsTouchEvent(eventCoords[0], eventCoords[1])) {
+          if (pathAccumulator != null) {
+            pathAccumulator.add(getViewTarget(view));
+          }
+          return view;
         }
-        return view;
       }
 
       View result =
-          findTouchTargetView(
-              eventCoords,
-              view,
-              EnumSet.of(TouchTargetReturnType.SELF, TouchTargetReturnType.CHILD),
-              pathAccumulator);
+          findTouchTargetView(eventCoords, view, RETURN_SELF_OR_CHILD, pathAccumulator, state);
       if (result != null && pathAccumulator != null) {
-        pathAccumulator.add(new ViewTarget(view.getId(), view));
+        pathAccumulator.add(getViewTarget(view));
       }
       return result;
     }
   }
 
+  /** @return the ViewTarget of {@code view}, created once per view and id */
+  private static ViewTarget getViewTarget(View view) {
+    Object tag = view.getTag(R.id.view_tag_view_target);
+    if (tag instanceof ViewTarget && ((ViewTarget) tag).getViewId() == view.getId()) {
+      return (ViewTarget) tag;
+    }
+    ViewTarget viewTarget = new ViewTarget(view.getId(), view);
+    view.setTag(R.id.view_tag_view_target, viewTarget);
+    return viewTarget;
+  }
+
   private static int getTouchTargetForView(View targetView, float viewX, float viewY) {
     if (targetView instanceof ReactCompoundView) {
       // Use coordinates relative to the view, which have been already computed by
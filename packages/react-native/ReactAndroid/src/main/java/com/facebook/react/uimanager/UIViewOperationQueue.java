@@ -12,6 +12,7 @@ import android.view.View;
 import androidx.annotation.GuardedBy;
 import androidx.annotation.Nullable;
 import androidx.annotation.UiThread;
+import androidx.core.util.Pools;
 import com.facebook.common.logging.FLog;
 import com.facebook.react.bridge.Callback;
 import com.facebook.react.bridge.GuardedRunnable;
@@ -25,6 +26,7 @@ import com.facebook.react.bridge.RetryableMountingLayerException;
 import com.facebook.react.bridge.SoftAssertions;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.common.ReactConstants;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.modules.core.ReactChoreographer;
 import com.facebook.react.uimanager.debug.NotThreadSafeViewHierarchyUpdateDebugListener;
 import com.facebook.systrace.Systrace;
@@ -41,13 +43,14 @@ import java.util.Map;
  * operations is finished. This is to make sure that we execute all the JS operation coming from a
  * single batch a single loop of the main (UI) android looper.
  *
- * <p>TODO(7135923): Pooling of operation objects TODO(5694019): Consider a better data structure
- * for operations queue to save on allocations
+ * <p>With {@link ReactFeatureFlags#enableViewOperationBuffer}, the most common operations are
+ * encoded into pooled {@link ViewOperationBuffer}s instead of being allocated one object each.
  */
 public class UIViewOperationQueue {
 
   public static final int DEFAULT_MIN_TIME_LEFT_IN_FRAME_FOR_NONBATCHED_OPERATION_MS = 8;
   private static final String TAG = UIViewOperationQueue.class.getSimpleName();
+  private static final int MAX_POOLED_OPERATION_BUFFERS = 4;
 
   private final int[] mMeasureBuffer = new int[4];
 
@@ -605,6 +608,10 @@ public class UIViewOperationQueue {
 
   // Only called from the UIManager queue?
   private ArrayList<UIOperation> mOperations = new ArrayList<>();
+  // Buffer that consecutive encodable operations are appended to, if it is the last operation
+  private @Nullable ViewOperationBuffer mCurrentOperationBuffer;
+  private final Pools.SynchronizedPool<ViewOperationBuffer> mOperationBufferPool =
+      new Pools.SynchronizedPool<>(MAX_POOLED_OPERATION_BUFFERS);
 
   @GuardedBy("mDispatchRunnablesLock")
   private ArrayList<Runnable> mDispatchUIRunnables = new ArrayList<>();
@@ -692,7 +699,34 @@ public class UIViewOperationQueue {
     mOperations.add(operation);
   }
 
+  /**
+   * @return the buffer to append an operation to, or null if operations should be enqueued as
+   *     objects
+   */
+  private @Nullable ViewOperationBuffer getOperationBuffer() {
+    if (!ReactFeatureFlags.enableViewOperationBuffer) {
+      return null;
+    }
+    ViewOperationBuffer buffer = mCurrentOperationBuffer;
+    if (buffer == null
+        || mOperations.isEmpty()
+        || mOperations.get(mOperations.size() - 1) != buffer) {
+      buffer = mOperationBufferPool.acquire();
+      if (buffer == null) {
+        buffer = new ViewOperationBuffer(mNativeViewHierarchyManager, mOperationBufferPool);
+      }
+      mOperations.add(buffer);
+      mCurrentOperationBuffer = buffer;
+    }
+    return buffer;
+  }
+
   public void enqueueRemoveRootView(int rootViewTag) {
+    ViewOperationBuffer buffer = getOperationBuffer();
+    if (buffer != null) {
+      buffer.addRemoveRootView(rootViewTag);
+      return;
+    }
     mOperations.add(new RemoveRootViewOperation(rootViewTag));
   }
 
@@ -723,6 +757,11 @@ public class UIViewOperationQueue {
   }
 
   public void enqueueUpdateExtraData(int reactTag, Object extraData) {
+    ViewOperationBuffer buffer = getOperationBuffer();
+    if (buffer != null) {
+      buffer.addUpdateExtraData(reactTag, extraData);
+      return;
+    }
     mOperations.add(new UpdateViewExtraData(reactTag, extraData));
   }
 
@@ -748,11 +787,21 @@ public class UIViewOperationQueue {
   }
 
   public void enqueueUpdateInstanceHandle(int reactTag, long instanceHandle) {
+    ViewOperationBuffer buffer = getOperationBuffer();
+    if (buffer != null) {
+      buffer.addUpdateInstanceHandle(reactTag, instanceHandle);
+      return;
+    }
     mOperations.add(new UpdateInstanceHandleOperation(reactTag, instanceHandle));
   }
 
   public void enqueueUpdateProperties(int reactTag, String className, ReactStylesDiffMap props) {
     mUpdatePropertiesOperationCount++;
+    ViewOperationBuffer buffer = getOperationBuffer();
+    if (buffer != null) {
+      buffer.addUpdateProperties(reactTag, props);
+      return;
+    }
     mOperations.add(new UpdatePropertiesOperation(reactTag, props));
   }
 
@@ -764,6 +813,11 @@ public class UIViewOperationQueue {
 
   public void enqueueUpdateLayout(
       int parentTag, int reactTag, int x, int y, int width, int height) {
+    ViewOperationBuffer buffer = getOperationBuffer();
+    if (buffer != null) {
+      buffer.addUpdateLayout(parentTag, reactTag, x, y, width, height);
+      return;
+    }
     mOperations.add(new UpdateLayoutOperation(parentTag, reactTag, x, y, width, height));
   }
 
@@ -772,11 +826,21 @@ public class UIViewOperationQueue {
       @Nullable int[] indicesToRemove,
       @Nullable ViewAtIndex[] viewsToAdd,
       @Nullable int[] tagsToDelete) {
+    ViewOperationBuffer buffer = getOperationBuffer();
+    if (buffer != null) {
+      buffer.addManageChildren(reactTag, indicesToRemove, viewsToAdd, tagsToDelete);
+      return;
+    }
     mOperations.add(
         new ManageChildrenOperation(reactTag, indicesToRemove, viewsToAdd, tagsToDelete));
   }
 
   public void enqueueSetChildren(int reactTag, ReadableArray childrenTags) {
+    ViewOperationBuffer buffer = getOperationBuffer();
+    if (buffer != null) {
+      buffer.addSetChildren(reactTag, childrenTags);
+      return;
+    }
     mOperations.add(new SetChildrenOperation(reactTag, childrenTags));
   }
 
@@ -846,6 +910,8 @@ public class UIViewOperationQueue {
       } else {
         batchedOperations = null;
       }
+      // The buffer now belongs to the UI thread, which recycles it once executed
+      mCurrentOperationBuffer = null;
 
       final ArrayDeque<UIOperation> nonBatchedOperations;
       synchronized (mNonBatchedOperationsLock) {
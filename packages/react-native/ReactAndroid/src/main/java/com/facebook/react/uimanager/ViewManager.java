@@ -46,8 +46,12 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
    */
   @Nullable private HashMap<Integer, Stack<T>> mRecyclableViews = null;
 
+  private boolean mSupportsViewPooling = false;
+
   /** Call in constructor of concrete ViewManager class to enable. */
   protected void setupViewRecycling() {
+    // Views that can be recycled can also be created before they are needed
+    mSupportsViewPooling = true;
     if (ReactFeatureFlags.enableViewRecycling) {
       mRecyclableViews = new HashMap<>();
     }
@@ -112,6 +116,42 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
     return view;
   }
 
+  /**
+   * Same as {@link #createView(int, ThemedReactContext, ReactStylesDiffMap, StateWrapper,
+   * JSResponderHandler)}, but sets up {@code pooledView}, created ahead of time by {@link
+   * #createViewInstanceForPool}, instead of a new view.
+   */
+  public @NonNull T createView(
+      int reactTag,
+      @NonNull ThemedReactContext reactContext,
+      @Nullable ReactStylesDiffMap props,
+      @Nullable StateWrapper stateWrapper,
+      JSResponderHandler jsResponderHandler,
+      @NonNull T pooledView) {
+    T view = setUpViewInstance(pooledView, reactTag, reactContext, props, stateWrapper);
+    if (view instanceof ReactInterceptingViewGroup) {
+      ((ReactInterceptingViewGroup) view).setOnInterceptTouchEventListener(jsResponderHandler);
+    }
+    return view;
+  }
+
+  /**
+   * @return whether views can be created by {@link #createViewInstanceForPool} before they are
+   *     needed. True for the ViewManagers that set up view recycling.
+   */
+  public boolean supportsViewPooling() {
+    return mSupportsViewPooling;
+  }
+
+  /**
+   * Creates a view without tag, props or state, so that it can be pooled and set up later by
+   * {@link #createView(int, ThemedReactContext, ReactStylesDiffMap, StateWrapper,
+   * JSResponderHandler, View)}. Only called if {@link #supportsViewPooling}.
+   */
+  public @NonNull T createViewInstanceForPool(@NonNull ThemedReactContext reactContext) {
+    return createViewInstance(reactContext);
+  }
+
   /**
    * @return the name of this view manager. This will be the name used to reference this view
    *     manager from JavaScript in createReactNativeComponentClass.
@@ -175,6 +215,15 @@ public abstract class ViewManager<T extends View, C extends ReactShadowNode>
     } else {
       view = createViewInstance(reactContext);
     }
+    return setUpViewInstance(view, reactTag, reactContext, initialProps, stateWrapper);
+  }
+
+  private @NonNull T setUpViewInstance(
+      @NonNull T view,
+      int reactTag,
+      @NonNull ThemedReactContext reactContext,
+      @Nullable ReactStylesDiffMap initialProps,
+      @Nullable StateWrapper stateWrapper) {
     view.setId(reactTag);
     addEventEmitters(reactContext, view);
     if (initialProps != null) {
@@ -8,10 +8,15 @@
 package com.facebook.react.uimanager;
 
 import android.view.View;
+import androidx.annotation.Nullable;
 import com.facebook.common.logging.FLog;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ViewManagerPropertyUpdater {
   public interface Settable {
@@ -29,13 +34,39 @@ public class ViewManagerPropertyUpdater {
   private static final String TAG = "ViewManagerPropertyUpdater";
 
   private static final Map<Class<?>, ViewManagerSetter<?, ?>> VIEW_MANAGER_SETTER_MAP =
-      new HashMap<>();
-  private static final Map<Class<?>, ShadowNodeSetter<?>> SHADOW_NODE_SETTER_MAP = new HashMap<>();
+      new ConcurrentHashMap<>();
+  private static final Map<Class<?>, ShadowNodeSetter<?>> SHADOW_NODE_SETTER_MAP =
+      new ConcurrentHashMap<>();
+  private static final Set<Class<?>> CLASSES_WITHOUT_GENERATED_SETTER =
+      Collections.newSetFromMap(new ConcurrentHashMap<Class<?>, Boolean>());
 
   public static void clear() {
     ViewManagersPropertyCache.clear();
     VIEW_MANAGER_SETTER_MAP.clear();
     SHADOW_NODE_SETTER_MAP.clear();
+    CLASSES_WITHOUT_GENERATED_SETTER.clear();
+  }
+
+  /**
+   * Returns how many prop updates went through reflection, keyed by the name of each view manager
+   * or shadow node class without a generated {@code $$PropsSetter}. Classes listed here should be
+   * compiled with the {@code ReactPropertyProcessor} annotation processor.
+   */
+  public static Map<String, Long> getReflectivePropUpdateCounts() {
+    Map<String, Long> counts = new HashMap<>();
+    for (ViewManagerSetter<?, ?> setter : VIEW_MANAGER_SETTER_MAP.values()) {
+      if (setter instanceof FallbackViewManagerSetter) {
+        FallbackViewManagerSetter<?, ?> fallbackSetter = (FallbackViewManagerSetter<?, ?>) setter;
+        counts.put(fallbackSetter.mClassName, fallbackSetter.mReflectivePropUpdates.get());
+      }
+    }
+    for (ShadowNodeSetter<?> setter : SHADOW_NODE_SETTER_MAP.values()) {
+      if (setter instanceof FallbackShadowNodeSetter) {
+        FallbackShadowNodeSetter<?> fallbackSetter = (FallbackShadowNodeSetter<?>) setter;
+        counts.put(fallbackSetter.mClassName, fallbackSetter.mReflectivePropUpdates.get());
+      }
+    }
+    return counts;
   }
 
   public static <T extends ViewManagerDelegate<V>, V extends View> void updateProps(
@@ -83,7 +114,7 @@ public class ViewManagerPropertyUpdater {
     if (setter == null) {
       setter = findGeneratedSetter(managerClass);
       if (setter == null) {
-        setter = new FallbackViewManagerSetter<>(managerClass);
+        setter = createFallbackManagerSetter(managerClass);
       }
       VIEW_MANAGER_SETTER_MAP.put(managerClass, setter);
     }
@@ -98,7 +129,7 @@ public class ViewManagerPropertyUpdater {
     if (setter == null) {
       setter = findGeneratedSetter(nodeClass);
       if (setter == null) {
-        setter = new FallbackShadowNodeSetter<>(nodeClass);
+        setter = createFallbackNodeSetter(nodeClass);
       }
       SHADOW_NODE_SETTER_MAP.put(nodeClass, setter);
     }
@@ -106,14 +137,51 @@ public class ViewManagerPropertyUpdater {
     return setter;
   }
 
-  private static <T> T findGeneratedSetter(Class<?> cls) {
+  /**
+   * Classes without a generated setter of their own (typically third-party subclasses of core view
+   * managers) can still use the generated setter of their closest ancestor that has one. The
+   * generated setter calls prop methods virtually, so overrides are respected, and reflection is
+   * only used for the props declared below that ancestor.
+   */
+  private static <T extends ViewManager, V extends View>
+      ViewManagerSetter<T, V> createFallbackManagerSetter(
+          Class<? extends ViewManager> managerClass) {
+    Class<?> ancestorClass = managerClass.getSuperclass();
+    while (ancestorClass != null && ViewManager.class.isAssignableFrom(ancestorClass)) {
+      ViewManagerSetter<T, V> ancestorSetter = findGeneratedSetter(ancestorClass);
+      if (ancestorSetter != null) {
+        return new FallbackViewManagerSetter<>(managerClass, ancestorClass, ancestorSetter);
+      }
+      ancestorClass = ancestorClass.getSuperclass();
+    }
+    return new FallbackViewManagerSetter<>(managerClass, null, null);
+  }
+
+  /** Same as {@link #createFallbackManagerSetter}, for shadow nodes. */
+  private static <T extends ReactShadowNode> ShadowNodeSetter<T> createFallbackNodeSetter(
+      Class<? extends ReactShadowNode> nodeClass) {
+    Class<?> ancestorClass = nodeClass.getSuperclass();
+    while (ancestorClass != null && ReactShadowNode.class.isAssignableFrom(ancestorClass)) {
+      ShadowNodeSetter<T> ancestorSetter = findGeneratedSetter(ancestorClass);
+      if (ancestorSetter != null) {
+        return new FallbackShadowNodeSetter<>(nodeClass, ancestorClass, ancestorSetter);
+      }
+      ancestorClass = ancestorClass.getSuperclass();
+    }
+    return new FallbackShadowNodeSetter<>(nodeClass, null, null);
+  }
+
+  private static @Nullable <T> T findGeneratedSetter(Class<?> cls) {
+    if (CLASSES_WITHOUT_GENERATED_SETTER.contains(cls)) {
+      return null;
+    }
     String clsName = cls.getName();
     try {
       Class<?> setterClass = Class.forName(clsName + "$$PropsSetter");
       //noinspection unchecked
       return (T) setterClass.newInstance();
     } catch (ClassNotFoundException e) {
-      FLog.w(TAG, "Could not find generated setter for " + cls);
+      CLASSES_WITHOUT_GENERATED_SETTER.add(cls);
       return null;
     } catch (InstantiationException | IllegalAccessException e) {
       throw new RuntimeException("Unable to instantiate methods getter for " + clsName, e);
@@ -122,23 +190,50 @@ public class ViewManagerPropertyUpdater {
 
   private static class FallbackViewManagerSetter<T extends ViewManager, V extends View>
       implements ViewManagerSetter<T, V> {
+    private final String mClassName;
     private final Map<String, ViewManagersPropertyCache.PropSetter> mPropSetters;
+    private final @Nullable ViewManagerSetter<T, V> mAncestorSetter;
+    private final AtomicLong mReflectivePropUpdates = new AtomicLong();
 
-    private FallbackViewManagerSetter(Class<? extends ViewManager> viewManagerClass) {
-      mPropSetters =
-          ViewManagersPropertyCache.getNativePropSettersForViewManagerClass(viewManagerClass);
+    private FallbackViewManagerSetter(
+        Class<? extends ViewManager> viewManagerClass,
+        @Nullable Class<?> ancestorClass,
+        @Nullable ViewManagerSetter<T, V> ancestorSetter) {
+      mClassName = viewManagerClass.getName();
+      mAncestorSetter = ancestorSetter;
+      if (ancestorClass != null) {
+        mPropSetters =
+            ViewManagersPropertyCache.getNativePropSettersForViewManagerClass(
+                viewManagerClass, ancestorClass);
+        FLog.w(
+            TAG,
+            "Could not find generated setter for "
+                + mClassName
+                + ", using reflection for props not declared by "
+                + ancestorClass.getName());
+      } else {
+        mPropSetters =
+            ViewManagersPropertyCache.getNativePropSettersForViewManagerClass(viewManagerClass);
+        FLog.w(TAG, "Could not find generated setter for " + mClassName + ", using reflection");
+      }
     }
 
     @Override
     public void setProperty(T manager, V v, String name, Object value) {
       ViewManagersPropertyCache.PropSetter setter = mPropSetters.get(name);
       if (setter != null) {
+        mReflectivePropUpdates.incrementAndGet();
         setter.updateViewProp(manager, v, value);
+      } else if (mAncestorSetter != null) {
+        mAncestorSetter.setProperty(manager, v, name, value);
       }
     }
 
     @Override
     public void getProperties(Map<String, String> props) {
+      if (mAncestorSetter != null) {
+        mAncestorSetter.getProperties(props);
+      }
       for (ViewManagersPropertyCache.PropSetter setter : mPropSetters.values()) {
         props.put(setter.getPropName(), setter.getPropType());
       }
@@ -147,23 +242,50 @@ public class ViewManagerPropertyUpdater {
 
   private static class FallbackShadowNodeSetter<T extends ReactShadowNode>
       implements ShadowNodeSetter<T> {
+    private final String mClassName;
     private final Map<String, ViewManagersPropertyCache.PropSetter> mPropSetters;
+    private final @Nullable ShadowNodeSetter<T> mAncestorSetter;
+    private final AtomicLong mReflectivePropUpdates = new AtomicLong();
 
-    private FallbackShadowNodeSetter(Class<? extends ReactShadowNode> shadowNodeClass) {
-      mPropSetters =
-          ViewManagersPropertyCache.getNativePropSettersForShadowNodeClass(shadowNodeClass);
+    private FallbackShadowNodeSetter(
+        Class<? extends ReactShadowNode> shadowNodeClass,
+        @Nullable Class<?> ancestorClass,
+        @Nullable ShadowNodeSetter<T> ancestorSetter) {
+      mClassName = shadowNodeClass.getName();
+      mAncestorSetter = ancestorSetter;
+      if (ancestorClass != null) {
+        mPropSetters =
+            ViewManagersPropertyCache.getNativePropSettersForShadowNodeClass(
+                shadowNodeClass, ancestorClass);
+        FLog.w(
+            TAG,
+            "Could not find generated setter for "
+                + mClassName
+                + ", using reflection for props not declared by "
+                + ancestorClass.getName());
+      } else {
+        mPropSetters =
+            ViewManagersPropertyCache.getNativePropSettersForShadowNodeClass(shadowNodeClass);
+        FLog.w(TAG, "Could not find generated setter for " + mClassName + ", using reflection");
+      }
     }
 
     @Override
-    public void setProperty(ReactShadowNode node, String name, Object value) {
+    public void setProperty(T node, String name, Object value) {
       ViewManagersPropertyCache.PropSetter setter = mPropSetters.get(name);
       if (setter != null) {
+        mReflectivePropUpdates.incrementAndGet();
         setter.updateShadowNodeProp(node, value);
+      } else if (mAncestorSetter != null) {
+        mAncestorSetter.setProperty(node, name, value);
       }
     }
 
     @Override
     public void getProperties(Map<String, String> props) {
+      if (mAncestorSetter != null) {
+        mAncestorSetter.getProperties(props);
+      }
       for (ViewManagersPropertyCache.PropSetter setter : mPropSetters.values()) {
         props.put(setter.getPropName(), setter.getPropType());
       }
@@ -11,14 +11,19 @@ import android.content.ComponentCallbacks2;
 import android.content.res.Configuration;
 import androidx.annotation.Nullable;
 import com.facebook.react.bridge.UiThreadUtil;
-import com.facebook.react.common.MapBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class that stores the mapping between native view name used in JS and the corresponding instance
  * of {@link ViewManager}.
+ *
+ * <p>Lookups of registered ViewManagers don't take any lock, as they happen for every view created
+ * or updated, both on the UI thread while mounting and on background threads while preallocating
+ * views. Only the ViewManagers created by the {@link ViewManagerResolver} are created under a lock,
+ * so that the resolver creates each of them once.
  */
 public final class ViewManagerRegistry implements ComponentCallbacks2 {
 
@@ -26,12 +31,12 @@ public final class ViewManagerRegistry implements ComponentCallbacks2 {
   private final @Nullable ViewManagerResolver mViewManagerResolver;
 
   public ViewManagerRegistry(ViewManagerResolver viewManagerResolver) {
-    mViewManagers = MapBuilder.newHashMap();
+    mViewManagers = new ConcurrentHashMap<>();
     mViewManagerResolver = viewManagerResolver;
   }
 
   public ViewManagerRegistry(List<ViewManager> viewManagerList) {
-    Map<String, ViewManager> viewManagerMap = MapBuilder.newHashMap();
+    Map<String, ViewManager> viewManagerMap = new ConcurrentHashMap<>();
     for (ViewManager viewManager : viewManagerList) {
       viewManagerMap.put(viewManager.getName(), viewManager);
     }
@@ -41,8 +46,14 @@ public final class ViewManagerRegistry implements ComponentCallbacks2 {
   }
 
   public ViewManagerRegistry(Map<String, ViewManager> viewManagerMap) {
-    mViewManagers =
-        viewManagerMap != null ? viewManagerMap : MapBuilder.<String, ViewManager>newHashMap();
+    mViewManagers = new ConcurrentHashMap<>();
+    if (viewManagerMap != null) {
+      for (Map.Entry<String, ViewManager> entry : viewManagerMap.entrySet()) {
+        if (entry.getKey() != null && entry.getValue() != null) {
+          mViewManagers.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
     mViewManagerResolver = null;
   }
 
@@ -52,7 +63,7 @@ public final class ViewManagerRegistry implements ComponentCallbacks2 {
    *     view manager registered for the className received as a parameter.
    * @return the {@link ViewManager} registered to the className received as a parameter
    */
-  public synchronized ViewManager get(String className) {
+  public ViewManager get(String className) {
     ViewManager viewManager = mViewManagers.get(className);
     if (viewManager != null) {
       return viewManager;
@@ -69,8 +80,12 @@ public final class ViewManagerRegistry implements ComponentCallbacks2 {
     throw new IllegalViewOperationException("No ViewManager found for class " + className);
   }
 
-  private @Nullable ViewManager getViewManagerFromResolver(String className) {
-    @Nullable ViewManager viewManager;
+  private synchronized @Nullable ViewManager getViewManagerFromResolver(String className) {
+    // Another thread may have created it while this one was waiting for the lock
+    @Nullable ViewManager viewManager = mViewManagers.get(className);
+    if (viewManager != null) {
+      return viewManager;
+    }
     viewManager = mViewManagerResolver.getViewManager(className);
     if (viewManager != null) {
       mViewManagers.put(className, viewManager);
@@ -85,7 +100,7 @@ public final class ViewManagerRegistry implements ComponentCallbacks2 {
    *     there is no ViewManager associated to the className received as a parameter.
    */
   @Nullable
-  /* package */ synchronized ViewManager getViewManagerIfExists(String className) {
+  /* package */ ViewManager getViewManagerIfExists(String className) {
     ViewManager viewManager = mViewManagers.get(className);
     if (viewManager != null) {
       return viewManager;
@@ -98,10 +113,7 @@ public final class ViewManagerRegistry implements ComponentCallbacks2 {
 
   /** Send lifecycle signal to all ViewManagers that StopSurface has been called. */
   public void onSurfaceStopped(final int surfaceId) {
-    final List<ViewManager> viewManagers;
-    synchronized (this) {
-      viewManagers = new ArrayList<>(mViewManagers.values());
-    }
+    final List<ViewManager> viewManagers = new ArrayList<>(mViewManagers.values());
     Runnable runnable =
         () -> {
           for (ViewManager viewManager : viewManagers) {
@@ -117,10 +129,7 @@ public final class ViewManagerRegistry implements ComponentCallbacks2 {
 
   /** Called on instance destroy */
   public void invalidate() {
-    final List<ViewManager> viewManagers;
-    synchronized (this) {
-      viewManagers = new ArrayList<>(mViewManagers.values());
-    }
+    final List<ViewManager> viewManagers = new ArrayList<>(mViewManagers.values());
     Runnable runnable =
         () -> {
           for (ViewManager viewManager : viewManagers) {
@@ -137,10 +146,7 @@ public final class ViewManagerRegistry implements ComponentCallbacks2 {
   /** ComponentCallbacks2 method. */
   @Override
   public void onTrimMemory(int level) {
-    final List<ViewManager> viewManagers;
-    synchronized (this) {
-      viewManagers = new ArrayList<>(mViewManagers.values());
-    }
+    final List<ViewManager> viewManagers = new ArrayList<>(mViewManagers.values());
     Runnable runnable =
         new Runnable() {
           @Override
@@ -20,8 +20,10 @@ import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.uimanager.annotations.ReactProp;
 import com.facebook.react.uimanager.annotations.ReactPropGroup;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -412,6 +414,49 @@ import java.util.Map;
     return props;
   }
 
+  /**
+   * Returns map from property name to setter instances for the property setters declared by the
+   * given {@link ViewManager} subclass and its parent classes below {@code ancestorClass}
+   * (exclusive). Used when {@code ancestorClass} already has a generated setter. Not cached, since
+   * callers cache the resulting setter.
+   */
+  /*package*/ static Map<String, PropSetter> getNativePropSettersForViewManagerClass(
+      Class<? extends ViewManager> cls, Class<?> ancestorClass) {
+    Map<String, PropSetter> props = new HashMap<>();
+    List<Class<?>> classes = getClassesBelowAncestor(cls, ancestorClass);
+    // Visit parents first, so that setters declared by subclasses take precedence
+    for (int i = classes.size() - 1; i >= 0; i--) {
+      extractPropSettersFromViewManagerClassDefinition(
+          (Class<? extends ViewManager>) classes.get(i), props);
+    }
+    return props;
+  }
+
+  /**
+   * Same as {@link #getNativePropSettersForViewManagerClass(Class, Class)}, for {@link
+   * ReactShadowNode} subclasses.
+   */
+  /*package*/ static Map<String, PropSetter> getNativePropSettersForShadowNodeClass(
+      Class<? extends ReactShadowNode> cls, Class<?> ancestorClass) {
+    Map<String, PropSetter> props = new HashMap<>();
+    List<Class<?>> classes = getClassesBelowAncestor(cls, ancestorClass);
+    for (int i = classes.size() - 1; i >= 0; i--) {
+      extractPropSettersFromShadowNodeClassDefinition(
+          (Class<? extends ReactShadowNode>) classes.get(i), props);
+    }
+    return props;
+  }
+
+  private static List<Class<?>> getClassesBelowAncestor(Class<?> cls, Class<?> ancestorClass) {
+    List<Class<?>> classes = new ArrayList<>();
+    for (Class<?> current = cls;
+        current != null && current != ancestorClass;
+        current = current.getSuperclass()) {
+      classes.add(current);
+    }
+    return classes;
+  }
+
   private static PropSetter createPropSetter(
       ReactProp annotation, Method method, Class<?> propTypeClass) {
     if (propTypeClass == Dynamic.class) {
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager;
+
+import androidx.annotation.Nullable;
+import androidx.core.util.Pools;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.systrace.Systrace;
+import java.util.Arrays;
+
+/**
+ * A run of view operations, encoded in an int buffer and an object buffer instead of one {@link
+ * UIViewOperationQueue.UIOperation} object per operation, similarly to Fabric's
+ * IntBufferBatchMountItem. Only the operations that are enqueued most often are supported here,
+ * others are still enqueued as objects between runs.
+ *
+ * <p>Each operation is encoded as its type and the view tag, followed by its int arguments. Its
+ * object arguments are appended to the object buffer. Operations are decoded and executed by {@link
+ * NativeViewHierarchyManager#executeOperations}.
+ *
+ * <p>Buffers are filled on the native modules thread and executed on the UI thread, after which
+ * they are cleared and returned to their pool.
+ */
+/* package */ final class ViewOperationBuffer implements UIViewOperationQueue.UIOperation {
+
+  // int buffer: [type, tag]
+  static final int OP_REMOVE_ROOT_VIEW = 1;
+  // int buffer: [type, tag], object buffer: [props]
+  static final int OP_UPDATE_PROPERTIES = 2;
+  // int buffer: [type, tag, parentTag, x, y, width, height]
+  static final int OP_UPDATE_LAYOUT = 3;
+  // int buffer: [type, tag], object buffer: [indicesToRemove, viewsToAdd, tagsToDelete]
+  static final int OP_MANAGE_CHILDREN = 4;
+  // int buffer: [type, tag], object buffer: [childrenTags]
+  static final int OP_SET_CHILDREN = 5;
+  // int buffer: [type, tag], object buffer: [extraData]
+  static final int OP_UPDATE_EXTRA_DATA = 6;
+  // int buffer: [type, tag, high 32 bits of the handle, low 32 bits of the handle]
+  static final int OP_UPDATE_INSTANCE_HANDLE = 7;
+
+  private static final int INITIAL_INT_CAPACITY = 256;
+  private static final int INITIAL_OBJECT_CAPACITY = 64;
+  // Buffers that grew past these sizes are shrunk before being pooled
+  private static final int MAX_RETAINED_INT_CAPACITY = 16 * 1024;
+  private static final int MAX_RETAINED_OBJECT_CAPACITY = 4 * 1024;
+
+  private final NativeViewHierarchyManager mNativeViewHierarchyManager;
+  private final Pools.Pool<ViewOperationBuffer> mPool;
+
+  private int[] mIntBuffer = new int[INITIAL_INT_CAPACITY];
+  private Object[] mObjBuffer = new Object[INITIAL_OBJECT_CAPACITY];
+  private int mIntBufferLen = 0;
+  private int mObjBufferLen = 0;
+  private int mOperationCount = 0;
+
+  /* package */ ViewOperationBuffer(
+      NativeViewHierarchyManager nativeViewHierarchyManager, Pools.Pool<ViewOperationBuffer> pool) {
+    mNativeViewHierarchyManager = nativeViewHierarchyManager;
+    mPool = pool;
+  }
+
+  /* package */ int[] getIntBuffer() {
+    return mIntBuffer;
+  }
+
+  /* package */ int getIntBufferLen() {
+    return mIntBufferLen;
+  }
+
+  /* package */ Object[] getObjBuffer() {
+    return mObjBuffer;
+  }
+
+  public int getOperationCount() {
+    return mOperationCount;
+  }
+
+  public void addRemoveRootView(int tag) {
+    ensureCapacity(2, 0);
+    addOperation(OP_REMOVE_ROOT_VIEW, tag);
+  }
+
+  public void addUpdateProperties(int tag, ReactStylesDiffMap props) {
+    ensureCapacity(2, 1);
+    addOperation(OP_UPDATE_PROPERTIES, tag);
+    mObjBuffer[mObjBufferLen++] = props;
+  }
+
+  public void addUpdateLayout(int parentTag, int tag, int x, int y, int width, int height) {
+    ensureCapacity(7, 0);
+    addOperation(OP_UPDATE_LAYOUT, tag);
+    mIntBuffer[mIntBufferLen++] = parentTag;
+    mIntBuffer[mIntBufferLen++] = x;
+    mIntBuffer[mIntBufferLen++] = y;
+    mIntBuffer[mIntBufferLen++] = width;
+    mIntBuffer[mIntBufferLen++] = height;
+    Systrace.startAsyncFlow(Systrace.TRACE_TAG_REACT_VIEW, "updateLayout", tag);
+  }
+
+  public void addManageChildren(
+      int tag,
+      @Nullable int[] indicesToRemove,
+      @Nullable ViewAtIndex[] viewsToAdd,
+      @Nullable int[] tagsToDelete) {
+    ensureCapacity(2, 3);
+    addOperation(OP_MANAGE_CHILDREN, tag);
+    mObjBuffer[mObjBufferLen++] = indicesToRemove;
+    mObjBuffer[mObjBufferLen++] = viewsToAdd;
+    mObjBuffer[mObjBufferLen++] = tagsToDelete;
+  }
+
+  public void addSetChildren(int tag, ReadableArray childrenTags) {
+    ensureCapacity(2, 1);
+    addOperation(OP_SET_CHILDREN, tag);
+    mObjBuffer[mObjBufferLen++] = childrenTags;
+  }
+
+  public void addUpdateExtraData(int tag, Object extraData) {
+    ensureCapacity(2, 1);
+    addOperation(OP_UPDATE_EXTRA_DATA, tag);
+    mObjBuffer[mObjBufferLen++] = extraData;
+  }
+
+  public void addUpdateInstanceHandle(int tag, long instanceHandle) {
+    ensureCapacity(4, 0);
+    addOperation(OP_UPDATE_INSTANCE_HANDLE, tag);
+    mIntBuffer[mIntBufferLen++] = (int) (instanceHandle >>> 32);
+    mIntBuffer[mIntBufferLen++] = (int) instanceHandle;
+  }
+
+  private void addOperation(int type, int tag) {
+    mIntBuffer[mIntBufferLen++] = type;
+    mIntBuffer[mIntBufferLen++] = tag;
+    mOperationCount++;
+  }
+
+  private void ensureCapacity(int intCount, int objCount) {
+    if (mIntBufferLen + intCount > mIntBuffer.length) {
+      mIntBuffer =
+          Arrays.copyOf(mIntBuffer, Math.max(mIntBuffer.length * 2, mIntBufferLen + intCount));
+    }
+    if (mObjBufferLen + objCount > mObjBuffer.length) {
+      mObjBuffer =
+          Arrays.copyOf(mObjBuffer, Math.max(mObjBuffer.length * 2, mObjBufferLen + objCount));
+    }
+  }
+
+  @Override
+  public void execute() {
+    mNativeViewHierarchyManager.executeOperations(this);
+    recycle();
+  }
+
+  private void recycle() {
+    if (mIntBuffer.length > MAX_RETAINED_INT_CAPACITY) {
+      mIntBuffer = new int[INITIAL_INT_CAPACITY];
+    }
+    if (mObjBuffer.length > MAX_RETAINED_OBJECT_CAPACITY) {
+      mObjBuffer = new Object[INITIAL_OBJECT_CAPACITY];
+    } else {
+      // Don't keep props and children alive while pooled
+      Arrays.fill(mObjBuffer, 0, mObjBufferLen, null);
+    }
+    mIntBufferLen = 0;
+    mObjBufferLen = 0;
+    mOperationCount = 0;
+    mPool.release(this);
+  }
+}
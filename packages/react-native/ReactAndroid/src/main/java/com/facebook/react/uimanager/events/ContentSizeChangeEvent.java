@@ -7,7 +7,6 @@
 
 package com.facebook.react.uimanager.events;
 
-import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.PixelUtil;
 
@@ -16,6 +15,9 @@ public class ContentSizeChangeEvent extends Event<ContentSizeChangeEvent> {
 
   public static final String EVENT_NAME = "topContentSizeChange";
 
+  private static final int WIDTH_KEY = EventPayload.key("width");
+  private static final int HEIGHT_KEY = EventPayload.key("height");
+
   private final int mWidth;
   private final int mHeight;
 
@@ -37,9 +39,15 @@ public class ContentSizeChangeEvent extends Event<ContentSizeChangeEvent> {
 
   @Override
   protected WritableMap getEventData() {
-    WritableMap data = Arguments.createMap();
-    data.putDouble("width", PixelUtil.toDIPFromPixel(mWidth));
-    data.putDouble("height", PixelUtil.toDIPFromPixel(mHeight));
-    return data;
+    EventPayload payload = EventPayload.obtain();
+    writeEventPayload(payload);
+    return payload.toWritableMap();
+  }
+
+  @Override
+  protected boolean writeEventPayload(EventPayload payload) {
+    payload.putDouble(WIDTH_KEY, PixelUtil.toDIPFromPixel(mWidth));
+    payload.putDouble(HEIGHT_KEY, PixelUtil.toDIPFromPixel(mHeight));
+    return true;
   }
 }
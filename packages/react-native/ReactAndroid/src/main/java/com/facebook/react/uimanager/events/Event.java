@@ -10,6 +10,7 @@ package com.facebook.react.uimanager.events;
 import androidx.annotation.Nullable;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.common.SystemClock;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.uimanager.IllegalViewOperationException;
 
 /**
@@ -177,6 +178,17 @@ public abstract class Event<T extends Event> {
     return null;
   }
 
+  /**
+   * Can be overridden by classes to write the same data as `getEventData` into {@code payload},
+   * which emitters that support it (see {@link EventPayloadEmitter}) dispatch without creating
+   * maps.
+   *
+   * @return false if the event doesn't support payloads
+   */
+  protected boolean writeEventPayload(EventPayload payload) {
+    return false;
+  }
+
   @EventCategoryDef
   protected int getEventCategory() {
     return EventCategoryDef.UNSPECIFIED;
@@ -196,6 +208,22 @@ public abstract class Event<T extends Event> {
   @Deprecated
   public void dispatchModern(RCTModernEventEmitter rctEventEmitter) {
     if (getSurfaceId() != -1) {
+      if (ReactFeatureFlags.enableEventPayloads
+          && rctEventEmitter instanceof EventPayloadEmitter) {
+        EventPayload payload = EventPayload.obtain();
+        if (writeEventPayload(payload)
+            && ((EventPayloadEmitter) rctEventEmitter)
+                .receiveEvent(
+                    getSurfaceId(),
+                    getViewTag(),
+                    getEventName(),
+                    canCoalesce(),
+                    getCoalescingKey(),
+                    payload,
+                    getEventCategory())) {
+          return;
+        }
+      }
       WritableMap eventData = getEventData();
       if (eventData != null) {
         rctEventEmitter.receiveEvent(
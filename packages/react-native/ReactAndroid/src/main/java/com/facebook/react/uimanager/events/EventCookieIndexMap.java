@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from event cookies ({@code long}) to indices into the dispatch queue
+ * ({@code int}). Replaces {@code LongSparseArray<Integer>} on the coalescing path so lookups don't
+ * box and inserts don't shift arrays.
+ *
+ * <p>Not thread safe: callers must hold the dispatch queue lock.
+ */
+/* package */ final class EventCookieIndexMap {
+
+  public static final int NO_INDEX = -1;
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] mKeys;
+  private int[] mValues;
+  private int mMask;
+  private int mSize = 0;
+  private int mResizeThreshold;
+
+  /* package */ EventCookieIndexMap(int initialCapacity) {
+    allocate(Integer.highestOneBit(Math.max(2, initialCapacity - 1)) << 1);
+  }
+
+  /** @return the index stored for {@code cookie}, or {@link #NO_INDEX} if none. */
+  public int get(long cookie) {
+    int slot = slotFor(cookie);
+    while (mValues[slot] != NO_INDEX) {
+      if (mKeys[slot] == cookie) {
+        return mValues[slot];
+      }
+      slot = (slot + 1) & mMask;
+    }
+    return NO_INDEX;
+  }
+
+  /** Maps {@code cookie} to {@code index}, replacing any existing mapping. */
+  public void put(long cookie, int index) {
+    int slot = slotFor(cookie);
+    while (mValues[slot] != NO_INDEX) {
+      if (mKeys[slot] == cookie) {
+        mValues[slot] = index;
+        return;
+      }
+      slot = (slot + 1) & mMask;
+    }
+    mKeys[slot] = cookie;
+    mValues[slot] = index;
+    if (++mSize > mResizeThreshold) {
+      rehash(mKeys.length << 1);
+    }
+  }
+
+  public void clear() {
+    if (mSize > 0) {
+      Arrays.fill(mValues, NO_INDEX);
+      mSize = 0;
+    }
+  }
+
+  public int size() {
+    return mSize;
+  }
+
+  private int slotFor(long cookie) {
+    long hash = cookie * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mMask;
+  }
+
+  private void allocate(int capacity) {
+    mKeys = new long[capacity];
+    mValues = new int[capacity];
+    Arrays.fill(mValues, NO_INDEX);
+    mMask = capacity - 1;
+    mResizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private void rehash(int newCapacity) {
+    long[] oldKeys = mKeys;
+    int[] oldValues = mValues;
+    allocate(newCapacity);
+    mSize = 0;
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != NO_INDEX) {
+        put(oldKeys[i], oldValues[i]);
+      }
+    }
+  }
+}
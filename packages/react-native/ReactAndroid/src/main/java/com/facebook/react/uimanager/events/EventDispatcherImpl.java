@@ -8,11 +8,13 @@
 package com.facebook.react.uimanager.events;
 
 import android.util.LongSparseArray;
+import androidx.annotation.Nullable;
 import com.facebook.infer.annotation.Assertions;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.common.MapBuilder;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.modules.core.ChoreographerCompat;
 import com.facebook.react.modules.core.ReactChoreographer;
 import com.facebook.react.uimanager.common.UIManagerType;
@@ -53,6 +55,13 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * <p>Event Cookie Composition: VIEW_TAG_MASK = 0x00000000ffffffff EVENT_TYPE_ID_MASK =
  * 0x0000ffff00000000 COALESCING_KEY_MASK = 0xffff000000000000
+ *
+ * <p>== Lock-free staging ==
+ *
+ * <p>When {@link ReactFeatureFlags#enableLockFreeEventDispatcher} is set, events are staged in a
+ * multi-producer/single-consumer ring buffer instead of a lock-guarded list, so {@link
+ * #dispatchEvent(Event)} neither locks nor allocates. Coalescing then uses a primitive cookie to
+ * index table and event type ids interned per {@link Event} class.
  */
 public class EventDispatcherImpl implements EventDispatcher, LifecycleEventListener {
 
@@ -81,6 +90,8 @@ public class EventDispatcherImpl implements EventDispatcher, LifecycleEventListe
         }
       };
 
+  private static final int LOCK_FREE_STAGING_CAPACITY = 1024;
+
   private final Object mEventsStagingLock = new Object();
   private final Object mEventsToDispatchLock = new Object();
   private final ReactApplicationContext mReactContext;
@@ -95,6 +106,9 @@ public class EventDispatcherImpl implements EventDispatcher, LifecycleEventListe
   private final ScheduleDispatchFrameCallback mCurrentFrameCallback =
       new ScheduleDispatchFrameCallback();
   private final AtomicInteger mHasDispatchScheduledCount = new AtomicInteger();
+  private final @Nullable EventStagingQueue mLockFreeEventStaging;
+  private final @Nullable EventCookieIndexMap mEventCookieToLastEventIndex;
+  private final @Nullable EventTypeIdRegistry mEventTypeIdRegistry;
 
   private Event[] mEventsToDispatch = new Event[16];
   private int mEventsToDispatchSize = 0;
@@ -106,6 +120,16 @@ public class EventDispatcherImpl implements EventDispatcher, LifecycleEventListe
     mReactContext = reactContext;
     mReactContext.addLifecycleEventListener(this);
     mReactEventEmitter = new ReactEventEmitter(mReactContext);
+
+    if (ReactFeatureFlags.enableLockFreeEventDispatcher) {
+      mLockFreeEventStaging = new EventStagingQueue(LOCK_FREE_STAGING_CAPACITY);
+      mEventCookieToLastEventIndex = new EventCookieIndexMap(LOCK_FREE_STAGING_CAPACITY);
+      mEventTypeIdRegistry = new EventTypeIdRegistry();
+    } else {
+      mLockFreeEventStaging = null;
+      mEventCookieToLastEventIndex = null;
+      mEventTypeIdRegistry = null;
+    }
   }
 
   /** Sends the given Event to JS, coalescing eligible events if JS is backed up. */
@@ -116,10 +140,16 @@ public class EventDispatcherImpl implements EventDispatcher, LifecycleEventListe
       listener.onEventDispatch(event);
     }
 
-    synchronized (mEventsStagingLock) {
-      mEventStaging.add(event);
+    if (mLockFreeEventStaging != null) {
       Systrace.startAsyncFlow(
           Systrace.TRACE_TAG_REACT_JAVA_BRIDGE, event.getEventName(), event.getUniqueID());
+      mLockFreeEventStaging.offer(event);
+    } else {
+      synchronized (mEventsStagingLock) {
+        mEventStaging.add(event);
+        Systrace.startAsyncFlow(
+            Systrace.TRACE_TAG_REACT_JAVA_BRIDGE, event.getEventName(), event.getUniqueID());
+      }
     }
     maybePostFrameCallbackFromNonUI();
   }
@@ -196,6 +226,11 @@ public class EventDispatcherImpl implements EventDispatcher, LifecycleEventListe
    * frame and another from this frame during the next.
    */
   private void moveStagedEventsToDispatchQueue() {
+    if (mLockFreeEventStaging != null) {
+      moveLockFreeStagedEventsToDispatchQueue(mLockFreeEventStaging);
+      return;
+    }
+
     synchronized (mEventsStagingLock) {
       synchronized (mEventsToDispatchLock) {
         for (int i = 0; i < mEventStaging.size(); i++) {
@@ -241,6 +276,51 @@ public class EventDispatcherImpl implements EventDispatcher, LifecycleEventListe
     }
   }
 
+  /**
+   * Same as {@link #moveStagedEventsToDispatchQueue()}, but drains the lock-free staging queue. The
+   * staging queue only has a single consumer (the UI thread frame callback), so the only lock we
+   * need is the one guarding the dispatch queue.
+   */
+  private void moveLockFreeStagedEventsToDispatchQueue(EventStagingQueue stagingQueue) {
+    EventCookieIndexMap cookieToLastEventIndex =
+        Assertions.assertNotNull(mEventCookieToLastEventIndex);
+    EventTypeIdRegistry eventTypeIdRegistry = Assertions.assertNotNull(mEventTypeIdRegistry);
+
+    synchronized (mEventsToDispatchLock) {
+      Event event;
+      while ((event = stagingQueue.poll()) != null) {
+        if (!event.canCoalesce()) {
+          addEventToEventsToDispatch(event);
+          continue;
+        }
+
+        long eventCookie =
+            getEventCookie(
+                event.getViewTag(),
+                eventTypeIdRegistry.getEventTypeId(event),
+                event.getCoalescingKey());
+
+        int lastEventIdx = cookieToLastEventIndex.get(eventCookie);
+        if (lastEventIdx == EventCookieIndexMap.NO_INDEX) {
+          cookieToLastEventIndex.put(eventCookie, mEventsToDispatchSize);
+          addEventToEventsToDispatch(event);
+          continue;
+        }
+
+        Event lastEvent = mEventsToDispatch[lastEventIdx];
+        Event coalescedEvent = event.coalesce(lastEvent);
+        if (coalescedEvent != lastEvent) {
+          cookieToLastEventIndex.put(eventCookie, mEventsToDispatchSize);
+          mEventsToDispatch[lastEventIdx] = null;
+          addEventToEventsToDispatch(coalescedEvent);
+          lastEvent.dispose();
+        } else {
+          event.dispose();
+        }
+      }
+    }
+  }
+
   private long getEventCookie(int viewTag, String eventName, short coalescingKey) {
     short eventTypeId;
     Short eventIdObj = mEventNameToEventId.get(eventName);
@@ -372,6 +452,9 @@ public class EventDispatcherImpl implements EventDispatcher, LifecycleEventListe
             }
             clearEventsToDispatch();
             mEventCookieToLastEventIdx.clear();
+            if (mEventCookieToLastEventIndex != null) {
+              mEventCookieToLastEventIndex.clear();
+            }
           }
         }
         for (BatchEventDispatchedListener listener : mPostEventDispatchListeners) {
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Payload of an event written into reusable primitive arrays instead of {@link WritableMap}s, each
+ * of which is a separate JNI allocation. Fabric ships the arrays to C++ as they are (see {@link
+ * EventPayloadEmitter}), where they are turned into the JS object of the event.
+ *
+ * <p>Keys are registered once with {@link #key} and referred to by id afterwards. The root of the
+ * payload is a map; {@link #beginMap} and {@link #beginArray} open nested containers that {@link
+ * #end} closes. Values of arrays are written with {@link #NO_KEY}.
+ *
+ * <p>Instances are not thread safe: use the one of the current thread returned by {@link #obtain},
+ * which stays valid until the next call to {@link #obtain} on the same thread.
+ */
+public final class EventPayload {
+
+  /** Key of the values and containers of arrays. */
+  public static final int NO_KEY = -1;
+
+  // Types of the values, stored in the low bits of each op, with key + 1 in the high bits
+  public static final int TYPE_BOOLEAN = 0;
+  public static final int TYPE_INT = 1;
+  public static final int TYPE_DOUBLE = 2;
+  public static final int TYPE_STRING = 3;
+  public static final int TYPE_NULL = 4;
+  public static final int TYPE_BEGIN_MAP = 5;
+  public static final int TYPE_BEGIN_ARRAY = 6;
+  public static final int TYPE_END = 7;
+  public static final int TYPE_BITS = 3;
+  private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
+  // Names of the keys by id. Copied on write, so that they can be read without locking
+  private static volatile String[] sKeys = new String[0];
+  // Guarded by EventPayload.class
+  private static final Map<String, Integer> sKeyIds = new HashMap<>();
+
+  private static final ThreadLocal<EventPayload> sPayloads =
+      new ThreadLocal<EventPayload>() {
+        @Override
+        protected EventPayload initialValue() {
+          return new EventPayload();
+        }
+      };
+
+  /** @return the id of {@code name}, to be kept in a static constant by callers */
+  public static synchronized int key(String name) {
+    Integer id = sKeyIds.get(name);
+    if (id == null) {
+      String[] keys = sKeys;
+      id = keys.length;
+      String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+      newKeys[id] = name;
+      sKeyIds.put(name, id);
+      sKeys = newKeys;
+    }
+    return id;
+  }
+
+  /** @return how many keys were registered */
+  public static int getKeyCount() {
+    return sKeys.length;
+  }
+
+  /** @return the names of the keys with ids from {@code start} included to {@code end} excluded */
+  public static String[] getKeys(int start, int end) {
+    return Arrays.copyOfRange(sKeys, start, end);
+  }
+
+  /** @return the empty payload of the current thread */
+  public static EventPayload obtain() {
+    EventPayload payload = sPayloads.get();
+    payload.reset();
+    return payload;
+  }
+
+  private int[] mOps = new int[32];
+  private int mOpCount;
+  // Values of the ops, by op index
+  private double[] mValues = new double[32];
+  // Strings of the ops, by op index
+  private String[] mStrings = new String[32];
+  private int mDepth;
+
+  /* package */ EventPayload() {}
+
+  public void reset() {
+    Arrays.fill(mStrings, 0, mOpCount, null);
+    mOpCount = 0;
+    mDepth = 0;
+  }
+
+  public EventPayload putBoolean(int key, boolean value) {
+    mValues[add(key, TYPE_BOOLEAN)] = value ? 1 : 0;
+    return this;
+  }
+
+  public EventPayload putInt(int key, int value) {
+    mValues[add(key, TYPE_INT)] = value;
+    return this;
+  }
+
+  public EventPayload putDouble(int key, double value) {
+    mValues[add(key, TYPE_DOUBLE)] = value;
+    return this;
+  }
+
+  public EventPayload putString(int key, @Nullable String value) {
+    if (value == null) {
+      add(key, TYPE_NULL);
+    } else {
+      mStrings[add(key, TYPE_STRING)] = value;
+    }
+    return this;
+  }
+
+  /** Opens a map, closed by {@link #end}. */
+  public EventPayload beginMap(int key) {
+    add(key, TYPE_BEGIN_MAP);
+    mDepth++;
+    return this;
+  }
+
+  /** Opens an array, closed by {@link #end}. */
+  public EventPayload beginArray(int key) {
+    add(key, TYPE_BEGIN_ARRAY);
+    mDepth++;
+    return this;
+  }
+
+  public EventPayload end() {
+    if (mDepth == 0) {
+      throw new IllegalStateException("No map or array to end in the EventPayload");
+    }
+    add(NO_KEY, TYPE_END);
+    mDepth--;
+    return this;
+  }
+
+  /** @return the ops of the payload, see {@link #getOpCount}. Used to ship them to C++. */
+  public int[] getOps() {
+    return mOps;
+  }
+
+  public int getOpCount() {
+    return mOpCount;
+  }
+
+  /** @return the numeric values of the ops, by op index */
+  public double[] getValues() {
+    return mValues;
+  }
+
+  /** @return the strings of the ops, by op index */
+  public String[] getStrings() {
+    return mStrings;
+  }
+
+  /** @return a {@link WritableMap} with the same content, for the emitters that need one */
+  public WritableMap toWritableMap() {
+    if (mDepth != 0) {
+      throw new IllegalStateException("The EventPayload has maps or arrays that weren't ended");
+    }
+    WritableMap root = Arguments.createMap();
+    readInto(0, root, null);
+    return root;
+  }
+
+  /**
+   * Reads the ops from {@code start} into either {@code map} or {@code array}, until the end of the
+   * container. Nested containers are filled before they are added to their parent, as native maps
+   * and arrays are copied when added.
+   *
+   * @return the index of the op after the end of the container
+   */
+  private int readInto(int start, @Nullable WritableMap map, @Nullable WritableArray array) {
+    int i = start;
+    while (i < mOpCount) {
+      int type = mOps[i] & TYPE_MASK;
+      String key = getKeyName(mOps[i]);
+      switch (type) {
+        case TYPE_END:
+          return i + 1;
+        case TYPE_BEGIN_MAP:
+          WritableMap childMap = Arguments.createMap();
+          i = readInto(i + 1, childMap, null);
+          if (map != null) {
+            map.putMap(key, childMap);
+          } else {
+            array.pushMap(childMap);
+          }
+          continue;
+        case TYPE_BEGIN_ARRAY:
+          WritableArray childArray = Arguments.createArray();
+          i = readInto(i + 1, null, childArray);
+          if (map != null) {
+            map.putArray(key, childArray);
+          } else {
+            array.pushArray(childArray);
+          }
+          continue;
+        case TYPE_BOOLEAN:
+          if (map != null) {
+            map.putBoolean(key, mValues[i] != 0);
+          } else {
+            array.pushBoolean(mValues[i] != 0);
+          }
+          break;
+        case TYPE_INT:
+          if (map != null) {
+            map.putInt(key, (int) mValues[i]);
+          } else {
+            array.pushInt((int) mValues[i]);
+          }
+          break;
+        case TYPE_DOUBLE:
+          if (map != null) {
+            map.putDouble(key, mValues[i]);
+          } else {
+            array.pushDouble(mValues[i]);
+          }
+          break;
+        case TYPE_STRING:
+          if (map != null) {
+            map.putString(key, mStrings[i]);
+          } else {
+            array.pushString(mStrings[i]);
+          }
+          break;
+        case TYPE_NULL:
+          if (map != null) {
+            map.putNull(key);
+          } else {
+            array.pushNull();
+          }
+          break;
+      }
+      i++;
+    }
+    return i;
+  }
+
+  private static @Nullable String getKeyName(int op) {
+    int key = (op >>> TYPE_BITS) - 1;
+    if (key == NO_KEY) {
+      return null;
+    }
+    return sKeys[key];
+  }
+
+  private int add(int key, int type) {
+    if (mOpCount == mOps.length) {
+      int capacity = mOps.length * 2;
+      mOps = Arrays.copyOf(mOps, capacity);
+      mValues = Arrays.copyOf(mValues, capacity);
+      mStrings = Arrays.copyOf(mStrings, capacity);
+    }
+    int index = mOpCount++;
+    mOps[index] = ((key + 1) << TYPE_BITS) | type;
+    return index;
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events;
+
+/**
+ * Implemented by the event emitters that can dispatch an {@link EventPayload} without converting it
+ * to a map first.
+ */
+public interface EventPayloadEmitter {
+  /**
+   * Dispatches {@code payload}, which must not be used by the emitter after this returns.
+   *
+   * @return false if the emitter can't dispatch payloads to {@code targetTag}, in which case
+   *     callers should dispatch a map instead
+   */
+  boolean receiveEvent(
+      int surfaceId,
+      int targetTag,
+      String eventName,
+      boolean canCoalesceEvent,
+      int customCoalesceKey,
+      EventPayload payload,
+      @EventCategoryDef int category);
+}
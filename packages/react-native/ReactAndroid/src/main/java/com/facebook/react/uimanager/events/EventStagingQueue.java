@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events;
+
+import androidx.annotation.Nullable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer/single-consumer ring buffer used to stage {@link Event}s before they are
+ * moved to the dispatch queue.
+ *
+ * <p>Producers (any thread calling {@link EventDispatcher#dispatchEvent}) claim a slot with a
+ * single CAS on the tail counter and publish the event by bumping the slot sequence. The consumer
+ * (the UI thread frame callback) never takes a lock. Each slot carries a sequence number so that a
+ * producer that has claimed a slot but not yet published it is simply picked up on the next drain.
+ *
+ * <p>If the ring is full, events spill into an unbounded overflow queue. This is the only path
+ * that allocates and should only be hit when the UI thread is stalled for a long time. Once events
+ * overflowed, the next ones also go to the overflow queue until the consumer drained it, so that
+ * they are polled in the order they were offered.
+ */
+/* package */ final class EventStagingQueue {
+
+  /* package */ static final long NO_SLOT = -1;
+
+  private final Event[] mBuffer;
+  private final AtomicLongArray mSequences;
+  private final int mMask;
+  private final AtomicLong mTail = new AtomicLong();
+  private final ConcurrentLinkedQueue<Event> mOverflow = new ConcurrentLinkedQueue<>();
+
+  // Only accessed by the consumer thread
+  private long mHead = 0;
+
+  /* package */ EventStagingQueue(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+    mBuffer = new Event[size];
+    mSequences = new AtomicLongArray(size);
+    mMask = size - 1;
+    for (int i = 0; i < size; i++) {
+      mSequences.set(i, i);
+    }
+  }
+
+  /** Stages an event. Safe to call from any thread. */
+  public void offer(Event event) {
+    long position = claimSlot();
+    if (position == NO_SLOT) {
+      mOverflow.add(event);
+    } else {
+      publishSlot(position, event);
+    }
+  }
+
+  /**
+   * Claims the next slot of the ring, or returns {@link #NO_SLOT} if the event has to go to the
+   * overflow queue. A claimed slot must be published with {@link #publishSlot}.
+   */
+  /* package */ long claimSlot() {
+    if (!mOverflow.isEmpty()) {
+      // The ring is polled first: newer events must not go there while older ones overflowed
+      return NO_SLOT;
+    }
+    long position = mTail.get();
+    while (true) {
+      int index = (int) (position & mMask);
+      long difference = mSequences.get(index) - position;
+      if (difference == 0) {
+        if (mTail.compareAndSet(position, position + 1)) {
+          return position;
+        }
+        position = mTail.get();
+      } else if (difference < 0) {
+        // Ring is full: the consumer hasn't drained this slot yet
+        return NO_SLOT;
+      } else {
+        position = mTail.get();
+      }
+    }
+  }
+
+  /* package */ void publishSlot(long position, Event event) {
+    int index = (int) (position & mMask);
+    mBuffer[index] = event;
+    // Volatile write publishes the slot contents to the consumer
+    mSequences.set(index, position + 1);
+  }
+
+  /**
+   * Removes the next published event, or returns null if none is available. Must only be called
+   * from the single consumer thread.
+   */
+  public @Nullable Event poll() {
+    int index = (int) (mHead & mMask);
+    if (mSequences.get(index) == mHead + 1) {
+      Event event = mBuffer[index];
+      mBuffer[index] = null;
+      // Volatile write hands the slot back to producers for the next lap
+      mSequences.set(index, mHead + mMask + 1);
+      mHead++;
+      return event;
+    }
+    if (mTail.get() != mHead) {
+      // A producer claimed the head slot but hasn't published it yet. Events in the overflow
+      // queue were offered after it, so they have to wait for the next drain.
+      return null;
+    }
+    return mOverflow.poll();
+  }
+
+  /* package */ int capacity() {
+    return mMask + 1;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Interns event type ids used to build event cookies.
+ *
+ * <p>Ids are assigned per event name, exactly like the name-keyed map in {@link
+ * EventDispatcherImpl}, but lookups go through a per-{@link Event} class table first. Event names
+ * are almost always string constants, so the common case is an identity-hashed class lookup
+ * followed by a reference comparison against a handful of names, without hashing the name.
+ *
+ * <p>Not thread safe: only used from the thread that moves staged events to the dispatch queue.
+ */
+/* package */ final class EventTypeIdRegistry {
+
+  private final IdentityHashMap<Class<?>, ClassEventTypes> mClassToEventTypes =
+      new IdentityHashMap<>();
+  private final Map<String, Short> mEventNameToEventId = new HashMap<>();
+  private short mNextEventTypeId = 0;
+
+  public short getEventTypeId(Event event) {
+    Class<?> eventClass = event.getClass();
+    ClassEventTypes eventTypes = mClassToEventTypes.get(eventClass);
+    if (eventTypes == null) {
+      eventTypes = new ClassEventTypes();
+      mClassToEventTypes.put(eventClass, eventTypes);
+    }
+
+    String eventName = event.getEventName();
+    int found = eventTypes.find(eventName);
+    if (found >= 0) {
+      return eventTypes.mIds[found];
+    }
+
+    short eventTypeId = getEventTypeId(eventName);
+    eventTypes.add(eventName, eventTypeId);
+    return eventTypeId;
+  }
+
+  private short getEventTypeId(String eventName) {
+    Short eventIdObj = mEventNameToEventId.get(eventName);
+    if (eventIdObj != null) {
+      return eventIdObj;
+    }
+    short eventTypeId = mNextEventTypeId++;
+    mEventNameToEventId.put(eventName, eventTypeId);
+    return eventTypeId;
+  }
+
+  private static final class ClassEventTypes {
+    private String[] mNames = new String[2];
+    private short[] mIds = new short[2];
+    private int mSize = 0;
+
+    private int find(String eventName) {
+      for (int i = 0; i < mSize; i++) {
+        if (mNames[i] == eventName) {
+          return i;
+        }
+      }
+      // Dynamically built names (e.g. from a StringBuilder) won't be reference equal
+      for (int i = 0; i < mSize; i++) {
+        if (mNames[i].equals(eventName)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private void add(String eventName, short eventTypeId) {
+      if (mSize == mNames.length) {
+        mNames = Arrays.copyOf(mNames, mSize * 2);
+        mIds = Arrays.copyOf(mIds, mSize * 2);
+      }
+      mNames[mSize] = eventName;
+      mIds[mSize] = eventTypeId;
+      mSize++;
+    }
+  }
+}
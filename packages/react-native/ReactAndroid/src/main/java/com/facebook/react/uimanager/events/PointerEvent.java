@@ -11,17 +11,19 @@ import android.view.MotionEvent;
 import androidx.annotation.Nullable;
 import androidx.core.util.Pools;
 import com.facebook.infer.annotation.Assertions;
-import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactSoftExceptionLogger;
 import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.uimanager.PixelUtil;
 import com.facebook.react.uimanager.TouchTargetHelper;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class PointerEvent extends Event<PointerEvent> {
   private static final String TAG = PointerEvent.class.getSimpleName();
@@ -30,6 +32,30 @@ public class PointerEvent extends Event<PointerEvent> {
       new Pools.SynchronizedPool<>(POINTER_EVENTS_POOL_SIZE);
   private static final short UNSET_COALESCING_KEY = -1;
 
+  private static final int POINTER_ID_KEY = EventPayload.key("pointerId");
+  private static final int POINTER_TYPE_KEY = EventPayload.key("pointerType");
+  private static final int IS_PRIMARY_KEY = EventPayload.key("isPrimary");
+  private static final int CLIENT_X_KEY = EventPayload.key("clientX");
+  private static final int CLIENT_Y_KEY = EventPayload.key("clientY");
+  private static final int X_KEY = EventPayload.key("x");
+  private static final int Y_KEY = EventPayload.key("y");
+  private static final int PAGE_X_KEY = EventPayload.key("pageX");
+  private static final int PAGE_Y_KEY = EventPayload.key("pageY");
+  private static final int OFFSET_X_KEY = EventPayload.key("offsetX");
+  private static final int OFFSET_Y_KEY = EventPayload.key("offsetY");
+  private static final int TARGET_KEY = EventPayload.key("target");
+  private static final int TIMESTAMP_KEY = EventPayload.key("timestamp");
+  private static final int DETAIL_KEY = EventPayload.key("detail");
+  private static final int TILT_X_KEY = EventPayload.key("tiltX");
+  private static final int TILT_Y_KEY = EventPayload.key("tiltY");
+  private static final int TWIST_KEY = EventPayload.key("twist");
+  private static final int WIDTH_KEY = EventPayload.key("width");
+  private static final int HEIGHT_KEY = EventPayload.key("height");
+  private static final int BUTTON_KEY = EventPayload.key("button");
+  private static final int BUTTONS_KEY = EventPayload.key("buttons");
+  private static final int PRESSURE_KEY = EventPayload.key("pressure");
+  private static final int TANGENTIAL_PRESSURE_KEY = EventPayload.key("tangentialPressure");
+
   public static PointerEvent obtain(
       String eventName,
       int targetTag,
@@ -67,7 +93,7 @@ public class PointerEvent extends Event<PointerEvent> {
   private @Nullable String mEventName;
   private short mCoalescingKey = UNSET_COALESCING_KEY;
   private @Nullable List<WritableMap> mPointersEventData;
-  private PointerEventState mEventState;
+  private @Nullable PointerEventState mEventState;
   private @Nullable Event.EventAnimationDriverMatchSpec mEventAnimationDriverMatchSpec;
 
   private void init(
@@ -81,6 +107,7 @@ public class PointerEvent extends Event<PointerEvent> {
     mEventName = eventName;
     mMotionEvent = MotionEvent.obtain(motionEventToCopy);
     mCoalescingKey = coalescingKey;
+    eventState.retain();
     mEventState = eventState;
   }
 
@@ -133,9 +160,13 @@ public class PointerEvent extends Event<PointerEvent> {
               }
 
               if (PointerEventHelper.isBubblingEvent(eventName)) {
-                for (TouchTargetHelper.ViewTarget viewTarget :
-                    mEventState.getHitPathForActivePointer()) {
-                  if (viewTarget.getViewId() == viewTag) {
+                if (mEventState == null) {
+                  return false;
+                }
+                List<TouchTargetHelper.ViewTarget> hitPath =
+                    mEventState.getHitPathForActivePointer();
+                for (int i = 0; i < hitPath.size(); i++) {
+                  if (hitPath.get(i).getViewId() == viewTag) {
                     return true;
                   }
                 }
@@ -152,6 +183,11 @@ public class PointerEvent extends Event<PointerEvent> {
   @Override
   public void onDispose() {
     mPointersEventData = null;
+    PointerEventState eventState = mEventState;
+    mEventState = null;
+    if (eventState != null) {
+      eventState.release();
+    }
     MotionEvent motionEvent = mMotionEvent;
     mMotionEvent = null;
     if (motionEvent != null) {
@@ -184,77 +220,79 @@ public class PointerEvent extends Event<PointerEvent> {
   }
 
   private WritableMap createW3CPointerEvent(int index) {
-    WritableMap pointerEvent = Arguments.createMap();
+    EventPayload payload = EventPayload.obtain();
+    writeW3CPointerEvent(payload, index);
+    return payload.toWritableMap();
+  }
+
+  private void writeW3CPointerEvent(EventPayload payload, int index) {
     int pointerId = mMotionEvent.getPointerId(index);
 
     // https://www.w3.org/TR/pointerevents/#pointerevent-interface
-    pointerEvent.putDouble("pointerId", pointerId);
+    payload.putDouble(POINTER_ID_KEY, pointerId);
 
     String pointerType = PointerEventHelper.getW3CPointerType(mMotionEvent.getToolType(index));
-    pointerEvent.putString("pointerType", pointerType);
+    payload.putString(POINTER_TYPE_KEY, pointerType);
 
     boolean isPrimary =
         !isClickEvent() // compatibility click events should not be considered primary
-            && (mEventState.supportsHover(pointerId) || pointerId == mEventState.mPrimaryPointerId);
-    pointerEvent.putBoolean("isPrimary", isPrimary);
+            && (mEventState.supportsHover(pointerId)
+                || pointerId == mEventState.getPrimaryPointerId());
+    payload.putBoolean(IS_PRIMARY_KEY, isPrimary);
 
     // https://developer.mozilla.org/en-US/docs/Web/API/MouseEvent
     // Client refers to upper left edge of the content area (viewport)
     // We define the viewport to be ReactRootView
-    float[] eventCoords = mEventState.getEventCoordinatesByPointerId().get(pointerId);
-    double clientX = PixelUtil.toDIPFromPixel(eventCoords[0]);
-    double clientY = PixelUtil.toDIPFromPixel(eventCoords[1]);
-    pointerEvent.putDouble("clientX", clientX);
-    pointerEvent.putDouble("clientY", clientY);
+    double clientX = PixelUtil.toDIPFromPixel(mEventState.getEventX(pointerId));
+    double clientY = PixelUtil.toDIPFromPixel(mEventState.getEventY(pointerId));
+    payload.putDouble(CLIENT_X_KEY, clientX);
+    payload.putDouble(CLIENT_Y_KEY, clientY);
 
     // x,y values are aliases of clientX, clientY
-    pointerEvent.putDouble("x", clientX);
-    pointerEvent.putDouble("y", clientY);
+    payload.putDouble(X_KEY, clientX);
+    payload.putDouble(Y_KEY, clientY);
 
     // page values in react-native are equivalent to client values since rootview is not scrollable
-    pointerEvent.putDouble("pageX", clientX);
-    pointerEvent.putDouble("pageY", clientY);
+    payload.putDouble(PAGE_X_KEY, clientX);
+    payload.putDouble(PAGE_Y_KEY, clientY);
 
     // Offset refers to upper left edge of the target view
-    float[] offsetCoords = mEventState.getOffsetByPointerId().get(pointerId);
-    pointerEvent.putDouble("offsetX", PixelUtil.toDIPFromPixel(offsetCoords[0]));
-    pointerEvent.putDouble("offsetY", PixelUtil.toDIPFromPixel(offsetCoords[1]));
+    payload.putDouble(OFFSET_X_KEY, PixelUtil.toDIPFromPixel(mEventState.getOffsetX(pointerId)));
+    payload.putDouble(OFFSET_Y_KEY, PixelUtil.toDIPFromPixel(mEventState.getOffsetY(pointerId)));
 
-    pointerEvent.putInt("target", getViewTag());
-    pointerEvent.putDouble("timestamp", getTimestampMs());
+    payload.putInt(TARGET_KEY, getViewTag());
+    payload.putDouble(TIMESTAMP_KEY, getTimestampMs());
 
-    pointerEvent.putInt("detail", 0);
-    pointerEvent.putDouble("tiltX", 0);
-    pointerEvent.putDouble("tiltY", 0);
+    payload.putInt(DETAIL_KEY, 0);
+    payload.putDouble(TILT_X_KEY, 0);
+    payload.putDouble(TILT_Y_KEY, 0);
 
-    pointerEvent.putInt("twist", 0);
+    payload.putInt(TWIST_KEY, 0);
     // note: click events should have width = height = 1
     if (pointerType.equals(PointerEventHelper.POINTER_TYPE_MOUSE) || isClickEvent()) {
-      pointerEvent.putDouble("width", 1);
-      pointerEvent.putDouble("height", 1);
+      payload.putDouble(WIDTH_KEY, 1);
+      payload.putDouble(HEIGHT_KEY, 1);
     } else {
       float majorAxis = PixelUtil.toDIPFromPixel(mMotionEvent.getTouchMajor(index));
-      pointerEvent.putDouble("width", majorAxis);
-      pointerEvent.putDouble("height", majorAxis);
+      payload.putDouble(WIDTH_KEY, majorAxis);
+      payload.putDouble(HEIGHT_KEY, majorAxis);
     }
 
     int buttonState = mMotionEvent.getButtonState();
-    pointerEvent.putInt(
-        "button",
+    payload.putInt(
+        BUTTON_KEY,
         PointerEventHelper.getButtonChange(
             pointerType, mEventState.getLastButtonState(), buttonState));
-    pointerEvent.putInt(
-        "buttons", PointerEventHelper.getButtons(mEventName, pointerType, buttonState));
+    int buttons = PointerEventHelper.getButtons(mEventName, pointerType, buttonState);
+    payload.putInt(BUTTONS_KEY, buttons);
 
     final double pressure =
         isClickEvent() // click events need pressure=0
             ? 0
-            : PointerEventHelper.getPressure(pointerEvent.getInt("buttons"), mEventName);
+            : PointerEventHelper.getPressure(buttons, mEventName);
 
-    pointerEvent.putDouble("pressure", pressure);
-    pointerEvent.putDouble("tangentialPressure", 0.0);
-
-    return pointerEvent;
+    payload.putDouble(PRESSURE_KEY, pressure);
+    payload.putDouble(TANGENTIAL_PRESSURE_KEY, 0.0);
   }
 
   private List<WritableMap> createPointersEventData() {
@@ -296,6 +334,13 @@ public class PointerEvent extends Event<PointerEvent> {
       return;
     }
 
+    if (ReactFeatureFlags.enableEventPayloads
+        && mPointersEventData == null
+        && rctEventEmitter instanceof EventPayloadEmitter
+        && dispatchPayloads((EventPayloadEmitter) rctEventEmitter)) {
+      return;
+    }
+
     if (mPointersEventData == null) {
       mPointersEventData = createPointersEventData();
     }
@@ -319,16 +364,122 @@ public class PointerEvent extends Event<PointerEvent> {
     }
   }
 
+  /**
+   * Dispatches the same data as {@link #createPointersEventData}, written into {@link
+   * EventPayload}s instead of maps.
+   *
+   * @return false if the emitter doesn't support payloads, in which case nothing was dispatched
+   */
+  private boolean dispatchPayloads(EventPayloadEmitter eventEmitter) {
+    int pointerStart;
+    int pointerEnd;
+    switch (mEventName) {
+        // Cases where all pointer info is relevant
+      case PointerEventHelper.POINTER_MOVE:
+      case PointerEventHelper.POINTER_CANCEL:
+        pointerStart = 0;
+        pointerEnd = mMotionEvent.getPointerCount();
+        break;
+        // Cases where only the "active" pointer info is relevant
+      case PointerEventHelper.POINTER_ENTER:
+      case PointerEventHelper.POINTER_DOWN:
+      case PointerEventHelper.POINTER_UP:
+      case PointerEventHelper.POINTER_LEAVE:
+      case PointerEventHelper.POINTER_OUT:
+      case PointerEventHelper.POINTER_OVER:
+      case PointerEventHelper.CLICK:
+        pointerStart = mMotionEvent.getActionIndex();
+        pointerEnd = pointerStart + 1;
+        break;
+      default:
+        // No relevant MotionEvent to dispatch
+        return true;
+    }
+
+    for (int index = pointerStart; index < pointerEnd; index++) {
+      EventPayload payload = EventPayload.obtain();
+      writeW3CPointerEvent(payload, index);
+      if (!eventEmitter.receiveEvent(
+          getSurfaceId(),
+          getViewTag(),
+          mEventName,
+          mCoalescingKey != UNSET_COALESCING_KEY,
+          mCoalescingKey,
+          payload,
+          PointerEventHelper.getEventCategory(mEventName))) {
+        // Emitters support payloads for all the events of a target or none
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * State of the pointers of a MotionEvent shared by the PointerEvents dispatched for it. Values
+   * are stored in arrays indexed by pointer id, which MotionEvent keeps in [0, {@link
+   * #MAX_POINTER_ID}].
+   *
+   * <p>States obtained with {@link #obtain} are reference counted: each PointerEvent retains the
+   * state it is created with and releases it when disposed. When {@link
+   * ReactFeatureFlags#enablePointerEventStatePool} is set, states are then reused once released by
+   * everyone.
+   */
   public static class PointerEventState {
+    public static final int MAX_POINTER_ID = 31;
+    private static final int POINTER_ID_COUNT = MAX_POINTER_ID + 1;
+    private static final Pools.SynchronizedPool<PointerEventState> POOL =
+        new Pools.SynchronizedPool<>(POINTER_EVENTS_POOL_SIZE);
+
     private int mPrimaryPointerId;
     private int mActivePointerId;
     private int mLastButtonState;
     private int mSurfaceId;
 
-    private Map<Integer, float[]> mOffsetByPointerId;
-    private Map<Integer, List<TouchTargetHelper.ViewTarget>> mHitPathByPointerId;
-    private Map<Integer, float[]> mEventCoordinatesByPointerId;
-    private Set<Integer> mHoveringPointerIds;
+    // Bitmasks of pointer ids
+    private int mPointerIds;
+    private int mHoveringPointerIds;
+    // x and y of each pointer id
+    private final float[] mOffsets = new float[2 * POINTER_ID_COUNT];
+    private final float[] mEventCoordinates = new float[2 * POINTER_ID_COUNT];
+    // Created on first use, and cleared rather than dropped when the state is reused
+    @SuppressWarnings("unchecked")
+    private final List<TouchTargetHelper.ViewTarget>[] mHitPaths = new List[POINTER_ID_COUNT];
+
+    private final boolean mIsRefCounted;
+    private final AtomicInteger mRefCount = new AtomicInteger();
+
+    // Maps of the deprecated getters, created on demand
+    private @Nullable Map<Integer, float[]> mOffsetByPointerId;
+    private @Nullable Map<Integer, List<TouchTargetHelper.ViewTarget>> mHitPathByPointerId;
+    private @Nullable Map<Integer, float[]> mEventCoordinatesByPointerId;
+
+    /**
+     * @return a state without pointers, to be set with {@link #setPointer} and {@link #getHitPath},
+     *     and released by the caller with {@link #release} when it no longer needs it
+     */
+    public static PointerEventState obtain(
+        int primaryPointerId,
+        int activePointerId,
+        int lastButtonState,
+        int surfaceId,
+        int hoveringPointerIds) {
+      PointerEventState state =
+          ReactFeatureFlags.enablePointerEventStatePool ? POOL.acquire() : null;
+      if (state == null) {
+        state = new PointerEventState(true);
+      }
+      state.mPrimaryPointerId = primaryPointerId;
+      state.mActivePointerId = activePointerId;
+      state.mLastButtonState = lastButtonState;
+      state.mSurfaceId = surfaceId;
+      state.mHoveringPointerIds = hoveringPointerIds;
+      state.mRefCount.set(1);
+      return state;
+    }
+
+    private PointerEventState(boolean isRefCounted) {
+      mIsRefCounted = isRefCounted;
+    }
 
     public PointerEventState(
         int primaryPointerId,
@@ -339,14 +490,95 @@ public class PointerEvent extends Event<PointerEvent> {
         Map<Integer, List<TouchTargetHelper.ViewTarget>> hitPathByPointerId,
         Map<Integer, float[]> eventCoordinatesByPointerId,
         Set<Integer> hoveringPointerIds) {
+      this(false);
       mPrimaryPointerId = primaryPointerId;
       mActivePointerId = activePointerId;
       mLastButtonState = lastButtonState;
       mSurfaceId = surfaceId;
-      mOffsetByPointerId = offsetByPointerId;
-      mHitPathByPointerId = hitPathByPointerId;
-      mEventCoordinatesByPointerId = eventCoordinatesByPointerId;
-      mHoveringPointerIds = new HashSet<>(hoveringPointerIds);
+      for (Map.Entry<Integer, float[]> entry : eventCoordinatesByPointerId.entrySet()) {
+        float[] offset = offsetByPointerId.get(entry.getKey());
+        setPointer(
+            entry.getKey(),
+            entry.getValue()[0],
+            entry.getValue()[1],
+            offset != null ? offset[0] : 0,
+            offset != null ? offset[1] : 0);
+      }
+      for (Map.Entry<Integer, List<TouchTargetHelper.ViewTarget>> entry :
+          hitPathByPointerId.entrySet()) {
+        getHitPath(entry.getKey()).addAll(entry.getValue());
+      }
+      for (Integer pointerId : hoveringPointerIds) {
+        mHoveringPointerIds |= getPointerIdBit(pointerId);
+      }
+    }
+
+    /** @return the bit of {@code pointerId} in bitmasks of pointer ids */
+    public static int getPointerIdBit(int pointerId) {
+      if (pointerId < 0 || pointerId > MAX_POINTER_ID) {
+        throw new IllegalArgumentException("Invalid pointer id: " + pointerId);
+      }
+      return 1 << pointerId;
+    }
+
+    public void retain() {
+      if (mIsRefCounted) {
+        mRefCount.incrementAndGet();
+      }
+    }
+
+    public void release() {
+      if (!mIsRefCounted) {
+        return;
+      }
+      int refCount = mRefCount.decrementAndGet();
+      if (refCount == 0) {
+        if (ReactFeatureFlags.enablePointerEventStatePool) {
+          reset();
+          POOL.release(this);
+        }
+      } else if (refCount < 0) {
+        ReactSoftExceptionLogger.logSoftException(
+            TAG, new IllegalStateException("PointerEventState was released too many times"));
+      }
+    }
+
+    private void reset() {
+      for (int pointerId = 0; pointerId < POINTER_ID_COUNT; pointerId++) {
+        if (mHitPaths[pointerId] != null) {
+          mHitPaths[pointerId].clear();
+        }
+      }
+      mPointerIds = 0;
+      mOffsetByPointerId = null;
+      mHitPathByPointerId = null;
+      mEventCoordinatesByPointerId = null;
+    }
+
+    /** Sets the coordinates of {@code pointerId} in the root view and in its target view. */
+    public void setPointer(
+        int pointerId, float eventX, float eventY, float offsetX, float offsetY) {
+      mPointerIds |= getPointerIdBit(pointerId);
+      mEventCoordinates[2 * pointerId] = eventX;
+      mEventCoordinates[2 * pointerId + 1] = eventY;
+      mOffsets[2 * pointerId] = offsetX;
+      mOffsets[2 * pointerId + 1] = offsetY;
+    }
+
+    /** Copies the pointers of {@code other}, and the hit paths of the pointers it has. */
+    public void copyPointersFrom(PointerEventState other) {
+      mPointerIds = other.mPointerIds;
+      System.arraycopy(other.mOffsets, 0, mOffsets, 0, mOffsets.length);
+      System.arraycopy(other.mEventCoordinates, 0, mEventCoordinates, 0, mEventCoordinates.length);
+      for (int pointerId = 0; pointerId < POINTER_ID_COUNT; pointerId++) {
+        if (hasPointer(pointerId) && other.mHitPaths[pointerId] != null) {
+          List<TouchTargetHelper.ViewTarget> hitPath = getHitPath(pointerId);
+          List<TouchTargetHelper.ViewTarget> otherHitPath = other.mHitPaths[pointerId];
+          for (int i = 0; i < otherHitPath.size(); i++) {
+            hitPath.add(otherHitPath.get(i));
+          }
+        }
+      }
     }
 
     public int getLastButtonState() {
@@ -365,28 +597,111 @@ public class PointerEvent extends Event<PointerEvent> {
       return mActivePointerId;
     }
 
+    /** @return the bitmask of the pointer ids of the state, see {@link #getPointerIdBit} */
+    public int getPointerIds() {
+      return mPointerIds;
+    }
+
+    public boolean hasPointer(int pointerId) {
+      return (mPointerIds & getPointerIdBit(pointerId)) != 0;
+    }
+
     public boolean supportsHover(int pointerId) {
-      return mHoveringPointerIds.contains(pointerId);
+      return (mHoveringPointerIds & getPointerIdBit(pointerId)) != 0;
     }
 
-    public Set<Integer> getHoveringPointerIds() {
+    /** @return the bitmask of the pointer ids that support hover */
+    public int getHoveringPointerIdBits() {
       return mHoveringPointerIds;
     }
 
+    public float getEventX(int pointerId) {
+      return mEventCoordinates[2 * pointerId];
+    }
+
+    public float getEventY(int pointerId) {
+      return mEventCoordinates[2 * pointerId + 1];
+    }
+
+    public float getOffsetX(int pointerId) {
+      return mOffsets[2 * pointerId];
+    }
+
+    public float getOffsetY(int pointerId) {
+      return mOffsets[2 * pointerId + 1];
+    }
+
+    /**
+     * @return the hit path of {@code pointerId}, ordered from target to root, empty if the pointer
+     *     has none. Must only be modified while setting up the state.
+     */
+    public List<TouchTargetHelper.ViewTarget> getHitPath(int pointerId) {
+      getPointerIdBit(pointerId);
+      List<TouchTargetHelper.ViewTarget> hitPath = mHitPaths[pointerId];
+      if (hitPath == null) {
+        hitPath = new ArrayList<>();
+        mHitPaths[pointerId] = hitPath;
+      }
+      return hitPath;
+    }
+
+    public final List<TouchTargetHelper.ViewTarget> getHitPathForActivePointer() {
+      return getHitPath(mActivePointerId);
+    }
+
+    /** @deprecated Use {@link #getHoveringPointerIdBits} or {@link #supportsHover} */
+    @Deprecated
+    public Set<Integer> getHoveringPointerIds() {
+      Set<Integer> hoveringPointerIds = new HashSet<>();
+      for (int pointerId = 0; pointerId < POINTER_ID_COUNT; pointerId++) {
+        if (supportsHover(pointerId)) {
+          hoveringPointerIds.add(pointerId);
+        }
+      }
+      return hoveringPointerIds;
+    }
+
+    /** @deprecated Use {@link #getOffsetX} and {@link #getOffsetY} */
+    @Deprecated
     public final Map<Integer, float[]> getOffsetByPointerId() {
+      if (mOffsetByPointerId == null) {
+        mOffsetByPointerId = toMap(mOffsets);
+      }
       return mOffsetByPointerId;
     }
 
+    /** @deprecated Use {@link #getHitPath} */
+    @Deprecated
     public final Map<Integer, List<TouchTargetHelper.ViewTarget>> getHitPathByPointerId() {
+      if (mHitPathByPointerId == null) {
+        mHitPathByPointerId = new HashMap<>();
+        for (int pointerId = 0; pointerId < POINTER_ID_COUNT; pointerId++) {
+          if (hasPointer(pointerId)) {
+            mHitPathByPointerId.put(pointerId, getHitPath(pointerId));
+          }
+        }
+      }
       return mHitPathByPointerId;
     }
 
+    /** @deprecated Use {@link #getEventX} and {@link #getEventY} */
+    @Deprecated
     public final Map<Integer, float[]> getEventCoordinatesByPointerId() {
+      if (mEventCoordinatesByPointerId == null) {
+        mEventCoordinatesByPointerId = toMap(mEventCoordinates);
+      }
       return mEventCoordinatesByPointerId;
     }
 
-    public final List<TouchTargetHelper.ViewTarget> getHitPathForActivePointer() {
-      return mHitPathByPointerId.get(mActivePointerId);
+    private Map<Integer, float[]> toMap(float[] coordinates) {
+      Map<Integer, float[]> map = new HashMap<>();
+      for (int pointerId = 0; pointerId < POINTER_ID_COUNT; pointerId++) {
+        if (hasPointer(pointerId)) {
+          map.put(
+              pointerId, new float[] {coordinates[2 * pointerId], coordinates[2 * pointerId + 1]});
+        }
+      }
+      return map;
     }
   }
 }
@@ -19,7 +19,7 @@ import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.common.UIManagerType;
 import com.facebook.react.uimanager.common.ViewUtil;
 
-public class ReactEventEmitter implements RCTModernEventEmitter {
+public class ReactEventEmitter implements RCTModernEventEmitter, EventPayloadEmitter {
 
   private static final String TAG = "ReactEventEmitter";
 
@@ -125,6 +125,32 @@ public class ReactEventEmitter implements RCTModernEventEmitter {
     return mRCTEventEmitter;
   }
 
+  @Override
+  public boolean receiveEvent(
+      int surfaceId,
+      int targetReactTag,
+      String eventName,
+      boolean canCoalesceEvent,
+      int customCoalesceKey,
+      EventPayload payload,
+      @EventCategoryDef int category) {
+    // Only Fabric can dispatch payloads, other events are dispatched as maps
+    @UIManagerType int uiManagerType = ViewUtil.getUIManagerType(targetReactTag, surfaceId);
+    if (uiManagerType == UIManagerType.FABRIC
+        && mFabricEventEmitter instanceof EventPayloadEmitter) {
+      return ((EventPayloadEmitter) mFabricEventEmitter)
+          .receiveEvent(
+              surfaceId,
+              targetReactTag,
+              eventName,
+              canCoalesceEvent,
+              customCoalesceKey,
+              payload,
+              category);
+    }
+    return false;
+  }
+
   @Override
   public void receiveEvent(
       int surfaceId,
@@ -12,6 +12,7 @@ import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactSoftExceptionLogger;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.uimanager.PixelUtil;
 import com.facebook.systrace.Systrace;
 
@@ -31,6 +32,18 @@ public class TouchesHelper {
 
   private static final String TAG = "TouchesHelper";
 
+  private static final int TARGET_SURFACE_PAYLOAD_KEY = EventPayload.key(TARGET_SURFACE_KEY);
+  private static final int TARGET_PAYLOAD_KEY = EventPayload.key(TARGET_KEY);
+  private static final int CHANGED_TOUCHES_PAYLOAD_KEY = EventPayload.key(CHANGED_TOUCHES_KEY);
+  private static final int TOUCHES_PAYLOAD_KEY = EventPayload.key(TOUCHES_KEY);
+  private static final int PAGE_X_PAYLOAD_KEY = EventPayload.key(PAGE_X_KEY);
+  private static final int PAGE_Y_PAYLOAD_KEY = EventPayload.key(PAGE_Y_KEY);
+  private static final int TIMESTAMP_PAYLOAD_KEY = EventPayload.key(TIMESTAMP_KEY);
+  private static final int POINTER_IDENTIFIER_PAYLOAD_KEY =
+      EventPayload.key(POINTER_IDENTIFIER_KEY);
+  private static final int LOCATION_X_PAYLOAD_KEY = EventPayload.key(LOCATION_X_KEY);
+  private static final int LOCATION_Y_PAYLOAD_KEY = EventPayload.key(LOCATION_Y_KEY);
+
   /**
    * Creates catalyst pointers array in format that is expected by RCTEventEmitter JS module from
    * given {@param event} instance. This method use {@param reactTarget} parameter to set as a
@@ -40,34 +53,9 @@ public class TouchesHelper {
     MotionEvent motionEvent = event.getMotionEvent();
     WritableMap[] touches = new WritableMap[motionEvent.getPointerCount()];
 
-    // Calculate the coordinates for the target view.
-    // The MotionEvent contains the X,Y of the touch in the coordinate space of the root view
-    // The TouchEvent contains the X,Y of the touch in the coordinate space of the target view
-    // Subtracting them allows us to get the coordinates of the target view's top left corner
-    // We then use this when computing the view specific touches below
-    // Since only one view is actually handling even multiple touches, the values are all relative
-    // to this one target view.
-    float targetViewCoordinateX = motionEvent.getX() - event.getViewX();
-    float targetViewCoordinateY = motionEvent.getY() - event.getViewY();
-
     for (int index = 0; index < motionEvent.getPointerCount(); index++) {
-      WritableMap touch = Arguments.createMap();
-      // pageX,Y values are relative to the RootReactView
-      // the motionEvent already contains coordinates in that view
-      touch.putDouble(PAGE_X_KEY, PixelUtil.toDIPFromPixel(motionEvent.getX(index)));
-      touch.putDouble(PAGE_Y_KEY, PixelUtil.toDIPFromPixel(motionEvent.getY(index)));
-      // locationX,Y values are relative to the target view
-      // To compute the values for the view, we subtract that views location from the event X,Y
-      float locationX = motionEvent.getX(index) - targetViewCoordinateX;
-      float locationY = motionEvent.getY(index) - targetViewCoordinateY;
-      touch.putDouble(LOCATION_X_KEY, PixelUtil.toDIPFromPixel(locationX));
-      touch.putDouble(LOCATION_Y_KEY, PixelUtil.toDIPFromPixel(locationY));
-      touch.putInt(TARGET_SURFACE_KEY, event.getSurfaceId());
-      touch.putInt(TARGET_KEY, event.getViewTag());
-      touch.putDouble(TIMESTAMP_KEY, event.getTimestampMs());
-      touch.putDouble(POINTER_IDENTIFIER_KEY, motionEvent.getPointerId(index));
-
-      touches[index] = touch;
+      EventPayload payload = EventPayload.obtain();
+      touches[index] = writeTouch(payload, event, index).toWritableMap();
     }
 
     return touches;
@@ -130,6 +118,12 @@ public class TouchesHelper {
         return;
       }
 
+      if (ReactFeatureFlags.enableEventPayloads
+          && eventEmitter instanceof EventPayloadEmitter
+          && sendTouchEventPayloads((EventPayloadEmitter) eventEmitter, event)) {
+        return;
+      }
+
       WritableMap[] touches = createPointersArray(event);
       WritableMap[] changedTouches = null;
 
@@ -185,6 +179,89 @@ public class TouchesHelper {
     }
   }
 
+  /**
+   * Same as {@link #sendTouchEvent}, but writes the touches into an {@link EventPayload} instead of
+   * creating maps for them.
+   *
+   * @return false if the emitter doesn't support payloads, in which case nothing was sent
+   */
+  private static boolean sendTouchEventPayloads(
+      EventPayloadEmitter eventEmitter, TouchEvent event) {
+    TouchEventType type = event.getTouchEventType();
+    MotionEvent motionEvent = event.getMotionEvent();
+    int pointerCount = motionEvent.getPointerCount();
+    int actionIndex = motionEvent.getActionIndex();
+
+    // Same touches as sendTouchEvent: START and END only change the pointer of the action, END
+    // and CANCEL remove the changed pointers from the active touches.
+    boolean onlyActionPointerChanged = type == TouchEventType.START || type == TouchEventType.END;
+    int changedStart = onlyActionPointerChanged ? actionIndex : 0;
+    int changedEnd = onlyActionPointerChanged ? actionIndex + 1 : pointerCount;
+
+    for (int changedIndex = changedStart; changedIndex < changedEnd; changedIndex++) {
+      EventPayload payload = EventPayload.obtain();
+      writeTouch(payload, event, changedIndex);
+
+      payload.beginArray(CHANGED_TOUCHES_PAYLOAD_KEY);
+      for (int i = changedStart; i < changedEnd; i++) {
+        writeTouch(payload.beginMap(EventPayload.NO_KEY), event, i).end();
+      }
+      payload.end();
+
+      payload.beginArray(TOUCHES_PAYLOAD_KEY);
+      if (type != TouchEventType.CANCEL) {
+        for (int i = 0; i < pointerCount; i++) {
+          if (type != TouchEventType.END || i != actionIndex) {
+            writeTouch(payload.beginMap(EventPayload.NO_KEY), event, i).end();
+          }
+        }
+      }
+      payload.end();
+
+      if (!eventEmitter.receiveEvent(
+          event.getSurfaceId(),
+          event.getViewTag(),
+          event.getEventName(),
+          event.canCoalesce(),
+          0,
+          payload,
+          event.getEventCategory())) {
+        // Emitters support payloads for all the events of a target or none
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Writes the touch of the pointer at {@code index} into {@code payload}. */
+  private static EventPayload writeTouch(EventPayload payload, TouchEvent event, int index) {
+    MotionEvent motionEvent = event.getMotionEvent();
+    // Calculate the coordinates for the target view.
+    // The MotionEvent contains the X,Y of the touch in the coordinate space of the root view
+    // The TouchEvent contains the X,Y of the touch in the coordinate space of the target view
+    // Subtracting them allows us to get the coordinates of the target view's top left corner
+    // We then use this when computing the view specific touches below
+    // Since only one view is actually handling even multiple touches, the values are all relative
+    // to this one target view.
+    float targetViewCoordinateX = motionEvent.getX() - event.getViewX();
+    float targetViewCoordinateY = motionEvent.getY() - event.getViewY();
+    // locationX,Y values are relative to the target view
+    // To compute the values for the view, we subtract that views location from the event X,Y
+    float locationX = motionEvent.getX(index) - targetViewCoordinateX;
+    float locationY = motionEvent.getY(index) - targetViewCoordinateY;
+    // pageX,Y values are relative to the RootReactView
+    // the motionEvent already contains coordinates in that view
+    return payload
+        .putDouble(PAGE_X_PAYLOAD_KEY, PixelUtil.toDIPFromPixel(motionEvent.getX(index)))
+        .putDouble(PAGE_Y_PAYLOAD_KEY, PixelUtil.toDIPFromPixel(motionEvent.getY(index)))
+        .putDouble(LOCATION_X_PAYLOAD_KEY, PixelUtil.toDIPFromPixel(locationX))
+        .putDouble(LOCATION_Y_PAYLOAD_KEY, PixelUtil.toDIPFromPixel(locationY))
+        .putInt(TARGET_SURFACE_PAYLOAD_KEY, event.getSurfaceId())
+        .putInt(TARGET_PAYLOAD_KEY, event.getViewTag())
+        .putDouble(TIMESTAMP_PAYLOAD_KEY, event.getTimestampMs())
+        .putDouble(POINTER_IDENTIFIER_PAYLOAD_KEY, motionEvent.getPointerId(index));
+  }
+
   private static WritableArray getWritableArray(boolean copyObjects, WritableMap... objects) {
     WritableArray result = Arguments.createArray();
     for (WritableMap object : objects) {
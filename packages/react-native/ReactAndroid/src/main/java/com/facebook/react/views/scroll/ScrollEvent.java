@@ -10,12 +10,12 @@ package com.facebook.react.views.scroll;
 import androidx.annotation.Nullable;
 import androidx.core.util.Pools;
 import com.facebook.infer.annotation.Assertions;
-import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactSoftExceptionLogger;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.PixelUtil;
 import com.facebook.react.uimanager.common.ViewUtil;
 import com.facebook.react.uimanager.events.Event;
+import com.facebook.react.uimanager.events.EventPayload;
 
 /** A event dispatched from a ScrollView scrolling. */
 public class ScrollEvent extends Event<ScrollEvent> {
@@ -24,6 +24,22 @@ public class ScrollEvent extends Event<ScrollEvent> {
   private static final Pools.SynchronizedPool<ScrollEvent> EVENTS_POOL =
       new Pools.SynchronizedPool<>(3);
 
+  private static final int CONTENT_INSET_KEY = EventPayload.key("contentInset");
+  private static final int CONTENT_OFFSET_KEY = EventPayload.key("contentOffset");
+  private static final int CONTENT_SIZE_KEY = EventPayload.key("contentSize");
+  private static final int LAYOUT_MEASUREMENT_KEY = EventPayload.key("layoutMeasurement");
+  private static final int VELOCITY_KEY = EventPayload.key("velocity");
+  private static final int TOP_KEY = EventPayload.key("top");
+  private static final int BOTTOM_KEY = EventPayload.key("bottom");
+  private static final int LEFT_KEY = EventPayload.key("left");
+  private static final int RIGHT_KEY = EventPayload.key("right");
+  private static final int X_KEY = EventPayload.key("x");
+  private static final int Y_KEY = EventPayload.key("y");
+  private static final int WIDTH_KEY = EventPayload.key("width");
+  private static final int HEIGHT_KEY = EventPayload.key("height");
+  private static final int TARGET_KEY = EventPayload.key("target");
+  private static final int RESPONDER_IGNORE_SCROLL_KEY = EventPayload.key("responderIgnoreScroll");
+
   private float mScrollX;
   private float mScrollY;
   private float mXVelocity;
@@ -145,37 +161,43 @@ public class ScrollEvent extends Event<ScrollEvent> {
   @Nullable
   @Override
   protected WritableMap getEventData() {
-    WritableMap contentInset = Arguments.createMap();
-    contentInset.putDouble("top", 0);
-    contentInset.putDouble("bottom", 0);
-    contentInset.putDouble("left", 0);
-    contentInset.putDouble("right", 0);
-
-    WritableMap contentOffset = Arguments.createMap();
-    contentOffset.putDouble("x", PixelUtil.toDIPFromPixel(mScrollX));
-    contentOffset.putDouble("y", PixelUtil.toDIPFromPixel(mScrollY));
-
-    WritableMap contentSize = Arguments.createMap();
-    contentSize.putDouble("width", PixelUtil.toDIPFromPixel(mContentWidth));
-    contentSize.putDouble("height", PixelUtil.toDIPFromPixel(mContentHeight));
-
-    WritableMap layoutMeasurement = Arguments.createMap();
-    layoutMeasurement.putDouble("width", PixelUtil.toDIPFromPixel(mScrollViewWidth));
-    layoutMeasurement.putDouble("height", PixelUtil.toDIPFromPixel(mScrollViewHeight));
-
-    WritableMap velocity = Arguments.createMap();
-    velocity.putDouble("x", mXVelocity);
-    velocity.putDouble("y", mYVelocity);
-
-    WritableMap event = Arguments.createMap();
-    event.putMap("contentInset", contentInset);
-    event.putMap("contentOffset", contentOffset);
-    event.putMap("contentSize", contentSize);
-    event.putMap("layoutMeasurement", layoutMeasurement);
-    event.putMap("velocity", velocity);
-
-    event.putInt("target", getViewTag());
-    event.putBoolean("responderIgnoreScroll", true);
-    return event;
+    EventPayload payload = EventPayload.obtain();
+    writeEventPayload(payload);
+    return payload.toWritableMap();
+  }
+
+  @Override
+  protected boolean writeEventPayload(EventPayload payload) {
+    payload
+        .beginMap(CONTENT_INSET_KEY)
+        .putDouble(TOP_KEY, 0)
+        .putDouble(BOTTOM_KEY, 0)
+        .putDouble(LEFT_KEY, 0)
+        .putDouble(RIGHT_KEY, 0)
+        .end();
+
+    payload
+        .beginMap(CONTENT_OFFSET_KEY)
+        .putDouble(X_KEY, PixelUtil.toDIPFromPixel(mScrollX))
+        .putDouble(Y_KEY, PixelUtil.toDIPFromPixel(mScrollY))
+        .end();
+
+    payload
+        .beginMap(CONTENT_SIZE_KEY)
+        .putDouble(WIDTH_KEY, PixelUtil.toDIPFromPixel(mContentWidth))
+        .putDouble(HEIGHT_KEY, PixelUtil.toDIPFromPixel(mContentHeight))
+        .end();
+
+    payload
+        .beginMap(LAYOUT_MEASUREMENT_KEY)
+        .putDouble(WIDTH_KEY, PixelUtil.toDIPFromPixel(mScrollViewWidth))
+        .putDouble(HEIGHT_KEY, PixelUtil.toDIPFromPixel(mScrollViewHeight))
+        .end();
+
+    payload.beginMap(VELOCITY_KEY).putDouble(X_KEY, mXVelocity).putDouble(Y_KEY, mYVelocity).end();
+
+    payload.putInt(TARGET_KEY, getViewTag());
+    payload.putBoolean(RESPONDER_IGNORE_SCROLL_KEY, true);
+    return true;
   }
 }
@@ -8,14 +8,27 @@
 package com.facebook.react.views.text;
 
 import android.content.Context;
+import android.content.SharedPreferences;
 import android.content.res.AssetManager;
 import android.graphics.Typeface;
-import android.util.SparseArray;
 import androidx.annotation.Nullable;
 import androidx.core.content.res.ResourcesCompat;
+import com.facebook.common.logging.FLog;
 import com.facebook.infer.annotation.Nullsafe;
-import java.util.HashMap;
+import com.facebook.react.common.ReactConstants;
+import com.facebook.react.common.annotations.VisibleForTesting;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Responsible for loading and caching Typeface objects.
@@ -31,6 +44,11 @@ import java.util.Map;
  *   <li>ExampleFontFamily_bold.ttf (or .otf)
  *   <li>ExampleFontFamily_italic.ttf (or .otf)
  *   <li>ExampleFontFamily_bold_italic.ttf (or .otf)
+ * </ul>
+ *
+ * <p>Typefaces can be looked up from any thread. Asset fonts can be preloaded on background
+ * threads with {@link #preloadTypefaces}, and the asset fonts used in a session can be recorded so
+ * that the next session preloads exactly those, see {@link #enableWarmedTypefaces}.
  */
 @Nullsafe(Nullsafe.Mode.LOCAL)
 public class ReactFontManager {
@@ -40,21 +58,43 @@ public class ReactFontManager {
   private static final String[] FILE_EXTENSIONS = {".ttf", ".otf"};
   private static final String FONTS_ASSET_PATH = "fonts/";
 
-  private static ReactFontManager sReactFontManagerInstance;
+  private static final String WARMED_TYPEFACES_PREFS_NAME = "com.facebook.react.fonts";
+  private static final String WARMED_TYPEFACES_KEY = "warmed_typefaces";
+  private static final String WARMED_TYPEFACE_SEPARATOR = "|";
+  private static final int PRELOAD_THREAD_COUNT = 2;
+
+  private static volatile @Nullable ReactFontManager sReactFontManagerInstance;
 
-  private final Map<String, AssetFontFamily> mFontCache;
+  private final ConcurrentHashMap<String, AssetFontFamily> mFontCache;
   private final Map<String, Typeface> mCustomTypefaceCache;
+  // Asset typefaces being loaded, so that each one is only loaded once when it is requested by
+  // several threads, or both preloaded and requested
+  private final ConcurrentHashMap<String, FutureTask<Typeface>> mPendingTypefaces;
+  private @Nullable Executor mPreloadExecutor;
+  // Asset font family styles used in this session. Guarded by itself, like the prefs below
+  private final Set<String> mWarmedTypefaces;
+  private @Nullable SharedPreferences mWarmedTypefacesPrefs;
 
-  private ReactFontManager() {
-    mFontCache = new HashMap<>();
-    mCustomTypefaceCache = new HashMap<>();
+  @VisibleForTesting
+  /* package */ ReactFontManager() {
+    mFontCache = new ConcurrentHashMap<>();
+    mCustomTypefaceCache = new ConcurrentHashMap<>();
+    mPendingTypefaces = new ConcurrentHashMap<>();
+    mWarmedTypefaces = new HashSet<>();
   }
 
   public static ReactFontManager getInstance() {
-    if (sReactFontManagerInstance == null) {
-      sReactFontManagerInstance = new ReactFontManager();
+    ReactFontManager instance = sReactFontManagerInstance;
+    if (instance == null) {
+      synchronized (ReactFontManager.class) {
+        instance = sReactFontManagerInstance;
+        if (instance == null) {
+          instance = new ReactFontManager();
+          sReactFontManagerInstance = instance;
+        }
+      }
     }
-    return sReactFontManagerInstance;
+    return instance;
   }
 
   public Typeface getTypeface(String fontFamilyName, int style, AssetManager assetManager) {
@@ -73,29 +113,191 @@ public class ReactFontManager {
 
   public Typeface getTypeface(
       String fontFamilyName, TypefaceStyle typefaceStyle, AssetManager assetManager) {
-    if (mCustomTypefaceCache.containsKey(fontFamilyName)) {
+    Typeface customTypeface = mCustomTypefaceCache.get(fontFamilyName);
+    if (customTypeface != null) {
       // Apply `typefaceStyle` because custom fonts configure variants using `app:fontStyle` and
       // `app:fontWeight` in their resource XML configuration file.
-      return typefaceStyle.apply(mCustomTypefaceCache.get(fontFamilyName));
-    }
-
-    AssetFontFamily assetFontFamily = mFontCache.get(fontFamilyName);
-    if (assetFontFamily == null) {
-      assetFontFamily = new AssetFontFamily();
-      mFontCache.put(fontFamilyName, assetFontFamily);
+      return typefaceStyle.apply(customTypeface);
     }
 
     int style = typefaceStyle.getNearestStyle();
 
+    AssetFontFamily assetFontFamily = getAssetFontFamily(fontFamilyName);
     Typeface assetTypeface = assetFontFamily.getTypefaceForStyle(style);
     if (assetTypeface == null) {
-      assetTypeface = createAssetTypeface(fontFamilyName, style, assetManager);
-      assetFontFamily.setTypefaceForStyle(style, assetTypeface);
+      assetTypeface = loadAssetTypeface(fontFamilyName, style, assetManager);
+    }
+    if (assetFontFamily.markUsed(style)) {
+      onAssetTypefaceUsed(fontFamilyName + WARMED_TYPEFACE_SEPARATOR + style);
     }
     // Do not apply `typefaceStyle` because asset font files already incorporate the style.
     return assetTypeface;
   }
 
+  /**
+   * Decodes the given styles of an asset font family on background threads, so that looking them
+   * up later, e.g. while measuring text during the first render, doesn't load them from the
+   * assets. The styles are decoded in parallel.
+   *
+   * @param styles {@link Typeface#NORMAL}, {@link Typeface#BOLD}, {@link Typeface#ITALIC} or
+   *     {@link Typeface#BOLD_ITALIC}
+   */
+  public void preloadTypefaces(
+      final String fontFamilyName, int[] styles, final AssetManager assetManager) {
+    Executor executor = getPreloadExecutor();
+    for (final int style : styles) {
+      if (style < 0 || style >= EXTENSIONS.length) {
+        continue;
+      }
+      executor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              if (getAssetFontFamily(fontFamilyName).getTypefaceForStyle(style) == null) {
+                loadAssetTypeface(fontFamilyName, style, assetManager);
+              }
+            }
+          });
+    }
+  }
+
+  /**
+   * Records the asset typefaces used in this session, so that they are preloaded by the next call
+   * to this method, typically in the next session. The typefaces recorded in the previous session
+   * are preloaded right away, and replaced by the ones used in this session, so typefaces that
+   * stop being used stop being preloaded.
+   */
+  public void enableWarmedTypefaces(Context context) {
+    Context appContext = context.getApplicationContext();
+    SharedPreferences prefs =
+        appContext.getSharedPreferences(WARMED_TYPEFACES_PREFS_NAME, Context.MODE_PRIVATE);
+    Set<String> warmedTypefaces = prefs.getStringSet(WARMED_TYPEFACES_KEY, null);
+    synchronized (mWarmedTypefaces) {
+      mWarmedTypefacesPrefs = prefs;
+      saveWarmedTypefaces(prefs);
+    }
+    if (warmedTypefaces == null) {
+      return;
+    }
+
+    AssetManager assetManager = appContext.getAssets();
+    for (String warmedTypeface : warmedTypefaces) {
+      int separatorIndex = warmedTypeface.lastIndexOf(WARMED_TYPEFACE_SEPARATOR);
+      if (separatorIndex <= 0) {
+        continue;
+      }
+      try {
+        int style = Integer.parseInt(warmedTypeface.substring(separatorIndex + 1));
+        String fontFamilyName = warmedTypeface.substring(0, separatorIndex);
+        preloadTypefaces(fontFamilyName, new int[] {style}, assetManager);
+      } catch (NumberFormatException e) {
+        FLog.w(ReactConstants.TAG, "Invalid warmed typeface: " + warmedTypeface);
+      }
+    }
+  }
+
+  /**
+   * Executor used to preload typefaces. Defaults to a pool of {@link #PRELOAD_THREAD_COUNT}
+   * background threads.
+   */
+  public synchronized void setPreloadExecutor(Executor executor) {
+    mPreloadExecutor = executor;
+  }
+
+  private synchronized Executor getPreloadExecutor() {
+    if (mPreloadExecutor == null) {
+      final AtomicInteger threadCount = new AtomicInteger();
+      mPreloadExecutor =
+          Executors.newFixedThreadPool(
+              PRELOAD_THREAD_COUNT,
+              new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                  Thread thread =
+                      new Thread(runnable, "ReactFontPreload-" + threadCount.incrementAndGet());
+                  thread.setDaemon(true);
+                  thread.setPriority(Thread.MIN_PRIORITY);
+                  return thread;
+                }
+              });
+    }
+    return mPreloadExecutor;
+  }
+
+  private AssetFontFamily getAssetFontFamily(String fontFamilyName) {
+    AssetFontFamily assetFontFamily = mFontCache.get(fontFamilyName);
+    if (assetFontFamily == null) {
+      AssetFontFamily newFontFamily = new AssetFontFamily();
+      assetFontFamily = mFontCache.putIfAbsent(fontFamilyName, newFontFamily);
+      if (assetFontFamily == null) {
+        assetFontFamily = newFontFamily;
+      }
+    }
+    return assetFontFamily;
+  }
+
+  /** Loads an asset typeface, waiting for it instead if another thread is already loading it. */
+  private Typeface loadAssetTypeface(
+      final String fontFamilyName, final int style, final AssetManager assetManager) {
+    final String key = fontFamilyName + WARMED_TYPEFACE_SEPARATOR + style;
+    FutureTask<Typeface> task = mPendingTypefaces.get(key);
+    if (task == null) {
+      FutureTask<Typeface> newTask =
+          new FutureTask<>(
+              new Callable<Typeface>() {
+                @Override
+                public Typeface call() {
+                  Typeface typeface = createAssetTypeface(fontFamilyName, style, assetManager);
+                  // Only typefaces loaded from the assets are warmed, as there is nothing to
+                  // preload for fallbacks, e.g. system fonts like `sans-serif-medium`.
+                  boolean fromAsset = typeface != null;
+                  if (!fromAsset) {
+                    typeface = Typeface.create(fontFamilyName, style);
+                  }
+                  getAssetFontFamily(fontFamilyName)
+                      .setTypefaceForStyle(style, typeface, fromAsset);
+                  return typeface;
+                }
+              });
+      task = mPendingTypefaces.putIfAbsent(key, newTask);
+      if (task == null) {
+        task = newTask;
+        task.run();
+        mPendingTypefaces.remove(key);
+      }
+    }
+
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      FLog.w(ReactConstants.TAG, "Failed to load typeface " + key, e.getCause());
+    }
+    return Typeface.create(fontFamilyName, style);
+  }
+
+  private void onAssetTypefaceUsed(String key) {
+    synchronized (mWarmedTypefaces) {
+      SharedPreferences prefs = mWarmedTypefacesPrefs;
+      if (mWarmedTypefaces.add(key) && prefs != null) {
+        saveWarmedTypefaces(prefs);
+      }
+    }
+  }
+
+  /** Must be called while holding the lock on {@link #mWarmedTypefaces}, to keep saves in order. */
+  private void saveWarmedTypefaces(SharedPreferences prefs) {
+    prefs.edit().putStringSet(WARMED_TYPEFACES_KEY, new HashSet<>(mWarmedTypefaces)).apply();
+  }
+
+  /** @return whether a typeface of {@code fontFamilyName} is cached for {@code style} */
+  @VisibleForTesting
+  /* package */ boolean hasCachedTypeface(String fontFamilyName, int style) {
+    AssetFontFamily assetFontFamily = mFontCache.get(fontFamilyName);
+    return assetFontFamily != null && assetFontFamily.getTypefaceForStyle(style) != null;
+  }
+
   /*
    * This method allows you to load custom fonts from res/font folder as provided font family name.
    * Fonts may be one of .ttf, .otf or XML (https://developer.android.com/guide/topics/ui/look-and-feel/fonts-in-xml).
@@ -131,16 +333,12 @@ public class ReactFontManager {
    */
   public void setTypeface(String fontFamilyName, int style, Typeface typeface) {
     if (typeface != null) {
-      AssetFontFamily assetFontFamily = mFontCache.get(fontFamilyName);
-      if (assetFontFamily == null) {
-        assetFontFamily = new AssetFontFamily();
-        mFontCache.put(fontFamilyName, assetFontFamily);
-      }
-      assetFontFamily.setTypefaceForStyle(style, typeface);
+      getAssetFontFamily(fontFamilyName).setTypefaceForStyle(style, typeface, false);
     }
   }
 
-  private static Typeface createAssetTypeface(
+  /** @return the typeface loaded from the assets, or null if there is no such asset */
+  private static @Nullable Typeface createAssetTypeface(
       String fontFamilyName, int style, AssetManager assetManager) {
     String extension = EXTENSIONS[style];
     for (String fileExtension : FILE_EXTENSIONS) {
@@ -158,24 +356,58 @@ public class ReactFontManager {
         continue;
       }
     }
-    return Typeface.create(fontFamilyName, style);
+    return null;
   }
 
   /** Responsible for caching typefaces for each custom font family. */
   private static class AssetFontFamily {
 
-    private SparseArray<Typeface> mTypefaceSparseArray;
+    // Indexed by style, like `EXTENSIONS`
+    private final AtomicReferenceArray<Typeface> mTypefaces;
+    // Bits of the styles loaded from asset files rather than set by the app or falling back to
+    // `Typeface#create`, and of those used
+    private final AtomicInteger mLoadedStyles;
+    private final AtomicInteger mUsedStyles;
 
     private AssetFontFamily() {
-      mTypefaceSparseArray = new SparseArray<>(4);
+      mTypefaces = new AtomicReferenceArray<>(EXTENSIONS.length);
+      mLoadedStyles = new AtomicInteger();
+      mUsedStyles = new AtomicInteger();
     }
 
     public @Nullable Typeface getTypefaceForStyle(int style) {
-      return mTypefaceSparseArray.get(style);
+      return style >= 0 && style < EXTENSIONS.length ? mTypefaces.get(style) : null;
+    }
+
+    public void setTypefaceForStyle(int style, Typeface typeface, boolean fromAsset) {
+      if (style >= 0 && style < EXTENSIONS.length) {
+        // Set the bit first, so that it is visible to whoever sees the typeface
+        int bit = 1 << style;
+        int styles;
+        do {
+          styles = mLoadedStyles.get();
+        } while (!mLoadedStyles.compareAndSet(styles, fromAsset ? styles | bit : styles & ~bit));
+        mTypefaces.set(style, typeface);
+      }
     }
 
-    public void setTypefaceForStyle(int style, Typeface typeface) {
-      mTypefaceSparseArray.put(style, typeface);
+    /** @return true the first time a typeface of {@code style} loaded from an asset is used */
+    public boolean markUsed(int style) {
+      if (style < 0 || style >= EXTENSIONS.length) {
+        return false;
+      }
+      int bit = 1 << style;
+      if ((mLoadedStyles.get() & bit) == 0) {
+        return false;
+      }
+      int styles;
+      do {
+        styles = mUsedStyles.get();
+        if ((styles & bit) != 0) {
+          return false;
+        }
+      } while (!mUsedStyles.compareAndSet(styles, styles | bit));
+      return true;
     }
   }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.text;
+
+import android.text.Layout;
+import android.text.Spannable;
+import android.util.LruCache;
+import androidx.annotation.Nullable;
+import com.facebook.react.config.ReactFeatureFlags;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two-level cache used by {@link TextLayoutManager} and {@link TextLayoutManagerMapBuffer}: the
+ * Spannables built for attributed strings, and the Layouts created for those Spannables at a given
+ * width and paragraph attributes. Both are keyed by the content of the attributed string, so text
+ * that is repeated across components (e.g. "Like", "Reply") is only built and laid out once.
+ *
+ * <p>Entries are spread over several LRU caches, picked by key hash, so that concurrent
+ * measurements don't contend on a single lock. The caches share a memory budget, based on an
+ * estimate of the size of each entry. Spannables and Layouts are built outside of any lock, so the
+ * same one may be built twice by racing threads; the last one wins.
+ *
+ * <p>Keys include the display density and font scale, so entries built before a configuration
+ * change are never returned after it, and are evicted as the caches fill up.
+ */
+public final class TextLayoutCache {
+
+  /**
+   * Content key of an attributed string, along with the display scales used to convert its text
+   * sizes to pixels. Its hash is only computed once.
+   */
+  public static final class Key {
+    private final Object mAttributedString;
+    private final float mDensity;
+    private final float mScaledDensity;
+    private final int mHash;
+
+    /**
+     * @param attributedString must implement {@link Object#equals} and {@link Object#hashCode}
+     *     based on its content, like ReadableNativeMap and ReadableMapBuffer
+     * @param density see {@link android.util.DisplayMetrics#density}
+     * @param scaledDensity see {@link android.util.DisplayMetrics#scaledDensity}, which includes
+     *     the font scale
+     */
+    public Key(Object attributedString, float density, float scaledDensity) {
+      mAttributedString = attributedString;
+      mDensity = density;
+      mScaledDensity = scaledDensity;
+      int hash = attributedString.hashCode();
+      hash = 31 * hash + Float.floatToIntBits(density);
+      mHash = 31 * hash + Float.floatToIntBits(scaledDensity);
+    }
+
+    @Override
+    public int hashCode() {
+      return mHash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return mHash == other.mHash
+          && Float.floatToIntBits(mDensity) == Float.floatToIntBits(other.mDensity)
+          && Float.floatToIntBits(mScaledDensity) == Float.floatToIntBits(other.mScaledDensity)
+          && (mAttributedString == other.mAttributedString
+              || mAttributedString.equals(other.mAttributedString));
+    }
+  }
+
+  private static final class LayoutKey {
+    private final Key mKey;
+    private final float mWidth;
+    private final int mTextBreakStrategy;
+    private final int mHyphenationFrequency;
+    private final boolean mIncludeFontPadding;
+
+    private LayoutKey(
+        Key key,
+        float width,
+        int textBreakStrategy,
+        int hyphenationFrequency,
+        boolean includeFontPadding) {
+      mKey = key;
+      mWidth = width;
+      mTextBreakStrategy = textBreakStrategy;
+      mHyphenationFrequency = hyphenationFrequency;
+      mIncludeFontPadding = includeFontPadding;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = mKey.hashCode();
+      hash = 31 * hash + Float.floatToIntBits(mWidth);
+      hash = 31 * hash + mTextBreakStrategy;
+      hash = 31 * hash + mHyphenationFrequency;
+      return 31 * hash + (mIncludeFontPadding ? 1 : 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof LayoutKey)) {
+        return false;
+      }
+      LayoutKey other = (LayoutKey) obj;
+      return Float.floatToIntBits(mWidth) == Float.floatToIntBits(other.mWidth)
+          && mTextBreakStrategy == other.mTextBreakStrategy
+          && mHyphenationFrequency == other.mHyphenationFrequency
+          && mIncludeFontPadding == other.mIncludeFontPadding
+          && mKey.equals(other.mKey);
+    }
+  }
+
+  /** Cached value, with its size estimated once so it stays consistent for the LruCache. */
+  private static final class Entry {
+    private final Object mValue;
+    private final int mSize;
+
+    private Entry(Object value) {
+      mValue = value;
+      mSize = estimateSize(value);
+    }
+  }
+
+  private static final int STRIPE_COUNT = 8;
+
+  // Rough per-entry overheads, in bytes, used to estimate the memory used by cached objects
+  private static final int ENTRY_OVERHEAD = 64;
+  private static final int SPAN_SIZE = 48;
+  private static final int LAYOUT_LINE_SIZE = 64;
+
+  private static @Nullable TextLayoutCache sInstance;
+
+  private final LruCache<Object, Entry>[] mStripes;
+  private final AtomicLong mSpannableHits = new AtomicLong();
+  private final AtomicLong mSpannableMisses = new AtomicLong();
+  private final AtomicLong mLayoutHits = new AtomicLong();
+  private final AtomicLong mLayoutMisses = new AtomicLong();
+
+  /** @return the cache shared by the text layout managers */
+  public static synchronized TextLayoutCache getInstance() {
+    if (sInstance == null) {
+      sInstance = new TextLayoutCache(ReactFeatureFlags.textLayoutCacheSizeBytes);
+    }
+    return sInstance;
+  }
+
+  @SuppressWarnings("unchecked")
+  public TextLayoutCache(int maxSizeBytes) {
+    mStripes = new LruCache[STRIPE_COUNT];
+    int stripeSize = Math.max(1, maxSizeBytes / STRIPE_COUNT);
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      mStripes[i] =
+          new LruCache<Object, Entry>(stripeSize) {
+            @Override
+            protected int sizeOf(Object key, Entry entry) {
+              return entry.mSize;
+            }
+          };
+    }
+  }
+
+  public @Nullable Spannable getSpannable(Key key) {
+    Entry entry = getStripe(key).get(key);
+    Spannable spannable = entry != null ? (Spannable) entry.mValue : null;
+    (spannable != null ? mSpannableHits : mSpannableMisses).incrementAndGet();
+    return spannable;
+  }
+
+  public void putSpannable(Key key, Spannable spannable) {
+    getStripe(key).put(key, new Entry(spannable));
+  }
+
+  /**
+   * @param width width the layout is constrained to, or a negative value if it is unconstrained
+   */
+  public @Nullable Layout getLayout(
+      Key key,
+      float width,
+      int textBreakStrategy,
+      int hyphenationFrequency,
+      boolean includeFontPadding) {
+    LayoutKey layoutKey =
+        new LayoutKey(key, width, textBreakStrategy, hyphenationFrequency, includeFontPadding);
+    Entry entry = getStripe(layoutKey).get(layoutKey);
+    Layout layout = entry != null ? (Layout) entry.mValue : null;
+    (layout != null ? mLayoutHits : mLayoutMisses).incrementAndGet();
+    return layout;
+  }
+
+  public void putLayout(
+      Key key,
+      float width,
+      int textBreakStrategy,
+      int hyphenationFrequency,
+      boolean includeFontPadding,
+      Layout layout) {
+    LayoutKey layoutKey =
+        new LayoutKey(key, width, textBreakStrategy, hyphenationFrequency, includeFontPadding);
+    getStripe(layoutKey).put(layoutKey, new Entry(layout));
+  }
+
+  public long getSpannableHitCount() {
+    return mSpannableHits.get();
+  }
+
+  public long getSpannableMissCount() {
+    return mSpannableMisses.get();
+  }
+
+  public long getLayoutHitCount() {
+    return mLayoutHits.get();
+  }
+
+  public long getLayoutMissCount() {
+    return mLayoutMisses.get();
+  }
+
+  /** @return estimated memory used by the cached spannables and layouts, in bytes */
+  public int getSizeBytes() {
+    int size = 0;
+    for (LruCache<Object, Entry> stripe : mStripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  /** Drops all cached objects, e.g. to free memory. */
+  public void clear() {
+    for (LruCache<Object, Entry> stripe : mStripes) {
+      stripe.evictAll();
+    }
+  }
+
+  private LruCache<Object, Entry> getStripe(Object key) {
+    int hash = key.hashCode();
+    return mStripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+  }
+
+  private static int estimateSize(Object value) {
+    if (value instanceof Spannable) {
+      Spannable spannable = (Spannable) value;
+      int spanCount = spannable.getSpans(0, spannable.length(), Object.class).length;
+      return ENTRY_OVERHEAD + spannable.length() * 2 + spanCount * SPAN_SIZE;
+    }
+    if (value instanceof Layout) {
+      Layout layout = (Layout) value;
+      return ENTRY_OVERHEAD + layout.getLineCount() * LAYOUT_LINE_SIZE;
+    }
+    return ENTRY_OVERHEAD;
+  }
+}
@@ -19,6 +19,7 @@ import android.text.SpannableStringBuilder;
 import android.text.Spanned;
 import android.text.StaticLayout;
 import android.text.TextPaint;
+import android.util.DisplayMetrics;
 import android.util.LayoutDirection;
 import android.util.LruCache;
 import android.view.View;
@@ -32,6 +33,8 @@ import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.ReadableNativeMap;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.common.build.ReactBuildConfig;
+import com.facebook.react.config.ReactFeatureFlags;
+import com.facebook.react.uimanager.DisplayMetricsHolder;
 import com.facebook.react.uimanager.PixelUtil;
 import com.facebook.react.uimanager.ReactAccessibilityDelegate.AccessibilityRole;
 import com.facebook.react.uimanager.ReactAccessibilityDelegate.Role;
@@ -202,9 +205,28 @@ public class TextLayoutManager {
       Context context,
       ReadableMap attributedString,
       @Nullable ReactTextViewManagerCallback reactTextViewManagerCallback) {
+    return getOrCreateSpannableForText(
+        context, attributedString, reactTextViewManagerCallback, null);
+  }
 
-    return createSpannableFromAttributedString(
-        context, attributedString, reactTextViewManagerCallback);
+  private static Spannable getOrCreateSpannableForText(
+      Context context,
+      ReadableMap attributedString,
+      @Nullable ReactTextViewManagerCallback reactTextViewManagerCallback,
+      @Nullable TextLayoutCache.Key cacheKey) {
+    if (cacheKey == null) {
+      return createSpannableFromAttributedString(
+          context, attributedString, reactTextViewManagerCallback);
+    }
+    TextLayoutCache cache = TextLayoutCache.getInstance();
+    Spannable text = cache.getSpannable(cacheKey);
+    if (text == null) {
+      text =
+          createSpannableFromAttributedString(
+              context, attributedString, reactTextViewManagerCallback);
+      cache.putSpannable(cacheKey, text);
+    }
+    return text;
   }
 
   private static Spannable createSpannableFromAttributedString(
@@ -330,6 +352,68 @@ public class TextLayoutManager {
     return layout;
   }
 
+  /**
+   * @return the key of {@code attributedString} in the {@link TextLayoutCache}, or null if it
+   *     can't be cached
+   */
+  private static @Nullable TextLayoutCache.Key getLayoutCacheKey(ReadableMap attributedString) {
+    if (!ReactFeatureFlags.enableTextLayoutCache
+        || !(attributedString instanceof ReadableNativeMap)
+        || attributedString.hasKey("cacheId")) {
+      return null;
+    }
+    DisplayMetrics displayMetrics = DisplayMetricsHolder.getWindowDisplayMetrics();
+    return new TextLayoutCache.Key(
+        attributedString, displayMetrics.density, displayMetrics.scaledDensity);
+  }
+
+  private static Layout getOrCreateLayout(
+      @Nullable TextLayoutCache.Key cacheKey,
+      Spannable text,
+      float width,
+      YogaMeasureMode widthYogaMeasureMode,
+      boolean includeFontPadding,
+      int textBreakStrategy,
+      int hyphenationFrequency) {
+    // Only whether the width is constrained matters to createLayout, not the exact measure mode
+    float cacheWidth = widthYogaMeasureMode == YogaMeasureMode.UNDEFINED || width < 0 ? -1 : width;
+    if (cacheKey != null) {
+      Layout layout =
+          TextLayoutCache.getInstance()
+              .getLayout(
+                  cacheKey,
+                  cacheWidth,
+                  textBreakStrategy,
+                  hyphenationFrequency,
+                  includeFontPadding);
+      if (layout != null) {
+        return layout;
+      }
+    }
+
+    BoringLayout.Metrics boring = BoringLayout.isBoring(text, sTextPaintInstance);
+    Layout layout =
+        createLayout(
+            text,
+            boring,
+            width,
+            widthYogaMeasureMode,
+            includeFontPadding,
+            textBreakStrategy,
+            hyphenationFrequency);
+    if (cacheKey != null) {
+      TextLayoutCache.getInstance()
+          .putLayout(
+              cacheKey,
+              cacheWidth,
+              textBreakStrategy,
+              hyphenationFrequency,
+              includeFontPadding,
+              layout);
+    }
+    return layout;
+  }
+
   public static long measureText(
       Context context,
       ReadableMap attributedString,
@@ -343,6 +427,7 @@ public class TextLayoutManager {
 
     // TODO(5578671): Handle text direction (see View#getTextDirectionHeuristic)
     Spannable text;
+    TextLayoutCache.Key cacheKey = getLayoutCacheKey(attributedString);
     if (attributedString.hasKey("cacheId")) {
       int cacheId = attributedString.getInt("cacheId");
       if (ENABLE_MEASURE_LOGGING) {
@@ -360,7 +445,9 @@ public class TextLayoutManager {
         return 0;
       }
     } else {
-      text = getOrCreateSpannableForText(context, attributedString, reactTextViewManagerCallback);
+      text =
+          getOrCreateSpannableForText(
+              context, attributedString, reactTextViewManagerCallback, cacheKey);
     }
 
     int textBreakStrategy =
@@ -378,12 +465,10 @@ public class TextLayoutManager {
       throw new IllegalStateException("Spannable element has not been prepared in onBeforeLayout");
     }
 
-    BoringLayout.Metrics boring = BoringLayout.isBoring(text, sTextPaintInstance);
-
     Layout layout =
-        createLayout(
+        getOrCreateLayout(
+            cacheKey,
             text,
-            boring,
             width,
             widthYogaMeasureMode,
             includeFontPadding,
@@ -536,8 +621,8 @@ public class TextLayoutManager {
       ReadableMap attributedString,
       ReadableMap paragraphAttributes,
       float width) {
-    Spannable text = getOrCreateSpannableForText(context, attributedString, null);
-    BoringLayout.Metrics boring = BoringLayout.isBoring(text, sTextPaintInstance);
+    TextLayoutCache.Key cacheKey = getLayoutCacheKey(attributedString);
+    Spannable text = getOrCreateSpannableForText(context, attributedString, null, cacheKey);
 
     int textBreakStrategy =
         TextAttributeProps.getTextBreakStrategy(
@@ -551,9 +636,9 @@ public class TextLayoutManager {
             paragraphAttributes.getString(HYPHENATION_FREQUENCY_KEY));
 
     Layout layout =
-        createLayout(
+        getOrCreateLayout(
+            cacheKey,
             text,
-            boring,
             width,
             YogaMeasureMode.EXACTLY,
             includeFontPadding,
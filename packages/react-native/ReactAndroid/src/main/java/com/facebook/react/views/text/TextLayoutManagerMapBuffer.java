@@ -20,6 +20,7 @@ import android.text.SpannableStringBuilder;
 import android.text.Spanned;
 import android.text.StaticLayout;
 import android.text.TextPaint;
+import android.util.DisplayMetrics;
 import android.util.LayoutDirection;
 import android.util.LruCache;
 import android.view.View;
@@ -32,6 +33,8 @@ import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.common.build.ReactBuildConfig;
 import com.facebook.react.common.mapbuffer.MapBuffer;
 import com.facebook.react.common.mapbuffer.ReadableMapBuffer;
+import com.facebook.react.config.ReactFeatureFlags;
+import com.facebook.react.uimanager.DisplayMetricsHolder;
 import com.facebook.react.uimanager.PixelUtil;
 import com.facebook.react.uimanager.ReactAccessibilityDelegate.AccessibilityRole;
 import com.facebook.react.uimanager.ReactAccessibilityDelegate.Role;
@@ -222,10 +225,28 @@ public class TextLayoutManagerMapBuffer {
       Context context,
       MapBuffer attributedString,
       @Nullable ReactTextViewManagerCallback reactTextViewManagerCallback) {
+    return getOrCreateSpannableForText(
+        context, attributedString, reactTextViewManagerCallback, null);
+  }
+
+  private static Spannable getOrCreateSpannableForText(
+      Context context,
+      MapBuffer attributedString,
+      @Nullable ReactTextViewManagerCallback reactTextViewManagerCallback,
+      @Nullable TextLayoutCache.Key cacheKey) {
     Spannable text = null;
     if (attributedString.contains(AS_KEY_CACHE_ID)) {
       Integer cacheId = attributedString.getInt(AS_KEY_CACHE_ID);
       text = sTagToSpannableCache.get(cacheId);
+    } else if (cacheKey != null) {
+      TextLayoutCache cache = TextLayoutCache.getInstance();
+      text = cache.getSpannable(cacheKey);
+      if (text == null) {
+        text =
+            createSpannableFromAttributedString(
+                context, attributedString, reactTextViewManagerCallback);
+        cache.putSpannable(cacheKey, text);
+      }
     } else {
       if (enableTextSpannableCache && attributedString instanceof ReadableMapBuffer) {
         ReadableMapBuffer mapBuffer = (ReadableMapBuffer) attributedString;
@@ -371,6 +392,68 @@ public class TextLayoutManagerMapBuffer {
     return layout;
   }
 
+  /**
+   * @return the key of {@code attributedString} in the {@link TextLayoutCache}, or null if it
+   *     can't be cached
+   */
+  private static @Nullable TextLayoutCache.Key getLayoutCacheKey(MapBuffer attributedString) {
+    if (!ReactFeatureFlags.enableTextLayoutCache
+        || !(attributedString instanceof ReadableMapBuffer)
+        || attributedString.contains(AS_KEY_CACHE_ID)) {
+      return null;
+    }
+    DisplayMetrics displayMetrics = DisplayMetricsHolder.getWindowDisplayMetrics();
+    return new TextLayoutCache.Key(
+        attributedString, displayMetrics.density, displayMetrics.scaledDensity);
+  }
+
+  private static Layout getOrCreateLayout(
+      @Nullable TextLayoutCache.Key cacheKey,
+      Spannable text,
+      float width,
+      YogaMeasureMode widthYogaMeasureMode,
+      boolean includeFontPadding,
+      int textBreakStrategy,
+      int hyphenationFrequency) {
+    // Only whether the width is constrained matters to createLayout, not the exact measure mode
+    float cacheWidth = widthYogaMeasureMode == YogaMeasureMode.UNDEFINED || width < 0 ? -1 : width;
+    if (cacheKey != null) {
+      Layout layout =
+          TextLayoutCache.getInstance()
+              .getLayout(
+                  cacheKey,
+                  cacheWidth,
+                  textBreakStrategy,
+                  hyphenationFrequency,
+                  includeFontPadding);
+      if (layout != null) {
+        return layout;
+      }
+    }
+
+    BoringLayout.Metrics boring = BoringLayout.isBoring(text, sTextPaintInstance);
+    Layout layout =
+        createLayout(
+            text,
+            boring,
+            width,
+            widthYogaMeasureMode,
+            includeFontPadding,
+            textBreakStrategy,
+            hyphenationFrequency);
+    if (cacheKey != null) {
+      TextLayoutCache.getInstance()
+          .putLayout(
+              cacheKey,
+              cacheWidth,
+              textBreakStrategy,
+              hyphenationFrequency,
+              includeFontPadding,
+              layout);
+    }
+    return layout;
+  }
+
   public static long measureText(
       Context context,
       MapBuffer attributedString,
@@ -383,8 +466,10 @@ public class TextLayoutManagerMapBuffer {
       @Nullable float[] attachmentsPositions) {
 
     // TODO(5578671): Handle text direction (see View#getTextDirectionHeuristic)
+    TextLayoutCache.Key cacheKey = getLayoutCacheKey(attributedString);
     Spannable text =
-        getOrCreateSpannableForText(context, attributedString, reactTextViewManagerCallback);
+        getOrCreateSpannableForText(
+            context, attributedString, reactTextViewManagerCallback, cacheKey);
 
     if (text == null) {
       return 0;
@@ -401,11 +486,10 @@ public class TextLayoutManagerMapBuffer {
         TextAttributeProps.getHyphenationFrequency(
             paragraphAttributes.getString(PA_KEY_HYPHENATION_FREQUENCY));
 
-    BoringLayout.Metrics boring = BoringLayout.isBoring(text, sTextPaintInstance);
     Layout layout =
-        createLayout(
+        getOrCreateLayout(
+            cacheKey,
             text,
-            boring,
             width,
             widthYogaMeasureMode,
             includeFontPadding,
@@ -563,8 +647,8 @@ public class TextLayoutManagerMapBuffer {
       MapBuffer paragraphAttributes,
       float width) {
 
-    Spannable text = getOrCreateSpannableForText(context, attributedString, null);
-    BoringLayout.Metrics boring = BoringLayout.isBoring(text, sTextPaintInstance);
+    TextLayoutCache.Key cacheKey = getLayoutCacheKey(attributedString);
+    Spannable text = getOrCreateSpannableForText(context, attributedString, null, cacheKey);
 
     int textBreakStrategy =
         TextAttributeProps.getTextBreakStrategy(
@@ -578,9 +662,9 @@ public class TextLayoutManagerMapBuffer {
             paragraphAttributes.getString(PA_KEY_HYPHENATION_FREQUENCY));
 
     Layout layout =
-        createLayout(
+        getOrCreateLayout(
+            cacheKey,
             text,
-            boring,
             width,
             YogaMeasureMode.EXACTLY,
             includeFontPadding,
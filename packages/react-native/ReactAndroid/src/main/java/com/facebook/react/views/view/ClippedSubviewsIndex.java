@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.view;
+
+import android.graphics.Rect;
+import android.view.View;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Index of the children of a {@link ReactViewGroup} with {@code removeClippedSubviews} enabled,
+ * sorted by their position along the axis they are laid out on (vertical for the content of a
+ * ScrollView, horizontal for the content of a horizontal ScrollView). It lets the view group find
+ * the children that may overlap its clipping rect with binary searches, instead of checking all of
+ * them each time the clipping rect changes.
+ *
+ * <p>The index is rebuilt lazily, the first time it is used after children were added, removed or
+ * laid out again.
+ */
+/* package */ final class ClippedSubviewsIndex {
+
+  /** Below this number of children, checking all of them is cheaper than maintaining the index. */
+  /* package */ static final int MIN_CHILD_COUNT = 64;
+
+  private boolean mDirty = true;
+  private boolean mVertical = true;
+  private int mCount;
+  // Sorted by start along the axis
+  private int[] mStarts = new int[0];
+  // Highest end along the axis of the children up to each position, so it's sorted too
+  private int[] mMaxEnds = new int[0];
+  // Index of the child in the view group's children at each position
+  private int[] mChildIndices = new int[0];
+  private long[] mSortKeys = new long[0];
+  private final IdentityHashMap<View, Integer> mChildIndicesByView = new IdentityHashMap<>();
+  private View[] mScratchViews = new View[0];
+
+  /** Must be called when children are added, removed or laid out. */
+  public void invalidate() {
+    mDirty = true;
+  }
+
+  /** Rebuilds the index from the view group's children if it was invalidated. */
+  public void update(View[] children, int count) {
+    if (!mDirty) {
+      return;
+    }
+    mDirty = false;
+    mCount = count;
+    if (mStarts.length < count) {
+      int capacity = Math.max(count, mStarts.length * 2);
+      mStarts = new int[capacity];
+      mMaxEnds = new int[capacity];
+      mChildIndices = new int[capacity];
+      mSortKeys = new long[capacity];
+    }
+
+    // Index along the axis the children are spread over the most
+    int minLeft = Integer.MAX_VALUE, maxRight = Integer.MIN_VALUE;
+    int minTop = Integer.MAX_VALUE, maxBottom = Integer.MIN_VALUE;
+    for (int i = 0; i < count; i++) {
+      View child = children[i];
+      minLeft = Math.min(minLeft, child.getLeft());
+      maxRight = Math.max(maxRight, child.getRight());
+      minTop = Math.min(minTop, child.getTop());
+      maxBottom = Math.max(maxBottom, child.getBottom());
+    }
+    mVertical = (long) maxBottom - minTop >= (long) maxRight - minLeft;
+
+    mChildIndicesByView.clear();
+    for (int i = 0; i < count; i++) {
+      View child = children[i];
+      int start = mVertical ? child.getTop() : child.getLeft();
+      mSortKeys[i] = ((long) start << 32) | i;
+      mChildIndicesByView.put(child, i);
+    }
+    Arrays.sort(mSortKeys, 0, count);
+
+    int maxEnd = Integer.MIN_VALUE;
+    for (int i = 0; i < count; i++) {
+      int childIndex = (int) mSortKeys[i];
+      View child = children[childIndex];
+      mStarts[i] = (int) (mSortKeys[i] >> 32);
+      maxEnd = Math.max(maxEnd, mVertical ? child.getBottom() : child.getRight());
+      mMaxEnds[i] = maxEnd;
+      mChildIndices[i] = childIndex;
+    }
+  }
+
+  /** @return the index of {@code child} in the view group's children, or -1 if it isn't indexed */
+  public int getChildIndex(View child) {
+    Integer index = mChildIndicesByView.get(child);
+    return index != null ? index : -1;
+  }
+
+  /**
+   * @return the first position of the children that may overlap {@code clippingRect}, see {@link
+   *     #getChildIndexAt}
+   */
+  public int getCandidatesStart(Rect clippingRect) {
+    int clippingStart = mVertical ? clippingRect.top : clippingRect.left;
+    // First child whose end, or the end of a child before it, is after the start of the rect
+    int low = 0;
+    int high = mCount;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (mMaxEnds[mid] > clippingStart) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  /** @return the position after the last child that may overlap {@code clippingRect} */
+  public int getCandidatesEnd(Rect clippingRect) {
+    int clippingEnd = mVertical ? clippingRect.bottom : clippingRect.right;
+    // First child that starts at or after the end of the rect
+    int low = 0;
+    int high = mCount;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (mStarts[mid] >= clippingEnd) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  /** @return the index in the view group's children of the child at {@code position} */
+  public int getChildIndexAt(int position) {
+    return mChildIndices[position];
+  }
+
+  /** @return an array of at least {@code size} views, that callers must clear after use */
+  public View[] getScratchViews(int size) {
+    if (mScratchViews.length < size) {
+      mScratchViews = new View[Math.max(size, mScratchViews.length * 2)];
+    }
+    return mScratchViews;
+  }
+}
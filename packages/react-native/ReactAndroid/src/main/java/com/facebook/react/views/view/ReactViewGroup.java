@@ -32,6 +32,7 @@ import com.facebook.react.bridge.ReactNoCrashSoftException;
 import com.facebook.react.bridge.ReactSoftExceptionLogger;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.common.annotations.VisibleForTesting;
+import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.modules.i18nmanager.I18nUtil;
 import com.facebook.react.touch.OnInterceptTouchEventListener;
 import com.facebook.react.touch.ReactHitSlopView;
@@ -47,6 +48,7 @@ import com.facebook.react.uimanager.ReactPointerEventsView;
 import com.facebook.react.uimanager.ReactZIndexedViewGroup;
 import com.facebook.react.uimanager.RootView;
 import com.facebook.react.uimanager.RootViewUtil;
+import com.facebook.react.uimanager.TouchTargetHelper;
 import com.facebook.react.uimanager.ViewGroupDrawingOrderHelper;
 import com.facebook.react.uimanager.ViewProps;
 import com.facebook.react.uimanager.common.UIManagerType;
@@ -100,6 +102,10 @@ public class ReactViewGroup extends ViewGroup
         int oldRight,
         int oldBottom) {
       if (mParent.getRemoveClippedSubviews()) {
+        if (mParent.mClippedSubviewsIndex != null
+            && (left != oldLeft || top != oldTop || right != oldRight || bottom != oldBottom)) {
+          mParent.mClippedSubviewsIndex.invalidate();
+        }
         mParent.updateSubviewClipStatus(v);
       }
     }
@@ -121,6 +127,7 @@ public class ReactViewGroup extends ViewGroup
   private @Nullable String mOverflow;
   private PointerEvents mPointerEvents;
   private @Nullable ChildrenLayoutChangeListener mChildrenLayoutChangeListener;
+  private @Nullable ClippedSubviewsIndex mClippedSubviewsIndex;
   private @Nullable ReactViewBackgroundDrawable mReactBackgroundDrawable;
   private @Nullable OnInterceptTouchEventListener mOnInterceptTouchEventListener;
   private boolean mNeedsOffscreenAlphaCompositing;
@@ -151,6 +158,7 @@ public class ReactViewGroup extends ViewGroup
     mOverflow = null;
     mPointerEvents = PointerEvents.AUTO;
     mChildrenLayoutChangeListener = null;
+    mClippedSubviewsIndex = null;
     mReactBackgroundDrawable = null;
     mOnInterceptTouchEventListener = null;
     mNeedsOffscreenAlphaCompositing = false;
@@ -341,6 +349,9 @@ public class ReactViewGroup extends ViewGroup
       int initialSize = Math.max(12, mAllChildrenCount);
       mAllChildren = new View[initialSize];
       mChildrenLayoutChangeListener = new ChildrenLayoutChangeListener(this);
+      if (ReactFeatureFlags.enableClippedSubviewsIndex) {
+        mClippedSubviewsIndex = new ClippedSubviewsIndex();
+      }
       for (int i = 0; i < mAllChildrenCount; i++) {
         View child = getChildAt(i);
         mAllChildren[i] = child;
@@ -361,6 +372,7 @@ public class ReactViewGroup extends ViewGroup
       mClippingRect = null;
       mAllChildrenCount = 0;
       mChildrenLayoutChangeListener = null;
+      mClippedSubviewsIndex = null;
     }
   }
 
@@ -389,6 +401,11 @@ public class ReactViewGroup extends ViewGroup
 
   private void updateClippingToRect(Rect clippingRect) {
     Assertions.assertNotNull(mAllChildren);
+    if (mClippedSubviewsIndex != null
+        && mAllChildrenCount >= ClippedSubviewsIndex.MIN_CHILD_COUNT) {
+      updateClippingToRect(clippingRect, mClippedSubviewsIndex);
+      return;
+    }
     int clippedSoFar = 0;
     for (int i = 0; i < mAllChildrenCount; i++) {
       updateSubviewClipStatus(clippingRect, i, clippedSoFar);
@@ -398,6 +415,56 @@ public class ReactViewGroup extends ViewGroup
     }
   }
 
+  /**
+   * Same as {@link #updateClippingToRect(Rect)}, but only visits the children that are attached
+   * or that overlap the clipping rect along the indexed axis, as no other child can need to be
+   * attached or detached.
+   */
+  private void updateClippingToRect(Rect clippingRect, ClippedSubviewsIndex index) {
+    View[] allChildren = Assertions.assertNotNull(mAllChildren);
+    index.update(allChildren, mAllChildrenCount);
+
+    // Detach the children that left the clipping rect. Go backwards so that detaching a child
+    // doesn't change the position of the children left to visit.
+    int attachedCount = getChildCount();
+    View[] attachedChildren = index.getScratchViews(attachedCount);
+    for (int i = 0; i < attachedCount; i++) {
+      attachedChildren[i] = getChildAt(i);
+    }
+    for (int i = attachedCount - 1; i >= 0; i--) {
+      int idx = index.getChildIndex(attachedChildren[i]);
+      attachedChildren[i] = null;
+      if (idx >= 0) {
+        updateSubviewClipStatus(clippingRect, idx, idx - i);
+      }
+    }
+
+    // Attach the children that entered it
+    int candidatesEnd = index.getCandidatesEnd(clippingRect);
+    for (int i = index.getCandidatesStart(clippingRect); i < candidatesEnd; i++) {
+      int idx = index.getChildIndexAt(i);
+      if (allChildren[idx].getParent() == null) {
+        updateSubviewClipStatus(clippingRect, idx, idx - getAttachedChildCountBefore(idx, index));
+      }
+    }
+  }
+
+  /** @return how many of the children before {@code idx} in {@link #mAllChildren} are attached */
+  private int getAttachedChildCountBefore(int idx, ClippedSubviewsIndex index) {
+    // Attached children are in the same order as in mAllChildren
+    int low = 0;
+    int high = getChildCount();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (index.getChildIndex(getChildAt(mid)) < idx) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
   private void updateSubviewClipStatus(Rect clippingRect, int idx, int clippedSoFar) {
     UiThreadUtil.assertOnUiThread();
 
@@ -588,11 +655,15 @@ public class ReactViewGroup extends ViewGroup
   }
 
   /*package*/ void setPointerEvents(PointerEvents pointerEvents) {
-    mPointerEvents = pointerEvents;
+    if (mPointerEvents != pointerEvents) {
+      mPointerEvents = pointerEvents;
+      // Doesn't trigger a layout or draw, which would drop the cached touch targets
+      TouchTargetHelper.invalidateTouchTargets();
+    }
   }
 
   /*package*/ void resetPointerEvents() {
-    mPointerEvents = PointerEvents.AUTO;
+    setPointerEvents(PointerEvents.AUTO);
   }
 
   /*package*/ int getAllChildrenCount() {
@@ -676,6 +747,9 @@ public class ReactViewGroup extends ViewGroup
     }
     removeAllViewsInLayout();
     mAllChildrenCount = 0;
+    if (mClippedSubviewsIndex != null) {
+      mClippedSubviewsIndex.invalidate();
+    }
   }
 
   private int indexOfChildInAllChildren(View child) {
@@ -690,6 +764,9 @@ public class ReactViewGroup extends ViewGroup
   }
 
   private void addInArray(View child, int index) {
+    if (mClippedSubviewsIndex != null) {
+      mClippedSubviewsIndex.invalidate();
+    }
     View[] children = Assertions.assertNotNull(mAllChildren);
     final int count = mAllChildrenCount;
     final int size = children.length;
@@ -718,6 +795,9 @@ public class ReactViewGroup extends ViewGroup
 
   // This method also sets the child's mParent to null
   private void removeFromArray(int index) {
+    if (mClippedSubviewsIndex != null) {
+      mClippedSubviewsIndex.invalidate();
+    }
     final View[] children = Assertions.assertNotNull(mAllChildren);
     final int count = mAllChildrenCount;
     if (index == count - 1) {
@@ -12,6 +12,8 @@ import androidx.tracing.Trace;
 /**
  * Systrace stub that mostly does nothing but delegates to Trace for beginning/ending sections. The
  * internal version of this file has not been opensourced yet.
+ *
+ * <p>Events are also recorded to the {@link TraceRecorder}, while one is started.
  */
 public class Systrace {
 
@@ -37,53 +39,105 @@ public class Systrace {
     }
   }
 
-  public static void registerListener(TraceListener listener) {}
+  /** Listeners are notified when a {@link TraceRecorder} is started or stopped. */
+  public static void registerListener(TraceListener listener) {
+    TraceRecorder.addListener(listener);
+  }
 
-  public static void unregisterListener(TraceListener listener) {}
+  public static void unregisterListener(TraceListener listener) {
+    TraceRecorder.removeListener(listener);
+  }
 
   public static boolean isTracing(long tag) {
     return false;
   }
 
-  public static void traceInstant(long tag, final String title, EventScope scope) {}
+  public static void traceInstant(long tag, final String title, EventScope scope) {
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_INSTANT, title, scope.getCode());
+    }
+  }
 
   public static void beginSection(long tag, final String sectionName) {
     Trace.beginSection(sectionName);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_BEGIN_SECTION, sectionName, 0);
+    }
   }
 
   public static void endSection(long tag) {
     Trace.endSection();
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_END_SECTION, null, 0);
+    }
   }
 
   public static void beginAsyncSection(long tag, final String sectionName, final int cookie) {
     Trace.beginAsyncSection(sectionName, cookie);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_BEGIN_ASYNC_SECTION, sectionName, cookie);
+    }
   }
 
   public static void beginAsyncSection(
       long tag, final String sectionName, final int cookie, final long startNanos) {
-    beginAsyncSection(tag, sectionName, cookie);
+    Trace.beginAsyncSection(sectionName, cookie);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(
+          TraceRecorder.TYPE_BEGIN_ASYNC_SECTION, sectionName, null, cookie, startNanos);
+    }
   }
 
   public static void endAsyncSection(long tag, final String sectionName, final int cookie) {
     Trace.endAsyncSection(sectionName, cookie);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_END_ASYNC_SECTION, sectionName, cookie);
+    }
   }
 
   public static void endAsyncSection(
       long tag, final String sectionName, final int cookie, final long endNanos) {
-    endAsyncSection(tag, sectionName, cookie);
+    Trace.endAsyncSection(sectionName, cookie);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_END_ASYNC_SECTION, sectionName, null, cookie, endNanos);
+    }
   }
 
   public static void traceCounter(long tag, final String counterName, final int counterValue) {
     Trace.setCounter(counterName, counterValue);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_COUNTER, counterName, counterValue);
+    }
   }
 
   public static void startAsyncFlow(long tag, final String sectionName, final int cookie) {
-    beginAsyncSection(tag, sectionName, cookie);
+    Trace.beginAsyncSection(sectionName, cookie);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_START_ASYNC_FLOW, sectionName, cookie);
+    }
   }
 
-  public static void stepAsyncFlow(long tag, final String sectionName, final int cookie) {}
+  public static void stepAsyncFlow(long tag, final String sectionName, final int cookie) {
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_STEP_ASYNC_FLOW, sectionName, cookie);
+    }
+  }
 
   public static void endAsyncFlow(long tag, final String sectionName, final int cookie) {
-    endAsyncSection(tag, sectionName, cookie);
+    Trace.endAsyncSection(sectionName, cookie);
+    TraceRecorder recorder = TraceRecorder.getActive();
+    if (recorder != null) {
+      recorder.record(TraceRecorder.TYPE_END_ASYNC_FLOW, sectionName, cookie);
+    }
   }
 }
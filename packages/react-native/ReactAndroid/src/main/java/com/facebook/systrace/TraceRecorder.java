@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.systrace;
+
+import android.os.Process;
+import android.util.JsonWriter;
+import androidx.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process trace recorder, so that traces can be collected without a profiler attached. While
+ * started, {@link Systrace} sections, async sections, flows, counters and instants, as well as
+ * ReactMarker markers, are recorded into a fixed size ring buffer. Once it is full, the oldest
+ * events are overwritten.
+ *
+ * <p>Recording doesn't lock or allocate: each event claims a slot by incrementing an atomic index,
+ * writes its fields, then publishes the slot's sequence number. {@link #writeChromeTrace} skips
+ * slots that are being written or were overwritten while it read them. While no recorder is
+ * started, the cost at each call site is a single null check on {@link #getActive()}.
+ *
+ * <p>Traces are exported in the Chrome JSON trace event format, which can be opened in
+ * chrome://tracing and Perfetto. Timestamps come from {@link System#nanoTime}.
+ */
+public final class TraceRecorder {
+
+  /* package */ static final byte TYPE_BEGIN_SECTION = 1;
+  /* package */ static final byte TYPE_END_SECTION = 2;
+  /* package */ static final byte TYPE_BEGIN_ASYNC_SECTION = 3;
+  /* package */ static final byte TYPE_END_ASYNC_SECTION = 4;
+  /* package */ static final byte TYPE_START_ASYNC_FLOW = 5;
+  /* package */ static final byte TYPE_STEP_ASYNC_FLOW = 6;
+  /* package */ static final byte TYPE_END_ASYNC_FLOW = 7;
+  /* package */ static final byte TYPE_COUNTER = 8;
+  /* package */ static final byte TYPE_INSTANT = 9;
+  /* package */ static final byte TYPE_MARKER = 10;
+
+  public static final int DEFAULT_CAPACITY = 16 * 1024;
+
+  private static final String MARKER_CATEGORY = "ReactMarker";
+  private static final String DEFAULT_CATEGORY = "react";
+
+  private static volatile @Nullable TraceRecorder sActive;
+  private static final List<TraceListener> sListeners = new CopyOnWriteArrayList<>();
+
+  private final int mMask;
+  private final AtomicLong mNextSequence = new AtomicLong();
+  // Sequence number of the event stored in each slot, or -1 while it's being written
+  private final AtomicLongArray mSlotSequences;
+  private final byte[] mTypes;
+  private final long[] mTimestampsNs;
+  private final long[] mThreadIds;
+  private final String[] mThreadNames;
+  private final String[] mNames;
+  private final String[] mDetails;
+  // Cookie of async sections and flows, value of counters, instance key of markers, and
+  // scope of instants
+  private final int[] mValues;
+
+  private TraceRecorder(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+    mMask = size - 1;
+    mSlotSequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      mSlotSequences.set(i, -1);
+    }
+    mTypes = new byte[size];
+    mTimestampsNs = new long[size];
+    mThreadIds = new long[size];
+    mThreadNames = new String[size];
+    mNames = new String[size];
+    mDetails = new String[size];
+    mValues = new int[size];
+  }
+
+  /** @return the recorder events should be recorded to, or null if tracing isn't started */
+  public static @Nullable TraceRecorder getActive() {
+    return sActive;
+  }
+
+  /**
+   * Starts recording into a new ring buffer of (at least) {@code capacity} events, replacing the
+   * recorder that was started before, if any.
+   */
+  public static TraceRecorder start(int capacity) {
+    TraceRecorder recorder = new TraceRecorder(capacity);
+    boolean wasStarted = sActive != null;
+    sActive = recorder;
+    if (!wasStarted) {
+      for (TraceListener listener : sListeners) {
+        listener.onTraceStarted();
+      }
+    }
+    return recorder;
+  }
+
+  /**
+   * Stops recording. The returned recorder keeps the recorded events, and can still be exported.
+   */
+  public static @Nullable TraceRecorder stop() {
+    TraceRecorder recorder = sActive;
+    if (recorder != null) {
+      sActive = null;
+      for (TraceListener listener : sListeners) {
+        listener.onTraceStopped();
+      }
+    }
+    return recorder;
+  }
+
+  /* package */ static void addListener(TraceListener listener) {
+    if (!sListeners.contains(listener)) {
+      sListeners.add(listener);
+    }
+  }
+
+  /* package */ static void removeListener(TraceListener listener) {
+    sListeners.remove(listener);
+  }
+
+  /* package */ int getCapacity() {
+    return mMask + 1;
+  }
+
+  public void recordMarker(String name, @Nullable String tag, int instanceKey) {
+    record(TYPE_MARKER, name, tag, instanceKey, System.nanoTime());
+  }
+
+  public void recordMarker(
+      String name, @Nullable String tag, int instanceKey, long timestampNs) {
+    record(TYPE_MARKER, name, tag, instanceKey, timestampNs);
+  }
+
+  /* package */ void record(byte type, @Nullable String name, int value) {
+    record(type, name, null, value, System.nanoTime());
+  }
+
+  /* package */ void record(
+      byte type, @Nullable String name, @Nullable String detail, int value, long timestampNs) {
+    long sequence = mNextSequence.getAndIncrement();
+    int slot = (int) (sequence & mMask);
+    Thread thread = Thread.currentThread();
+    mSlotSequences.set(slot, -1);
+    mTypes[slot] = type;
+    mTimestampsNs[slot] = timestampNs;
+    mThreadIds[slot] = thread.getId();
+    mThreadNames[slot] = thread.getName();
+    mNames[slot] = name;
+    mDetails[slot] = detail;
+    mValues[slot] = value;
+    mSlotSequences.set(slot, sequence);
+  }
+
+  /** Writes the recorded events, oldest first, as a Chrome JSON trace. */
+  public void writeChromeTrace(Writer writer) throws IOException {
+    JsonWriter json = new JsonWriter(writer);
+    int pid = Process.myPid();
+    Map<Long, String> threadNames = new HashMap<>();
+
+    json.beginObject();
+    json.name("displayTimeUnit").value("ns");
+    json.name("traceEvents").beginArray();
+
+    long end = mNextSequence.get();
+    long start = Math.max(0, end - getCapacity());
+    for (long sequence = start; sequence < end; sequence++) {
+      int slot = (int) (sequence & mMask);
+      if (mSlotSequences.get(slot) != sequence) {
+        continue;
+      }
+      byte type = mTypes[slot];
+      long timestampNs = mTimestampsNs[slot];
+      long threadId = mThreadIds[slot];
+      String threadName = mThreadNames[slot];
+      String name = mNames[slot];
+      String detail = mDetails[slot];
+      int value = mValues[slot];
+      if (mSlotSequences.get(slot) != sequence) {
+        // Overwritten while we were reading it
+        continue;
+      }
+      threadNames.put(threadId, threadName);
+      writeEvent(json, pid, type, timestampNs, threadId, name, detail, value);
+    }
+
+    for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+      json.beginObject();
+      json.name("ph").value("M");
+      json.name("name").value("thread_name");
+      json.name("pid").value(pid);
+      json.name("tid").value(thread.getKey());
+      json.name("args").beginObject().name("name").value(thread.getValue()).endObject();
+      json.endObject();
+    }
+
+    json.endArray();
+    json.endObject();
+    json.flush();
+  }
+
+  private static void writeEvent(
+      JsonWriter json,
+      int pid,
+      byte type,
+      long timestampNs,
+      long threadId,
+      @Nullable String name,
+      @Nullable String detail,
+      int value)
+      throws IOException {
+    json.beginObject();
+    json.name("ph").value(getPhase(type));
+    if (name != null) {
+      json.name("name").value(name);
+    }
+    json.name("cat").value(type == TYPE_MARKER ? MARKER_CATEGORY : DEFAULT_CATEGORY);
+    json.name("ts").value(timestampNs / 1000.0);
+    json.name("pid").value(pid);
+    json.name("tid").value(threadId);
+    switch (type) {
+      case TYPE_BEGIN_ASYNC_SECTION:
+      case TYPE_END_ASYNC_SECTION:
+      case TYPE_START_ASYNC_FLOW:
+      case TYPE_STEP_ASYNC_FLOW:
+      case TYPE_END_ASYNC_FLOW:
+        json.name("id").value(value);
+        break;
+      case TYPE_COUNTER:
+        json.name("args").beginObject().name(name != null ? name : "").value(value).endObject();
+        break;
+      case TYPE_INSTANT:
+        json.name("s").value(String.valueOf((char) value));
+        break;
+      case TYPE_MARKER:
+        json.name("s").value(String.valueOf(Systrace.EventScope.PROCESS.getCode()));
+        json.name("args").beginObject();
+        if (detail != null) {
+          json.name("tag").value(detail);
+        }
+        json.name("instanceKey").value(value);
+        json.endObject();
+        break;
+      default:
+        break;
+    }
+    json.endObject();
+  }
+
+  private static String getPhase(byte type) {
+    switch (type) {
+      case TYPE_BEGIN_SECTION:
+        return "B";
+      case TYPE_END_SECTION:
+        return "E";
+      case TYPE_BEGIN_ASYNC_SECTION:
+        return "b";
+      case TYPE_END_ASYNC_SECTION:
+        return "e";
+      case TYPE_START_ASYNC_FLOW:
+        return "s";
+      case TYPE_STEP_ASYNC_FLOW:
+        return "t";
+      case TYPE_END_ASYNC_FLOW:
+        return "f";
+      case TYPE_COUNTER:
+        return "C";
+      case TYPE_INSTANT:
+      case TYPE_MARKER:
+        return "i";
+      default:
+        throw new IllegalArgumentException("Unknown trace event type: " + type);
+    }
+  }
+}
@@ -8,10 +8,102 @@
 #include "EventEmitterWrapper.h"
 #include <fbjni/fbjni.h>
 
+#include <mutex>
+#include <vector>
+
 using namespace facebook::jni;
 
 namespace facebook::react {
 
+namespace {
+
+// Must match the constants of EventPayload.java
+constexpr int kPayloadTypeBoolean = 0;
+constexpr int kPayloadTypeInt = 1;
+constexpr int kPayloadTypeDouble = 2;
+constexpr int kPayloadTypeString = 3;
+constexpr int kPayloadTypeNull = 4;
+constexpr int kPayloadTypeBeginMap = 5;
+constexpr int kPayloadTypeBeginArray = 6;
+constexpr int kPayloadTypeEnd = 7;
+constexpr int kPayloadTypeBits = 3;
+constexpr int kPayloadTypeMask = (1 << kPayloadTypeBits) - 1;
+
+// Names of the keys of EventPayload, by id. Keys are only ever appended.
+std::mutex payloadKeysMutex;
+std::vector<std::string> payloadKeys;
+
+/**
+ * Converts the ops of an EventPayload to the dynamic object of the event.
+ * Nested maps and arrays are built in place, as the ops describe the payload
+ * depth-first.
+ */
+folly::dynamic payloadToDynamic(
+    alias_ref<JArrayInt> ops,
+    int opCount,
+    alias_ref<JArrayDouble> values,
+    alias_ref<JArrayClass<JString>> strings) {
+  auto opsBuffer = std::make_unique<jint[]>(opCount);
+  auto valuesBuffer = std::make_unique<jdouble[]>(opCount);
+  ops->getRegion(0, opCount, opsBuffer.get());
+  values->getRegion(0, opCount, valuesBuffer.get());
+
+  folly::dynamic root = folly::dynamic::object();
+  // Open containers, root first. Pointers stay valid as parents aren't
+  // modified while their children are open.
+  std::vector<folly::dynamic *> containers{&root};
+
+  std::lock_guard<std::mutex> lock(payloadKeysMutex);
+  for (int i = 0; i < opCount; i++) {
+    int type = opsBuffer[i] & kPayloadTypeMask;
+    if (type == kPayloadTypeEnd) {
+      containers.pop_back();
+      continue;
+    }
+
+    folly::dynamic value = nullptr;
+    switch (type) {
+      case kPayloadTypeBoolean:
+        value = valuesBuffer[i] != 0;
+        break;
+      case kPayloadTypeInt:
+        value = static_cast<int>(valuesBuffer[i]);
+        break;
+      case kPayloadTypeDouble:
+        value = valuesBuffer[i];
+        break;
+      case kPayloadTypeString:
+        value = strings->getElement(i)->toStdString();
+        break;
+      case kPayloadTypeBeginMap:
+        value = folly::dynamic::object();
+        break;
+      case kPayloadTypeBeginArray:
+        value = folly::dynamic::array();
+        break;
+      case kPayloadTypeNull:
+      default:
+        break;
+    }
+
+    folly::dynamic &container = *containers.back();
+    folly::dynamic *inserted;
+    if (container.isObject()) {
+      int key = (opsBuffer[i] >> kPayloadTypeBits) - 1;
+      inserted = &(container[payloadKeys.at(key)] = std::move(value));
+    } else {
+      container.push_back(std::move(value));
+      inserted = &container[container.size() - 1];
+    }
+    if (type == kPayloadTypeBeginMap || type == kPayloadTypeBeginArray) {
+      containers.push_back(inserted);
+    }
+  }
+  return root;
+}
+
+} // namespace
+
 void EventEmitterWrapper::dispatchEvent(
     std::string eventName,
     NativeMap *payload,
@@ -42,11 +134,57 @@ void EventEmitterWrapper::dispatchUniqueEvent(
   }
 }
 
+void EventEmitterWrapper::dispatchEventPayload(
+    std::string eventName,
+    alias_ref<JArrayInt> ops,
+    int opCount,
+    alias_ref<JArrayDouble> values,
+    alias_ref<JArrayClass<JString>> strings,
+    int category) {
+  if (eventEmitter != nullptr) {
+    eventEmitter->dispatchEvent(
+        eventName,
+        payloadToDynamic(ops, opCount, values, strings),
+        EventPriority::AsynchronousBatched,
+        static_cast<RawEvent::Category>(category));
+  }
+}
+
+void EventEmitterWrapper::dispatchUniqueEventPayload(
+    std::string eventName,
+    alias_ref<JArrayInt> ops,
+    int opCount,
+    alias_ref<JArrayDouble> values,
+    alias_ref<JArrayClass<JString>> strings,
+    int customCoalesceKey) {
+  // TODO: customCoalesceKey currently unused
+  if (eventEmitter != nullptr) {
+    eventEmitter->dispatchUniqueEvent(
+        eventName, payloadToDynamic(ops, opCount, values, strings));
+  }
+}
+
+void EventEmitterWrapper::registerPayloadKeys(
+    alias_ref<jclass>,
+    alias_ref<JArrayClass<JString>> keys) {
+  std::lock_guard<std::mutex> lock(payloadKeysMutex);
+  for (jsize i = 0; i < keys->size(); i++) {
+    payloadKeys.push_back(keys->getElement(i)->toStdString());
+  }
+}
+
 void EventEmitterWrapper::registerNatives() {
   registerHybrid({
       makeNativeMethod("dispatchEvent", EventEmitterWrapper::dispatchEvent),
       makeNativeMethod(
           "dispatchUniqueEvent", EventEmitterWrapper::dispatchUniqueEvent),
+      makeNativeMethod(
+          "dispatchEventPayload", EventEmitterWrapper::dispatchEventPayload),
+      makeNativeMethod(
+          "dispatchUniqueEventPayload",
+          EventEmitterWrapper::dispatchUniqueEventPayload),
+      makeNativeMethod(
+          "registerPayloadKeys", EventEmitterWrapper::registerPayloadKeys),
   });
 }
 
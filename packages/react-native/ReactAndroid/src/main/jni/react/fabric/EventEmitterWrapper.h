@@ -32,6 +32,25 @@ class EventEmitterWrapper : public jni::HybridClass<EventEmitterWrapper> {
       std::string eventName,
       NativeMap *params,
       int customCoalesceKey);
+
+  void dispatchEventPayload(
+      std::string eventName,
+      jni::alias_ref<jni::JArrayInt> ops,
+      int opCount,
+      jni::alias_ref<jni::JArrayDouble> values,
+      jni::alias_ref<jni::JArrayClass<jni::JString>> strings,
+      int category);
+  void dispatchUniqueEventPayload(
+      std::string eventName,
+      jni::alias_ref<jni::JArrayInt> ops,
+      int opCount,
+      jni::alias_ref<jni::JArrayDouble> values,
+      jni::alias_ref<jni::JArrayClass<jni::JString>> strings,
+      int customCoalesceKey);
+
+  static void registerPayloadKeys(
+      jni::alias_ref<jclass>,
+      jni::alias_ref<jni::JArrayClass<jni::JString>> keys);
 };
 
 } // namespace facebook::react
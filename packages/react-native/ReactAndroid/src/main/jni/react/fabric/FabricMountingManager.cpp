@@ -25,6 +25,8 @@
 
 #include <cfenv>
 #include <cmath>
+#include <mutex>
+#include <unordered_map>
 #include <vector>
 
 namespace facebook::react {
@@ -198,22 +200,40 @@ static inline void writeIntBufferTypePreamble(
   }
 }
 
+// Returns the same Java string for every view of a component, instead of a new
+// one each time. Java looks ViewManagers up by component name for every view it
+// creates: a string it already saw has its hash code cached and is compared by
+// reference.
+static jni::local_ref<jstring> getComponentNameJString(
+    std::string const &componentName) {
+  static std::mutex mutex;
+  static std::unordered_map<std::string, jni::global_ref<jstring>> jstrings;
+
+  std::lock_guard<std::mutex> lock(mutex);
+  auto it = jstrings.find(componentName);
+  if (it == jstrings.end()) {
+    it = jstrings
+             .emplace(
+                 componentName,
+                 jni::make_global(jni::make_jstring(componentName)))
+             .first;
+  }
+  return jni::make_local(it->second);
+}
+
 // TODO: this method will be removed when binding for components are code-gen
 jni::local_ref<jstring> getPlatformComponentName(ShadowView const &shadowView) {
   static std::string scrollViewComponentName = std::string("ScrollView");
 
-  jni::local_ref<jstring> componentName;
   if (scrollViewComponentName == shadowView.componentName) {
     auto newViewProps =
         std::static_pointer_cast<const ScrollViewProps>(shadowView.props);
     if (newViewProps->getProbablyMoreHorizontalThanVertical_DEPRECATED()) {
-      componentName = jni::make_jstring("AndroidHorizontalScrollView");
-      return componentName;
+      return getComponentNameJString("AndroidHorizontalScrollView");
     }
   }
 
-  componentName = jni::make_jstring(shadowView.componentName);
-  return componentName;
+  return getComponentNameJString(shadowView.componentName);
 }
 
 static inline float scale(Float value, Float pointScaleFactor) {
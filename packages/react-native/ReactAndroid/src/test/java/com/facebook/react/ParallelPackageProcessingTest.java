@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+
+import com.facebook.react.bridge.BaseJavaModule;
+import com.facebook.react.bridge.NativeModule;
+import com.facebook.react.bridge.NativeModuleRegistry;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.uimanager.ViewManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+@RunWith(RobolectricTestRunner.class)
+public class ParallelPackageProcessingTest {
+
+  private ReactApplicationContext mReactContext;
+  private NativeModuleRegistryBuilder mRegistryBuilder;
+
+  @Before
+  public void setUp() {
+    mReactContext = new ReactApplicationContext(RuntimeEnvironment.getApplication());
+    mRegistryBuilder =
+        new NativeModuleRegistryBuilder(mReactContext, mock(ReactInstanceManager.class));
+  }
+
+  @Test
+  public void testOverridesResolveInPackageOrder() {
+    TestModule original = new TestModule("Shared", false);
+    TestModule override = new TestModule("Shared", true);
+    List<ReactPackage> packages = new ArrayList<>();
+    // The first package is the slowest, so that the overriding package is collected before it
+    packages.add(new TestPackage(50, original, new TestModule("First", false)));
+    packages.add(new TestPackage(0, override));
+    for (int i = 0; i < 8; i++) {
+      packages.add(new TestPackage(0, new TestModule("Module" + i, false)));
+    }
+
+    ReactInstanceManager.processPackagesInParallel(packages, mRegistryBuilder);
+
+    NativeModuleRegistry registry = mRegistryBuilder.build();
+    assertThat(registry.getModule("Shared")).isSameAs(override);
+    assertThat(registry.getModule("First")).isNotNull();
+    assertThat(registry.getModule("Module7")).isNotNull();
+  }
+
+  @Test
+  public void testDuplicateModulesThatCantOverrideThrow() {
+    List<ReactPackage> packages =
+        Arrays.<ReactPackage>asList(
+            new TestPackage(0, new TestModule("Shared", false)),
+            new TestPackage(0, new TestModule("Shared", false)));
+
+    try {
+      ReactInstanceManager.processPackagesInParallel(packages, mRegistryBuilder);
+      fail("Expected the duplicate module to throw");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage()).startsWith("Native module Shared tried to override");
+    }
+  }
+
+  @Test
+  public void testExceptionsOfPackagesArePropagated() {
+    final IllegalArgumentException exception = new IllegalArgumentException("Package failed");
+    List<ReactPackage> packages =
+        Arrays.<ReactPackage>asList(
+            new TestPackage(0, new TestModule("First", false)),
+            new TestPackage(0) {
+              @Override
+              public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
+                throw exception;
+              }
+            });
+
+    try {
+      ReactInstanceManager.processPackagesInParallel(packages, mRegistryBuilder);
+      fail("Expected the exception of the package to be rethrown");
+    } catch (IllegalArgumentException e) {
+      assertThat(e).isSameAs(exception);
+    }
+  }
+
+  private static class TestPackage implements ReactPackage {
+    private final long mDelayMs;
+    private final List<NativeModule> mModules;
+
+    TestPackage(long delayMs, NativeModule... modules) {
+      mDelayMs = delayMs;
+      mModules = Arrays.asList(modules);
+    }
+
+    @Override
+    public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
+      if (mDelayMs > 0) {
+        try {
+          Thread.sleep(mDelayMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return mModules;
+    }
+
+    @Override
+    public List<ViewManager> createViewManagers(ReactApplicationContext reactContext) {
+      return Collections.emptyList();
+    }
+  }
+
+  private static class TestModule extends BaseJavaModule {
+    private final String mName;
+    private final boolean mCanOverrideExistingModule;
+
+    TestModule(String name, boolean canOverrideExistingModule) {
+      mName = name;
+      mCanOverrideExistingModule = canOverrideExistingModule;
+    }
+
+    @Override
+    public String getName() {
+      return mName;
+    }
+
+    @Override
+    public boolean canOverrideExistingModule() {
+      return mCanOverrideExistingModule;
+    }
+  }
+}
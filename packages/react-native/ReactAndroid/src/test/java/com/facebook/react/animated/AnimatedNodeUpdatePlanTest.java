@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.animated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import android.util.SparseArray;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class AnimatedNodeUpdatePlanTest {
+
+  private SparseArray<AnimatedNode> mNodes;
+  private AnimatedNodeUpdatePlan mPlan;
+
+  @Before
+  public void setUp() {
+    mNodes = new SparseArray<>();
+    mPlan = new AnimatedNodeUpdatePlan();
+  }
+
+  private AnimatedNode createNode(int tag) {
+    AnimatedNode node = new ValueAnimatedNode();
+    node.mTag = tag;
+    mNodes.put(tag, node);
+    return node;
+  }
+
+  private List<Integer> runFrame(AnimatedNode... updatedNodes) {
+    if (!mPlan.isUpToDate()) {
+      mPlan.rebuild(mNodes);
+    }
+    mPlan.beginFrame();
+    for (AnimatedNode node : updatedNodes) {
+      assertThat(mPlan.activate(node)).isTrue();
+    }
+    List<Integer> visited = new ArrayList<>();
+    AnimatedNode node;
+    while ((node = mPlan.nextActiveNode()) != null) {
+      visited.add(node.mTag);
+    }
+    return visited;
+  }
+
+  @Test
+  public void testVisitsDescendantsAfterAllTheirParents() {
+    // 1 -> 2 -> 4, 1 -> 3 -> 4, 4 -> 5
+    AnimatedNode node1 = createNode(1);
+    AnimatedNode node2 = createNode(2);
+    AnimatedNode node3 = createNode(3);
+    AnimatedNode node4 = createNode(4);
+    AnimatedNode node5 = createNode(5);
+    // Children added in reverse tag order to make sure the order doesn't come from tags
+    node4.addChild(node5);
+    node3.addChild(node4);
+    node2.addChild(node4);
+    node1.addChild(node3);
+    node1.addChild(node2);
+
+    List<Integer> visited = runFrame(node1);
+    assertThat(visited).hasSize(5);
+    assertThat(visited.get(0)).isEqualTo(1);
+    assertThat(visited.indexOf(4)).isGreaterThan(visited.indexOf(2));
+    assertThat(visited.indexOf(4)).isGreaterThan(visited.indexOf(3));
+    assertThat(visited.get(4)).isEqualTo(5);
+
+    // Only the updated node and its descendants are visited
+    assertThat(runFrame(node4)).containsExactly(4, 5);
+    assertThat(runFrame(node3, node4)).containsExactly(3, 4, 5);
+  }
+
+  @Test
+  public void testInvalidateRecomputesOrder() {
+    AnimatedNode node1 = createNode(1);
+    AnimatedNode node2 = createNode(2);
+    node1.addChild(node2);
+    assertThat(runFrame(node2)).containsExactly(2);
+
+    AnimatedNode node3 = createNode(3);
+    node3.addChild(node1);
+    mPlan.invalidate();
+    assertThat(runFrame(node3)).containsExactly(3, 1, 2);
+    assertThat(mPlan.getNodeCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void testDroppedNodesAreNotPartOfThePlan() {
+    AnimatedNode node1 = createNode(1);
+    createNode(2);
+    runFrame(node1);
+
+    mNodes.remove(1);
+    mPlan.invalidate();
+    mPlan.rebuild(mNodes);
+    mPlan.beginFrame();
+    assertThat(mPlan.activate(node1)).isFalse();
+  }
+
+  @Test
+  public void testDroppedNodesStillReferencedAsChildrenAreVisited() {
+    AnimatedNode node1 = createNode(1);
+    AnimatedNode node2 = createNode(2);
+    node1.addChild(node2);
+    mNodes.remove(2);
+
+    assertThat(runFrame(node1)).containsExactly(1, 2);
+  }
+
+  @Test
+  public void testCyclesAreDetected() {
+    AnimatedNode node1 = createNode(1);
+    AnimatedNode node2 = createNode(2);
+    AnimatedNode node3 = createNode(3);
+    node1.addChild(node2);
+    node2.addChild(node3);
+    node3.addChild(node2);
+
+    mPlan.rebuild(mNodes);
+    assertThat(mPlan.isAcyclic()).isFalse();
+
+    node3.removeChild(node2);
+    mPlan.invalidate();
+    mPlan.rebuild(mNodes);
+    assertThat(mPlan.isAcyclic()).isTrue();
+  }
+
+  @Test
+  public void testLargeGraph() {
+    // A chain of diamonds, where each node depends on the two nodes of the previous level
+    int levels = 500;
+    AnimatedNode[] previous = {createNode(0)};
+    for (int level = 1; level <= levels; level++) {
+      AnimatedNode[] current = {createNode(level * 2), createNode(level * 2 + 1)};
+      for (AnimatedNode parent : previous) {
+        for (AnimatedNode child : current) {
+          parent.addChild(child);
+        }
+      }
+      previous = current;
+    }
+
+    List<Integer> visited = runFrame(mNodes.get(0));
+    assertThat(visited).hasSize(levels * 2 + 1);
+    for (int i = 1; i < visited.size(); i++) {
+      // Nodes of a level are only visited once the whole previous level was
+      assertThat(visited.get(i) / 2).isGreaterThanOrEqualTo(visited.get(i - 1) / 2);
+    }
+  }
+}
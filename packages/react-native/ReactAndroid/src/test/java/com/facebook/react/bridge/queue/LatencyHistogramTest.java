@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.bridge.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testBucketsCoverAllValues() {
+    long previousUpperBound = -1;
+    int previousIndex = -1;
+    for (long value = 0; value < 1 << 16; value++) {
+      int index = LatencyHistogram.getBucketIndex(value);
+      assertThat(index).isBetween(previousIndex, previousIndex + 1);
+      if (index != previousIndex) {
+        assertThat(value).isEqualTo(previousUpperBound + 1);
+        previousIndex = index;
+        previousUpperBound = LatencyHistogram.getBucketUpperBound(index);
+      }
+      assertThat(value).isLessThanOrEqualTo(previousUpperBound);
+    }
+    int lastIndex = LatencyHistogram.getBucketIndex(Long.MAX_VALUE);
+    assertThat(LatencyHistogram.getBucketUpperBound(lastIndex)).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void testPercentilesAreWithinRelativeError() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 1; value <= 1000; value++) {
+      histogram.record(value * 1000);
+    }
+
+    assertThat(histogram.getTotalCount()).isEqualTo(1000);
+    assertThat(histogram.getMaxValue()).isEqualTo(1000000);
+    double maxError = 1.0 / LatencyHistogram.SUB_BUCKET_COUNT;
+    assertThat((double) histogram.getValueAtPercentile(50))
+        .isCloseTo(500000, within(500000 * maxError));
+    assertThat((double) histogram.getValueAtPercentile(99))
+        .isCloseTo(990000, within(990000 * maxError));
+    assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1000000);
+  }
+
+  @Test
+  public void testReset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(42);
+    histogram.record(-1);
+
+    histogram.reset();
+
+    assertThat(histogram.getTotalCount()).isEqualTo(0);
+    assertThat(histogram.getMaxValue()).isEqualTo(0);
+    assertThat(histogram.getValueAtPercentile(50)).isEqualTo(0);
+  }
+}
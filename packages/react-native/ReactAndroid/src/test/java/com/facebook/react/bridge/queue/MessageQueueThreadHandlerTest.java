@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.bridge.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import android.os.Looper;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+@RunWith(RobolectricTestRunner.class)
+public class MessageQueueThreadHandlerTest {
+
+  private QueueThreadExceptionHandler mExceptionHandler;
+  private MessageQueueThreadTaskStats mTaskStats;
+  private MessageQueueThreadHandler mHandler;
+
+  @Before
+  public void setUp() {
+    mExceptionHandler = mock(QueueThreadExceptionHandler.class);
+    // Every task counts as slow
+    mTaskStats = new MessageQueueThreadTaskStats(0);
+    mHandler = new MessageQueueThreadHandler(Looper.getMainLooper(), mExceptionHandler, mTaskStats);
+  }
+
+  @Test
+  public void testRecordsTaskStats() {
+    final int[] runCount = {0};
+    Runnable runnable =
+        new Runnable() {
+          @Override
+          public void run() {
+            runCount[0]++;
+          }
+        };
+    ShadowLooper.pauseMainLooper();
+    mHandler.postTimed(runnable);
+    mHandler.postTimed(runnable);
+    assertThat(mTaskStats.getQueueDepth()).isEqualTo(2);
+
+    ShadowLooper.idleMainLooper();
+
+    assertThat(runCount[0]).isEqualTo(2);
+    assertThat(mTaskStats.getQueueDepth()).isEqualTo(0);
+    assertThat(mTaskStats.getMaxQueueDepth()).isEqualTo(2);
+    assertThat(mTaskStats.getWaitTimes().getTotalCount()).isEqualTo(2);
+    assertThat(mTaskStats.getRunTimes().getTotalCount()).isEqualTo(2);
+    List<MessageQueueThreadTaskStats.SlowTask> slowTasks = mTaskStats.getSlowTasks();
+    assertThat(slowTasks).hasSize(2);
+    assertThat(slowTasks.get(0).tag).isEqualTo(runnable.getClass().getName());
+  }
+
+  @Test
+  public void testRecordsFailingTasks() {
+    final RuntimeException exception = new RuntimeException();
+    mHandler.postTimed(
+        new Runnable() {
+          @Override
+          public void run() {
+            throw exception;
+          }
+        });
+
+    ShadowLooper.idleMainLooper();
+
+    verify(mExceptionHandler).handleException(exception);
+    assertThat(mTaskStats.getRunTimes().getTotalCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testKeepsMostRecentSlowTasks() {
+    for (int i = 0; i < 40; i++) {
+      mHandler.postTimed(
+          new Runnable() {
+            @Override
+            public void run() {}
+          });
+    }
+    ShadowLooper.idleMainLooper();
+
+    assertThat(mTaskStats.getSlowTasks()).hasSize(32);
+    mTaskStats.reset();
+    assertThat(mTaskStats.getSlowTasks()).isEmpty();
+    assertThat(mTaskStats.getRunTimes().getTotalCount()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+/** Tests for {@link ConcurrentIntObjectMap} */
+public class ConcurrentIntObjectMapTest {
+
+  @Test
+  public void testPutGetRemove() {
+    ConcurrentIntObjectMap<String> map = new ConcurrentIntObjectMap<>(2);
+
+    assertThat(map.put(1, "one")).isNull();
+    assertThat(map.put(-1, "minus one")).isNull();
+    assertThat(map.put(1, "uno")).isEqualTo("one");
+
+    assertThat(map.get(1)).isEqualTo("uno");
+    assertThat(map.get(-1)).isEqualTo("minus one");
+    assertThat(map.get(2)).isNull();
+    assertThat(map.size()).isEqualTo(2);
+
+    assertThat(map.remove(1)).isEqualTo("uno");
+    assertThat(map.remove(1)).isNull();
+    assertThat(map.containsKey(1)).isFalse();
+    assertThat(map.size()).isEqualTo(1);
+
+    assertThat(map.put(1, "one again")).isNull();
+    assertThat(map.get(1)).isEqualTo("one again");
+    assertThat(map.keys()).containsExactly(-1, 1);
+    assertThat(map.values()).containsOnly("minus one", "one again");
+  }
+
+  @Test
+  public void testMatchesHashMapUnderChurn() {
+    ConcurrentIntObjectMap<Integer> map = new ConcurrentIntObjectMap<>();
+    Map<Integer, Integer> expected = new HashMap<>();
+    Random random = new Random(42);
+
+    for (int i = 0; i < 100000; i++) {
+      int key = random.nextInt(2000);
+      if (random.nextInt(3) == 0) {
+        assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+      } else {
+        assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+      }
+    }
+
+    assertThat(map.size()).isEqualTo(expected.size());
+    for (int key = 0; key < 2000; key++) {
+      assertThat(map.get(key)).isEqualTo(expected.get(key));
+    }
+  }
+}
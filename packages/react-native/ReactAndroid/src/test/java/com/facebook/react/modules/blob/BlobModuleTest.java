@@ -8,8 +8,11 @@
 package com.facebook.react.modules.blob;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import android.net.Uri;
 import com.facebook.react.bridge.Arguments;
@@ -21,6 +24,8 @@ import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.UUID;
+import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -101,6 +106,21 @@ public class BlobModuleTest {
     assertArrayEquals(mBytes, mBlobModule.resolve(blob));
   }
 
+  @Test
+  public void testStoreSource() throws Exception {
+    String id = UUID.randomUUID().toString();
+
+    assertEquals(mBytes.length, mBlobModule.store(new Buffer().write(mBytes), id));
+
+    assertArrayEquals(mBytes, mBlobModule.resolve(id, 0, mBytes.length));
+    byte[] expectedRange = Arrays.copyOfRange(mBytes, 30, mBytes.length);
+    assertArrayEquals(expectedRange, mBlobModule.resolve(id, 30, mBytes.length - 30));
+
+    mBlobModule.remove(id);
+
+    assertNull(mBlobModule.resolve(id, 0, mBytes.length));
+  }
+
   @Test
   public void testRemove() {
     assertNotNull(mBlobModule.resolve(mBlobId, 0, mBytes.length));
@@ -153,4 +173,20 @@ public class BlobModuleTest {
 
     assertNull(mBlobModule.resolve(mBlobId, 0, mBytes.length));
   }
+
+  @Test
+  public void testResponsesOfUnknownLengthAreOnlyLargeAboveTheThreshold() throws Exception {
+    byte[] small = new byte[16];
+    new Random().nextBytes(small);
+    ResponseBody smallBody = ResponseBody.create(null, -1, new Buffer().write(small));
+    assertFalse(BlobModule.isLargeResponse(smallBody));
+    assertArrayEquals(small, smallBody.bytes());
+
+    byte[] large = new byte[(int) BlobModule.MIN_STREAMED_RESPONSE_SIZE + 1];
+    new Random().nextBytes(large);
+    ResponseBody largeBody = ResponseBody.create(null, -1, new Buffer().write(large));
+    assertTrue(BlobModule.isLargeResponse(largeBody));
+    // The bytes buffered to find out are still read from the body
+    assertArrayEquals(large, largeBody.bytes());
+  }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.blob;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BlobStoreTest {
+
+  @Rule public TemporaryFolder mTemporaryFolder = new TemporaryFolder();
+
+  private File mSpillDirectory;
+  private BlobStore mBlobStore;
+
+  @Before
+  public void setUp() throws Exception {
+    mSpillDirectory = mTemporaryFolder.newFolder("blobs");
+    mBlobStore = new BlobStore(mSpillDirectory);
+  }
+
+  @Test
+  public void testSliceAndConcat() throws Exception {
+    byte[] first = randomBytes(100);
+    byte[] second = randomBytes(50);
+    Blob blob = Blob.concat(Arrays.asList(Blob.fromBytes(first), Blob.fromBytes(second)));
+
+    assertEquals(150, blob.size());
+    byte[] expected = new byte[150];
+    System.arraycopy(first, 0, expected, 0, 100);
+    System.arraycopy(second, 0, expected, 100, 50);
+    assertArrayEquals(expected, blob.toByteArray());
+
+    // A slice spanning both parts
+    assertArrayEquals(Arrays.copyOfRange(expected, 90, 120), blob.slice(90, 30).toByteArray());
+    assertArrayEquals(Arrays.copyOfRange(expected, 120, 150), blob.slice(120, -1).toByteArray());
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    blob.slice(10, 100).writeTo(outputStream);
+    assertArrayEquals(Arrays.copyOfRange(expected, 10, 110), outputStream.toByteArray());
+  }
+
+  @Test
+  public void testSliceClampsRangesToTheBlob() throws Exception {
+    byte[] bytes = randomBytes(100);
+    Blob blob = Blob.fromBytes(bytes);
+
+    assertArrayEquals(Arrays.copyOfRange(bytes, 90, 100), blob.slice(90, 20).toByteArray());
+    assertArrayEquals(Arrays.copyOfRange(bytes, 0, 10), blob.slice(-5, 15).toByteArray());
+    assertEquals(0, blob.slice(150, 10).size());
+    assertEquals(0, blob.slice(150, -1).size());
+    assertEquals(0, blob.slice(10, -20).size());
+  }
+
+  @Test
+  public void testWholeInMemoryBlobIsNotCopied() throws Exception {
+    byte[] bytes = randomBytes(10);
+    mBlobStore.put("id", Blob.fromBytes(bytes));
+
+    assertSame(bytes, mBlobStore.get("id").toByteArray());
+  }
+
+  @Test
+  public void testSpillsToDiskAboveCeiling() throws Exception {
+    byte[] first = randomBytes(64 * 1024);
+    byte[] second = randomBytes(64 * 1024);
+    mBlobStore.setMaxHeapBytes(100 * 1024);
+
+    mBlobStore.put("first", Blob.fromBytes(first));
+    mBlobStore.put("second", Blob.fromBytes(second));
+
+    // The least recently used blob was moved to a file
+    assertEquals(64 * 1024, mBlobStore.getHeapBytes());
+    Blob spilled = mBlobStore.get("first");
+    assertNotNull(spilled.getFile());
+    assertArrayEquals(first, spilled.toByteArray());
+    assertArrayEquals(second, mBlobStore.get("second").toByteArray());
+  }
+
+  @Test
+  public void testReleasedBlobsAreEvicted() throws Exception {
+    mBlobStore.setMaxHeapBytes(0);
+    mBlobStore.setMaxReleasedBytes(100 * 1024);
+    mBlobStore.put("first", Blob.fromBytes(randomBytes(64 * 1024)));
+    mBlobStore.put("second", Blob.fromBytes(randomBytes(64 * 1024)));
+    File firstFile = mBlobStore.get("first").getFile();
+    assertTrue(firstFile.exists());
+
+    mBlobStore.remove("first");
+    assertNull(mBlobStore.get("first"));
+    // Still found until evicted
+    assertNotNull(mBlobStore.getIncludingReleased("first"));
+
+    mBlobStore.remove("second");
+    assertNull(mBlobStore.getIncludingReleased("first"));
+    assertNotNull(mBlobStore.getIncludingReleased("second"));
+    assertFalse(firstFile.exists());
+  }
+
+  @Test
+  public void testSharedChunksOutliveTheirFirstBlob() throws Exception {
+    byte[] bytes = randomBytes(100);
+    mBlobStore.setMaxReleasedBytes(0);
+    mBlobStore.put("source", Blob.fromBytes(bytes));
+    mBlobStore.put("copy", mBlobStore.get("source").slice(0, 50));
+
+    mBlobStore.remove("source");
+
+    assertNull(mBlobStore.getIncludingReleased("source"));
+    assertArrayEquals(Arrays.copyOf(bytes, 50), mBlobStore.get("copy").toByteArray());
+  }
+
+  @Test
+  public void testClearDeletesFiles() throws Exception {
+    mBlobStore.setMaxHeapBytes(0);
+    mBlobStore.put("id", Blob.fromBytes(randomBytes(64 * 1024)));
+    assertEquals(1, mSpillDirectory.list().length);
+
+    mBlobStore.clear();
+
+    assertNull(mBlobStore.getIncludingReleased("id"));
+    assertEquals(0, mSpillDirectory.list().length);
+  }
+
+  @Test
+  public void testChunksThatFailToSpillAreStillCounted() throws Exception {
+    // The spill directory can't be created where a file already is
+    BlobStore blobStore = new BlobStore(mTemporaryFolder.newFile("not-a-directory"));
+    blobStore.setMaxHeapBytes(0);
+    byte[] bytes = randomBytes(64 * 1024);
+
+    blobStore.put("id", Blob.fromBytes(bytes));
+
+    assertEquals(64 * 1024, blobStore.getHeapBytes());
+    assertArrayEquals(bytes, blobStore.get("id").toByteArray());
+    blobStore.remove("id");
+    blobStore.clear();
+    assertEquals(0, blobStore.getHeapBytes());
+  }
+
+  private static byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random().nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.modules.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/** Tests for {@link TimerWheel} */
+public class TimerWheelTest {
+
+  private static final long START_TICK = 1_000_003L;
+
+  private static class TestEntry extends TimerWheel.Entry {
+    private final int mId;
+    private final long mExpiry;
+
+    TestEntry(int id, long expiry) {
+      mId = id;
+      mExpiry = expiry;
+    }
+  }
+
+  @Test
+  public void testExpiresInOrder() {
+    TimerWheel<TestEntry> wheel = new TimerWheel<>(START_TICK);
+    TestEntry late = new TestEntry(0, START_TICK + 5000);
+    TestEntry early = new TestEntry(1, START_TICK + 10);
+    TestEntry sameTickAsEarly = new TestEntry(2, START_TICK + 10);
+    wheel.schedule(late, late.mExpiry);
+    wheel.schedule(early, early.mExpiry);
+    wheel.schedule(sameTickAsEarly, sameTickAsEarly.mExpiry);
+
+    List<TestEntry> expired = new ArrayList<>();
+    wheel.advanceTo(START_TICK + 9, expired);
+    assertThat(expired).isEmpty();
+
+    wheel.advanceTo(START_TICK + 10, expired);
+    assertThat(expired).containsExactly(early, sameTickAsEarly);
+
+    expired.clear();
+    wheel.advanceTo(START_TICK + 100000, expired);
+    assertThat(expired).containsExactly(late);
+    assertThat(wheel.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testPastExpiryFiresOnNextAdvance() {
+    TimerWheel<TestEntry> wheel = new TimerWheel<>(START_TICK);
+    TestEntry entry = new TestEntry(0, 0);
+    wheel.schedule(entry, START_TICK - 100);
+
+    List<TestEntry> expired = new ArrayList<>();
+    wheel.advanceTo(START_TICK + 1, expired);
+    assertThat(expired).containsExactly(entry);
+  }
+
+  @Test
+  public void testCancel() {
+    TimerWheel<TestEntry> wheel = new TimerWheel<>(START_TICK);
+    TestEntry first = new TestEntry(0, START_TICK + 1);
+    TestEntry second = new TestEntry(1, START_TICK + 1);
+    TestEntry third = new TestEntry(2, START_TICK + 1);
+    wheel.schedule(first, first.mExpiry);
+    wheel.schedule(second, second.mExpiry);
+    wheel.schedule(third, third.mExpiry);
+
+    assertThat(wheel.cancel(second)).isTrue();
+    assertThat(wheel.cancel(second)).isFalse();
+    assertThat(wheel.size()).isEqualTo(2);
+
+    List<TestEntry> expired = new ArrayList<>();
+    wheel.advanceTo(START_TICK + 1, expired);
+    assertThat(expired).containsExactly(first, third);
+    assertThat(wheel.cancel(first)).isFalse();
+  }
+
+  @Test
+  public void testBeyondTopLevel() {
+    TimerWheel<TestEntry> wheel = new TimerWheel<>(START_TICK);
+    long expiry = START_TICK + (1L << 40) + 7;
+    TestEntry entry = new TestEntry(0, expiry);
+    wheel.schedule(entry, expiry);
+
+    List<TestEntry> expired = new ArrayList<>();
+    wheel.advanceTo(expiry - 1, expired);
+    assertThat(expired).isEmpty();
+    wheel.advanceTo(expiry, expired);
+    assertThat(expired).containsExactly(entry);
+  }
+
+  @Test
+  public void testManyTimersMatchSortedOrder() {
+    Random random = new Random(42);
+    TimerWheel<TestEntry> wheel = new TimerWheel<>(START_TICK);
+    List<TestEntry> live = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      long delay = random.nextInt(4) == 0 ? random.nextInt(1 << 24) : random.nextInt(2000);
+      TestEntry entry = new TestEntry(i, START_TICK + delay + 1);
+      wheel.schedule(entry, entry.mExpiry);
+      live.add(entry);
+    }
+    for (int i = 0; i < 1000; i++) {
+      assertThat(wheel.cancel(live.remove(random.nextInt(live.size())))).isTrue();
+    }
+
+    List<TestEntry> expired = new ArrayList<>();
+    long tick = START_TICK;
+    while (!wheel.isEmpty()) {
+      // Mostly frame sized steps, with occasional long pauses
+      tick += random.nextInt(20) == 0 ? random.nextInt(1 << 20) : 16;
+      int previousSize = expired.size();
+      wheel.advanceTo(tick, expired);
+      for (int i = previousSize; i < expired.size(); i++) {
+        assertThat(expired.get(i).mExpiry).isLessThanOrEqualTo(tick);
+      }
+    }
+
+    assertThat(expired).hasSize(live.size());
+    for (int i = 1; i < expired.size(); i++) {
+      TestEntry previous = expired.get(i - 1);
+      TestEntry current = expired.get(i);
+      assertThat(previous.mExpiry).isLessThanOrEqualTo(current.mExpiry);
+      if (previous.mExpiry == current.mExpiry) {
+        assertThat(previous.mId).isLessThan(current.mId);
+      }
+    }
+  }
+}
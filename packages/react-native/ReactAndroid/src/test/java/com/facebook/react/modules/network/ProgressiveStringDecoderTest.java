@@ -120,6 +120,21 @@ public class ProgressiveStringDecoderTest {
     chunkString(TEST_DATA_4_BYTES, Charset.forName("UTF-32"), 65);
   }
 
+  @Test
+  public void testUTF8SingleByteChunks() throws Exception {
+    // Every multi-byte symbol is carried over several calls
+    chunkString(TEST_DATA_4_BYTES, StandardCharsets.UTF_8, 1);
+    chunkString(TEST_DATA_3_BYTES, StandardCharsets.UTF_8, 1);
+  }
+
+  @Test
+  public void testMalformedInputIsSkipped() throws Exception {
+    ProgressiveStringDecoder collector = new ProgressiveStringDecoder(StandardCharsets.UTF_8);
+    byte[] data = {'a', (byte) 0xFF, 'b'};
+
+    Assert.assertEquals("ab", collector.decodeNext(data, data.length));
+  }
+
   private void chunkString(String originalString, Charset charset, int chunkSize) {
     byte data[] = originalString.getBytes(charset);
 
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import android.content.Context;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.FrameLayout;
+import com.facebook.react.R;
+import com.facebook.react.config.ReactFeatureFlags;
+import com.facebook.react.uimanager.common.UIManagerType;
+import com.facebook.react.uimanager.events.BatchEventDispatchedListener;
+import com.facebook.react.uimanager.events.Event;
+import com.facebook.react.uimanager.events.EventDispatcher;
+import com.facebook.react.uimanager.events.EventDispatcherListener;
+import com.facebook.react.uimanager.events.PointerEventHelper;
+import com.facebook.react.uimanager.events.PointerEventHelper.EVENT;
+import com.facebook.react.uimanager.events.RCTEventEmitter;
+import com.facebook.react.uimanager.events.RCTModernEventEmitter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+/**
+ * Tests for {@link JSPointerDispatcher}. The expected sequences are the ones dispatched when the
+ * views to dispatch to were filtered into intermediate lists.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class JSPointerDispatcherTest {
+
+  private static final int ROOT_TAG = 1;
+  private static final int CONTAINER_TAG = 3;
+  private static final int LEFT_TAG = 5;
+  private static final int RIGHT_TAG = 7;
+
+  private FrameLayout mRoot;
+  private FrameLayout mContainer;
+  private View mLeft;
+  private View mRight;
+  private JSPointerDispatcher mPointerDispatcher;
+  private RecordingEventDispatcher mEventDispatcher;
+
+  @Before
+  public void setUp() {
+    ReactFeatureFlags.enablePointerEventStatePool = true;
+
+    // root > container > [left, right], with left and right splitting the container in halves
+    Context context = RuntimeEnvironment.getApplication();
+    mRoot = new FrameLayout(context);
+    mRoot.setId(ROOT_TAG);
+    mContainer = new FrameLayout(context);
+    mContainer.setId(CONTAINER_TAG);
+    mLeft = new View(context);
+    mLeft.setId(LEFT_TAG);
+    mRight = new View(context);
+    mRight.setId(RIGHT_TAG);
+    mRoot.addView(mContainer);
+    mContainer.addView(mLeft);
+    mContainer.addView(mRight);
+    mRoot.layout(0, 0, 100, 100);
+    mContainer.layout(0, 0, 100, 100);
+    mLeft.layout(0, 0, 50, 100);
+    mRight.layout(50, 0, 100, 100);
+
+    mPointerDispatcher = new JSPointerDispatcher(mRoot);
+    mEventDispatcher = new RecordingEventDispatcher();
+  }
+
+  @After
+  public void tearDown() {
+    ReactFeatureFlags.enablePointerEventStatePool = false;
+  }
+
+  @Test
+  public void testHoverAcrossSiblingsDispatchesForCapturingAncestor() {
+    setListening(mContainer, EVENT.ENTER_CAPTURE, EVENT.LEAVE_CAPTURE);
+    setListening(mLeft, EVENT.OUT);
+    setListening(mRight, EVENT.OVER);
+
+    dispatch(MotionEvent.ACTION_HOVER_MOVE, 25, 50);
+    assertThat(mEventDispatcher.takeEvents())
+        .containsExactly(
+            event(PointerEventHelper.POINTER_ENTER, CONTAINER_TAG),
+            event(PointerEventHelper.POINTER_ENTER, LEFT_TAG));
+
+    dispatch(MotionEvent.ACTION_HOVER_MOVE, 75, 50);
+    // The siblings don't listen to enter and leave, but the container captures them
+    assertThat(mEventDispatcher.takeEvents())
+        .containsExactly(
+            event(PointerEventHelper.POINTER_OUT, LEFT_TAG),
+            event(PointerEventHelper.POINTER_LEAVE, LEFT_TAG),
+            event(PointerEventHelper.POINTER_OVER, RIGHT_TAG),
+            event(PointerEventHelper.POINTER_ENTER, RIGHT_TAG));
+  }
+
+  @Test
+  public void testClickIsDispatchedToCommonAncestor() {
+    dispatch(MotionEvent.ACTION_DOWN, 25, 50);
+    assertThat(mEventDispatcher.takeEvents())
+        .containsExactly(event(PointerEventHelper.POINTER_DOWN, LEFT_TAG));
+
+    dispatch(MotionEvent.ACTION_UP, 75, 50);
+    assertThat(mEventDispatcher.takeEvents())
+        .containsExactly(
+            event(PointerEventHelper.POINTER_UP, RIGHT_TAG),
+            event(PointerEventHelper.CLICK, CONTAINER_TAG));
+
+    // The down state was dropped, so an up without a down doesn't click
+    dispatch(MotionEvent.ACTION_UP, 75, 50);
+    assertThat(mEventDispatcher.takeEvents())
+        .containsExactly(event(PointerEventHelper.POINTER_UP, RIGHT_TAG));
+  }
+
+  @Test
+  public void testCancelDispatchesOutThenLeave() {
+    setListening(mContainer, EVENT.LEAVE_CAPTURE);
+    setListening(mLeft, EVENT.OUT);
+
+    dispatch(MotionEvent.ACTION_DOWN, 25, 50);
+    assertThat(mEventDispatcher.takeEvents())
+        .containsExactly(event(PointerEventHelper.POINTER_DOWN, LEFT_TAG));
+
+    dispatch(MotionEvent.ACTION_CANCEL, 25, 50);
+    assertThat(mEventDispatcher.takeEvents())
+        .containsExactly(
+            event(PointerEventHelper.POINTER_CANCEL, LEFT_TAG),
+            event(PointerEventHelper.POINTER_OUT, LEFT_TAG),
+            event(PointerEventHelper.POINTER_LEAVE, LEFT_TAG),
+            event(PointerEventHelper.POINTER_LEAVE, CONTAINER_TAG));
+  }
+
+  private void dispatch(int action, float x, float y) {
+    MotionEvent motionEvent = MotionEvent.obtain(0, 0, action, x, y, 0);
+    mPointerDispatcher.handleMotionEvent(motionEvent, mEventDispatcher, false);
+    motionEvent.recycle();
+  }
+
+  private static void setListening(View view, EVENT... events) {
+    int pointerEvents = 0;
+    for (EVENT event : events) {
+      pointerEvents |= 1 << event.ordinal();
+    }
+    view.setTag(R.id.pointer_events, pointerEvents);
+  }
+
+  private static String event(String eventName, int viewTag) {
+    return eventName + ":" + viewTag;
+  }
+
+  /** Records the name and target of the dispatched events */
+  private static class RecordingEventDispatcher implements EventDispatcher {
+    private final List<String> mEvents = new ArrayList<>();
+
+    List<String> takeEvents() {
+      List<String> events = new ArrayList<>(mEvents);
+      mEvents.clear();
+      return events;
+    }
+
+    @Override
+    public void dispatchEvent(Event event) {
+      mEvents.add(event(event.getEventName(), event.getViewTag()));
+    }
+
+    @Override
+    public void dispatchAllEvents() {}
+
+    @Override
+    public void addListener(EventDispatcherListener listener) {}
+
+    @Override
+    public void removeListener(EventDispatcherListener listener) {}
+
+    @Override
+    public void addBatchEventDispatchedListener(BatchEventDispatchedListener listener) {}
+
+    @Override
+    public void removeBatchEventDispatchedListener(BatchEventDispatchedListener listener) {}
+
+    @Override
+    public void registerEventEmitter(
+        @UIManagerType int uiManagerType, RCTEventEmitter eventEmitter) {}
+
+    @Override
+    public void registerEventEmitter(
+        @UIManagerType int uiManagerType, RCTModernEventEmitter eventEmitter) {}
+
+    @Override
+    public void unregisterEventEmitter(@UIManagerType int uiManagerType) {}
+
+    @Override
+    public void onCatalystInstanceDestroyed() {}
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import android.app.Activity;
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+import com.facebook.react.config.ReactFeatureFlags;
+import com.facebook.react.views.view.ReactViewGroup;
+import com.facebook.react.views.view.ReactViewManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class TouchTargetCacheTest {
+
+  private FrameLayout mRoot;
+  private View mTarget;
+  private TouchTargetCache mCache;
+
+  @Before
+  public void setUp() {
+    Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+    mRoot = new FrameLayout(activity);
+    mTarget = new View(activity);
+    mRoot.addView(mTarget);
+    activity.setContentView(mRoot);
+    mCache = new TouchTargetCache();
+    ReactFeatureFlags.enableTouchTargetCache = true;
+  }
+
+  @After
+  public void tearDown() {
+    ReactFeatureFlags.enableTouchTargetCache = false;
+    TouchTargetHelper.invalidateTouchTargets();
+  }
+
+  @Test
+  public void testEntriesAreKeyedByRootAndCoordinates() {
+    mCache.put(mRoot, 10, 20, mTarget, 1, 2, null);
+
+    TouchTargetCache.Entry entry = mCache.get(mRoot, 10, 20, false);
+    assertThat(entry).isNotNull();
+    assertThat(entry.targetView).isSameAs(mTarget);
+    assertThat(entry.targetX).isEqualTo(1);
+    assertThat(entry.targetY).isEqualTo(2);
+    assertThat(mCache.get(mRoot, 10, 21, false)).isNull();
+    assertThat(mCache.get(mTarget, 10, 20, false)).isNull();
+    // The path wasn't cached
+    assertThat(mCache.get(mRoot, 10, 20, true)).isNull();
+  }
+
+  @Test
+  public void testEntriesAreDroppedWhenTheViewTreeChanges() {
+    mCache.put(mRoot, 10, 20, mTarget, 1, 2, null);
+    mRoot.getViewTreeObserver().dispatchOnGlobalLayout();
+    assertThat(mCache.get(mRoot, 10, 20, false)).isNull();
+
+    mCache.put(mRoot, 10, 20, mTarget, 1, 2, null);
+    mRoot.getViewTreeObserver().dispatchOnPreDraw();
+    assertThat(mCache.get(mRoot, 10, 20, false)).isNull();
+  }
+
+  @Test
+  public void testDetachedRootsAreNotCached() {
+    View detachedRoot = new FrameLayout(mRoot.getContext());
+    mCache.put(detachedRoot, 10, 20, mTarget, 1, 2, null);
+    assertThat(mCache.get(detachedRoot, 10, 20, false)).isNull();
+  }
+
+  @Test
+  public void testPointerEventsChangesDropTouchTargets() {
+    mRoot.setId(1);
+    ReactViewGroup view = new ReactViewGroup(mRoot.getContext());
+    view.setId(3);
+    mRoot.addView(view);
+    mRoot.layout(0, 0, 100, 100);
+    view.layout(0, 0, 100, 100);
+    assertThat(TouchTargetHelper.findTargetTagForTouch(10, 10, mRoot)).isEqualTo(3);
+
+    // Neither lays out nor draws the view
+    new ReactViewManager().setPointerEvents(view, "none");
+    assertThat(TouchTargetHelper.findTargetTagForTouch(10, 10, mRoot)).isEqualTo(1);
+  }
+
+  @Test
+  public void testTargetsOfCompoundViewGroupsAreNotCached() {
+    mRoot.setId(1);
+    CompoundViewGroup compoundView = new CompoundViewGroup(mRoot.getContext());
+    compoundView.setId(3);
+    View child = new View(mRoot.getContext());
+    child.setId(5);
+    compoundView.addView(child);
+    mRoot.addView(compoundView);
+    mRoot.layout(0, 0, 100, 100);
+    compoundView.layout(0, 0, 100, 100);
+    child.layout(0, 0, 100, 100);
+
+    compoundView.mInterceptsTouchEvent = true;
+    assertThat(TouchTargetHelper.findTargetTagForTouch(10, 10, mRoot)).isEqualTo(3);
+    compoundView.mInterceptsTouchEvent = false;
+    assertThat(TouchTargetHelper.findTargetTagForTouch(10, 10, mRoot)).isEqualTo(5);
+  }
+
+  private static class CompoundViewGroup extends FrameLayout implements ReactCompoundViewGroup {
+    private boolean mInterceptsTouchEvent;
+
+    CompoundViewGroup(Context context) {
+      super(context);
+    }
+
+    @Override
+    public boolean interceptsTouchEvent(float touchX, float touchY) {
+      return mInterceptsTouchEvent;
+    }
+
+    @Override
+    public int reactTagForTouch(float touchX, float touchY) {
+      return getId();
+    }
+  }
+}
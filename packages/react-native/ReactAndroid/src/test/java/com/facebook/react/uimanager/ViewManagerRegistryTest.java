@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ViewManagerRegistryTest {
+
+  private static final List<String> NAMES = Arrays.asList("RCTView", "RCTText", "RCTImageView");
+
+  private static ViewManager createViewManager(String name) {
+    ViewManager viewManager = mock(ViewManager.class);
+    when(viewManager.getName()).thenReturn(name);
+    return viewManager;
+  }
+
+  @Test
+  public void testLookupsOfRegisteredViewManagers() {
+    ViewManager viewManager = createViewManager("RCTView");
+    ViewManagerRegistry registry = new ViewManagerRegistry(Collections.singletonList(viewManager));
+
+    assertThat(registry.get("RCTView")).isSameAs(viewManager);
+    assertThat(registry.getViewManagerIfExists("RCTText")).isNull();
+  }
+
+  @Test(expected = IllegalViewOperationException.class)
+  public void testLookupsOfUnknownViewManagersThrow() {
+    new ViewManagerRegistry(new HashMap<String, ViewManager>()).get("RCTView");
+  }
+
+  @Test
+  public void testConcurrentLookupsResolveEachViewManagerOnce() throws InterruptedException {
+    final Map<String, AtomicInteger> resolveCounts = new ConcurrentHashMap<>();
+    final ViewManagerRegistry registry =
+        new ViewManagerRegistry(
+            new ViewManagerResolver() {
+              @Override
+              public ViewManager getViewManager(String viewManagerName) {
+                resolveCounts.putIfAbsent(viewManagerName, new AtomicInteger());
+                resolveCounts.get(viewManagerName).incrementAndGet();
+                return NAMES.contains(viewManagerName) ? createViewManager(viewManagerName) : null;
+              }
+
+              @Override
+              public Collection<String> getViewManagerNames() {
+                return NAMES;
+              }
+            });
+
+    // Same as preallocating views of the same components on several threads
+    final int threadCount = 8;
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final Map<String, ViewManager> resolved = new ConcurrentHashMap<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < threadCount; t++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                  for (int i = 0; i < 1000; i++) {
+                    String name = NAMES.get(i % NAMES.size());
+                    ViewManager viewManager = registry.get(name);
+                    ViewManager previous = resolved.putIfAbsent(name, viewManager);
+                    if (previous != null && previous != viewManager) {
+                      throw new AssertionError("Resolved several ViewManagers for " + name);
+                    }
+                  }
+                } catch (Throwable e) {
+                  failure.compareAndSet(null, e);
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(failure.get()).isNull();
+    for (String name : NAMES) {
+      assertThat(resolveCounts.get(name).get()).isEqualTo(1);
+    }
+    assertThat(registry.getViewManagerIfExists("Unknown")).isNull();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import androidx.core.util.Pools;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ViewOperationBufferTest {
+
+  private NativeViewHierarchyManager mNativeViewHierarchyManager;
+  private Pools.SimplePool<ViewOperationBuffer> mPool;
+  private ViewOperationBuffer mBuffer;
+
+  @Before
+  public void setUp() {
+    mNativeViewHierarchyManager = mock(NativeViewHierarchyManager.class);
+    doCallRealMethod()
+        .when(mNativeViewHierarchyManager)
+        .executeOperations(any(ViewOperationBuffer.class));
+    mPool = new Pools.SimplePool<>(1);
+    mBuffer = new ViewOperationBuffer(mNativeViewHierarchyManager, mPool);
+  }
+
+  @Test
+  public void testExecutesOperationsInOrder() {
+    ReactStylesDiffMap props = new ReactStylesDiffMap(JavaOnlyMap.of("opacity", 0.5));
+    int[] indicesToRemove = {0};
+    ViewAtIndex[] viewsToAdd = {new ViewAtIndex(7, 1)};
+    JavaOnlyArray childrenTags = JavaOnlyArray.of(8, 9);
+    Object extraData = new Object();
+
+    mBuffer.addUpdateProperties(2, props);
+    mBuffer.addUpdateLayout(1, 2, 10, 20, 30, 40);
+    mBuffer.addManageChildren(1, indicesToRemove, viewsToAdd, null);
+    mBuffer.addSetChildren(3, childrenTags);
+    mBuffer.addUpdateExtraData(2, extraData);
+    mBuffer.addRemoveRootView(1);
+    assertThat(mBuffer.getOperationCount()).isEqualTo(6);
+
+    mBuffer.execute();
+
+    InOrder inOrder = inOrder(mNativeViewHierarchyManager);
+    inOrder.verify(mNativeViewHierarchyManager).updateProperties(2, props);
+    inOrder.verify(mNativeViewHierarchyManager).updateLayout(1, 2, 10, 20, 30, 40);
+    inOrder
+        .verify(mNativeViewHierarchyManager)
+        .manageChildren(1, indicesToRemove, viewsToAdd, null);
+    inOrder.verify(mNativeViewHierarchyManager).setChildren(3, childrenTags);
+    inOrder.verify(mNativeViewHierarchyManager).updateViewExtraData(2, extraData);
+    inOrder.verify(mNativeViewHierarchyManager).removeRootView(1);
+  }
+
+  @Test
+  public void testInstanceHandlesRoundTrip() {
+    mBuffer.addUpdateInstanceHandle(1, 0x123456789ABCDEF0L);
+    mBuffer.addUpdateInstanceHandle(2, -1L);
+    mBuffer.addUpdateInstanceHandle(3, 0xFFFFFFFFL);
+
+    mBuffer.execute();
+
+    verify(mNativeViewHierarchyManager).updateInstanceHandle(1, 0x123456789ABCDEF0L);
+    verify(mNativeViewHierarchyManager).updateInstanceHandle(2, -1L);
+    verify(mNativeViewHierarchyManager).updateInstanceHandle(3, 0xFFFFFFFFL);
+  }
+
+  @Test
+  public void testGrowsAndIsRecycledAfterExecution() {
+    int count = 10000;
+    for (int i = 0; i < count; i++) {
+      mBuffer.addUpdateLayout(1, i, i, i, i, i);
+    }
+    assertThat(mBuffer.getOperationCount()).isEqualTo(count);
+
+    mBuffer.execute();
+
+    int last = count - 1;
+    verify(mNativeViewHierarchyManager).updateLayout(1, last, last, last, last, last);
+    assertThat(mPool.acquire()).isSameAs(mBuffer);
+    assertThat(mBuffer.getOperationCount()).isEqualTo(0);
+    assertThat(mBuffer.getIntBufferLen()).isEqualTo(0);
+  }
+
+  @Test
+  public void testRecycledBufferDoesNotRetainObjects() {
+    mBuffer.addUpdateProperties(1, new ReactStylesDiffMap(JavaOnlyMap.of()));
+    mBuffer.addSetChildren(1, JavaOnlyArray.of());
+
+    mBuffer.execute();
+
+    for (Object object : mBuffer.getObjBuffer()) {
+      assertThat(object).isNull();
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.rule.PowerMockRule;
+import org.robolectric.RobolectricTestRunner;
+
+@PrepareForTest({Arguments.class})
+@RunWith(RobolectricTestRunner.class)
+@PowerMockIgnore({"org.mockito.*", "org.robolectric.*", "androidx.*", "android.*"})
+public class EventPayloadTest {
+
+  private static final int A_KEY = EventPayload.key("a");
+  private static final int B_KEY = EventPayload.key("b");
+  private static final int C_KEY = EventPayload.key("c");
+
+  @Rule public PowerMockRule rule = new PowerMockRule();
+
+  @Before
+  public void setUp() {
+    PowerMockito.mockStatic(Arguments.class);
+    PowerMockito.when(Arguments.createArray())
+        .thenAnswer(
+            new Answer<Object>() {
+              @Override
+              public Object answer(InvocationOnMock invocation) throws Throwable {
+                return new JavaOnlyArray();
+              }
+            });
+    PowerMockito.when(Arguments.createMap())
+        .thenAnswer(
+            new Answer<Object>() {
+              @Override
+              public Object answer(InvocationOnMock invocation) throws Throwable {
+                return new JavaOnlyMap();
+              }
+            });
+  }
+
+  @Test
+  public void testKeysAreRegisteredOnce() {
+    assertThat(EventPayload.key("a")).isEqualTo(A_KEY);
+    assertThat(B_KEY).isNotEqualTo(A_KEY);
+    assertThat(EventPayload.getKeys(A_KEY, A_KEY + 1)).containsExactly("a");
+  }
+
+  @Test
+  public void testValues() {
+    EventPayload payload = EventPayload.obtain();
+    payload.putInt(A_KEY, 42).putDouble(B_KEY, 1.5).putBoolean(C_KEY, true);
+
+    WritableMap map = payload.toWritableMap();
+    assertThat(map.getType("a")).isEqualTo(ReadableType.Number);
+    assertThat(map.getInt("a")).isEqualTo(42);
+    assertThat(map.getDouble("b")).isEqualTo(1.5);
+    assertThat(map.getBoolean("c")).isTrue();
+  }
+
+  @Test
+  public void testStringsAndNulls() {
+    EventPayload payload = EventPayload.obtain();
+    payload.putString(A_KEY, "mouse").putString(B_KEY, null);
+
+    WritableMap map = payload.toWritableMap();
+    assertThat(map.getString("a")).isEqualTo("mouse");
+    assertThat(map.isNull("b")).isTrue();
+  }
+
+  @Test
+  public void testNestedMapsAndArrays() {
+    EventPayload payload = EventPayload.obtain();
+    payload.beginMap(A_KEY).putDouble(B_KEY, 1).end();
+    payload.beginArray(B_KEY);
+    payload.beginMap(EventPayload.NO_KEY).putInt(C_KEY, 2).end();
+    payload.beginMap(EventPayload.NO_KEY).putInt(C_KEY, 3).end();
+    payload.end();
+    payload.putInt(C_KEY, 4);
+
+    WritableMap map = payload.toWritableMap();
+    assertThat(map.getMap("a").getDouble("b")).isEqualTo(1);
+    ReadableArray array = map.getArray("b");
+    assertThat(array.size()).isEqualTo(2);
+    assertThat(array.getMap(0).getInt("c")).isEqualTo(2);
+    assertThat(array.getMap(1).getInt("c")).isEqualTo(3);
+    assertThat(map.getInt("c")).isEqualTo(4);
+  }
+
+  @Test
+  public void testObtainResetsThePayload() {
+    EventPayload payload = EventPayload.obtain();
+    payload.putInt(A_KEY, 1).beginMap(B_KEY);
+
+    payload = EventPayload.obtain();
+    assertThat(payload.getOpCount()).isEqualTo(0);
+    ReadableMap map = payload.putInt(C_KEY, 2).toWritableMap();
+    assertThat(map.hasKey("a")).isFalse();
+    assertThat(map.getInt("c")).isEqualTo(2);
+  }
+
+  @Test
+  public void testPayloadsGrow() {
+    EventPayload payload = EventPayload.obtain();
+    payload.beginArray(A_KEY);
+    for (int i = 0; i < 100; i++) {
+      payload.beginMap(EventPayload.NO_KEY).putString(B_KEY, "value" + i).end();
+    }
+    payload.end();
+
+    ReadableArray array = payload.toWritableMap().getArray("a");
+    assertThat(array.size()).isEqualTo(100);
+    assertThat(array.getMap(99).getString("b")).isEqualTo("value99");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUnendedContainersThrow() {
+    EventPayload.obtain().beginMap(A_KEY).toWritableMap();
+  }
+}
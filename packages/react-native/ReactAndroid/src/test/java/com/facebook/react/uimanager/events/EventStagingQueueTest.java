@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.junit.Test;
+
+/** Tests for {@link EventStagingQueue} and {@link EventCookieIndexMap} */
+public class EventStagingQueueTest {
+
+  private static class TestEvent extends Event<TestEvent> {
+    private final String mEventName;
+
+    TestEvent(String eventName) {
+      mEventName = eventName;
+    }
+
+    @Override
+    public String getEventName() {
+      return mEventName;
+    }
+  }
+
+  @Test
+  public void testPollReturnsStagedEventsInOrder() {
+    EventStagingQueue queue = new EventStagingQueue(4);
+    TestEvent first = new TestEvent("first");
+    TestEvent second = new TestEvent("second");
+
+    queue.offer(first);
+    queue.offer(second);
+
+    assertThat(queue.poll()).isSameAs(first);
+    assertThat(queue.poll()).isSameAs(second);
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  public void testOverflowWhenFull() {
+    EventStagingQueue queue = new EventStagingQueue(2);
+    int count = queue.capacity() * 3;
+    for (int i = 0; i < count; i++) {
+      queue.offer(new TestEvent("event"));
+    }
+
+    int polled = 0;
+    while (queue.poll() != null) {
+      polled++;
+    }
+    assertThat(polled).isEqualTo(count);
+  }
+
+  @Test
+  public void testOrderIsKeptAcrossOverflow() {
+    EventStagingQueue queue = new EventStagingQueue(2);
+    int count = queue.capacity() + 2;
+    int offered = 0;
+    for (; offered < count; offered++) {
+      queue.offer(new TestEvent(String.valueOf(offered)));
+    }
+
+    // Frees a slot of the ring while events are still in the overflow queue
+    assertThat(queue.poll().getEventName()).isEqualTo("0");
+    queue.offer(new TestEvent(String.valueOf(offered++)));
+
+    for (int i = 1; i < offered; i++) {
+      assertThat(queue.poll().getEventName()).isEqualTo(String.valueOf(i));
+    }
+    assertThat(queue.poll()).isNull();
+
+    // Once the overflow is drained, the ring is used again
+    queue.offer(new TestEvent("last"));
+    assertThat(queue.poll().getEventName()).isEqualTo("last");
+  }
+
+  @Test
+  public void testOverflowWaitsForClaimedSlots() {
+    EventStagingQueue queue = new EventStagingQueue(2);
+    // A producer that claimed the first slot but hasn't published its event yet
+    long position = queue.claimSlot();
+    assertThat(position).isNotEqualTo(EventStagingQueue.NO_SLOT);
+    int offered = 1;
+    for (; offered <= queue.capacity(); offered++) {
+      queue.offer(new TestEvent(String.valueOf(offered)));
+    }
+
+    assertThat(queue.poll()).isNull();
+
+    queue.publishSlot(position, new TestEvent("0"));
+    for (int i = 0; i < offered; i++) {
+      assertThat(queue.poll().getEventName()).isEqualTo(String.valueOf(i));
+    }
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  public void testConcurrentProducers() throws InterruptedException {
+    final EventStagingQueue queue = new EventStagingQueue(16);
+    final int producers = 4;
+    final int eventsPerProducer = 10000;
+    Thread[] threads = new Thread[producers];
+    for (int i = 0; i < producers; i++) {
+      threads[i] =
+          new Thread(
+              new Runnable() {
+                @Override
+                public void run() {
+                  for (int j = 0; j < eventsPerProducer; j++) {
+                    queue.offer(new TestEvent("event"));
+                  }
+                }
+              });
+      threads[i].start();
+    }
+
+    Set<Event> seen = Collections.newSetFromMap(new IdentityHashMap<Event, Boolean>());
+    while (seen.size() < producers * eventsPerProducer) {
+      Event event = queue.poll();
+      if (event != null) {
+        assertThat(seen.add(event)).isTrue();
+      }
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  public void testCookieIndexMap() {
+    EventCookieIndexMap map = new EventCookieIndexMap(2);
+    for (int i = 0; i < 100; i++) {
+      map.put(((long) i) << 32, i);
+    }
+    map.put(0, 42);
+
+    assertThat(map.size()).isEqualTo(100);
+    assertThat(map.get(0)).isEqualTo(42);
+    assertThat(map.get(((long) 99) << 32)).isEqualTo(99);
+    assertThat(map.get(1)).isEqualTo(EventCookieIndexMap.NO_INDEX);
+
+    map.clear();
+    assertThat(map.size()).isEqualTo(0);
+    assertThat(map.get(0)).isEqualTo(EventCookieIndexMap.NO_INDEX);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.uimanager.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.facebook.react.config.ReactFeatureFlags;
+import com.facebook.react.uimanager.TouchTargetHelper.ViewTarget;
+import com.facebook.react.uimanager.events.PointerEvent.PointerEventState;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class PointerEventStateTest {
+
+  private static final int SURFACE_ID = 11;
+
+  @Before
+  public void setUp() {
+    ReactFeatureFlags.enablePointerEventStatePool = true;
+  }
+
+  @After
+  public void tearDown() {
+    ReactFeatureFlags.enablePointerEventStatePool = false;
+  }
+
+  @Test
+  public void testPointers() {
+    PointerEventState state = PointerEventState.obtain(0, 1, 0, SURFACE_ID, 0b10);
+    state.setPointer(0, 1, 2, 3, 4);
+    state.setPointer(1, 5, 6, 7, 8);
+
+    assertThat(state.getPointerIds()).isEqualTo(0b11);
+    assertThat(state.hasPointer(1)).isTrue();
+    assertThat(state.hasPointer(2)).isFalse();
+    assertThat(state.supportsHover(0)).isFalse();
+    assertThat(state.supportsHover(1)).isTrue();
+    assertThat(state.getEventX(1)).isEqualTo(5);
+    assertThat(state.getEventY(1)).isEqualTo(6);
+    assertThat(state.getOffsetX(1)).isEqualTo(7);
+    assertThat(state.getOffsetY(1)).isEqualTo(8);
+    assertThat(state.getEventCoordinatesByPointerId().get(0)).containsExactly(1, 2);
+    assertThat(state.getOffsetByPointerId().get(0)).containsExactly(3, 4);
+    assertThat(state.getHoveringPointerIds()).containsExactly(1);
+    state.release();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPointerIdsThrow() {
+    PointerEventState.obtain(0, 0, 0, SURFACE_ID, 0)
+        .setPointer(PointerEventState.MAX_POINTER_ID + 1, 0, 0, 0, 0);
+  }
+
+  @Test
+  public void testStatesAreReusedOnceReleasedByEveryone() {
+    PointerEventState state = PointerEventState.obtain(0, 0, 0, SURFACE_ID, 0);
+    state.setPointer(0, 1, 2, 3, 4);
+    state.getHitPath(0).add(mock(ViewTarget.class));
+    state.retain();
+
+    state.release();
+    PointerEventState otherState = PointerEventState.obtain(0, 0, 0, SURFACE_ID, 0);
+    assertThat(otherState).isNotSameAs(state);
+    assertThat(state.getHitPath(0)).hasSize(1);
+
+    state.release();
+    otherState.release();
+    PointerEventState reusedState = PointerEventState.obtain(2, 2, 1, SURFACE_ID, 0);
+    assertThat(reusedState).isIn(state, otherState);
+    assertThat(reusedState.getPointerIds()).isEqualTo(0);
+    assertThat(reusedState.getHitPath(0)).isEmpty();
+    assertThat(reusedState.getPrimaryPointerId()).isEqualTo(2);
+    assertThat(reusedState.getLastButtonState()).isEqualTo(1);
+    reusedState.release();
+  }
+
+  @Test
+  public void testStatesAreNotReusedWithoutTheFlag() {
+    ReactFeatureFlags.enablePointerEventStatePool = false;
+    PointerEventState state = PointerEventState.obtain(0, 0, 0, SURFACE_ID, 0);
+    state.release();
+    assertThat(PointerEventState.obtain(0, 0, 0, SURFACE_ID, 0)).isNotSameAs(state);
+  }
+
+  @Test
+  public void testCopyPointers() {
+    ViewTarget viewTarget = mock(ViewTarget.class);
+    PointerEventState state = PointerEventState.obtain(0, 0, 0, SURFACE_ID, 0);
+    state.setPointer(3, 1, 2, 3, 4);
+    state.getHitPath(3).add(viewTarget);
+
+    PointerEventState copy = PointerEventState.obtain(0, 0, 0, SURFACE_ID, 0);
+    copy.copyPointersFrom(state);
+    copy.setPointer(3, 0, 0, 5, 6);
+
+    assertThat(copy.getHitPath(3)).containsExactly(viewTarget);
+    assertThat(copy.getOffsetX(3)).isEqualTo(5);
+    // The original is left as it is
+    assertThat(state.getEventX(3)).isEqualTo(1);
+    assertThat(state.getOffsetX(3)).isEqualTo(3);
+    state.release();
+    copy.release();
+  }
+
+  @Test
+  public void testStatesCreatedFromMapsAreNotPooled() {
+    Map<Integer, float[]> offsets = new HashMap<>();
+    offsets.put(0, new float[] {3, 4});
+    Map<Integer, float[]> eventCoordinates = new HashMap<>();
+    eventCoordinates.put(0, new float[] {1, 2});
+    Map<Integer, List<ViewTarget>> hitPaths = new HashMap<>();
+    hitPaths.put(0, Collections.singletonList(mock(ViewTarget.class)));
+
+    PointerEventState state =
+        new PointerEventState(
+            0,
+            0,
+            0,
+            SURFACE_ID,
+            offsets,
+            hitPaths,
+            eventCoordinates,
+            Collections.singleton(0));
+    state.release();
+    state.release();
+
+    assertThat(PointerEventState.obtain(0, 0, 0, SURFACE_ID, 0)).isNotSameAs(state);
+    assertThat(state.getEventX(0)).isEqualTo(1);
+    assertThat(state.getOffsetY(0)).isEqualTo(4);
+    assertThat(state.getHitPathForActivePointer()).hasSize(1);
+    assertThat(state.supportsHover(0)).isTrue();
+  }
+}
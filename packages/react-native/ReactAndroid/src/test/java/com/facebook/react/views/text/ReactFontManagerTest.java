@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.AssetManager;
+import android.graphics.Typeface;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+import org.robolectric.shadows.ShadowLegacyTypeface;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(shadows = {ReactFontManagerTest.ShadowAssetTypeface.class})
+public class ReactFontManagerTest {
+
+  private static final String FONT_FAMILY = "TestFont";
+  private static final Executor DIRECT_EXECUTOR =
+      new Executor() {
+        @Override
+        public void execute(Runnable runnable) {
+          runnable.run();
+        }
+      };
+
+  private Context mContext;
+  private AssetManager mAssetManager;
+  private SharedPreferences mPrefs;
+  private ReactFontManager mFontManager;
+
+  @Before
+  public void setUp() {
+    mContext = RuntimeEnvironment.getApplication();
+    mAssetManager = mContext.getAssets();
+    mPrefs = mContext.getSharedPreferences("com.facebook.react.fonts", Context.MODE_PRIVATE);
+    mPrefs.edit().clear().commit();
+    mFontManager = new ReactFontManager();
+    mFontManager.setPreloadExecutor(DIRECT_EXECUTOR);
+  }
+
+  @Test
+  public void testConcurrentRequestsShareOneLoad() throws InterruptedException {
+    final int threadCount = 8;
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicReferenceArray<Typeface> typefaces = new AtomicReferenceArray<>(threadCount);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < threadCount; t++) {
+      final int index = t;
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                  typefaces.set(
+                      index, mFontManager.getTypeface(FONT_FAMILY, Typeface.BOLD, mAssetManager));
+                } catch (Throwable e) {
+                  failure.compareAndSet(null, e);
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(failure.get()).isNull();
+    for (int t = 0; t < threadCount; t++) {
+      assertThat(typefaces.get(t)).isNotNull().isSameAs(typefaces.get(0));
+    }
+  }
+
+  @Test
+  public void testPreloadFillsCache() {
+    mFontManager.preloadTypefaces(
+        FONT_FAMILY, new int[] {Typeface.NORMAL, Typeface.ITALIC}, mAssetManager);
+
+    assertThat(mFontManager.hasCachedTypeface(FONT_FAMILY, Typeface.NORMAL)).isTrue();
+    assertThat(mFontManager.hasCachedTypeface(FONT_FAMILY, Typeface.ITALIC)).isTrue();
+    assertThat(mFontManager.hasCachedTypeface(FONT_FAMILY, Typeface.BOLD)).isFalse();
+  }
+
+  @Test
+  public void testWarmedTypefacesRoundTrip() {
+    mFontManager.enableWarmedTypefaces(mContext);
+    mFontManager.getTypeface(FONT_FAMILY, Typeface.BOLD, mAssetManager);
+    mFontManager.getTypeface(FONT_FAMILY, Typeface.BOLD, mAssetManager);
+    // Preloaded without being used
+    mFontManager.preloadTypefaces(FONT_FAMILY, new int[] {Typeface.ITALIC}, mAssetManager);
+
+    assertThat(getWarmedTypefaces()).containsExactly(FONT_FAMILY + "|" + Typeface.BOLD);
+
+    ReactFontManager nextSessionFontManager = new ReactFontManager();
+    nextSessionFontManager.setPreloadExecutor(DIRECT_EXECUTOR);
+    nextSessionFontManager.enableWarmedTypefaces(mContext);
+
+    assertThat(nextSessionFontManager.hasCachedTypeface(FONT_FAMILY, Typeface.BOLD)).isTrue();
+    assertThat(nextSessionFontManager.hasCachedTypeface(FONT_FAMILY, Typeface.ITALIC)).isFalse();
+  }
+
+  @Test
+  public void testWarmedTypefacesArePrunedEachSession() {
+    mPrefs
+        .edit()
+        .putStringSet(
+            "warmed_typefaces",
+            new HashSet<>(Arrays.asList(FONT_FAMILY + "|" + Typeface.BOLD, "OldFont|0")))
+        .commit();
+
+    mFontManager.enableWarmedTypefaces(mContext);
+    assertThat(mFontManager.hasCachedTypeface("OldFont", Typeface.NORMAL)).isTrue();
+    assertThat(getWarmedTypefaces()).isEmpty();
+
+    mFontManager.getTypeface(FONT_FAMILY, Typeface.BOLD, mAssetManager);
+    assertThat(getWarmedTypefaces()).containsExactly(FONT_FAMILY + "|" + Typeface.BOLD);
+  }
+
+  @Test
+  public void testTypefacesSetByTheAppAreNotWarmed() {
+    mFontManager.enableWarmedTypefaces(mContext);
+    mFontManager.setTypeface(FONT_FAMILY, Typeface.NORMAL, Typeface.DEFAULT);
+    mFontManager.getTypeface(FONT_FAMILY, Typeface.NORMAL, mAssetManager);
+
+    assertThat(getWarmedTypefaces()).isEmpty();
+  }
+
+  @Test
+  public void testFallbackTypefacesAreNotWarmed() {
+    mFontManager.enableWarmedTypefaces(mContext);
+    mFontManager.getTypeface("sans-serif-medium", Typeface.NORMAL, mAssetManager);
+
+    assertThat(mFontManager.hasCachedTypeface("sans-serif-medium", Typeface.NORMAL)).isTrue();
+    assertThat(getWarmedTypefaces()).isEmpty();
+  }
+
+  private List<String> getWarmedTypefaces() {
+    return new ArrayList<>(mPrefs.getStringSet("warmed_typefaces", new HashSet<String>()));
+  }
+
+  /** Provides the asset font files of {@link #FONT_FAMILY}, which the tests don't ship */
+  @Implements(Typeface.class)
+  public static class ShadowAssetTypeface extends ShadowLegacyTypeface {
+    @Implementation
+    protected static Typeface createFromAsset(AssetManager assetManager, String path) {
+      if (path.startsWith("fonts/" + FONT_FAMILY)) {
+        return Typeface.create(path, Typeface.NORMAL);
+      }
+      throw new RuntimeException("Font asset not found " + path);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import android.text.Layout;
+import android.text.Spannable;
+import android.text.SpannableString;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableNativeArray;
+import com.facebook.testutils.shadows.ShadowSoLoader;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.reflect.Whitebox;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@Config(
+    shadows = {
+      ShadowSoLoader.class,
+    })
+@RunWith(RobolectricTestRunner.class)
+public class TextLayoutCacheTest {
+
+  private TextLayoutCache mCache;
+
+  @Before
+  public void setUp() {
+    mCache = new TextLayoutCache(64 * 1024);
+  }
+
+  private static TextLayoutCache.Key key(String string) {
+    return new TextLayoutCache.Key(JavaOnlyMap.of("string", string), 2, 2);
+  }
+
+  private static TextLayoutCache.Key fragmentsKey(String string) {
+    ReadableNativeArray fragments = new ReadableNativeArray(null) {};
+    Whitebox.setInternalState(
+        fragments,
+        "mLocalArray",
+        new Object[] {JavaOnlyMap.of("string", string, "reactTag", 1.0)},
+        ReadableNativeArray.class);
+    return new TextLayoutCache.Key(JavaOnlyMap.of("fragments", fragments), 2, 2);
+  }
+
+  @Test
+  public void testSpannablesAreKeyedByContent() {
+    Spannable spannable = new SpannableString("Like");
+    mCache.putSpannable(key("Like"), spannable);
+
+    assertThat(mCache.getSpannable(key("Like"))).isSameAs(spannable);
+    assertThat(mCache.getSpannable(key("Reply"))).isNull();
+    assertThat(mCache.getSpannableHitCount()).isEqualTo(1);
+    assertThat(mCache.getSpannableMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testSpannablesAreKeyedByNestedFragments() {
+    Spannable spannable = new SpannableString("Like");
+    mCache.putSpannable(fragmentsKey("Like"), spannable);
+
+    // Every update from JS imports a new native array, so the fragments are only equal by content
+    assertThat(mCache.getSpannable(fragmentsKey("Like"))).isSameAs(spannable);
+    assertThat(mCache.getSpannable(fragmentsKey("Reply"))).isNull();
+    assertThat(mCache.getSpannableHitCount()).isEqualTo(1);
+    assertThat(mCache.getSpannableMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testLayoutsAreKeyedByParagraphAttributes() {
+    TextLayoutCache.Key key = key("Like");
+    Layout layout = mock(Layout.class);
+    mCache.putLayout(key, 100, 0, 0, true, layout);
+
+    assertThat(mCache.getLayout(key, 100, 0, 0, true)).isSameAs(layout);
+    assertThat(mCache.getLayout(key, 200, 0, 0, true)).isNull();
+    assertThat(mCache.getLayout(key, 100, 1, 0, true)).isNull();
+    assertThat(mCache.getLayout(key, 100, 0, 1, true)).isNull();
+    assertThat(mCache.getLayout(key, 100, 0, 0, false)).isNull();
+    assertThat(mCache.getLayoutHitCount()).isEqualTo(1);
+    assertThat(mCache.getLayoutMissCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void testSpannablesAreKeyedByDisplayScales() {
+    Spannable spannable = new SpannableString("Like");
+    mCache.putSpannable(key("Like"), spannable);
+
+    JavaOnlyMap attributedString = JavaOnlyMap.of("string", "Like");
+    assertThat(mCache.getSpannable(new TextLayoutCache.Key(attributedString, 2, 2)))
+        .isSameAs(spannable);
+    // Font scale changed
+    assertThat(mCache.getSpannable(new TextLayoutCache.Key(attributedString, 2, 3))).isNull();
+    // Density changed
+    assertThat(mCache.getSpannable(new TextLayoutCache.Key(attributedString, 3, 3))).isNull();
+  }
+
+  @Test
+  public void testStaysWithinMemoryBudget() {
+    for (int i = 0; i < 1000; i++) {
+      mCache.putSpannable(
+          key("Text " + i), new SpannableString("Some text that takes up memory " + i));
+    }
+
+    assertThat(mCache.getSizeBytes()).isLessThanOrEqualTo(64 * 1024);
+    assertThat(mCache.getSpannable(key("Text 999"))).isNotNull();
+
+    mCache.clear();
+    assertThat(mCache.getSizeBytes()).isEqualTo(0);
+  }
+}
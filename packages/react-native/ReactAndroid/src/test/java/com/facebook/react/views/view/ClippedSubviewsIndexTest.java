@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.react.views.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import android.graphics.Rect;
+import android.view.View;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+@RunWith(RobolectricTestRunner.class)
+public class ClippedSubviewsIndexTest {
+
+  private static View createChild(int left, int top, int right, int bottom) {
+    View child = new View(RuntimeEnvironment.getApplication());
+    child.layout(left, top, right, bottom);
+    return child;
+  }
+
+  private static List<Integer> getCandidates(ClippedSubviewsIndex index, Rect clippingRect) {
+    List<Integer> candidates = new ArrayList<>();
+    int end = index.getCandidatesEnd(clippingRect);
+    for (int i = index.getCandidatesStart(clippingRect); i < end; i++) {
+      candidates.add(index.getChildIndexAt(i));
+    }
+    return candidates;
+  }
+
+  @Test
+  public void testVerticalList() {
+    View[] children = new View[100];
+    for (int i = 0; i < children.length; i++) {
+      children[i] = createChild(0, i * 10, 100, i * 10 + 10);
+    }
+    ClippedSubviewsIndex index = new ClippedSubviewsIndex();
+    index.update(children, children.length);
+
+    assertThat(getCandidates(index, new Rect(0, 205, 100, 230))).containsExactly(20, 21, 22);
+    assertThat(getCandidates(index, new Rect(0, 2000, 100, 2100))).isEmpty();
+    assertThat(index.getChildIndex(children[42])).isEqualTo(42);
+  }
+
+  @Test
+  public void testHorizontalListInReverseOrder() {
+    View[] children = new View[100];
+    for (int i = 0; i < children.length; i++) {
+      int left = (children.length - 1 - i) * 10;
+      children[i] = createChild(left, 0, left + 10, 100);
+    }
+    ClippedSubviewsIndex index = new ClippedSubviewsIndex();
+    index.update(children, children.length);
+
+    assertThat(getCandidates(index, new Rect(0, 0, 20, 100))).containsExactly(99, 98);
+  }
+
+  @Test
+  public void testLongChildOverlapsLaterRects() {
+    View[] children = {
+      createChild(0, 0, 100, 1000), createChild(0, 10, 100, 20), createChild(0, 500, 100, 510)
+    };
+    ClippedSubviewsIndex index = new ClippedSubviewsIndex();
+    index.update(children, children.length);
+
+    assertThat(getCandidates(index, new Rect(0, 400, 100, 600))).contains(0, 2);
+  }
+
+  @Test
+  public void testUpdateOnlyRebuildsAfterInvalidate() {
+    View[] children = {createChild(0, 0, 100, 10), createChild(0, 10, 100, 20)};
+    ClippedSubviewsIndex index = new ClippedSubviewsIndex();
+    index.update(children, children.length);
+
+    children[1].layout(0, 100, 100, 110);
+    index.update(children, children.length);
+    assertThat(getCandidates(index, new Rect(0, 100, 100, 110))).isEmpty();
+
+    index.invalidate();
+    index.update(children, children.length);
+    assertThat(getCandidates(index, new Rect(0, 100, 100, 110))).containsExactly(1);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package com.facebook.systrace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.facebook.react.bridge.ReactMarker;
+import com.facebook.react.bridge.ReactMarkerConstants;
+import java.io.StringWriter;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class TraceRecorderTest {
+
+  @After
+  public void tearDown() {
+    TraceRecorder.stop();
+  }
+
+  @Test
+  public void testRecordsNothingWhenStopped() throws Exception {
+    Systrace.beginSection(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE, "section");
+    Systrace.endSection(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE);
+
+    TraceRecorder recorder = TraceRecorder.start(16);
+    assertThat(getTraceEvents(recorder).length()).isEqualTo(0);
+  }
+
+  @Test
+  public void testExportsChromeTrace() throws Exception {
+    TraceRecorder recorder = TraceRecorder.start(16);
+    Systrace.beginSection(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE, "section");
+    Systrace.endSection(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE);
+    Systrace.beginAsyncSection(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE, "async", 42);
+    Systrace.traceCounter(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE, "counter", 7);
+    ReactMarker.logMarker(ReactMarkerConstants.CREATE_REACT_CONTEXT_START, "tag", 3);
+    assertThat(TraceRecorder.stop()).isSameAs(recorder);
+
+    JSONArray events = getTraceEvents(recorder);
+    // The last event names the thread
+    assertThat(events.length()).isEqualTo(6);
+
+    JSONObject begin = events.getJSONObject(0);
+    assertThat(begin.getString("ph")).isEqualTo("B");
+    assertThat(begin.getString("name")).isEqualTo("section");
+    assertThat(begin.getLong("tid")).isEqualTo(Thread.currentThread().getId());
+    JSONObject end = events.getJSONObject(1);
+    assertThat(end.getString("ph")).isEqualTo("E");
+    assertThat(end.getDouble("ts")).isGreaterThanOrEqualTo(begin.getDouble("ts"));
+    JSONObject async = events.getJSONObject(2);
+    assertThat(async.getString("ph")).isEqualTo("b");
+    assertThat(async.getInt("id")).isEqualTo(42);
+    JSONObject counter = events.getJSONObject(3);
+    assertThat(counter.getString("ph")).isEqualTo("C");
+    assertThat(counter.getJSONObject("args").getInt("counter")).isEqualTo(7);
+    JSONObject marker = events.getJSONObject(4);
+    assertThat(marker.getString("ph")).isEqualTo("i");
+    assertThat(marker.getString("cat")).isEqualTo("ReactMarker");
+    assertThat(marker.getString("name")).isEqualTo("CREATE_REACT_CONTEXT_START");
+    assertThat(marker.getJSONObject("args").getString("tag")).isEqualTo("tag");
+    assertThat(marker.getJSONObject("args").getInt("instanceKey")).isEqualTo(3);
+    JSONObject thread = events.getJSONObject(5);
+    assertThat(thread.getString("ph")).isEqualTo("M");
+    assertThat(thread.getJSONObject("args").getString("name"))
+        .isEqualTo(Thread.currentThread().getName());
+  }
+
+  @Test
+  public void testOverwritesOldestEvents() throws Exception {
+    TraceRecorder recorder = TraceRecorder.start(5);
+    assertThat(recorder.getCapacity()).isEqualTo(8);
+    for (int i = 0; i < 20; i++) {
+      Systrace.traceCounter(Systrace.TRACE_TAG_REACT_JAVA_BRIDGE, "counter", i);
+    }
+
+    JSONArray events = getTraceEvents(recorder);
+    assertThat(events.length()).isEqualTo(9);
+    for (int i = 0; i < 8; i++) {
+      assertThat(events.getJSONObject(i).getJSONObject("args").getInt("counter"))
+          .isEqualTo(12 + i);
+    }
+  }
+
+  @Test
+  public void testNotifiesListeners() {
+    TraceListener listener = mock(TraceListener.class);
+    Systrace.registerListener(listener);
+    try {
+      TraceRecorder.start(16);
+      verify(listener).onTraceStarted();
+      TraceRecorder.stop();
+      verify(listener).onTraceStopped();
+    } finally {
+      Systrace.unregisterListener(listener);
+    }
+  }
+
+  private static JSONArray getTraceEvents(TraceRecorder recorder) throws Exception {
+    StringWriter writer = new StringWriter();
+    recorder.writeChromeTrace(writer);
+    return new JSONObject(writer.toString()).getJSONArray("traceEvents");
+  }
+}